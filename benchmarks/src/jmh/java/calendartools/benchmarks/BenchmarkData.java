@@ -0,0 +1,91 @@
+package calendartools.benchmarks;
+
+import java.util.Random;
+
+/** Deterministic input data shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    /** The year used by every benchmark.
+     */
+    static final int YEAR = 2025;
+
+    /** Milliseconds since epoch at the start of 2025, in UTC.
+     */
+    static final long YEAR_START_MILLIS = 1_735_689_600_000L;
+
+    private BenchmarkData() {}
+
+    /** Date Strings in the YYYY-MM-DD format, spread over the year.
+     */
+    static String[] simpleDateStrings(
+        final int size
+    ) {
+        final Random random = new Random(size);
+        final String[] result = new String[size];
+        for (int i = 0; i < size; ++i) {
+            result[i] = String.format("%d-%02d-%02d", YEAR, 1 + random.nextInt(12), 1 + random.nextInt(28));
+        }
+        return result;
+    }
+
+    /** Months from 1 to 12.
+     */
+    static int[] months(
+        final int size
+    ) {
+        final Random random = new Random(size);
+        final int[] result = new int[size];
+        for (int i = 0; i < size; ++i) result[i] = 1 + random.nextInt(12);
+        return result;
+    }
+
+    /** Days of the month from 1 to 28.
+     */
+    static int[] days(
+        final int size
+    ) {
+        final Random random = new Random(size + 1L);
+        final int[] result = new int[size];
+        for (int i = 0; i < size; ++i) result[i] = 1 + random.nextInt(28);
+        return result;
+    }
+
+    /** Time values spread over the year.
+     */
+    static long[] millis(
+        final int size
+    ) {
+        final Random random = new Random(size + 2L);
+        final long[] result = new long[size];
+        for (int i = 0; i < size; ++i) {
+            result[i] = YEAR_START_MILLIS + (long) (random.nextDouble() * 365 * 86_400_000L);
+        }
+        return result;
+    }
+
+    /** Packed MonthlyChecklist data, with random days selected.
+     */
+    static int[] packedMonthlyChecklists(
+        final int size
+    ) {
+        final Random random = new Random(size + 4L);
+        final int[] result = new int[size];
+        for (int i = 0; i < size; ++i) result[i] = random.nextInt() & 0x7FFFFFFF;
+        return result;
+    }
+
+    /** Packed WeeklyChecklist data, with short runs of repeated values.
+     */
+    static byte[] packedChecklists(
+        final int size
+    ) {
+        final Random random = new Random(size + 3L);
+        final byte[] result = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            result[i] = i > 0 && random.nextInt(4) == 0 ? result[i - 1] : (byte) random.nextInt(128);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,136 @@
+package calendartools.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import calendartools.data.AtomicWeeklyChecklistArray;
+import calendartools.data.EpochDays;
+import calendartools.data.MonthlyChecklist;
+import calendartools.data.WeeklyChecklist;
+import calendartools.data.WeeklyChecklistCodec;
+import calendartools.yearplanner.DayOfYearBitmap;
+
+/** The WeeklyChecklist collections of the data module, and their expansion into a year.
+ *  - The bulk kernels use the Vector API when run with -Pjmh.vector, and the scalar loops otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private byte[] mPacked;
+
+    private ByteBuffer mBuffer;
+
+    private ByteBuffer mPackedEncoding;
+
+    private ByteBuffer mRunLengthEncoding;
+
+    private AtomicWeeklyChecklistArray mAtomicArray;
+
+    private int[] mPackedMonthly;
+
+    private long[] mMillis;
+
+    private int[] mEpochDays;
+
+    private int[] mDaysOfWeek;
+
+    private final TimeZone mUtc = TimeZone.getTimeZone("UTC");
+
+    private int mNextId;
+
+    @Setup
+    public void setup() {
+        mPacked = BenchmarkData.packedChecklists(size);
+        mBuffer = ByteBuffer.allocate((int) WeeklyChecklistCodec.maxEncodedSize(size, WeeklyChecklistCodec.RAW));
+        mPackedEncoding = encode(WeeklyChecklistCodec.PACKED);
+        mRunLengthEncoding = encode(WeeklyChecklistCodec.RUN_LENGTH);
+        mAtomicArray = new AtomicWeeklyChecklistArray(mPacked);
+        mPackedMonthly = BenchmarkData.packedMonthlyChecklists(size);
+        mMillis = BenchmarkData.millis(size);
+        mEpochDays = new int[size];
+        mDaysOfWeek = new int[size];
+        EpochDays.ofMillis(mMillis, mUtc, mEpochDays);
+    }
+
+    private ByteBuffer encode(
+        final byte encoding
+    ) {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) WeeklyChecklistCodec.maxEncodedSize(size, encoding));
+        WeeklyChecklistCodec.encode(mPacked, 0, size, buffer, encoding);
+        return buffer.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer encodePacked() {
+        mBuffer.clear();
+        WeeklyChecklistCodec.encode(mPacked, 0, size, mBuffer, WeeklyChecklistCodec.PACKED);
+        return mBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeRunLength() {
+        mBuffer.clear();
+        WeeklyChecklistCodec.encode(mPacked, 0, size, mBuffer, WeeklyChecklistCodec.RUN_LENGTH);
+        return mBuffer;
+    }
+
+    @Benchmark
+    public byte[] decodePacked() {
+        return WeeklyChecklistCodec.decode(mPackedEncoding.duplicate());
+    }
+
+    @Benchmark
+    public byte[] decodeRunLength() {
+        return WeeklyChecklistCodec.decode(mRunLengthEncoding.duplicate());
+    }
+
+    @Benchmark
+    public long[] expandYear() {
+        return DayOfYearBitmap.expand(mPacked, BenchmarkData.YEAR);
+    }
+
+    @Benchmark
+    public boolean atomicToggle() {
+        mNextId = (mNextId + 1) % size;
+        return mAtomicArray.toggle(mNextId, 1 + mNextId % 7);
+    }
+
+    @Benchmark
+    public WeeklyChecklist atomicGet() {
+        mNextId = (mNextId + 1) % size;
+        return mAtomicArray.get(mNextId);
+    }
+
+    @Benchmark
+    public int countDayOfMonth() {
+        return MonthlyChecklist.countDayOfMonth(mPackedMonthly, 15);
+    }
+
+    @Benchmark
+    public int[] epochDaysUtc() {
+        EpochDays.ofMillis(mMillis, mUtc, mEpochDays);
+        return mEpochDays;
+    }
+
+    @Benchmark
+    public int[] daysOfWeek() {
+        EpochDays.getDaysOfWeek(mEpochDays, mDaysOfWeek);
+        return mDaysOfWeek;
+    }
+
+}
@@ -0,0 +1,69 @@
+package calendartools.benchmarks;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import calendartools.map.DateFormatMap;
+
+/** Parsing Date Strings with DateFormatMap.
+ *  - Single Strings are compared across the first format, the second format, and no matching format.
+ *  - Bulk parsing is compared between the Array and List overloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DateFormatMapBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private DateFormatMap mDateMap;
+
+    private String[] mDateStrings;
+
+    private List<String> mDateStringList;
+
+    @Setup
+    public void setup() {
+        mDateMap = DateFormatMap.getDefaultMap();
+        mDateStrings = BenchmarkData.simpleDateStrings(size);
+        mDateStringList = Arrays.asList(mDateStrings);
+    }
+
+    @Benchmark
+    public Calendar mapSimpleFormat() {
+        return mDateMap.map("2025-06-15");
+    }
+
+    @Benchmark
+    public Calendar mapReversedFormat() {
+        return mDateMap.map("15-06-2025");
+    }
+
+    @Benchmark
+    public Calendar mapInvalid() {
+        return mDateMap.map("June 15th");
+    }
+
+    @Benchmark
+    public List<Calendar> mapArray() {
+        return mDateMap.map(mDateStrings);
+    }
+
+    @Benchmark
+    public List<Calendar> mapList() {
+        return mDateMap.map(mDateStringList);
+    }
+
+}
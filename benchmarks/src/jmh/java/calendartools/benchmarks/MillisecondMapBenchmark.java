@@ -0,0 +1,64 @@
+package calendartools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import calendartools.map.MillisecondMap;
+
+/** Mapping Time values with MillisecondMap.
+ *  - The single value overload creates a Calendar per call, the bulk overloads share one Calendar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MillisecondMapBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private MillisecondMap<Integer> mMap;
+
+    private long[] mMillis;
+
+    private List<Long> mMillisList;
+
+    @Setup
+    public void setup() {
+        mMap = new MillisecondMap<>(cal -> cal.get(Calendar.DAY_OF_YEAR));
+        mMillis = BenchmarkData.millis(size);
+        mMillisList = new ArrayList<>(size);
+        for (long millis : mMillis) mMillisList.add(millis);
+    }
+
+    @Benchmark
+    public Integer mapSingle() {
+        return mMap.map(mMillis[0]);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> mapArray() {
+        return mMap.map(mMillis);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> mapArrayRange() {
+        return mMap.map(mMillis, 0, size / 2);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> mapCollection() {
+        return mMap.map(mMillisList);
+    }
+
+}
@@ -0,0 +1,51 @@
+package calendartools.benchmarks;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calendartools.data.EpochDays;
+import calendartools.map.DateFormatMap;
+import calendartools.map.MillisecondMap;
+import calendartools.yearplanner.YearPlanner;
+
+/** The first call into each module, including class loading and static initialization.
+ *  - Each measurement is a single call in a new JVM, so run it with ./gradlew :benchmarks:benchmarkStartup.
+ *    The settings of the jmh task would warm the JVM up, so this suite is excluded from it.
+ *  - Calls that do not parse Strings should not pay for any SimpleDateFormat.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    @Benchmark
+    public byte yearPlannerWeekOffset() {
+        return YearPlanner.getWeekOffset(BenchmarkData.YEAR);
+    }
+
+    @Benchmark
+    public Integer millisecondMap() {
+        return new MillisecondMap<>(c -> c.get(Calendar.YEAR)).map(BenchmarkData.YEAR_START_MILLIS);
+    }
+
+    @Benchmark
+    public int epochDays() {
+        return EpochDays.of(BenchmarkData.YEAR, 1, 2);
+    }
+
+    @Benchmark
+    public Calendar dateFormatMapParse() {
+        return DateFormatMap.getDefaultMap().map("2025-01-02");
+    }
+
+}
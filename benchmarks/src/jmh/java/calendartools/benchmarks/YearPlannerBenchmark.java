@@ -0,0 +1,82 @@
+package calendartools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import calendartools.yearplanner.YearGrid;
+import calendartools.yearplanner.YearPlanner;
+
+/** The single value methods of YearPlanner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class YearPlannerBenchmark {
+
+    private YearPlanner mPlanner;
+
+    private byte mWeek;
+
+    @Setup
+    public void setup() {
+        mPlanner = new YearPlanner(BenchmarkData.YEAR);
+    }
+
+    @Benchmark
+    public YearPlanner construct() {
+        return new YearPlanner(BenchmarkData.YEAR);
+    }
+
+    @Benchmark
+    public YearPlanner cached() {
+        return YearPlanner.of(BenchmarkData.YEAR);
+    }
+
+    @Benchmark
+    public byte[] getDayArray() {
+        // Cycle through every week, including the weeks that cross the year boundary.
+        mWeek = (byte) (mWeek % 53 + 1);
+        return mPlanner.getDayArray(mWeek);
+    }
+
+    @Benchmark
+    public void getDayArrayAllWeeks(final Blackhole blackhole) {
+        for (byte week = 1; week <= 53; ++week) {
+            blackhole.consume(mPlanner.getDayArray(week));
+        }
+    }
+
+    @Benchmark
+    public YearGrid getYearGrid() {
+        return mPlanner.getYearGrid();
+    }
+
+    @Benchmark
+    public short getDayNumberMonthDay() {
+        return mPlanner.getDayNumber(6, 15);
+    }
+
+    @Benchmark
+    public short getWeekNumberMonthDay() {
+        return mPlanner.getWeekNumber(6, 15);
+    }
+
+    @Benchmark
+    public short getDayNumberString() {
+        return mPlanner.getDayNumber("2025-06-15");
+    }
+
+    @Benchmark
+    public byte getWeekOffset() {
+        return YearPlanner.getWeekOffset(BenchmarkData.YEAR);
+    }
+
+}
@@ -0,0 +1,103 @@
+package calendartools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import calendartools.yearplanner.YearPlanner;
+
+/** The bulk methods of YearPlanner, sequential and parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class YearPlannerBulkBenchmark {
+
+    @Param({"1024", "262144"})
+    public int size;
+
+    private YearPlanner mPlanner;
+
+    private int[] mMonths;
+
+    private int[] mDays;
+
+    private long[] mMillis;
+
+    private String[] mDateStrings;
+
+    private short[] mDayNumbers;
+
+    private byte[] mWeekNumbers;
+
+    @Setup
+    public void setup() {
+        mPlanner = new YearPlanner(BenchmarkData.YEAR);
+        mMonths = BenchmarkData.months(size);
+        mDays = BenchmarkData.days(size);
+        mMillis = BenchmarkData.millis(size);
+        mDateStrings = BenchmarkData.simpleDateStrings(size);
+        mDayNumbers = new short[size];
+        mWeekNumbers = new byte[size];
+    }
+
+    @Benchmark
+    public short[] dayNumbersMonthDay() {
+        mPlanner.getDayNumbers(mMonths, mDays, mDayNumbers);
+        return mDayNumbers;
+    }
+
+    @Benchmark
+    public short[] dayNumbersMonthDayParallel() {
+        mPlanner.parallelGetDayNumbers(mMonths, mDays, mDayNumbers);
+        return mDayNumbers;
+    }
+
+    @Benchmark
+    public byte[] weekNumbersMonthDay() {
+        mPlanner.getWeekNumbers(mMonths, mDays, mWeekNumbers);
+        return mWeekNumbers;
+    }
+
+    @Benchmark
+    public byte[] weekNumbersMonthDayParallel() {
+        mPlanner.parallelGetWeekNumbers(mMonths, mDays, mWeekNumbers);
+        return mWeekNumbers;
+    }
+
+    @Benchmark
+    public short[] dayNumbersMillis() {
+        YearPlanner.getDayNumbers(mMillis, mDayNumbers);
+        return mDayNumbers;
+    }
+
+    @Benchmark
+    public short[] dayNumbersMillisParallel() {
+        YearPlanner.parallelGetDayNumbers(mMillis, mDayNumbers);
+        return mDayNumbers;
+    }
+
+    @Benchmark
+    public short[] dayNumbersStrings() {
+        mPlanner.getDayNumbers(mDateStrings, mDayNumbers);
+        return mDayNumbers;
+    }
+
+    /** The loop that the bulk methods replace.
+     */
+    @Benchmark
+    public short[] dayNumbersMonthDayLoop() {
+        for (int i = 0; i < size; ++i) {
+            mDayNumbers[i] = mPlanner.getDayNumber(mMonths[i], mDays[i]);
+        }
+        return mDayNumbers;
+    }
+
+}
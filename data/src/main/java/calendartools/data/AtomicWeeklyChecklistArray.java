@@ -0,0 +1,186 @@
+package calendartools.data;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Calendar;
+import java.util.function.UnaryOperator;
+
+/** A fixed size Array of WeeklyChecklists that may be updated atomically by many threads.
+ *  - Each element is stored as one byte, the compact representation of a WeeklyChecklist.
+ *  - Elements are accessed by their index, an integer id from zero up to the length.
+ *  - All updates are lock-free. Reads and writes have volatile memory semantics.
+ */
+public class AtomicWeeklyChecklistArray {
+
+	/** Atomic access to the elements of a byte array.
+	 */
+	private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+	/** The compact representation of each checklist.
+	 */
+	private final byte[] mArray;
+
+	/** Create an Array of the given length, with no days checked in any element.
+	 * @param length The number of elements.
+	 * @throws IllegalArgumentException When the length is negative.
+	 */
+	public AtomicWeeklyChecklistArray(
+		final int length
+	) throws IllegalArgumentException {
+		if (length < 0)
+			throw new IllegalArgumentException("Invalid Length: " + length);
+		mArray = new byte[length];
+	}
+
+	/** Create an Array containing a copy of a packed checklist array.
+	 * @param packed The packed checklist data, one WeeklyChecklist.toByte() value per element.
+	 * @throws IllegalArgumentException When the array is null, or contains invalid checklist data.
+	 */
+	public AtomicWeeklyChecklistArray(
+		final byte[] packed
+	) throws IllegalArgumentException {
+		if (packed == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		for (byte b : packed) WeeklyChecklistCodec.validateChecklist(b);
+		mArray = packed.clone();
+	}
+
+	/** The number of elements.
+	 * @return The length of the Array.
+	 */
+	public final int length() {
+		return mArray.length;
+	}
+
+	/** Obtain the current checklist at the given index.
+	 * @param id The index of the element.
+	 * @return The shared WeeklyChecklist instance with the current data. No allocation.
+	 */
+	public final WeeklyChecklist get(
+		final int id
+	) {
+		return WeeklyChecklist.fromByte(getByte(id));
+	}
+
+	/** Obtain the compact representation of the current checklist at the given index.
+	 * @param id The index of the element.
+	 * @return The checklist data, in range 0 to 127.
+	 */
+	public final byte getByte(
+		final int id
+	) {
+		return (byte) ELEMENTS.getVolatile(mArray, id);
+	}
+
+	/** Determine the current status of a day of the week at the given index.
+	 * @param id The index of the element.
+	 * @param dayOfWeek The given Day Of Week, from Calendar.DAY_OF_WEEK.
+	 * @return True if the day of week is selected. Undefined, if the day is invalid.
+	 */
+	public final boolean getDayOfWeek(
+		final int id,
+		final int dayOfWeek
+	) {
+		return (getByte(id) & (1 << dayOfWeek - 1)) != 0;
+	}
+
+	/** Replace the checklist at the given index.
+	 * @param id The index of the element.
+	 * @param checklist The new checklist. Must not be null.
+	 * @throws IllegalArgumentException When the checklist is null.
+	 */
+	public final void set(
+		final int id,
+		final WeeklyChecklist checklist
+	) throws IllegalArgumentException {
+		ELEMENTS.setVolatile(mArray, id, validate(checklist).mData);
+	}
+
+	/** Replace the checklist at the given index, returning the previous checklist.
+	 * @param id The index of the element.
+	 * @param checklist The new checklist. Must not be null.
+	 * @return The previous checklist.
+	 * @throws IllegalArgumentException When the checklist is null.
+	 */
+	public final WeeklyChecklist getAndSet(
+		final int id,
+		final WeeklyChecklist checklist
+	) throws IllegalArgumentException {
+		final byte previous = (byte) ELEMENTS.getAndSet(mArray, id, validate(checklist).mData);
+		return WeeklyChecklist.fromByte(previous);
+	}
+
+	/** Replace the checklist at the given index, only if the current checklist equals the expected checklist.
+	 * @param id The index of the element.
+	 * @param expected The checklist that is expected to be at the index.
+	 * @param update The new checklist.
+	 * @return True if the checklist was replaced.
+	 * @throws IllegalArgumentException When either checklist is null.
+	 */
+	public final boolean compareAndSet(
+		final int id,
+		final WeeklyChecklist expected,
+		final WeeklyChecklist update
+	) throws IllegalArgumentException {
+		return ELEMENTS.compareAndSet(mArray, id, validate(expected).mData, validate(update).mData);
+	}
+
+	/** Flip the status of a day of the week at the given index, atomically.
+	 * @param id The index of the element.
+	 * @param dayOfWeek The given Day Of Week, from Calendar.DAY_OF_WEEK.
+	 * @return The new status of the toggled day of the week.
+	 * @throws IllegalArgumentException When the day of week is invalid.
+	 */
+	public final boolean toggle(
+		final int id,
+		final int dayOfWeek
+	) throws IllegalArgumentException {
+		if (dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY)
+			throw new IllegalArgumentException("Invalid Day of Week: " + dayOfWeek);
+		final byte bit = (byte) (1 << dayOfWeek - 1);
+		final byte previous = (byte) ELEMENTS.getAndBitwiseXor(mArray, id, bit);
+		return (previous & bit) == 0;
+	}
+
+	/** Atomically replace the checklist at the given index with the result of a function.
+	 *  - The function may be called more than once when other threads update the element, so it should be pure.
+	 * @param id The index of the element.
+	 * @param update The function computing the new checklist from the current checklist. Must not return null.
+	 * @return The new checklist.
+	 * @throws IllegalArgumentException When the function returns null.
+	 */
+	public final WeeklyChecklist updateAndGet(
+		final int id,
+		final UnaryOperator<WeeklyChecklist> update
+	) throws IllegalArgumentException {
+		byte current = getByte(id);
+		while (true) {
+			final WeeklyChecklist next = validate(update.apply(WeeklyChecklist.fromByte(current)));
+			final byte witness = (byte) ELEMENTS.compareAndExchange(mArray, id, current, next.mData);
+			if (witness == current)
+				return next;
+			current = witness;
+		}
+	}
+
+	/** Copy the current state of every element into a packed checklist array.
+	 *  - Each element is read atomically, but the copy is not a snapshot of the whole Array.
+	 * @return A new packed checklist array, one byte per element.
+	 */
+	public final byte[] toPackedArray() {
+		final byte[] result = new byte[mArray.length];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = getByte(i);
+		}
+		return result;
+	}
+
+	private static WeeklyChecklist validate(
+		final WeeklyChecklist checklist
+	) throws IllegalArgumentException {
+		if (checklist == null)
+			throw new IllegalArgumentException("Checklist Must Not Be Null");
+		return checklist;
+	}
+
+}
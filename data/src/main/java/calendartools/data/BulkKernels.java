@@ -0,0 +1,113 @@
+package calendartools.data;
+
+/** The inner loops of the bulk methods, over primitive arrays.
+ *  - This class is the scalar implementation, used on Java 11.
+ *  - The multi-release JAR adds VectorKernels for Java 17 and later, which uses the incubating Vector API.
+ *    It is only loaded when the jdk.incubator.vector module is in the boot layer, with --add-modules jdk.incubator.vector.
+ *  - Every implementation returns exactly the same results.
+ */
+class BulkKernels {
+
+	/** The module that contains the Vector API.
+	 */
+	static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	/** The Vector API implementation, in the Java 17 part of the multi-release JAR.
+	 */
+	static final String VECTOR_KERNELS = "calendartools.data.VectorKernels";
+
+	/** The implementation used by the bulk methods.
+	 */
+	static final BulkKernels INSTANCE = load(VECTOR_MODULE, VECTOR_KERNELS);
+
+	/** Load an implementation, when its module is available.
+	 * @param moduleName The module that the implementation requires.
+	 * @param className The implementation class, with a no-argument constructor.
+	 * @return The implementation, or the scalar implementation if either the module or class is missing.
+	 */
+	static BulkKernels load(
+		final String moduleName,
+		final String className
+	) {
+		if (ModuleLayer.boot().findModule(moduleName).isEmpty())
+			return new BulkKernels();
+		try {
+			return (BulkKernels) Class.forName(className).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError ignored) {
+			return new BulkKernels();
+		}
+	}
+
+	/** Count the elements that have any of the mask bits set.
+	 * @param data The elements.
+	 * @param mask The bits to test.
+	 * @return The number of elements where (element & mask) is not zero.
+	 */
+	int countMatches(
+		final int[] data,
+		final int mask
+	) {
+		int result = 0;
+		for (int x : data) {
+			if ((x & mask) != 0) ++result;
+		}
+		return result;
+	}
+
+	/** Convert Time values into Epoch Days, at a fixed offset from UTC.
+	 * @param millisecondValues The Time values in milliseconds since epoch.
+	 * @param offsetMillis The offset from UTC in milliseconds.
+	 * @param output The Array that receives the Epoch Days, or EpochDays.INVALID when out of range. Same length as the Time values.
+	 */
+	void toEpochDays(
+		final long[] millisecondValues,
+		final long offsetMillis,
+		final int[] output
+	) {
+		toEpochDays(millisecondValues, offsetMillis, output, 0, output.length);
+	}
+
+	/** Convert a range of Time values into Epoch Days, at a fixed offset from UTC, with the scalar loop.
+	 * @param from The first index, inclusive.
+	 * @param to The last index, exclusive.
+	 */
+	final void toEpochDays(
+		final long[] millisecondValues,
+		final long offsetMillis,
+		final int[] output,
+		final int from,
+		final int to
+	) {
+		for (int i = from; i < to; ++i) {
+			output[i] = EpochDays.orInvalid(Math.floorDiv(millisecondValues[i] + offsetMillis, EpochDays.MILLIS_PER_DAY));
+		}
+	}
+
+	/** Determine the Day of the Week of each Epoch Day, as in EpochDays.getDayOfWeek.
+	 * @param epochDays The Epoch Days.
+	 * @param output The Array that receives the Days of the Week, or EpochDays.INVALID where the Epoch Day is INVALID. Same length as the Epoch Days.
+	 */
+	void getDaysOfWeek(
+		final int[] epochDays,
+		final int[] output
+	) {
+		getDaysOfWeek(epochDays, output, 0, output.length);
+	}
+
+	/** Determine the Day of the Week of a range of Epoch Days, with the scalar loop.
+	 * @param from The first index, inclusive.
+	 * @param to The last index, exclusive.
+	 */
+	final void getDaysOfWeek(
+		final int[] epochDays,
+		final int[] output,
+		final int from,
+		final int to
+	) {
+		for (int i = from; i < to; ++i) {
+			final int epochDay = epochDays[i];
+			output[i] = epochDay == EpochDays.INVALID ? EpochDays.INVALID : EpochDays.getDayOfWeek(epochDay);
+		}
+	}
+
+}
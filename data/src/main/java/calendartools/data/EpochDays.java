@@ -0,0 +1,484 @@
+package calendartools.data;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/** A date packed into a single int: the number of days since January 1st 1970.
+ *  - Uses the proleptic ISO calendar of java.time, so an Epoch Day equals LocalDate.toEpochDay().
+ *  - Dates may also be packed as year, month and day bit fields with {@link #pack(int)}, which sort in date order.
+ *  - Every method except the Calendar and LocalDate conversions is arithmetic, and allocates nothing.
+ *  - The Constants used are related to DAY_OF_WEEK in Java Util Calendar.
+ */
+public final class EpochDays {
+
+	/** The value written by bulk methods for an input that is not a valid date.
+	 */
+	public static final int INVALID = Integer.MIN_VALUE;
+
+	/** The earliest supported year.
+	 */
+	public static final int MIN_YEAR = -999_999;
+
+	/** The latest supported year.
+	 */
+	public static final int MAX_YEAR = 999_999;
+
+	/** The Epoch Day of January 1st of MIN_YEAR.
+	 */
+	public static final int MIN_EPOCH_DAY = -365_961_662;
+
+	/** The Epoch Day of December 31st of MAX_YEAR.
+	 */
+	public static final int MAX_EPOCH_DAY = 364_522_971;
+
+	/** The number of milliseconds in a day without a time zone transition.
+	 */
+	static final long MILLIS_PER_DAY = 86_400_000L;
+
+	/** The number of days in a 400 year cycle of the Gregorian calendar.
+	 */
+	static final int DAYS_PER_CYCLE = 146_097;
+
+	/** The number of days from March 1st of year 0 to January 1st 1970.
+	 */
+	static final int DAYS_0000_TO_1970 = 719_468;
+
+	private EpochDays() {}
+
+	/** Determine the Epoch Day of a date.
+	 * @param year The Year. Min -999999, Max 999999.
+	 * @param month The Month. Min 1, Max 12.
+	 * @param dayOfMonth The Day of the Month. Min 1, up to the length of the month.
+	 * @return The Epoch Day.
+	 * @throws IllegalArgumentException When the date does not exist.
+	 */
+	public static int of(
+		final int year,
+		final int month,
+		final int dayOfMonth
+	) throws IllegalArgumentException {
+		validateYear(year);
+		if (month < 1 || month > 12)
+			throw new IllegalArgumentException("Invalid Month: " + month);
+		if (dayOfMonth < 1 || dayOfMonth > getMonthLength(year, month))
+			throw new IllegalArgumentException("Invalid Day of Month: " + dayOfMonth);
+		return days(year, month, dayOfMonth);
+	}
+
+	/** Count the days of a date from the epoch, without validation.
+	 */
+	static int days(
+		final int year,
+		final int month,
+		final int dayOfMonth
+	) {
+		// Count from March, so that the leap day is the last day of the counted year.
+		final int y = month <= 2 ? year - 1 : year;
+		final int era = Math.floorDiv(y, 400);
+		final int yearOfEra = y - era * 400;
+		final int dayOfCountedYear = (153 * ((month + 9) % 12) + 2) / 5 + dayOfMonth - 1;
+		final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfCountedYear;
+		return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+	}
+
+	/** Determine the Epoch Day of a Day of the Year.
+	 * @param year The Year. Min -999999, Max 999999.
+	 * @param dayOfYear The Day of the Year. Min 1, up to the length of the year.
+	 * @return The Epoch Day.
+	 * @throws IllegalArgumentException When the date does not exist.
+	 */
+	public static int ofYearDay(
+		final int year,
+		final int dayOfYear
+	) throws IllegalArgumentException {
+		validateYear(year);
+		if (dayOfYear < 1 || dayOfYear > getYearLength(year))
+			throw new IllegalArgumentException("Invalid Day of Year: " + dayOfYear);
+		return days(year, 1, 1) + dayOfYear - 1;
+	}
+
+	/** Pack an Epoch Day into year, month and day bit fields.
+	 *  - Bits 0 to 4 hold the day, bits 5 to 8 hold the month, and the remaining bits hold the signed year.
+	 *  - Packed dates compare in the same order as Epoch Days.
+	 * @param epochDay The Epoch Day.
+	 * @return The packed date.
+	 * @throws IllegalArgumentException When the Epoch Day is out of range.
+	 */
+	public static int pack(
+		final int epochDay
+	) throws IllegalArgumentException {
+		validateEpochDay(epochDay);
+		final int shifted = epochDay + DAYS_0000_TO_1970;
+		final int era = Math.floorDiv(shifted, DAYS_PER_CYCLE);
+		final int dayOfEra = shifted - era * DAYS_PER_CYCLE;
+		final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final int dayOfCountedYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int monthFromMarch = (5 * dayOfCountedYear + 2) / 153;
+		final int day = dayOfCountedYear - (153 * monthFromMarch + 2) / 5 + 1;
+		final int month = monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9;
+		final int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		return year << 9 | month << 5 | day;
+	}
+
+	/** Unpack year, month and day bit fields into an Epoch Day.
+	 * @param packed The packed date, as returned by {@link #pack(int)}.
+	 * @return The Epoch Day.
+	 * @throws IllegalArgumentException When the fields are not a valid date.
+	 */
+	public static int unpack(
+		final int packed
+	) throws IllegalArgumentException {
+		return of(getPackedYear(packed), getPackedMonth(packed), getPackedDay(packed));
+	}
+
+	/** The Year field of a packed date.
+	 * @param packed The packed date.
+	 * @return The Year.
+	 */
+	public static int getPackedYear(
+		final int packed
+	) {
+		return packed >> 9;
+	}
+
+	/** The Month field of a packed date.
+	 * @param packed The packed date.
+	 * @return The Month, from 1 to 12.
+	 */
+	public static int getPackedMonth(
+		final int packed
+	) {
+		return packed >>> 5 & 0xF;
+	}
+
+	/** The Day of the Month field of a packed date.
+	 * @param packed The packed date.
+	 * @return The Day of the Month, from 1 to 31.
+	 */
+	public static int getPackedDay(
+		final int packed
+	) {
+		return packed & 0x1F;
+	}
+
+	/** Determine the Year of an Epoch Day.
+	 * @param epochDay The Epoch Day.
+	 * @return The Year.
+	 * @throws IllegalArgumentException When the Epoch Day is out of range.
+	 */
+	public static int getYear(
+		final int epochDay
+	) throws IllegalArgumentException {
+		return getPackedYear(pack(epochDay));
+	}
+
+	/** Determine the Month of an Epoch Day.
+	 * @param epochDay The Epoch Day.
+	 * @return The Month, from 1 to 12.
+	 * @throws IllegalArgumentException When the Epoch Day is out of range.
+	 */
+	public static int getMonth(
+		final int epochDay
+	) throws IllegalArgumentException {
+		return getPackedMonth(pack(epochDay));
+	}
+
+	/** Determine the Day of the Month of an Epoch Day.
+	 * @param epochDay The Epoch Day.
+	 * @return The Day of the Month, from 1 to 31.
+	 * @throws IllegalArgumentException When the Epoch Day is out of range.
+	 */
+	public static int getDayOfMonth(
+		final int epochDay
+	) throws IllegalArgumentException {
+		return getPackedDay(pack(epochDay));
+	}
+
+	/** Determine the Day of the Year of an Epoch Day.
+	 * @param epochDay The Epoch Day.
+	 * @return The Day of the Year, from 1 to 366.
+	 * @throws IllegalArgumentException When the Epoch Day is out of range.
+	 */
+	public static int getDayOfYear(
+		final int epochDay
+	) throws IllegalArgumentException {
+		return epochDay - days(getYear(epochDay), 1, 1) + 1;
+	}
+
+	/** Determine the Day of the Week of an Epoch Day.
+	 * @param epochDay The Epoch Day.
+	 * @return The Day of the Week, from Calendar.SUNDAY (1) to Calendar.SATURDAY (7).
+	 */
+	public static int getDayOfWeek(
+		final int epochDay
+	) {
+		// January 1st 1970 is a Thursday.
+		return Math.floorMod(epochDay + 4, 7) + Calendar.SUNDAY;
+	}
+
+	/** Determine the Week of the Year of an Epoch Day, as in Calendar.WEEK_OF_YEAR.
+	 *  - Days at the end of December may be in week 1 of the next year, and days in January may be in the last week of the previous year.
+	 * @param epochDay The Epoch Day.
+	 * @param firstDayOfWeek The Day of the Week that starts each week, from Calendar.DAY_OF_WEEK.
+	 * @param minimalDays The minimal number of days of the new year in week 1. Min 1, Max 7.
+	 * @return The Week of the Year, from 1 to 53.
+	 * @throws IllegalArgumentException When an argument is out of range.
+	 */
+	public static int getWeekOfYear(
+		final int epochDay,
+		final int firstDayOfWeek,
+		final int minimalDays
+	) throws IllegalArgumentException {
+		if (firstDayOfWeek < Calendar.SUNDAY || firstDayOfWeek > Calendar.SATURDAY)
+			throw new IllegalArgumentException("Invalid Day of Week: " + firstDayOfWeek);
+		if (minimalDays < 1 || minimalDays > 7)
+			throw new IllegalArgumentException("Invalid Minimal Days: " + minimalDays);
+		final int year = getYear(epochDay);
+		final int weekStart = epochDay - Math.floorMod(getDayOfWeek(epochDay) - firstDayOfWeek, 7);
+		final int weekOneStart = getWeekOneStart(year, firstDayOfWeek, minimalDays);
+		if (weekStart < weekOneStart)
+			return (weekStart - getWeekOneStart(year - 1, firstDayOfWeek, minimalDays)) / 7 + 1;
+		if (weekStart >= getWeekOneStart(year + 1, firstDayOfWeek, minimalDays))
+			return 1;
+		return (weekStart - weekOneStart) / 7 + 1;
+	}
+
+	/** Determine whether a year has 366 days, in the proleptic Gregorian calendar.
+	 * @param year The Year.
+	 * @return True if February has 29 days.
+	 */
+	public static boolean isLeapYear(
+		final int year
+	) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/** Determine the number of days in a year.
+	 * @param year The Year.
+	 * @return 366 in a leap year, or 365.
+	 */
+	public static int getYearLength(
+		final int year
+	) {
+		return isLeapYear(year) ? 366 : 365;
+	}
+
+	/** Determine the number of days in a month.
+	 * @param year The Year.
+	 * @param month The Month. Min 1, Max 12.
+	 * @return The number of days, from 28 to 31.
+	 * @throws IllegalArgumentException When the month is invalid.
+	 */
+	public static int getMonthLength(
+		final int year,
+		final int month
+	) throws IllegalArgumentException {
+		switch (month) {
+			case 2:
+				return isLeapYear(year) ? 29 : 28;
+			case 4: case 6: case 9: case 11:
+				return 30;
+			case 1: case 3: case 5: case 7: case 8: case 10: case 12:
+				return 31;
+			default:
+				throw new IllegalArgumentException("Invalid Month: " + month);
+		}
+	}
+
+	/** Add a number of days to an Epoch Day.
+	 * @param epochDay The Epoch Day.
+	 * @param days The number of days to add, which may be negative.
+	 * @return The Epoch Day of the result.
+	 * @throws IllegalArgumentException When the result is out of range.
+	 */
+	public static int plusDays(
+		final int epochDay,
+		final int days
+	) throws IllegalArgumentException {
+		final long result = (long) epochDay + days;
+		if (result < MIN_EPOCH_DAY || result > MAX_EPOCH_DAY)
+			throw new IllegalArgumentException("Invalid Epoch Day: " + result);
+		return (int) result;
+	}
+
+	/** Determine the local Epoch Day of a Time value, in a time zone.
+	 * @param millisecondValue The Time in milliseconds since epoch.
+	 * @param zone The time zone.
+	 * @return The Epoch Day of the local date at that time.
+	 * @throws IllegalArgumentException When the time zone is null, or the local date is out of range.
+	 */
+	public static int ofMillis(
+		final long millisecondValue,
+		final TimeZone zone
+	) throws IllegalArgumentException {
+		if (zone == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		final long result = Math.floorDiv(millisecondValue + zone.getOffset(millisecondValue), MILLIS_PER_DAY);
+		if (result < MIN_EPOCH_DAY || result > MAX_EPOCH_DAY)
+			throw new IllegalArgumentException("Invalid Epoch Day: " + result);
+		return (int) result;
+	}
+
+	/** Determine the local Epoch Day of each Time value in an Array, in a time zone.
+	 *  - Zones with a fixed offset, such as UTC, are converted by the bulk kernel, which uses the Vector API when available.
+	 *  - Time values with a local date out of range receive INVALID, instead of throwing as the single method does.
+	 * @param millisecondValues The Times in milliseconds since epoch.
+	 * @param zone The time zone.
+	 * @param output The Array that receives the Epoch Day of each Time value, or INVALID.
+	 * @throws IllegalArgumentException When an argument is null, or the Array lengths differ.
+	 */
+	public static void ofMillis(
+		final long[] millisecondValues,
+		final TimeZone zone,
+		final int[] output
+	) throws IllegalArgumentException {
+		if (millisecondValues == null || zone == null || output == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		if (millisecondValues.length != output.length)
+			throw new IllegalArgumentException("Array Lengths Must Match");
+		if (isFixedOffset(zone)) {
+			BulkKernels.INSTANCE.toEpochDays(millisecondValues, zone.getRawOffset(), output);
+			return;
+		}
+		for (int i = 0; i < output.length; ++i) {
+			final long millis = millisecondValues[i];
+			output[i] = orInvalid(Math.floorDiv(millis + zone.getOffset(millis), MILLIS_PER_DAY));
+		}
+	}
+
+	/** Determine the Day of the Week of each Epoch Day in an Array, as in getDayOfWeek.
+	 *  - Uses the bulk kernel, which uses the Vector API when available.
+	 *  - INVALID Epoch Days, such as those written by the bulk ofMillis, receive INVALID.
+	 * @param epochDays The Epoch Days.
+	 * @param output The Array that receives the Day of the Week of each Epoch Day, or INVALID. May be the same Array as the Epoch Days.
+	 * @throws IllegalArgumentException When an argument is null, or the Array lengths differ.
+	 */
+	public static void getDaysOfWeek(
+		final int[] epochDays,
+		final int[] output
+	) throws IllegalArgumentException {
+		if (epochDays == null || output == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		if (epochDays.length != output.length)
+			throw new IllegalArgumentException("Array Lengths Must Match");
+		BulkKernels.INSTANCE.getDaysOfWeek(epochDays, output);
+	}
+
+	/** Narrow an Epoch Day to an int, or INVALID when it is out of range, as the bulk methods do.
+	 * @param epochDay The Epoch Day, which may be out of range, such as LocalDate.toEpochDay.
+	 * @return The Epoch Day, or INVALID.
+	 */
+	public static int orInvalid(
+		final long epochDay
+	) {
+		return epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY ? INVALID : (int) epochDay;
+	}
+
+	/** Determine whether a time zone has had the same offset at all times.
+	 *  - Zones without a java.time equivalent, such as a custom SimpleTimeZone, are not fixed.
+	 * @param zone The time zone.
+	 * @return True if the raw offset applies to every Time value.
+	 */
+	static boolean isFixedOffset(
+		final TimeZone zone
+	) {
+		if (zone.useDaylightTime())
+			return false;
+		try {
+			final ZoneRules rules = zone.toZoneId().getRules();
+			return rules.isFixedOffset() &&
+				rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000 == zone.getRawOffset();
+		} catch (DateTimeException ignored) {
+			return false;
+		}
+	}
+
+	/** Convert a LocalDate into an Epoch Day.
+	 * @param date The LocalDate.
+	 * @return The Epoch Day.
+	 * @throws IllegalArgumentException When the date is null, or the year is out of range.
+	 */
+	public static int fromLocalDate(
+		final LocalDate date
+	) throws IllegalArgumentException {
+		if (date == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		validateYear(date.getYear());
+		return (int) date.toEpochDay();
+	}
+
+	/** Convert an Epoch Day into a LocalDate.
+	 * @param epochDay The Epoch Day.
+	 * @return A LocalDate.
+	 * @throws IllegalArgumentException When the Epoch Day is out of range.
+	 */
+	public static LocalDate toLocalDate(
+		final int epochDay
+	) throws IllegalArgumentException {
+		validateEpochDay(epochDay);
+		return LocalDate.ofEpochDay(epochDay);
+	}
+
+	/** Determine the local Epoch Day of a Calendar's instant, in the time zone of the Calendar.
+	 *  - Before 1583, this is the proleptic Gregorian date, not the Julian date fields of the Calendar.
+	 * @param calendar The Calendar.
+	 * @return The Epoch Day.
+	 * @throws IllegalArgumentException When the Calendar is null, or its local date is out of range.
+	 */
+	public static int fromCalendar(
+		final Calendar calendar
+	) throws IllegalArgumentException {
+		if (calendar == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		return ofMillis(calendar.getTimeInMillis(), calendar.getTimeZone());
+	}
+
+	/** Convert an Epoch Day into a Calendar at the start of the day, in the default time zone.
+	 * @param epochDay The Epoch Day.
+	 * @return A new Calendar.
+	 * @throws IllegalArgumentException When the Epoch Day is out of range.
+	 */
+	public static Calendar toCalendar(
+		final int epochDay
+	) throws IllegalArgumentException {
+		final long millis = toLocalDate(epochDay)
+			.atStartOfDay(ZoneId.systemDefault())
+			.toInstant()
+			.toEpochMilli();
+		return new Calendar.Builder().setInstant(millis).build();
+	}
+
+	/** The Epoch Day that starts week 1 of a year.
+	 */
+	private static int getWeekOneStart(
+		final int year,
+		final int firstDayOfWeek,
+		final int minimalDays
+	) {
+		final int januaryFirst = days(year, 1, 1);
+		final int offset = Math.floorMod(getDayOfWeek(januaryFirst) - firstDayOfWeek, 7);
+		// The week containing January 1st is week 1 when enough of it is in the new year.
+		final int weekStart = januaryFirst - offset;
+		return 7 - offset >= minimalDays ? weekStart : weekStart + 7;
+	}
+
+	private static void validateYear(
+		final int year
+	) throws IllegalArgumentException {
+		if (year < MIN_YEAR || year > MAX_YEAR)
+			throw new IllegalArgumentException("Invalid Year: " + year);
+	}
+
+	private static void validateEpochDay(
+		final int epochDay
+	) throws IllegalArgumentException {
+		if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY)
+			throw new IllegalArgumentException("Invalid Epoch Day: " + epochDay);
+	}
+
+}
@@ -0,0 +1,219 @@
+package calendartools.data;
+
+import java.util.Calendar;
+
+/** A Checklist for the days of a month, from the 1st to the 31st.
+ * The checklist is stored in a single int, with one bit per day of the month.
+ * The Constants used are related to DAY_OF_MONTH and DAY_OF_WEEK in Java Util Calendar.
+ */
+public class MonthlyChecklist implements Comparable<MonthlyChecklist> {
+
+	/** The number of days that the checklist can hold.
+	 */
+	public static final int MAX_DAYS = 31;
+
+	/** A mask with all 31 days selected.
+	 */
+	static final int FULL_MASK = 0x7FFFFFFF;
+
+	/** Has a bit set at every multiple of 7, up to bit 28.
+	 *  Multiplying a 7-bit week pattern by this tiles the pattern across the whole month.
+	 */
+	static final int WEEK_TILE = 0x10204081;
+
+	/** The interned checklist with no days selected.
+	 */
+	private static final MonthlyChecklist EMPTY = new MonthlyChecklist(0);
+
+	/** The interned checklist with all days selected.
+	 */
+	private static final MonthlyChecklist FULL = new MonthlyChecklist(FULL_MASK);
+
+	/** Obtain a checklist for the given compact representation.
+	 *  - The empty and full checklists are shared instances.
+	 * @param data The compact representation, as returned by {@link #toInt()}.
+	 * @return A MonthlyChecklist with the given data.
+	 * @throws IllegalArgumentException When the data is negative.
+	 */
+	public static MonthlyChecklist valueOf(
+		final int data
+	) throws IllegalArgumentException {
+		if (data < 0)
+			throw new IllegalArgumentException("Invalid Checklist Data: " + data);
+		if (data == 0)
+			return EMPTY;
+		if (data == FULL_MASK)
+			return FULL;
+		return new MonthlyChecklist(data);
+	}
+
+	/** Expand a WeeklyChecklist into the days of a month.
+	 *  - The weekly pattern is tiled across the month, without using a Calendar.
+	 * @param weekly The days of the week to select.
+	 * @param firstDayOfWeek The Day Of Week of the 1st of the month, from Calendar.DAY_OF_WEEK.
+	 * @param monthLength The number of days in the month. Min 1, Max 31.
+	 * @return A MonthlyChecklist with every day of the month that falls on a selected day of the week.
+	 * @throws IllegalArgumentException When the checklist is null, or another argument is out of range.
+	 */
+	public static MonthlyChecklist fromWeekly(
+		final WeeklyChecklist weekly,
+		final int firstDayOfWeek,
+		final int monthLength
+	) throws IllegalArgumentException {
+		if (weekly == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		return valueOf(tile(weekly.mData, firstDayOfWeek, monthLength));
+	}
+
+	/** Count the checklists that have a day selected, in a packed array of checklist data.
+	 * @param packed The packed checklist data, one {@link #toInt()} value per element.
+	 * @param dayOfMonth The Day of the Month. Min 1, Max 31.
+	 * @return The number of elements with the day selected.
+	 * @throws IllegalArgumentException When the array is null, or the day is invalid.
+	 */
+	public static int countDayOfMonth(
+		final int[] packed,
+		final int dayOfMonth
+	) throws IllegalArgumentException {
+		if (packed == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		validateDay(dayOfMonth);
+		return BulkKernels.INSTANCE.countMatches(packed, 1 << (dayOfMonth - 1));
+	}
+
+	/** The compact representation of the checklist. Bit 0 is the 1st of the month.
+	 */
+	final int mData;
+
+	/** Initialize a Checklist with the same state for all days of the month.
+	 * @param allDays The checked state for all days of the month.
+	 */
+	public MonthlyChecklist(
+		final boolean allDays
+	) {
+		mData = allDays ? FULL_MASK : 0;
+	}
+
+	/** Only used internally to avoid unnecessary checks.
+	 * @param data The compact representation of the checklist.
+	 */
+	protected MonthlyChecklist(
+		final int data
+	) {
+		mData = data;
+	}
+
+	/** Obtain the compact representation of the checklist.
+	 * @return The checklist data. Bit 0 is the 1st of the month, up to Bit 30 for the 31st.
+	 */
+	public final int toInt() {
+		return mData;
+	}
+
+	/** Determine the status on the given day of the month.
+	 * @param dayOfMonth The Day of the Month, from Calendar.DAY_OF_MONTH.
+	 * @return True if the day is selected. Undefined, if input is invalid.
+	 */
+	public final boolean getDayOfMonth(
+		final int dayOfMonth
+	) {
+		return (mData & (1 << dayOfMonth - 1)) != 0;
+	}
+
+	/** Update the status on the given day of the month.
+	 * Instantiates a new MonthlyChecklist when the status is changed.
+	 * @param dayOfMonth The Day of the Month, from Calendar.DAY_OF_MONTH.
+	 * @return A MonthlyChecklist with the updated status, or this instance if the input is invalid.
+	 */
+	public final MonthlyChecklist updateDayOfMonth(
+		final int dayOfMonth
+	) {
+		if (dayOfMonth < 1 || dayOfMonth > MAX_DAYS)
+			return this;
+		return new MonthlyChecklist(mData ^ (1 << dayOfMonth - 1));
+	}
+
+	/** The number of selected days.
+	 * @return The count of days, from 0 to 31.
+	 */
+	public final int count() {
+		return Integer.bitCount(mData);
+	}
+
+	/** Reduce the checklist to the days of the week that are selected on every occurrence in the month.
+	 *  - This is the inverse of fromWeekly, for the same month.
+	 * @param firstDayOfWeek The Day Of Week of the 1st of the month, from Calendar.DAY_OF_WEEK.
+	 * @param monthLength The number of days in the month. Min 1, Max 31.
+	 * @return The shared WeeklyChecklist instance.
+	 * @throws IllegalArgumentException When an argument is out of range.
+	 */
+	public final WeeklyChecklist toWeekly(
+		final int firstDayOfWeek,
+		final int monthLength
+	) throws IllegalArgumentException {
+		int result = 0;
+		for (int day = 0; day < 7; ++day) {
+			final int occurrences = tile(1 << day, firstDayOfWeek, monthLength);
+			if (occurrences != 0 && (mData & occurrences) == occurrences)
+				result |= 1 << day;
+		}
+		return WeeklyChecklist.fromByte((byte) result);
+	}
+
+	@Override
+	public boolean equals(
+		final Object obj
+	) {
+		return obj instanceof MonthlyChecklist &&
+			((MonthlyChecklist) obj).mData == mData;
+	}
+
+	/** The Hash Code is the compact representation itself.
+	 * @return The checklist data.
+	 */
+	@Override
+	public int hashCode() {
+		return mData;
+	}
+
+	/** Order checklists by their compact representation.
+	 * @param other The MonthlyChecklist to compare with.
+	 * @return Negative, zero or positive, as this checklist is less than, equal to, or greater than the other.
+	 */
+	@Override
+	public int compareTo(
+		final MonthlyChecklist other
+	) {
+		return Integer.compare(mData, other.mData);
+	}
+
+	/** Tile a 7-bit weekly pattern across a month.
+	 * @param weekly The weekly pattern, with Sunday in bit 0.
+	 * @param firstDayOfWeek The Day Of Week of the 1st of the month.
+	 * @param monthLength The number of days in the month.
+	 * @return The monthly pattern.
+	 */
+	static int tile(
+		final int weekly,
+		final int firstDayOfWeek,
+		final int monthLength
+	) throws IllegalArgumentException {
+		if (firstDayOfWeek < Calendar.SUNDAY || firstDayOfWeek > Calendar.SATURDAY)
+			throw new IllegalArgumentException("Invalid Day of Week: " + firstDayOfWeek);
+		validateDay(monthLength);
+		// Rotate the pattern so that bit 0 is the Day of Week of the 1st.
+		final int phase = firstDayOfWeek - 1;
+		final int rotated = ((weekly >>> phase) | (weekly << (7 - phase))) & 0x7F;
+		// Copies beyond the end of the month are removed by the mask.
+		final int monthMask = (int) ((1L << monthLength) - 1);
+		return rotated * WEEK_TILE & monthMask;
+	}
+
+	private static void validateDay(
+		final int dayOfMonth
+	) throws IllegalArgumentException {
+		if (dayOfMonth < 1 || dayOfMonth > MAX_DAYS)
+			throw new IllegalArgumentException("Invalid Day of Month: " + dayOfMonth);
+	}
+
+}
@@ -0,0 +1,235 @@
+package calendartools.data;
+
+import java.util.Calendar;
+
+/** A Checklist for a repeating pattern of 1 to 4 weeks, such as a two-week rota.
+ * The checklist is stored in a single int, with 7 bits per week.
+ * The Constants used are related to DAY_OF_WEEK in Java Util Calendar.
+ */
+public class MultiWeekChecklist implements Comparable<MultiWeekChecklist> {
+
+	/** The maximum number of weeks in the pattern.
+	 */
+	public static final int MAX_WEEKS = 4;
+
+	/** The interned empty checklists, indexed by week count.
+	 */
+	private static final MultiWeekChecklist[] EMPTY = new MultiWeekChecklist[MAX_WEEKS + 1];
+
+	/** The interned full checklists, indexed by week count.
+	 */
+	private static final MultiWeekChecklist[] FULL = new MultiWeekChecklist[MAX_WEEKS + 1];
+
+	static {
+		for (int weeks = 1; weeks <= MAX_WEEKS; ++weeks) {
+			EMPTY[weeks] = new MultiWeekChecklist(weeks, 0);
+			FULL[weeks] = new MultiWeekChecklist(weeks, fullMask(weeks));
+		}
+	}
+
+	/** Obtain a checklist for the given compact representation.
+	 *  - The empty and full checklists are shared instances.
+	 * @param weeks The number of weeks in the pattern. Min 1, Max 4.
+	 * @param data The compact representation, as returned by {@link #toInt()}.
+	 * @return A MultiWeekChecklist with the given data.
+	 * @throws IllegalArgumentException When the weeks are out of range, or the data has bits beyond the last week.
+	 */
+	public static MultiWeekChecklist valueOf(
+		final int weeks,
+		final int data
+	) throws IllegalArgumentException {
+		validateWeeks(weeks);
+		if ((data & ~fullMask(weeks)) != 0)
+			throw new IllegalArgumentException("Invalid Checklist Data: " + data);
+		if (data == 0)
+			return EMPTY[weeks];
+		if (data == fullMask(weeks))
+			return FULL[weeks];
+		return new MultiWeekChecklist(weeks, data);
+	}
+
+	/** Count the checklists that have a day selected, in a packed array of checklist data.
+	 * @param packed The packed checklist data, one {@link #toInt()} value per element.
+	 * @param week The week in the pattern. Min 1, Max 4.
+	 * @param dayOfWeek The given Day Of Week, from Calendar.DAY_OF_WEEK.
+	 * @return The number of elements with the day selected.
+	 * @throws IllegalArgumentException When the array is null, or the week or day is invalid.
+	 */
+	public static int countDayOfWeek(
+		final int[] packed,
+		final int week,
+		final int dayOfWeek
+	) throws IllegalArgumentException {
+		if (packed == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		if (week < 1 || week > MAX_WEEKS)
+			throw new IllegalArgumentException("Invalid Week: " + week);
+		if (dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY)
+			throw new IllegalArgumentException("Invalid Day of Week: " + dayOfWeek);
+		return BulkKernels.INSTANCE.countMatches(packed, 1 << bitIndex(week, dayOfWeek));
+	}
+
+	/** The compact representation of the checklist. Week 1 occupies the lowest 7 bits.
+	 */
+	final int mData;
+
+	/** The number of weeks in the pattern.
+	 */
+	final byte mWeeks;
+
+	/** Initialize a Checklist from one WeeklyChecklist per week.
+	 * @param weeks The checklist for each week of the pattern, from 1 to 4 checklists.
+	 * @throws IllegalArgumentException When there are no weeks, too many weeks, or a week is null.
+	 */
+	public MultiWeekChecklist(
+		final WeeklyChecklist... weeks
+	) throws IllegalArgumentException {
+		if (weeks == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		validateWeeks(weeks.length);
+		int data = 0;
+		for (int i = 0; i < weeks.length; ++i) {
+			if (weeks[i] == null)
+				throw new IllegalArgumentException("Week Must Not Be Null");
+			data |= weeks[i].mData << (7 * i);
+		}
+		mData = data;
+		mWeeks = (byte) weeks.length;
+	}
+
+	/** Initialize a Checklist with the same state for all days in the pattern.
+	 * @param weeks The number of weeks in the pattern. Min 1, Max 4.
+	 * @param allDays The checked state for all days.
+	 * @throws IllegalArgumentException When the weeks are out of range.
+	 */
+	public MultiWeekChecklist(
+		final int weeks,
+		final boolean allDays
+	) throws IllegalArgumentException {
+		validateWeeks(weeks);
+		mData = allDays ? fullMask(weeks) : 0;
+		mWeeks = (byte) weeks;
+	}
+
+	/** Only used internally to avoid unnecessary checks.
+	 * @param weeks The number of weeks in the pattern.
+	 * @param data The compact representation of the checklist.
+	 */
+	protected MultiWeekChecklist(
+		final int weeks,
+		final int data
+	) {
+		mData = data;
+		mWeeks = (byte) weeks;
+	}
+
+	/** The number of weeks in the pattern.
+	 * @return The week count, from 1 to 4.
+	 */
+	public final int getWeekCount() {
+		return mWeeks;
+	}
+
+	/** Obtain the compact representation of the checklist.
+	 *  - Week 1 occupies bits 0 to 6, with Sunday in bit 0. Each following week occupies the next 7 bits.
+	 * @return The checklist data.
+	 */
+	public final int toInt() {
+		return mData;
+	}
+
+	/** Determine the status on the given day in the pattern.
+	 * @param week The week in the pattern, starting from 1.
+	 * @param dayOfWeek The given Day Of Week, from Calendar.DAY_OF_WEEK.
+	 * @return True if the day is selected. Undefined, if input is invalid.
+	 */
+	public final boolean getDayOfWeek(
+		final int week,
+		final int dayOfWeek
+	) {
+		return (mData & (1 << bitIndex(week, dayOfWeek))) != 0;
+	}
+
+	/** Update the status on the given day in the pattern.
+	 * Instantiates a new MultiWeekChecklist when the status is changed.
+	 * @param week The week in the pattern, starting from 1.
+	 * @param dayOfWeek The given Day Of Week, from Calendar.DAY_OF_WEEK.
+	 * @return A MultiWeekChecklist with the updated status, or this instance if the input is invalid.
+	 */
+	public final MultiWeekChecklist updateDayOfWeek(
+		final int week,
+		final int dayOfWeek
+	) {
+		// Check for invalid input.
+		if (week < 1 || week > mWeeks ||
+			dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY
+		) return this;
+		return new MultiWeekChecklist(mWeeks, mData ^ (1 << bitIndex(week, dayOfWeek)));
+	}
+
+	/** Obtain the checklist for a single week of the pattern.
+	 * @param week The week in the pattern, starting from 1.
+	 * @return The shared WeeklyChecklist instance for the week.
+	 * @throws IllegalArgumentException When the week is out of range.
+	 */
+	public final WeeklyChecklist getWeek(
+		final int week
+	) throws IllegalArgumentException {
+		if (week < 1 || week > mWeeks)
+			throw new IllegalArgumentException("Invalid Week: " + week);
+		return WeeklyChecklist.fromByte((byte) ((mData >>> (7 * (week - 1))) & 0x7F));
+	}
+
+	@Override
+	public boolean equals(
+		final Object obj
+	) {
+		if (!(obj instanceof MultiWeekChecklist))
+			return false;
+		final MultiWeekChecklist other = (MultiWeekChecklist) obj;
+		return other.mData == mData && other.mWeeks == mWeeks;
+	}
+
+	@Override
+	public int hashCode() {
+		return mData * 31 + mWeeks;
+	}
+
+	/** Order checklists by week count, then by their compact representation.
+	 * @param other The MultiWeekChecklist to compare with.
+	 * @return Negative, zero or positive, as this checklist is less than, equal to, or greater than the other.
+	 */
+	@Override
+	public int compareTo(
+		final MultiWeekChecklist other
+	) {
+		if (mWeeks != other.mWeeks)
+			return Byte.compare(mWeeks, other.mWeeks);
+		return Integer.compare(mData, other.mData);
+	}
+
+	/** The bit for a day in the pattern.
+	 */
+	static int bitIndex(
+		final int week,
+		final int dayOfWeek
+	) {
+		return 7 * (week - 1) + dayOfWeek - 1;
+	}
+
+	/** A mask with every day of the given number of weeks selected.
+	 */
+	static int fullMask(
+		final int weeks
+	) {
+		return (1 << (7 * weeks)) - 1;
+	}
+
+	private static void validateWeeks(
+		final int weeks
+	) throws IllegalArgumentException {
+		if (weeks < 1 || weeks > MAX_WEEKS)
+			throw new IllegalArgumentException("Invalid Week Count: " + weeks);
+	}
+
+}
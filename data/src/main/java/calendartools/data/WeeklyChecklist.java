@@ -4,7 +4,31 @@ package calendartools.data;
  * The checklist utilizes a compact representation for optimal memory efficiency.
  * The Constants used are related to DAY_OF_WEEK in Java Util Calendar.
  */
-public class WeeklyChecklist {
+public class WeeklyChecklist implements Comparable<WeeklyChecklist> {
+
+	/** The interned instances, one for each of the 128 possible checklists.
+	 */
+	private static final WeeklyChecklist[] INTERNED = new WeeklyChecklist[128];
+
+	static {
+		for (int i = 0; i < INTERNED.length; ++i) {
+			INTERNED[i] = new WeeklyChecklist((byte) i);
+		}
+	}
+
+	/** Obtain the shared instance for the given compact representation.
+	 *  - No allocation: all 128 possible checklists are created once and reused.
+	 * @param data The compact representation, as returned by {@link #toByte()}. Min 0, Max 127.
+	 * @return The shared WeeklyChecklist instance.
+	 * @throws IllegalArgumentException When the data uses the 8th bit, or is negative.
+	 */
+	public static WeeklyChecklist fromByte(
+		final byte data
+	) throws IllegalArgumentException {
+		if (data < 0)
+			throw new IllegalArgumentException("Invalid Checklist Data: " + data);
+		return INTERNED[data];
+	}
 
 	/** The compact representation of the checklist.
 	 */
@@ -92,6 +116,14 @@ public class WeeklyChecklist {
 		return new WeeklyChecklist(newData);
 	}
 
+	/** Obtain the compact representation of the checklist.
+	 *  - Bit 0 is Sunday, up to Bit 6 for Saturday. Bit 7 is never set.
+	 * @return The checklist data as a single byte, in range 0 to 127.
+	 */
+	public final byte toByte() {
+		return mData;
+	}
+
 	@Override
 	public boolean equals(
 		final Object obj
@@ -99,4 +131,24 @@ public class WeeklyChecklist {
 		return obj instanceof WeeklyChecklist &&
 			((WeeklyChecklist) obj).mData == mData;
 	}
+
+	/** The Hash Code is the compact representation itself, so that equal checklists have equal hashes.
+	 * @return The checklist data, in range 0 to 127.
+	 */
+	@Override
+	public int hashCode() {
+		return mData;
+	}
+
+	/** Order checklists by their compact representation.
+	 *  - Sunday is the least significant day, Saturday is the most significant.
+	 * @param other The WeeklyChecklist to compare with.
+	 * @return Negative, zero or positive, as this checklist is less than, equal to, or greater than the other.
+	 */
+	@Override
+	public int compareTo(
+		final WeeklyChecklist other
+	) {
+		return Byte.compare(mData, other.mData);
+	}
 }
\ No newline at end of file
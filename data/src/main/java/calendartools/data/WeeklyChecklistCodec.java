@@ -0,0 +1,435 @@
+package calendartools.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/** A Compact Binary Format for collections of WeeklyChecklist data.
+ *  - The input and output of the codec is a packed byte array, one WeeklyChecklist.toByte() value per element.
+ *  - Every encoded collection begins with an 8 byte header: Magic (2), Version (1), Encoding (1), Count (4).
+ *  - The Count is written in big-endian order, regardless of the ByteBuffer order.
+ */
+public final class WeeklyChecklistCodec {
+
+	/** The first byte of every header: ASCII 'W'.
+	 */
+	static final byte MAGIC_0 = 0x57;
+
+	/** The second byte of every header: ASCII 'C'.
+	 */
+	static final byte MAGIC_1 = 0x43;
+
+	/** The version of the format written by this codec.
+	 */
+	public static final byte VERSION = 1;
+
+	/** The number of bytes in the header.
+	 */
+	public static final int HEADER_SIZE = 8;
+
+	/** Encoding: One byte per checklist.
+	 */
+	public static final byte RAW = 0;
+
+	/** Encoding: Seven bits per checklist, so that 8 checklists fit in 7 bytes.
+	 */
+	public static final byte PACKED = 1;
+
+	/** Encoding: Runs of identical checklists are compressed.
+	 *  - A byte in range 0 to 127 is a single checklist.
+	 *  - A byte with the high bit set is followed by a VarInt; the run length minus 3.
+	 */
+	public static final byte RUN_LENGTH = 2;
+
+	/** The size of the buffer used when writing to, or reading from, a channel.
+	 */
+	static final int CHANNEL_BUFFER_SIZE = 8192;
+
+	/** Runs shorter than this are written as single checklists.
+	 */
+	static final int MIN_RUN_LENGTH = 3;
+
+	private WeeklyChecklistCodec() {}
+
+	/** Determine the number of bytes required to encode a collection, including the header.
+	 *  - For RUN_LENGTH, this is the worst case: no runs at all.
+	 * @param count The number of checklists.
+	 * @param encoding The encoding: RAW, PACKED, or RUN_LENGTH.
+	 * @return The maximum number of bytes that the encoded collection will occupy.
+	 * @throws IllegalArgumentException When the count is negative, or the encoding is unknown.
+	 */
+	public static long maxEncodedSize(
+		final int count,
+		final byte encoding
+	) throws IllegalArgumentException {
+		if (count < 0)
+			throw new IllegalArgumentException("Invalid Count: " + count);
+		validateEncoding(encoding);
+		if (encoding == PACKED)
+			return HEADER_SIZE + (7L * count + 7) / 8;
+		return HEADER_SIZE + (long) count;
+	}
+
+	/** Encode an Array of WeeklyChecklists into the Buffer.
+	 * @param checklists The checklists to encode. Must not contain null.
+	 * @param out The Buffer that receives the encoded bytes.
+	 * @param encoding The encoding: RAW, PACKED, or RUN_LENGTH.
+	 * @throws IllegalArgumentException When an argument is null, or the encoding is unknown.
+	 * @throws java.nio.BufferOverflowException When the Buffer does not have enough space remaining.
+	 */
+	public static void encode(
+		final WeeklyChecklist[] checklists,
+		final ByteBuffer out,
+		final byte encoding
+	) throws IllegalArgumentException {
+		if (checklists == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		encode(pack(checklists), 0, checklists.length, out, encoding);
+	}
+
+	/** Encode a range of a packed checklist array into the Buffer.
+	 * @param packed The packed checklist data, one byte per checklist.
+	 * @param offset The index of the first checklist to encode.
+	 * @param count The number of checklists to encode.
+	 * @param out The Buffer that receives the encoded bytes.
+	 * @param encoding The encoding: RAW, PACKED, or RUN_LENGTH.
+	 * @throws IllegalArgumentException When an argument is null, the range is invalid, or the encoding is unknown.
+	 * @throws java.nio.BufferOverflowException When the Buffer does not have enough space remaining.
+	 */
+	public static void encode(
+		final byte[] packed,
+		final int offset,
+		final int count,
+		final ByteBuffer out,
+		final byte encoding
+	) throws IllegalArgumentException {
+		if (out == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		validateRange(packed, offset, count);
+		validateEncoding(encoding);
+		encodeBody(packed, offset, count, out, encoding, null);
+	}
+
+	/** Encode a range of a packed checklist array and write it to a Channel, such as a FileChannel.
+	 *  - Uses a fixed size intermediate buffer, so the encoded form is never held in memory.
+	 * @param packed The packed checklist data, one byte per checklist.
+	 * @param offset The index of the first checklist to encode.
+	 * @param count The number of checklists to encode.
+	 * @param channel The Channel that receives the encoded bytes.
+	 * @param encoding The encoding: RAW, PACKED, or RUN_LENGTH.
+	 * @throws IOException When the Channel fails to write.
+	 * @throws IllegalArgumentException When an argument is null, the range is invalid, or the encoding is unknown.
+	 */
+	public static void write(
+		final byte[] packed,
+		final int offset,
+		final int count,
+		final WritableByteChannel channel,
+		final byte encoding
+	) throws IOException, IllegalArgumentException {
+		if (channel == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		validateRange(packed, offset, count);
+		validateEncoding(encoding);
+		final ByteBuffer buffer = ByteBuffer.allocate(CHANNEL_BUFFER_SIZE);
+		try {
+			encodeBody(packed, offset, count, buffer, encoding, channel);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		flush(buffer, channel);
+	}
+
+	/** Decode a collection from the Buffer into a packed checklist array.
+	 * @param in The Buffer containing the header and the encoded checklists.
+	 * @return A new packed checklist array, one byte per checklist.
+	 * @throws IllegalArgumentException When the Buffer is null, or does not contain a valid collection.
+	 * @throws BufferUnderflowException When the encoded data is truncated, which is checked before allocating for RAW and PACKED.
+	 */
+	public static byte[] decode(
+		final ByteBuffer in
+	) throws IllegalArgumentException {
+		if (in == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		final byte encoding = readHeader(in);
+		final int count = readCount(in);
+		// The Count is untrusted, so the body must be present before the result is allocated.
+		if (encoding != RUN_LENGTH && in.remaining() < maxEncodedSize(count, encoding) - HEADER_SIZE)
+			throw new BufferUnderflowException();
+		byte[] result = new byte[encoding == RUN_LENGTH ? Integer.min(count, in.remaining()) : count];
+		int index = 0;
+		if (encoding == RAW) {
+			in.get(result);
+			for (byte b : result) validateChecklist(b);
+		} else if (encoding == PACKED) {
+			while (index < count) {
+				final int groupSize = Integer.min(8, count - index);
+				long group = 0;
+				for (int i = 0, n = packedGroupBytes(groupSize); i < n; ++i) {
+					group |= (in.get() & 0xFFL) << (8 * i);
+				}
+				for (int i = 0; i < groupSize; ++i) {
+					result[index++] = (byte) ((group >>> (7 * i)) & 0x7F);
+				}
+			}
+		} else {
+			while (index < count) {
+				final byte b = in.get();
+				if (b >= 0) {
+					result = ensureCapacity(result, index + 1, count);
+					result[index++] = b;
+					continue;
+				}
+				final int run = readVarInt(in);
+				if (run > count - index - MIN_RUN_LENGTH)
+					throw new IllegalArgumentException("Run exceeds Count: " + run);
+				result = ensureCapacity(result, index + run + MIN_RUN_LENGTH, count);
+				Arrays.fill(result, index, index + run + MIN_RUN_LENGTH, (byte) (b & 0x7F));
+				index += run + MIN_RUN_LENGTH;
+			}
+		}
+		return result;
+	}
+
+	/** Decode a collection from the Buffer into an Array of WeeklyChecklists.
+	 *  - The elements are the shared instances from WeeklyChecklist.fromByte.
+	 * @param in The Buffer containing the header and the encoded checklists.
+	 * @return A new Array of WeeklyChecklists.
+	 * @throws IllegalArgumentException When the Buffer is null, or does not contain a valid collection.
+	 */
+	public static WeeklyChecklist[] decodeChecklists(
+		final ByteBuffer in
+	) throws IllegalArgumentException {
+		final byte[] packed = decode(in);
+		final WeeklyChecklist[] result = new WeeklyChecklist[packed.length];
+		for (int i = 0; i < packed.length; ++i) {
+			result[i] = WeeklyChecklist.fromByte(packed[i]);
+		}
+		return result;
+	}
+
+	/** Open a streaming Reader on a Channel, such as a FileChannel.
+	 *  - The header is read immediately.
+	 *  - Only a fixed size buffer is held in memory, regardless of the collection size.
+	 * @param channel The Channel containing the header and the encoded checklists.
+	 * @return A new Reader, positioned at the first checklist.
+	 * @throws IOException When the Channel fails to read, or ends before the header is complete.
+	 * @throws IllegalArgumentException When the Channel is null, or the header is invalid.
+	 */
+	public static WeeklyChecklistReader reader(
+		final ReadableByteChannel channel
+	) throws IOException, IllegalArgumentException {
+		if (channel == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		return new WeeklyChecklistReader(channel);
+	}
+
+	/** Convert an Array of WeeklyChecklists into a packed checklist array.
+	 * @param checklists The checklists to pack. Must not contain null.
+	 * @return A new byte array, containing one byte per checklist.
+	 * @throws IllegalArgumentException When the Array is null.
+	 */
+	public static byte[] pack(
+		final WeeklyChecklist[] checklists
+	) throws IllegalArgumentException {
+		if (checklists == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		final byte[] result = new byte[checklists.length];
+		for (int i = 0; i < checklists.length; ++i) {
+			result[i] = checklists[i].mData;
+		}
+		return result;
+	}
+
+	/** Write the Header and the encoded checklists into the Buffer.
+	 *  - When a Channel is given, the Buffer is flushed to it whenever it is nearly full.
+	 *  - Channel failures are wrapped in UncheckedIOException, and unwrapped by the caller.
+	 */
+	private static void encodeBody(
+		final byte[] packed,
+		final int offset,
+		final int count,
+		final ByteBuffer out,
+		final byte encoding,
+		final WritableByteChannel channel
+	) {
+		out.put(MAGIC_0).put(MAGIC_1).put(VERSION).put(encoding);
+		out.put((byte) (count >>> 24)).put((byte) (count >>> 16))
+			.put((byte) (count >>> 8)).put((byte) count);
+		final int end = offset + count;
+		int index = offset;
+		if (encoding == RAW) {
+			while (index < end) {
+				reserve(out, channel, 1);
+				out.put(validateChecklist(packed[index++]));
+			}
+		} else if (encoding == PACKED) {
+			while (index < end) {
+				reserve(out, channel, 7);
+				final int groupSize = Integer.min(8, end - index);
+				long group = 0;
+				for (int i = 0; i < groupSize; ++i) {
+					group |= (long) validateChecklist(packed[index++]) << (7 * i);
+				}
+				for (int i = 0, n = packedGroupBytes(groupSize); i < n; ++i) {
+					out.put((byte) (group >>> (8 * i)));
+				}
+			}
+		} else {
+			while (index < end) {
+				reserve(out, channel, 6);
+				final byte value = validateChecklist(packed[index]);
+				int run = 1;
+				while (index + run < end && packed[index + run] == value) ++run;
+				if (run < MIN_RUN_LENGTH) {
+					for (int i = 0; i < run; ++i) out.put(value);
+				} else {
+					out.put((byte) (value | 0x80));
+					writeVarInt(out, run - MIN_RUN_LENGTH);
+				}
+				index += run;
+			}
+		}
+	}
+
+	/** Ensure the Buffer has space for the given number of bytes, flushing to the Channel if one is given.
+	 */
+	private static void reserve(
+		final ByteBuffer out,
+		final WritableByteChannel channel,
+		final int bytes
+	) {
+		if (channel == null || out.remaining() >= bytes)
+			return;
+		try {
+			flush(out, channel);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** Write all bytes in the Buffer to the Channel, then clear the Buffer.
+	 */
+	private static void flush(
+		final ByteBuffer buffer,
+		final WritableByteChannel channel
+	) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/** Read the Magic, Version and Encoding, returning the Encoding.
+	 */
+	static byte readHeader(
+		final ByteBuffer in
+	) throws IllegalArgumentException {
+		if (in.get() != MAGIC_0 || in.get() != MAGIC_1)
+			throw new IllegalArgumentException("Invalid Header");
+		final byte version = in.get();
+		if (version != VERSION)
+			throw new IllegalArgumentException("Unsupported Version: " + version);
+		final byte encoding = in.get();
+		validateEncoding(encoding);
+		return encoding;
+	}
+
+	/** Read the big-endian Count that follows the Encoding in the header.
+	 */
+	static int readCount(
+		final ByteBuffer in
+	) throws IllegalArgumentException {
+		final int count = (in.get() & 0xFF) << 24 | (in.get() & 0xFF) << 16 |
+			(in.get() & 0xFF) << 8 | (in.get() & 0xFF);
+		if (count < 0)
+			throw new IllegalArgumentException("Invalid Count: " + count);
+		return count;
+	}
+
+	/** Write an unsigned VarInt, 7 bits per byte, least significant group first.
+	 */
+	static void writeVarInt(
+		final ByteBuffer out,
+		int value
+	) {
+		while ((value & ~0x7F) != 0) {
+			out.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.put((byte) value);
+	}
+
+	/** Read an unsigned VarInt, as written by writeVarInt.
+	 */
+	static int readVarInt(
+		final ByteBuffer in
+	) throws IllegalArgumentException {
+		int result = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			final byte b = in.get();
+			result |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				if (result < 0)
+					throw new IllegalArgumentException("Invalid Run Length");
+				return result;
+			}
+		}
+		throw new IllegalArgumentException("Invalid Run Length");
+	}
+
+	/** Grow a RUN_LENGTH result to hold the given number of checklists, at most doubling it up to the Count.
+	 *  - The result starts at one checklist per remaining byte, so memory follows the runs that are actually read.
+	 */
+	static byte[] ensureCapacity(
+		final byte[] result,
+		final int required,
+		final int count
+	) {
+		if (required <= result.length)
+			return result;
+		return Arrays.copyOf(result, (int) Long.min(count, Long.max(required, 2L * result.length)));
+	}
+
+	/** The number of bytes used by a PACKED group containing the given number of checklists.
+	 */
+	static int packedGroupBytes(
+		final int groupSize
+	) {
+		return (7 * groupSize + 7) / 8;
+	}
+
+	static byte validateChecklist(
+		final byte data
+	) throws IllegalArgumentException {
+		if (data < 0)
+			throw new IllegalArgumentException("Invalid Checklist Data: " + data);
+		return data;
+	}
+
+	static void validateEncoding(
+		final byte encoding
+	) throws IllegalArgumentException {
+		if (encoding < RAW || encoding > RUN_LENGTH)
+			throw new IllegalArgumentException("Unknown Encoding: " + encoding);
+	}
+
+	private static void validateRange(
+		final byte[] packed,
+		final int offset,
+		final int count
+	) throws IllegalArgumentException {
+		if (packed == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		if (offset < 0 || count < 0 || offset > packed.length - count)
+			throw new IllegalArgumentException(
+				String.format("Invalid Range: offset %d, count %d", offset, count)
+			);
+	}
+
+}
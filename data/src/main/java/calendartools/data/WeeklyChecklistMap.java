@@ -0,0 +1,169 @@
+package calendartools.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/** A Map keyed by WeeklyChecklist, backed by an Array with one slot for each of the 128 possible checklists.
+ *  - Lookups index the Array directly with the checklist data, no hashing is required.
+ *  - Null keys and null values are not permitted.
+ *  - Not safe for use by multiple threads.
+ * @param <V> The type of the values.
+ */
+public class WeeklyChecklistMap<V> {
+
+	/** The values, indexed by WeeklyChecklist data. Null when there is no mapping.
+	 */
+	private final Object[] mValues = new Object[128];
+
+	/** The number of mappings.
+	 */
+	private int mSize = 0;
+
+	/** Obtain the value that is mapped to the given checklist.
+	 * @param key The WeeklyChecklist key.
+	 * @return The value, or null if the checklist has no mapping.
+	 * @throws IllegalArgumentException When the key is null.
+	 */
+	public V get(
+		final WeeklyChecklist key
+	) throws IllegalArgumentException {
+		return get(validateKey(key).mData);
+	}
+
+	/** Obtain the value that is mapped to the given checklist data.
+	 * @param data The compact representation of the checklist, from WeeklyChecklist.toByte.
+	 * @return The value, or null if the checklist has no mapping.
+	 * @throws ArrayIndexOutOfBoundsException When the data is negative.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(
+		final byte data
+	) throws ArrayIndexOutOfBoundsException {
+		return (V) mValues[data];
+	}
+
+	/** Determine whether the given checklist has a mapping.
+	 * @param key The WeeklyChecklist key.
+	 * @return True if a value is mapped to the checklist.
+	 * @throws IllegalArgumentException When the key is null.
+	 */
+	public boolean containsKey(
+		final WeeklyChecklist key
+	) throws IllegalArgumentException {
+		return mValues[validateKey(key).mData] != null;
+	}
+
+	/** Map the checklist to the given value.
+	 * @param key The WeeklyChecklist key.
+	 * @param value The value to map. Must not be null.
+	 * @return The previous value, or null if the checklist had no mapping.
+	 * @throws IllegalArgumentException When the key or value is null.
+	 */
+	public V put(
+		final WeeklyChecklist key,
+		final V value
+	) throws IllegalArgumentException {
+		final int index = validateKey(key).mData;
+		if (value == null)
+			throw new IllegalArgumentException("Value Must Not Be Null");
+		final V previous = get((byte) index);
+		if (previous == null)
+			mSize++;
+		mValues[index] = value;
+		return previous;
+	}
+
+	/** Obtain the value mapped to the checklist, computing and mapping a new value if there is none.
+	 *  - Useful for grouping: map.computeIfAbsent(checklist, k -> new ArrayList()).add(item)
+	 * @param key The WeeklyChecklist key.
+	 * @param mapping The Function that creates a value for the key. Must not return null.
+	 * @return The existing or computed value.
+	 * @throws IllegalArgumentException When the key is null, or the Function returns null.
+	 */
+	public V computeIfAbsent(
+		final WeeklyChecklist key,
+		final Function<WeeklyChecklist, V> mapping
+	) throws IllegalArgumentException {
+		final V existing = get(key);
+		if (existing != null)
+			return existing;
+		final V value = mapping.apply(key);
+		put(key, value);
+		return value;
+	}
+
+	/** Remove the mapping for the given checklist.
+	 * @param key The WeeklyChecklist key.
+	 * @return The removed value, or null if the checklist had no mapping.
+	 * @throws IllegalArgumentException When the key is null.
+	 */
+	public V remove(
+		final WeeklyChecklist key
+	) throws IllegalArgumentException {
+		final int index = validateKey(key).mData;
+		final V previous = get((byte) index);
+		if (previous != null) {
+			mSize--;
+			mValues[index] = null;
+		}
+		return previous;
+	}
+
+	/** The number of mappings.
+	 * @return The number of checklists that have a value, from 0 to 128.
+	 */
+	public int size() {
+		return mSize;
+	}
+
+	/** Determine whether there are no mappings.
+	 * @return True if the size is zero.
+	 */
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	/** Remove all mappings.
+	 */
+	public void clear() {
+		Arrays.fill(mValues, null);
+		mSize = 0;
+	}
+
+	/** Obtain the checklists that have a mapping, in ascending order.
+	 * @return A new List containing the shared WeeklyChecklist instances.
+	 */
+	public List<WeeklyChecklist> keys() {
+		final var result = new ArrayList<WeeklyChecklist>(mSize);
+		for (byte i = 0; i >= 0; ++i) {
+			if (mValues[i] != null)
+				result.add(WeeklyChecklist.fromByte(i));
+		}
+		return result;
+	}
+
+	/** Perform an action for each mapping, in ascending order of the checklists.
+	 * @param action The action that receives each key and value.
+	 */
+	public void forEach(
+		final BiConsumer<WeeklyChecklist, V> action
+	) {
+		for (byte i = 0; i >= 0; ++i) {
+			final V value = get(i);
+			if (value != null)
+				action.accept(WeeklyChecklist.fromByte(i), value);
+		}
+	}
+
+	private static WeeklyChecklist validateKey(
+		final WeeklyChecklist key
+	) throws IllegalArgumentException {
+		if (key == null)
+			throw new IllegalArgumentException("Key Must Not Be Null");
+		return key;
+	}
+
+}
@@ -0,0 +1,214 @@
+package calendartools.data;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+
+/** A Streaming Reader of WeeklyChecklist collections in the WeeklyChecklistCodec format.
+ *  - Holds only a fixed size buffer, regardless of the number of checklists in the collection.
+ *  - Obtain an instance from WeeklyChecklistCodec.reader.
+ *  - Not safe for use by multiple threads.
+ */
+public final class WeeklyChecklistReader implements Closeable {
+
+	/** The Channel that encoded bytes are read from.
+	 */
+	private final ReadableByteChannel mChannel;
+
+	/** The buffered bytes from the Channel, in read mode.
+	 */
+	private final ByteBuffer mBuffer = ByteBuffer.allocate(WeeklyChecklistCodec.CHANNEL_BUFFER_SIZE);
+
+	/** The encoding declared in the header.
+	 */
+	private final byte mEncoding;
+
+	/** The decoded values of the current PACKED group, or the value of the current run.
+	 */
+	private final byte[] mGroup = new byte[8];
+
+	/** The number of values available in mGroup, or the length of the current run.
+	 */
+	private int mGroupSize = 0;
+
+	/** The index of the next value in mGroup, or the number of values taken from the current run.
+	 */
+	private int mGroupIndex = 0;
+
+	/** The number of checklists that have not been read yet.
+	 */
+	private int mRemaining;
+
+	/** Read the header from the Channel.
+	 * @param channel The Channel containing the header and the encoded checklists.
+	 * @throws IOException When the Channel fails, or ends before the header is complete.
+	 * @throws IllegalArgumentException When the header is invalid.
+	 */
+	WeeklyChecklistReader(
+		final ReadableByteChannel channel
+	) throws IOException, IllegalArgumentException {
+		mChannel = channel;
+		mBuffer.limit(0);
+		require(WeeklyChecklistCodec.HEADER_SIZE);
+		mEncoding = WeeklyChecklistCodec.readHeader(mBuffer);
+		mRemaining = WeeklyChecklistCodec.readCount(mBuffer);
+	}
+
+	/** The encoding declared in the header.
+	 * @return The encoding: RAW, PACKED, or RUN_LENGTH.
+	 */
+	public byte getEncoding() {
+		return mEncoding;
+	}
+
+	/** The number of checklists that have not been read yet.
+	 * @return The remaining count.
+	 */
+	public int remaining() {
+		return mRemaining;
+	}
+
+	/** Determine whether there is another checklist to read.
+	 * @return True if at least one more checklist remains.
+	 */
+	public boolean hasNext() {
+		return mRemaining > 0;
+	}
+
+	/** Read the next checklist as its compact byte representation.
+	 * @return The next checklist data, in range 0 to 127.
+	 * @throws IOException When the Channel fails, or ends before the collection is complete.
+	 * @throws NoSuchElementException When all checklists have been read.
+	 * @throws IllegalArgumentException When the encoded data is invalid.
+	 */
+	public byte nextByte() throws IOException, NoSuchElementException, IllegalArgumentException {
+		if (mRemaining <= 0)
+			throw new NoSuchElementException();
+		final byte result;
+		if (mEncoding == WeeklyChecklistCodec.RAW) {
+			require(1);
+			result = WeeklyChecklistCodec.validateChecklist(mBuffer.get());
+		} else if (mEncoding == WeeklyChecklistCodec.PACKED) {
+			if (mGroupIndex == mGroupSize)
+				readPackedGroup();
+			result = mGroup[mGroupIndex++];
+		} else {
+			if (mGroupIndex == mGroupSize)
+				readRun();
+			mGroupIndex++;
+			result = mGroup[0];
+		}
+		mRemaining--;
+		return result;
+	}
+
+	/** Read the next checklist.
+	 * @return The shared WeeklyChecklist instance for the next checklist.
+	 * @throws IOException When the Channel fails, or ends before the collection is complete.
+	 * @throws NoSuchElementException When all checklists have been read.
+	 */
+	public WeeklyChecklist next() throws IOException, NoSuchElementException {
+		return WeeklyChecklist.fromByte(nextByte());
+	}
+
+	/** Read up to the given number of checklists into a packed checklist array.
+	 * @param destination The array that receives the checklist data.
+	 * @param offset The index of the first element to fill.
+	 * @param length The maximum number of checklists to read.
+	 * @return The number of checklists read, or -1 if all checklists have already been read.
+	 * @throws IOException When the Channel fails, or ends before the collection is complete.
+	 * @throws IndexOutOfBoundsException When the range does not fit in the destination.
+	 */
+	public int read(
+		final byte[] destination,
+		final int offset,
+		final int length
+	) throws IOException, IndexOutOfBoundsException {
+		if (offset < 0 || length < 0 || offset > destination.length - length)
+			throw new IndexOutOfBoundsException();
+		if (mRemaining == 0)
+			return -1;
+		final int count = Integer.min(length, mRemaining);
+		for (int i = 0; i < count; ++i) {
+			destination[offset + i] = nextByte();
+		}
+		return count;
+	}
+
+	/** Close the underlying Channel.
+	 * @throws IOException When the Channel fails to close.
+	 */
+	@Override
+	public void close() throws IOException {
+		mChannel.close();
+	}
+
+	/** Decode the next group of up to 8 checklists.
+	 */
+	private void readPackedGroup() throws IOException {
+		final int groupSize = Integer.min(8, mRemaining);
+		final int byteCount = WeeklyChecklistCodec.packedGroupBytes(groupSize);
+		require(byteCount);
+		long group = 0;
+		for (int i = 0; i < byteCount; ++i) {
+			group |= (mBuffer.get() & 0xFFL) << (8 * i);
+		}
+		for (int i = 0; i < groupSize; ++i) {
+			mGroup[i] = (byte) ((group >>> (7 * i)) & 0x7F);
+		}
+		mGroupSize = groupSize;
+		mGroupIndex = 0;
+	}
+
+	/** Decode the next single checklist, or run of identical checklists.
+	 */
+	private void readRun() throws IOException {
+		require(1);
+		final byte b = mBuffer.get();
+		mGroupIndex = 0;
+		if (b >= 0) {
+			mGroup[0] = b;
+			mGroupSize = 1;
+			return;
+		}
+		// A VarInt occupies at most 5 bytes, but may be shorter at the end of the Channel.
+		requireVarInt();
+		final int run = WeeklyChecklistCodec.readVarInt(mBuffer);
+		if (run > mRemaining - WeeklyChecklistCodec.MIN_RUN_LENGTH)
+			throw new IllegalArgumentException("Run exceeds Count: " + run);
+		mGroup[0] = (byte) (b & 0x7F);
+		mGroupSize = run + WeeklyChecklistCodec.MIN_RUN_LENGTH;
+	}
+
+	/** Ensure the buffer contains a complete VarInt.
+	 */
+	private void requireVarInt() throws IOException {
+		for (int n = 1; n <= 5; ++n) {
+			require(n);
+			if (mBuffer.get(mBuffer.position() + n - 1) >= 0)
+				return;
+		}
+	}
+
+	/** Ensure the buffer contains at least the given number of bytes.
+	 * @param bytes The number of bytes required, at most the buffer capacity.
+	 * @throws EOFException When the Channel ends first.
+	 */
+	private void require(
+		final int bytes
+	) throws IOException {
+		if (mBuffer.remaining() >= bytes)
+			return;
+		mBuffer.compact();
+		while (mBuffer.position() < bytes) {
+			if (mChannel.read(mBuffer) < 0) {
+				throw new EOFException("Channel ended before the collection was complete");
+			}
+		}
+		mBuffer.flip();
+	}
+
+}
@@ -0,0 +1,118 @@
+package calendartools.data;
+
+import java.util.Calendar;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/** The Vector API implementation of the bulk kernels, for Java 17 and later.
+ *  - Loaded by BulkKernels only when the jdk.incubator.vector module is available.
+ *  - The tail of each Array, shorter than one vector, uses the scalar loop.
+ */
+final class VectorKernels extends BulkKernels {
+
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	/** Holds one int for each long lane, so the Epoch Days can be stored directly.
+	 */
+	private static final VectorSpecies<Integer> HALF_INTS = VectorSpecies.of(
+		int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2)
+	);
+
+	/** The largest magnitude that converts to a double exactly.
+	 */
+	private static final long EXACT_DOUBLE = 1L << 53;
+
+	@Override
+	int countMatches(
+		final int[] data,
+		final int mask
+	) {
+		final int upper = INTS.loopBound(data.length);
+		int result = 0;
+		int i = 0;
+		for (; i < upper; i += INTS.length()) {
+			result += IntVector.fromArray(INTS, data, i)
+				.and(mask)
+				.compare(VectorOperators.NE, 0)
+				.trueCount();
+		}
+		for (; i < data.length; ++i) {
+			if ((data[i] & mask) != 0) ++result;
+		}
+		return result;
+	}
+
+	/** Divide in double precision, then correct the quotient with the exact long remainder.
+	 *  - Vectors with a value beyond 2^53 use the scalar loop, since the double would be inexact.
+	 *  - 2^53 milliseconds is within the Epoch Day range, so only the scalar loop writes EpochDays.INVALID.
+	 */
+	@Override
+	void toEpochDays(
+		final long[] millisecondValues,
+		final long offsetMillis,
+		final int[] output
+	) {
+		final int upper = LONGS.loopBound(output.length);
+		final double millisPerDay = EpochDays.MILLIS_PER_DAY;
+		int i = 0;
+		for (; i < upper; i += LONGS.length()) {
+			final LongVector millis = LongVector.fromArray(LONGS, millisecondValues, i).add(offsetMillis);
+			if (millis.abs().compare(VectorOperators.GT, EXACT_DOUBLE).anyTrue() ||
+				millis.compare(VectorOperators.EQ, Long.MIN_VALUE).anyTrue()
+			) {
+				super.toEpochDays(millisecondValues, offsetMillis, output, i, i + LONGS.length());
+				continue;
+			}
+			final DoubleVector quotient = ((DoubleVector) millis.convertShape(VectorOperators.L2D, DOUBLES, 0))
+				.div(millisPerDay);
+			LongVector days = (LongVector) quotient.convertShape(VectorOperators.D2L, LONGS, 0);
+			final LongVector remainder = millis.sub(days.mul(EpochDays.MILLIS_PER_DAY));
+			// The rounded quotient is at most one day away from the floor.
+			final VectorMask<Long> over = remainder.compare(VectorOperators.LT, 0);
+			final VectorMask<Long> under = remainder.compare(VectorOperators.GE, EpochDays.MILLIS_PER_DAY);
+			days = days.sub(1L, over).add(1L, under);
+			((IntVector) days.convertShape(VectorOperators.L2I, HALF_INTS, 0)).intoArray(output, i);
+		}
+		super.toEpochDays(millisecondValues, offsetMillis, output, i, output.length);
+	}
+
+	/** Divide by 7 in double precision, then correct the quotient with the exact int remainder, as in toEpochDays.
+	 *  - Every int converts to a double exactly, so no vector needs the scalar loop.
+	 */
+	@Override
+	void getDaysOfWeek(
+		final int[] epochDays,
+		final int[] output
+	) {
+		final int upper = HALF_INTS.loopBound(output.length);
+		int i = 0;
+		for (; i < upper; i += HALF_INTS.length()) {
+			final IntVector days = IntVector.fromArray(HALF_INTS, epochDays, i);
+			// January 1st 1970 is a Thursday.
+			final IntVector shifted = days.add(4);
+			final DoubleVector quotient = ((DoubleVector) shifted.convertShape(VectorOperators.I2D, DOUBLES, 0))
+				.div(7.0);
+			final IntVector weeks = (IntVector) quotient.convertShape(VectorOperators.D2I, HALF_INTS, 0);
+			final IntVector remainder = shifted.sub(weeks.mul(7));
+			// The quotient is truncated towards zero, so a negative value has a negative remainder, raised here by one week.
+			final VectorMask<Integer> over = remainder.compare(VectorOperators.LT, 0);
+			final VectorMask<Integer> under = remainder.compare(VectorOperators.GE, 7);
+			remainder.add(7, over).sub(7, under)
+				.add(Calendar.SUNDAY)
+				.blend(EpochDays.INVALID, days.compare(VectorOperators.EQ, EpochDays.INVALID))
+				.intoArray(output, i);
+		}
+		super.getDaysOfWeek(epochDays, output, i, output.length);
+	}
+
+}
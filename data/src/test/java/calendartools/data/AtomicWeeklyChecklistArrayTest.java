@@ -0,0 +1,164 @@
+package calendartools.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.concurrent.CountDownLatch;
+
+/** Testing the Atomic WeeklyChecklist Array.
+ */
+public final class AtomicWeeklyChecklistArrayTest {
+
+	private AtomicWeeklyChecklistArray mInstance;
+
+	private WeeklyChecklist allTrue;
+
+	private WeeklyChecklist allFalse;
+
+	@Before
+	public void testSetup() {
+		mInstance = new AtomicWeeklyChecklistArray(16);
+		allTrue = new WeeklyChecklist(true);
+		allFalse = new WeeklyChecklist(false);
+	}
+
+	@Test
+	public void testInitialCondition() {
+		assertEquals(16, mInstance.length());
+		for (int id = 0; id < 16; ++id) {
+			assertSame(WeeklyChecklist.fromByte((byte) 0), mInstance.get(id));
+		}
+	}
+
+	@Test
+	public void testConstructor_InvalidArgs_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> new AtomicWeeklyChecklistArray(-1));
+		assertThrows(IllegalArgumentException.class,
+			() -> new AtomicWeeklyChecklistArray(null));
+		assertThrows(IllegalArgumentException.class,
+			() -> new AtomicWeeklyChecklistArray(new byte[]{1, -1}));
+	}
+
+	@Test
+	public void testConstructor_Packed_CopiesArray() {
+		var packed = new byte[]{1, 2, 127};
+		var instance = new AtomicWeeklyChecklistArray(packed);
+		packed[0] = 0;
+		assertArrayEquals(new byte[]{1, 2, 127}, instance.toPackedArray());
+		assertEquals(allTrue, instance.get(2));
+	}
+
+	@Test
+	public void testSet_Get() {
+		mInstance.set(3, allTrue);
+		assertEquals(allTrue, mInstance.get(3));
+		assertEquals(127, mInstance.getByte(3));
+		assertEquals(allFalse, mInstance.get(2));
+		assertThrows(IllegalArgumentException.class,
+			() -> mInstance.set(3, null));
+	}
+
+	@Test
+	public void testGetAndSet_ReturnsPrevious() {
+		assertEquals(allFalse, mInstance.getAndSet(0, allTrue));
+		assertEquals(allTrue, mInstance.getAndSet(0, allFalse));
+		assertEquals(allFalse, mInstance.get(0));
+	}
+
+	@Test
+	public void testCompareAndSet() {
+		assertFalse(mInstance.compareAndSet(1, allTrue, allFalse));
+		assertTrue(mInstance.compareAndSet(1, allFalse, allTrue));
+		assertEquals(allTrue, mInstance.get(1));
+		assertThrows(IllegalArgumentException.class,
+			() -> mInstance.compareAndSet(1, null, allTrue));
+		assertThrows(IllegalArgumentException.class,
+			() -> mInstance.compareAndSet(1, allTrue, null));
+	}
+
+	@Test
+	public void testToggle_ReturnsNewStatus() {
+		assertTrue(mInstance.toggle(5, Calendar.MONDAY));
+		assertTrue(mInstance.getDayOfWeek(5, Calendar.MONDAY));
+		assertFalse(mInstance.getDayOfWeek(5, Calendar.TUESDAY));
+		assertFalse(mInstance.getDayOfWeek(4, Calendar.MONDAY));
+		assertFalse(mInstance.toggle(5, Calendar.MONDAY));
+		assertEquals(allFalse, mInstance.get(5));
+	}
+
+	@Test
+	public void testToggle_InvalidDay_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> mInstance.toggle(0, 0));
+		assertThrows(IllegalArgumentException.class,
+			() -> mInstance.toggle(0, 8));
+	}
+
+	@Test
+	public void testIndexOutOfBounds() {
+		assertThrows(IndexOutOfBoundsException.class, () -> mInstance.get(16));
+		assertThrows(IndexOutOfBoundsException.class, () -> mInstance.toggle(-1, Calendar.MONDAY));
+	}
+
+	@Test
+	public void testUpdateAndGet() {
+		var result = mInstance.updateAndGet(7, c -> c.updateDayOfWeek(Calendar.FRIDAY));
+		assertTrue(result.getDayOfWeek(Calendar.FRIDAY));
+		assertEquals(result, mInstance.get(7));
+		assertThrows(IllegalArgumentException.class,
+			() -> mInstance.updateAndGet(7, c -> null));
+	}
+
+	@Test
+	public void testUpdateAndGet_Interference_Retries() {
+		var calls = new int[]{0};
+		var result = mInstance.updateAndGet(0, c -> {
+			// Another writer changes the element during the first call.
+			if (calls[0]++ == 0)
+				mInstance.toggle(0, Calendar.SUNDAY);
+			return c.updateDayOfWeek(Calendar.SATURDAY);
+		});
+		assertEquals(2, calls[0]);
+		assertTrue(result.getDayOfWeek(Calendar.SUNDAY));
+		assertTrue(result.getDayOfWeek(Calendar.SATURDAY));
+	}
+
+	@Test
+	public void testToggle_ConcurrentWriters_NoLostUpdates() throws InterruptedException {
+		final int threadCount = 7;
+		final int iterations = 10_001;
+		var start = new CountDownLatch(1);
+		var threads = new ArrayList<Thread>();
+		for (int t = 0; t < threadCount; ++t) {
+			final int dayOfWeek = Calendar.SUNDAY + t;
+			var thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < iterations; ++i) {
+					// Every thread toggles a different day of the same element.
+					mInstance.toggle(0, dayOfWeek);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (var thread : threads) thread.join();
+		// Each day was toggled an odd number of times.
+		assertEquals(allTrue, mInstance.get(0));
+	}
+
+}
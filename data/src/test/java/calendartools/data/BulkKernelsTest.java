@@ -0,0 +1,113 @@
+package calendartools.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+/** Testing the bulk kernels. The loaded implementation must match the scalar implementation.
+ *  - With --add-modules jdk.incubator.vector and the Java 17 classes, the loaded implementation is VectorKernels.
+ */
+public final class BulkKernelsTest {
+
+	private static final BulkKernels SCALAR = new BulkKernels();
+
+	/** Lengths around common vector sizes, to test the scalar tail of the vector loops.
+	 */
+	private static final int[] LENGTHS = {0, 1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 31, 32, 33, 63, 64, 65, 1000};
+
+	@Test
+	public void testCountMatches_RandomData_SameAsScalar() {
+		final Random random = new Random(42);
+		for (int length : LENGTHS) {
+			final int[] data = new int[length];
+			for (int i = 0; i < length; ++i) data[i] = random.nextInt() & MonthlyChecklist.FULL_MASK;
+			for (int bit = 0; bit < 31; ++bit) {
+				assertEquals(
+					SCALAR.countMatches(data, 1 << bit),
+					BulkKernels.INSTANCE.countMatches(data, 1 << bit)
+				);
+			}
+			assertEquals(0, BulkKernels.INSTANCE.countMatches(data, 0));
+		}
+	}
+
+	@Test
+	public void testToEpochDays_RandomAndEdgeValues_SameAsScalar() {
+		final Random random = new Random(42);
+		final long exact = 1L << 53;
+		final long[] edges = {
+			0L, -1L, 1L, EpochDays.MILLIS_PER_DAY, -EpochDays.MILLIS_PER_DAY,
+			EpochDays.MILLIS_PER_DAY - 1, 1 - EpochDays.MILLIS_PER_DAY,
+			exact, -exact, exact + 1, -exact - 1, Long.MAX_VALUE, Long.MIN_VALUE
+		};
+		for (long offset : new long[]{0L, 19_800_000L, -43_200_000L}) {
+			for (int length : LENGTHS) {
+				final long[] millis = new long[length];
+				for (int i = 0; i < length; ++i) {
+					millis[i] = i % 3 == 0 ? edges[random.nextInt(edges.length)] : random.nextLong() >> random.nextInt(64);
+				}
+				final int[] expected = new int[length];
+				final int[] actual = new int[length];
+				SCALAR.toEpochDays(millis, offset, expected);
+				BulkKernels.INSTANCE.toEpochDays(millis, offset, actual);
+				assertArrayEquals(expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void testToEpochDays_DayBoundaries_SameAsFloorDiv() {
+		final long[] millis = new long[4000];
+		for (int i = 0; i < millis.length; ++i) {
+			millis[i] = (i / 4 - 500) * EpochDays.MILLIS_PER_DAY + (i % 4 - 2);
+		}
+		final int[] output = new int[millis.length];
+		BulkKernels.INSTANCE.toEpochDays(millis, 0L, output);
+		for (int i = 0; i < millis.length; ++i) {
+			assertEquals(Math.floorDiv(millis[i], EpochDays.MILLIS_PER_DAY), output[i]);
+		}
+	}
+
+	@Test
+	public void testGetDaysOfWeek_RandomAndEdgeValues_SameAsScalar() {
+		final Random random = new Random(42);
+		final int[] edges = {
+			0, -1, 1, -3, -4, -5, 3, 6, 7, -7, -8,
+			EpochDays.MIN_EPOCH_DAY, EpochDays.MAX_EPOCH_DAY, EpochDays.INVALID, Integer.MAX_VALUE, Integer.MAX_VALUE - 3
+		};
+		for (int length : LENGTHS) {
+			final int[] epochDays = new int[length];
+			for (int i = 0; i < length; ++i) {
+				epochDays[i] = i % 3 == 0 ? edges[random.nextInt(edges.length)] : random.nextInt() >> random.nextInt(32);
+			}
+			final int[] expected = new int[length];
+			final int[] actual = new int[length];
+			SCALAR.getDaysOfWeek(epochDays, expected);
+			BulkKernels.INSTANCE.getDaysOfWeek(epochDays, actual);
+			assertArrayEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testGetDaysOfWeek_ConsecutiveDays_SameAsFloorMod() {
+		final int[] epochDays = new int[4000];
+		for (int i = 0; i < epochDays.length; ++i) epochDays[i] = i - 2000;
+		final int[] output = new int[epochDays.length];
+		BulkKernels.INSTANCE.getDaysOfWeek(epochDays, output);
+		for (int i = 0; i < epochDays.length; ++i) {
+			assertEquals(Math.floorMod(epochDays[i] + 4, 7) + 1, output[i]);
+		}
+	}
+
+	@Test
+	public void testLoad_MissingModuleOrClass_Scalar() {
+		assertSame(BulkKernels.class, BulkKernels.load("missing.module", BulkKernels.VECTOR_KERNELS).getClass());
+		assertSame(BulkKernels.class, BulkKernels.load("java.base", "calendartools.data.Missing").getClass());
+		assertSame(BulkKernels.class, BulkKernels.load("java.base", "calendartools.data.BulkKernels").getClass());
+	}
+
+}
@@ -0,0 +1,286 @@
+package calendartools.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.WeekFields;
+import java.util.Calendar;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+/** Testing the Epoch Day helpers, against java.time and Calendar.
+ */
+public final class EpochDaysTest {
+
+	@Test
+	public void testOf_EveryDayFrom1583To2400_SameAsLocalDate() {
+		final int last = (int) LocalDate.of(2400, 12, 31).toEpochDay();
+		for (int epochDay = (int) LocalDate.of(1583, 1, 1).toEpochDay(); epochDay <= last; ++epochDay) {
+			final LocalDate date = LocalDate.ofEpochDay(epochDay);
+			assertEquals(epochDay, EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+			final int packed = EpochDays.pack(epochDay);
+			assertEquals(date.getYear(), EpochDays.getPackedYear(packed));
+			assertEquals(date.getMonthValue(), EpochDays.getPackedMonth(packed));
+			assertEquals(date.getDayOfMonth(), EpochDays.getPackedDay(packed));
+			assertEquals(epochDay, EpochDays.unpack(packed));
+			assertEquals(date.getDayOfYear(), EpochDays.getDayOfYear(epochDay));
+			assertEquals(date.getDayOfWeek().getValue() % 7 + 1, EpochDays.getDayOfWeek(epochDay));
+		}
+	}
+
+	@Test
+	public void testOf_ExtremeAndNegativeYears_SameAsLocalDate() {
+		for (LocalDate date : new LocalDate[]{
+			LocalDate.of(EpochDays.MIN_YEAR, 1, 1), LocalDate.of(EpochDays.MAX_YEAR, 12, 31),
+			LocalDate.of(-4, 2, 29), LocalDate.of(0, 3, 1), LocalDate.of(-400, 12, 31), LocalDate.of(1, 1, 1)
+		}) {
+			final int epochDay = EpochDays.fromLocalDate(date);
+			assertEquals(date.toEpochDay(), epochDay);
+			assertEquals(date, EpochDays.toLocalDate(epochDay));
+			assertEquals(date.getYear(), EpochDays.getYear(epochDay));
+			assertEquals(date.getMonthValue(), EpochDays.getMonth(epochDay));
+			assertEquals(date.getDayOfMonth(), EpochDays.getDayOfMonth(epochDay));
+			assertEquals(epochDay, EpochDays.unpack(EpochDays.pack(epochDay)));
+		}
+		assertEquals(EpochDays.MIN_EPOCH_DAY, EpochDays.of(EpochDays.MIN_YEAR, 1, 1));
+		assertEquals(EpochDays.MAX_EPOCH_DAY, EpochDays.of(EpochDays.MAX_YEAR, 12, 31));
+	}
+
+	@Test
+	public void testPack_SortsInDateOrder() {
+		int previous = Integer.MIN_VALUE;
+		for (int epochDay = -800_000; epochDay <= 800_000; epochDay += 97) {
+			final int packed = EpochDays.pack(epochDay);
+			assertTrue(packed > previous);
+			previous = packed;
+		}
+	}
+
+	@Test
+	public void testOf_InvalidDates_ThrowsIAE() {
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.of(2019, 2, 29));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.of(2020, 4, 31));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.of(2020, 1, 0));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.of(2020, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.of(2020, 13, 1));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.of(EpochDays.MAX_YEAR + 1, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.of(EpochDays.MIN_YEAR - 1, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.unpack(0));
+	}
+
+	@Test
+	public void testOfYearDay_SameAsLocalDate() {
+		for (int year : new int[]{1900, 2000, 2023, 2024}) {
+			for (int day = 1; day <= EpochDays.getYearLength(year); ++day) {
+				assertEquals(LocalDate.ofYearDay(year, day).toEpochDay(), EpochDays.ofYearDay(year, day));
+			}
+		}
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofYearDay(2023, 366));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofYearDay(2024, 0));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofYearDay(EpochDays.MAX_YEAR + 1, 1));
+	}
+
+	@Test
+	public void testEpochDay_OutOfRange_ThrowsIAE() {
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.pack(EpochDays.MIN_EPOCH_DAY - 1));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getYear(EpochDays.MAX_EPOCH_DAY + 1));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.toLocalDate(Integer.MAX_VALUE));
+		assertThrows(IllegalArgumentException.class,
+			() -> EpochDays.fromLocalDate(LocalDate.of(EpochDays.MAX_YEAR + 1, 1, 1)));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.fromLocalDate(null));
+	}
+
+	@Test
+	public void testGetWeekOfYear_AllRules_SameAsWeekFields() {
+		for (int first = Calendar.SUNDAY; first <= Calendar.SATURDAY; ++first) {
+			for (int minimalDays = 1; minimalDays <= 7; ++minimalDays) {
+				final WeekFields fields = WeekFields.of(DayOfWeek.of((first + 5) % 7 + 1), minimalDays);
+				for (LocalDate date = LocalDate.of(2019, 12, 1); date.getYear() < 2027; date = date.plusDays(1)) {
+					assertEquals(
+						date + " " + fields,
+						date.get(fields.weekOfWeekBasedYear()),
+						EpochDays.getWeekOfYear((int) date.toEpochDay(), first, minimalDays)
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testGetWeekOfYear_ExtremeYears_SameAsWeekFields() {
+		for (LocalDate date : new LocalDate[]{
+			LocalDate.of(EpochDays.MIN_YEAR, 1, 1), LocalDate.of(EpochDays.MAX_YEAR, 12, 31)
+		}) {
+			assertEquals(
+				date.get(WeekFields.ISO.weekOfWeekBasedYear()),
+				EpochDays.getWeekOfYear((int) date.toEpochDay(), Calendar.MONDAY, 4)
+			);
+		}
+	}
+
+	@Test
+	public void testGetWeekOfYear_InvalidRule_ThrowsIAE() {
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getWeekOfYear(0, 0, 4));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getWeekOfYear(0, 8, 4));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getWeekOfYear(0, Calendar.MONDAY, 0));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getWeekOfYear(0, Calendar.MONDAY, 8));
+	}
+
+	@Test
+	public void testGetMonthLength_AllMonths() {
+		final int[] lengths = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+		for (int month = 1; month <= 12; ++month) {
+			assertEquals(lengths[month - 1], EpochDays.getMonthLength(2023, month));
+		}
+		assertEquals(29, EpochDays.getMonthLength(2024, 2));
+		assertEquals(28, EpochDays.getMonthLength(1900, 2));
+		assertEquals(29, EpochDays.getMonthLength(2000, 2));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getMonthLength(2024, 0));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getMonthLength(2024, 13));
+	}
+
+	@Test
+	public void testPlusDays_SameAsLocalDate() {
+		final int start = EpochDays.of(2024, 2, 28);
+		for (int days = -1000; days <= 1000; days += 7) {
+			assertEquals(
+				LocalDate.of(2024, 2, 28).plus(days, ChronoUnit.DAYS).toEpochDay(),
+				EpochDays.plusDays(start, days)
+			);
+		}
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.plusDays(EpochDays.MAX_EPOCH_DAY, 1));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.plusDays(EpochDays.MIN_EPOCH_DAY, -1));
+	}
+
+	@Test
+	public void testOfMillis_ZoneWithTransitions_SameAsCalendar() {
+		final TimeZone zone = TimeZone.getTimeZone("Australia/Lord_Howe");
+		final Calendar cal = Calendar.getInstance(zone);
+		for (long millis = -2_208_988_800_000L; millis < 4_102_444_800_000L; millis += 25_200_001L) {
+			cal.setTimeInMillis(millis);
+			assertEquals(
+				EpochDays.of(cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DAY_OF_MONTH)),
+				EpochDays.ofMillis(millis, zone)
+			);
+			assertEquals(EpochDays.ofMillis(millis, zone), EpochDays.fromCalendar(cal));
+		}
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofMillis(0L, null));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.fromCalendar(null));
+	}
+
+	@Test
+	public void testOfMillisBulk_FixedAndVaryingZones_SameAsSingle() {
+		final long[] millis = new long[1000];
+		for (int i = 0; i < millis.length; ++i) {
+			millis[i] = -2_208_988_800_000L + i * 6_311_433_600_001L / millis.length;
+		}
+		millis[0] = Long.MIN_VALUE / 2;
+		millis[1] = Long.MAX_VALUE / 2;
+		millis[2] = Long.MIN_VALUE;
+		millis[3] = Long.MAX_VALUE;
+		millis[4] = EpochDays.MAX_EPOCH_DAY * EpochDays.MILLIS_PER_DAY;
+		millis[5] = (EpochDays.MAX_EPOCH_DAY + 1L) * EpochDays.MILLIS_PER_DAY;
+		millis[6] = EpochDays.MIN_EPOCH_DAY * EpochDays.MILLIS_PER_DAY;
+		millis[7] = EpochDays.MIN_EPOCH_DAY * EpochDays.MILLIS_PER_DAY - 1;
+		for (String id : new String[]{"UTC", "GMT+05:30", "Australia/Lord_Howe", "Asia/Tokyo"}) {
+			final TimeZone zone = TimeZone.getTimeZone(id);
+			final int[] output = new int[millis.length];
+			EpochDays.ofMillis(millis, zone, output);
+			for (int i = 8; i < millis.length; ++i) {
+				assertEquals(EpochDays.ofMillis(millis[i], zone), output[i]);
+			}
+			// Out of range Time values are INVALID, instead of wrapping around.
+			assertEquals(EpochDays.INVALID, output[0]);
+			assertEquals(EpochDays.INVALID, output[1]);
+			assertEquals(EpochDays.INVALID, output[2]);
+			assertEquals(EpochDays.INVALID, output[3]);
+		}
+		final TimeZone utc = TimeZone.getTimeZone("UTC");
+		final int[] output = new int[millis.length];
+		EpochDays.ofMillis(millis, utc, output);
+		assertEquals(EpochDays.MAX_EPOCH_DAY, output[4]);
+		assertEquals(EpochDays.INVALID, output[5]);
+		assertEquals(EpochDays.MIN_EPOCH_DAY, output[6]);
+		assertEquals(EpochDays.INVALID, output[7]);
+	}
+
+	@Test
+	public void testOfMillis_OutOfRange_ThrowsIAE() {
+		final TimeZone utc = TimeZone.getTimeZone("UTC");
+		assertEquals(EpochDays.MAX_EPOCH_DAY, EpochDays.ofMillis(EpochDays.MAX_EPOCH_DAY * EpochDays.MILLIS_PER_DAY, utc));
+		assertEquals(EpochDays.MIN_EPOCH_DAY, EpochDays.ofMillis(EpochDays.MIN_EPOCH_DAY * EpochDays.MILLIS_PER_DAY, utc));
+		assertThrows(IllegalArgumentException.class,
+			() -> EpochDays.ofMillis((EpochDays.MAX_EPOCH_DAY + 1L) * EpochDays.MILLIS_PER_DAY, utc));
+		assertThrows(IllegalArgumentException.class,
+			() -> EpochDays.ofMillis(EpochDays.MIN_EPOCH_DAY * EpochDays.MILLIS_PER_DAY - 1, utc));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofMillis(Long.MAX_VALUE, utc));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofMillis(Long.MIN_VALUE, utc));
+		assertEquals(EpochDays.INVALID, EpochDays.orInvalid(EpochDays.MAX_EPOCH_DAY + 1L));
+		assertEquals(EpochDays.INVALID, EpochDays.orInvalid(EpochDays.MIN_EPOCH_DAY - 1L));
+		assertEquals(0, EpochDays.orInvalid(0L));
+	}
+
+	@Test
+	public void testGetDaysOfWeek_SameAsSingle() {
+		final TimeZone utc = TimeZone.getTimeZone("UTC");
+		final long[] millis = {0L, -1L, 1_600_000_000_000L, -2_208_988_800_000L, Long.MAX_VALUE};
+		final int[] output = new int[millis.length];
+		EpochDays.ofMillis(millis, utc, output);
+		final int[] epochDays = output.clone();
+		EpochDays.getDaysOfWeek(output, output);
+		for (int i = 0; i < millis.length - 1; ++i) {
+			assertEquals(EpochDays.getDayOfWeek(epochDays[i]), output[i]);
+		}
+		assertEquals(Calendar.THURSDAY, output[0]);
+		assertEquals(Calendar.WEDNESDAY, output[1]);
+		assertEquals(EpochDays.INVALID, output[4]);
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getDaysOfWeek(null, new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getDaysOfWeek(new int[0], null));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.getDaysOfWeek(new int[1], new int[2]));
+	}
+
+	@Test
+	public void testOfMillisBulk_InvalidArguments_ThrowsIAE() {
+		final TimeZone zone = TimeZone.getTimeZone("UTC");
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofMillis(null, zone, new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofMillis(new long[0], null, new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofMillis(new long[0], zone, null));
+		assertThrows(IllegalArgumentException.class, () -> EpochDays.ofMillis(new long[1], zone, new int[2]));
+	}
+
+	@Test
+	public void testIsFixedOffset_Zones() {
+		assertTrue(EpochDays.isFixedOffset(TimeZone.getTimeZone("UTC")));
+		assertTrue(EpochDays.isFixedOffset(TimeZone.getTimeZone("GMT-08:00")));
+		assertFalse(EpochDays.isFixedOffset(TimeZone.getTimeZone("Europe/Paris")));
+		// No daylight saving time now, but it had in the past.
+		assertFalse(EpochDays.isFixedOffset(TimeZone.getTimeZone("Asia/Tokyo")));
+		// Not a java.time zone.
+		assertFalse(EpochDays.isFixedOffset(new SimpleTimeZone(0, "Custom")));
+		// The ID of a fixed zone, with a different offset.
+		assertFalse(EpochDays.isFixedOffset(new SimpleTimeZone(3_600_000, "UTC")));
+	}
+
+	@Test
+	public void testToCalendar_StartOfDayInDefaultZone() {
+		final int epochDay = EpochDays.of(2024, 3, 31);
+		final Calendar cal = EpochDays.toCalendar(epochDay);
+		assertEquals(2024, cal.get(Calendar.YEAR));
+		assertEquals(Calendar.MARCH, cal.get(Calendar.MONTH));
+		assertEquals(31, cal.get(Calendar.DAY_OF_MONTH));
+		assertEquals(
+			LocalDate.of(2024, 3, 31).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+			cal.toInstant()
+		);
+		assertEquals(epochDay, EpochDays.fromCalendar(cal));
+	}
+
+}
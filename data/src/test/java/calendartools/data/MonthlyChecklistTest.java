@@ -0,0 +1,124 @@
+package calendartools.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+/** Testing the Monthly Checklist class.
+ */
+public final class MonthlyChecklistTest {
+
+	@Test
+	public void testConstructor_AllDays() {
+		var allTrue = new MonthlyChecklist(true);
+		var allFalse = new MonthlyChecklist(false);
+		for (int day = 1; day <= 31; ++day) {
+			assertTrue(allTrue.getDayOfMonth(day));
+			assertFalse(allFalse.getDayOfMonth(day));
+		}
+		assertEquals(31, allTrue.count());
+		assertEquals(0, allFalse.count());
+	}
+
+	@Test
+	public void testValueOf() {
+		assertSame(MonthlyChecklist.valueOf(0), MonthlyChecklist.valueOf(0));
+		assertSame(MonthlyChecklist.valueOf(MonthlyChecklist.FULL_MASK), MonthlyChecklist.valueOf(MonthlyChecklist.FULL_MASK));
+		assertEquals(new MonthlyChecklist(true), MonthlyChecklist.valueOf(MonthlyChecklist.FULL_MASK));
+		assertEquals(5, MonthlyChecklist.valueOf(5).toInt());
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.valueOf(-1));
+	}
+
+	@Test
+	public void testUpdateDayOfMonth() {
+		var result = new MonthlyChecklist(false).updateDayOfMonth(15);
+		assertTrue(result.getDayOfMonth(15));
+		assertEquals(1, result.count());
+		assertEquals(new MonthlyChecklist(false), result.updateDayOfMonth(15));
+		assertSame(result, result.updateDayOfMonth(0));
+		assertSame(result, result.updateDayOfMonth(32));
+	}
+
+	@Test
+	public void testFromWeekly_MatchesCalendar() {
+		// Every month of 2024 and 2025, with every weekly checklist.
+		for (int year = 2024; year <= 2025; ++year) {
+			for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; ++month) {
+				var cal = new Calendar.Builder().setDate(year, month, 1).build();
+				final int firstDayOfWeek = cal.get(Calendar.DAY_OF_WEEK);
+				final int monthLength = cal.getActualMaximum(Calendar.DAY_OF_MONTH);
+				for (int data = 0; data < 128; ++data) {
+					var weekly = WeeklyChecklist.fromByte((byte) data);
+					var result = MonthlyChecklist.fromWeekly(weekly, firstDayOfWeek, monthLength);
+					var day = (Calendar) cal.clone();
+					for (int d = 1; d <= 31; ++d) {
+						final boolean expected = d <= monthLength &&
+							weekly.getDayOfWeek(day.get(Calendar.DAY_OF_WEEK));
+						assertEquals(expected, result.getDayOfMonth(d));
+						day.add(Calendar.DATE, 1);
+					}
+					// The conversion back is lossless for a complete month.
+					assertEquals(weekly, result.toWeekly(firstDayOfWeek, monthLength));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testToWeekly_PartialWeekday_NotSelected() {
+		// March 2025 starts on a Saturday, and has 31 days.
+		var saturdays = new WeeklyChecklist(false).updateDayOfWeek(Calendar.SATURDAY);
+		var monthly = MonthlyChecklist.fromWeekly(saturdays, Calendar.SATURDAY, 31);
+		assertEquals(saturdays, monthly.toWeekly(Calendar.SATURDAY, 31));
+		// Remove one Saturday.
+		assertEquals(new WeeklyChecklist(false), monthly.updateDayOfMonth(8).toWeekly(Calendar.SATURDAY, 31));
+	}
+
+	@Test
+	public void testFromWeekly_Invalid_ThrowsIllegalArgumentException() {
+		var weekly = new WeeklyChecklist(true);
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.fromWeekly(null, Calendar.SUNDAY, 31));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.fromWeekly(weekly, 0, 31));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.fromWeekly(weekly, 8, 31));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.fromWeekly(weekly, Calendar.SUNDAY, 0));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.fromWeekly(weekly, Calendar.SUNDAY, 32));
+	}
+
+	@Test
+	public void testEquals_HashCode_CompareTo() {
+		var a = MonthlyChecklist.valueOf(6);
+		var b = new MonthlyChecklist(false).updateDayOfMonth(2).updateDayOfMonth(3);
+		assertEquals(a, b);
+		assertEquals(6, a.hashCode());
+		assertEquals(0, a.compareTo(b));
+		assertTrue(a.compareTo(MonthlyChecklist.valueOf(7)) < 0);
+		assertNotEquals(a, MonthlyChecklist.valueOf(7));
+		assertNotEquals(a, new WeeklyChecklist(false));
+	}
+
+	@Test
+	public void testCountDayOfMonth() {
+		var packed = new int[]{1, 3, 0x40000000, MonthlyChecklist.FULL_MASK};
+		assertEquals(3, MonthlyChecklist.countDayOfMonth(packed, 1));
+		assertEquals(2, MonthlyChecklist.countDayOfMonth(packed, 2));
+		assertEquals(2, MonthlyChecklist.countDayOfMonth(packed, 31));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.countDayOfMonth(null, 1));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonthlyChecklist.countDayOfMonth(packed, 0));
+	}
+
+}
@@ -0,0 +1,174 @@
+package calendartools.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.HashSet;
+
+/** Testing the MultiWeek Checklist class.
+ */
+public final class MultiWeekChecklistTest {
+
+	WeeklyChecklist mondays;
+
+	WeeklyChecklist fridays;
+
+	/** Week 1: Monday. Week 2: Friday.
+	 */
+	MultiWeekChecklist twoWeekRota;
+
+	@Before
+	public void testSetup() {
+		mondays = new WeeklyChecklist(false).updateDayOfWeek(Calendar.MONDAY);
+		fridays = new WeeklyChecklist(false).updateDayOfWeek(Calendar.FRIDAY);
+		twoWeekRota = new MultiWeekChecklist(mondays, fridays);
+	}
+
+	@Test
+	public void testConstructor_FromWeeks() {
+		assertEquals(2, twoWeekRota.getWeekCount());
+		assertTrue(twoWeekRota.getDayOfWeek(1, Calendar.MONDAY));
+		assertFalse(twoWeekRota.getDayOfWeek(1, Calendar.FRIDAY));
+		assertTrue(twoWeekRota.getDayOfWeek(2, Calendar.FRIDAY));
+		assertFalse(twoWeekRota.getDayOfWeek(2, Calendar.MONDAY));
+		assertEquals(2 | (32 << 7), twoWeekRota.toInt());
+	}
+
+	@Test
+	public void testConstructor_InvalidWeeks_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> new MultiWeekChecklist((WeeklyChecklist[]) null));
+		assertThrows(IllegalArgumentException.class,
+			() -> new MultiWeekChecklist());
+		assertThrows(IllegalArgumentException.class,
+			() -> new MultiWeekChecklist(mondays, mondays, mondays, mondays, mondays));
+		assertThrows(IllegalArgumentException.class,
+			() -> new MultiWeekChecklist(mondays, null));
+		assertThrows(IllegalArgumentException.class,
+			() -> new MultiWeekChecklist(0, true));
+		assertThrows(IllegalArgumentException.class,
+			() -> new MultiWeekChecklist(5, false));
+	}
+
+	@Test
+	public void testConstructor_AllDays() {
+		for (int weeks = 1; weeks <= MultiWeekChecklist.MAX_WEEKS; ++weeks) {
+			var allTrue = new MultiWeekChecklist(weeks, true);
+			var allFalse = new MultiWeekChecklist(weeks, false);
+			assertEquals(weeks, allTrue.getWeekCount());
+			assertEquals(7 * weeks, Integer.bitCount(allTrue.toInt()));
+			assertEquals(0, allFalse.toInt());
+			for (int week = 1; week <= weeks; ++week) {
+				assertEquals(new WeeklyChecklist(true), allTrue.getWeek(week));
+				assertEquals(new WeeklyChecklist(false), allFalse.getWeek(week));
+			}
+		}
+	}
+
+	@Test
+	public void testGetWeek_RoundTrip() {
+		assertSame(WeeklyChecklist.fromByte(mondays.toByte()), twoWeekRota.getWeek(1));
+		assertEquals(fridays, twoWeekRota.getWeek(2));
+		assertThrows(IllegalArgumentException.class, () -> twoWeekRota.getWeek(0));
+		assertThrows(IllegalArgumentException.class, () -> twoWeekRota.getWeek(3));
+	}
+
+	@Test
+	public void testValueOf() {
+		assertEquals(twoWeekRota, MultiWeekChecklist.valueOf(2, twoWeekRota.toInt()));
+		assertSame(MultiWeekChecklist.valueOf(4, 0), MultiWeekChecklist.valueOf(4, 0));
+		assertSame(
+			MultiWeekChecklist.valueOf(3, (1 << 21) - 1),
+			MultiWeekChecklist.valueOf(3, (1 << 21) - 1)
+		);
+		assertEquals(new MultiWeekChecklist(3, true), MultiWeekChecklist.valueOf(3, (1 << 21) - 1));
+	}
+
+	@Test
+	public void testValueOf_Invalid_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.valueOf(0, 0));
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.valueOf(1, 128));
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.valueOf(4, -1));
+	}
+
+	@Test
+	public void testUpdateDayOfWeek() {
+		var result = twoWeekRota.updateDayOfWeek(2, Calendar.SATURDAY);
+		assertTrue(result.getDayOfWeek(2, Calendar.SATURDAY));
+		assertFalse(twoWeekRota.getDayOfWeek(2, Calendar.SATURDAY));
+		assertEquals(twoWeekRota, result.updateDayOfWeek(2, Calendar.SATURDAY));
+	}
+
+	@Test
+	public void testUpdateDayOfWeek_Invalid_ReturnsThis() {
+		assertSame(twoWeekRota, twoWeekRota.updateDayOfWeek(0, Calendar.MONDAY));
+		assertSame(twoWeekRota, twoWeekRota.updateDayOfWeek(3, Calendar.MONDAY));
+		assertSame(twoWeekRota, twoWeekRota.updateDayOfWeek(1, 0));
+		assertSame(twoWeekRota, twoWeekRota.updateDayOfWeek(1, 8));
+	}
+
+	@Test
+	public void testEquals_HashCode() {
+		var same = new MultiWeekChecklist(mondays, fridays);
+		assertEquals(twoWeekRota, same);
+		assertEquals(twoWeekRota.hashCode(), same.hashCode());
+		// Same data, different week count.
+		var threeWeeks = new MultiWeekChecklist(mondays, fridays, new WeeklyChecklist(false));
+		assertNotEquals(twoWeekRota, threeWeeks);
+		assertNotEquals(twoWeekRota, new MultiWeekChecklist(fridays, mondays));
+		assertNotEquals(twoWeekRota, mondays);
+		var set = new HashSet<MultiWeekChecklist>();
+		set.add(twoWeekRota);
+		set.add(same);
+		set.add(threeWeeks);
+		assertEquals(2, set.size());
+	}
+
+	@Test
+	public void testCompareTo() {
+		var threeWeeks = new MultiWeekChecklist(mondays, fridays, new WeeklyChecklist(false));
+		assertTrue(twoWeekRota.compareTo(threeWeeks) < 0);
+		assertTrue(threeWeeks.compareTo(twoWeekRota) > 0);
+		assertEquals(0, twoWeekRota.compareTo(new MultiWeekChecklist(mondays, fridays)));
+		assertTrue(twoWeekRota.compareTo(new MultiWeekChecklist(fridays, mondays)) > 0);
+	}
+
+	@Test
+	public void testCountDayOfWeek() {
+		var packed = new int[]{
+			twoWeekRota.toInt(),
+			new MultiWeekChecklist(2, true).toInt(),
+			new MultiWeekChecklist(2, false).toInt(),
+		};
+		assertEquals(2, MultiWeekChecklist.countDayOfWeek(packed, 1, Calendar.MONDAY));
+		assertEquals(1, MultiWeekChecklist.countDayOfWeek(packed, 2, Calendar.MONDAY));
+		assertEquals(2, MultiWeekChecklist.countDayOfWeek(packed, 2, Calendar.FRIDAY));
+		assertEquals(0, MultiWeekChecklist.countDayOfWeek(packed, 4, Calendar.FRIDAY));
+	}
+
+	@Test
+	public void testCountDayOfWeek_Invalid_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.countDayOfWeek(null, 1, Calendar.MONDAY));
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.countDayOfWeek(new int[1], 0, Calendar.MONDAY));
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.countDayOfWeek(new int[1], 5, Calendar.MONDAY));
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.countDayOfWeek(new int[1], 1, 0));
+		assertThrows(IllegalArgumentException.class,
+			() -> MultiWeekChecklist.countDayOfWeek(new int[1], 1, 8));
+	}
+
+}
@@ -0,0 +1,416 @@
+package calendartools.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** Testing the WeeklyChecklist Codec and Reader.
+ */
+public final class WeeklyChecklistCodecTest {
+
+	private static final byte[] ENCODINGS = new byte[]{
+		WeeklyChecklistCodec.RAW,
+		WeeklyChecklistCodec.PACKED,
+		WeeklyChecklistCodec.RUN_LENGTH,
+	};
+
+	/** Every possible checklist, in order.
+	 */
+	private byte[] allChecklists;
+
+	/** Long runs of identical checklists, with a few single values between them.
+	 */
+	private byte[] longRuns;
+
+	@Before
+	public void testSetup() {
+		allChecklists = new byte[128];
+		for (int i = 0; i < 128; ++i) {
+			allChecklists[i] = (byte) i;
+		}
+		longRuns = new byte[20_011];
+		Arrays.fill(longRuns, 0, 10_000, (byte) 62);
+		longRuns[10_000] = 1;
+		longRuns[10_001] = 2;
+		longRuns[10_002] = 2;
+		Arrays.fill(longRuns, 10_003, 20_011, (byte) 127);
+	}
+
+	private static ByteBuffer encode(
+		final byte[] packed,
+		final byte encoding
+	) {
+		var buffer = ByteBuffer.allocate(
+			(int) WeeklyChecklistCodec.maxEncodedSize(packed.length, encoding)
+		);
+		WeeklyChecklistCodec.encode(packed, 0, packed.length, buffer, encoding);
+		return buffer.flip();
+	}
+
+	private static byte[] write(
+		final byte[] packed,
+		final byte encoding
+	) throws IOException {
+		var stream = new ByteArrayOutputStream();
+		WeeklyChecklistCodec.write(packed, 0, packed.length, Channels.newChannel(stream), encoding);
+		return stream.toByteArray();
+	}
+
+	private static WeeklyChecklistReader reader(
+		final byte[] encoded
+	) throws IOException {
+		return WeeklyChecklistCodec.reader(
+			Channels.newChannel(new ByteArrayInputStream(encoded))
+		);
+	}
+
+	@Test
+	public void testMaxEncodedSize() {
+		assertEquals(8, WeeklyChecklistCodec.maxEncodedSize(0, WeeklyChecklistCodec.PACKED));
+		assertEquals(15, WeeklyChecklistCodec.maxEncodedSize(8, WeeklyChecklistCodec.PACKED));
+		assertEquals(16, WeeklyChecklistCodec.maxEncodedSize(9, WeeklyChecklistCodec.PACKED));
+		assertEquals(17, WeeklyChecklistCodec.maxEncodedSize(9, WeeklyChecklistCodec.RAW));
+		assertEquals(17, WeeklyChecklistCodec.maxEncodedSize(9, WeeklyChecklistCodec.RUN_LENGTH));
+	}
+
+	@Test
+	public void testMaxEncodedSize_InvalidArgs_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.maxEncodedSize(-1, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.maxEncodedSize(1, (byte) 3));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.maxEncodedSize(1, (byte) -1));
+	}
+
+	@Test
+	public void testEncode_Header() {
+		var buffer = encode(new byte[]{5, 6}, WeeklyChecklistCodec.RAW);
+		var expected = new byte[]{0x57, 0x43, 1, 0, 0, 0, 0, 2, 5, 6};
+		var actual = new byte[buffer.remaining()];
+		buffer.get(actual);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void testEncode_LittleEndianBuffer_CountIsBigEndian() {
+		var buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+		WeeklyChecklistCodec.encode(new byte[]{1, 2, 3}, 0, 3, buffer, WeeklyChecklistCodec.RAW);
+		assertEquals(3, buffer.get(7));
+		assertArrayEquals(new byte[]{1, 2, 3}, WeeklyChecklistCodec.decode(buffer.flip()));
+	}
+
+	@Test
+	public void testEncodeDecode_AllChecklists_AllEncodings() {
+		for (byte encoding : ENCODINGS) {
+			assertArrayEquals(allChecklists, WeeklyChecklistCodec.decode(encode(allChecklists, encoding)));
+		}
+	}
+
+	@Test
+	public void testEncodeDecode_PartialGroups_AllEncodings() {
+		for (int length = 0; length <= 17; ++length) {
+			var input = Arrays.copyOf(allChecklists, length);
+			for (byte encoding : ENCODINGS) {
+				assertArrayEquals(input, WeeklyChecklistCodec.decode(encode(input, encoding)));
+			}
+		}
+	}
+
+	@Test
+	public void testEncode_Packed_UsesSevenBitsPerChecklist() {
+		var buffer = encode(allChecklists, WeeklyChecklistCodec.PACKED);
+		assertEquals(WeeklyChecklistCodec.HEADER_SIZE + 112, buffer.remaining());
+	}
+
+	@Test
+	public void testEncode_RunLength_CompressesLongRuns() {
+		var buffer = encode(longRuns, WeeklyChecklistCodec.RUN_LENGTH);
+		// Two runs of 3 bytes each, plus 3 single values.
+		assertEquals(WeeklyChecklistCodec.HEADER_SIZE + 9, buffer.remaining());
+		assertArrayEquals(longRuns, WeeklyChecklistCodec.decode(buffer));
+	}
+
+	@Test
+	public void testEncode_Range() {
+		var buffer = ByteBuffer.allocate(32);
+		WeeklyChecklistCodec.encode(allChecklists, 100, 10, buffer, WeeklyChecklistCodec.PACKED);
+		assertArrayEquals(
+			Arrays.copyOfRange(allChecklists, 100, 110),
+			WeeklyChecklistCodec.decode(buffer.flip())
+		);
+	}
+
+	@Test
+	public void testEncode_Checklists() {
+		var checklists = new WeeklyChecklist[]{
+			new WeeklyChecklist(true),
+			new WeeklyChecklist(false),
+			new WeeklyChecklist(true, false, true, false, true, false, true),
+		};
+		var buffer = ByteBuffer.allocate(16);
+		WeeklyChecklistCodec.encode(checklists, buffer, WeeklyChecklistCodec.PACKED);
+		var result = WeeklyChecklistCodec.decodeChecklists(buffer.flip());
+		assertArrayEquals(checklists, result);
+		assertSame(WeeklyChecklist.fromByte((byte) 127), result[0]);
+	}
+
+	@Test
+	public void testEncode_InvalidArgs_ThrowsIllegalArgumentException() {
+		var buffer = ByteBuffer.allocate(64);
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.encode((WeeklyChecklist[]) null, buffer, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.encode(new byte[1], 0, 1, null, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.encode(null, 0, 0, buffer, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.encode(new byte[4], -1, 1, buffer, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.encode(new byte[4], 0, -1, buffer, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.encode(new byte[4], 2, 3, buffer, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.encode(new byte[4], 0, 4, buffer, (byte) 7));
+	}
+
+	@Test
+	public void testEncode_InvalidChecklistData_ThrowsIllegalArgumentException() {
+		for (byte encoding : ENCODINGS) {
+			assertThrows(IllegalArgumentException.class,
+				() -> encode(new byte[]{1, -128}, encoding));
+		}
+	}
+
+	@Test
+	public void testEncode_BufferTooSmall_ThrowsBufferOverflowException() {
+		assertThrows(BufferOverflowException.class,
+			() -> WeeklyChecklistCodec.encode(allChecklists, 0, 128, ByteBuffer.allocate(64), WeeklyChecklistCodec.RAW));
+	}
+
+	@Test
+	public void testDecode_InvalidHeaders_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.decode(null));
+		var badMagic0 = new byte[]{0, 0x43, 1, 0, 0, 0, 0, 0};
+		var badMagic1 = new byte[]{0x57, 0, 1, 0, 0, 0, 0, 0};
+		var badVersion = new byte[]{0x57, 0x43, 2, 0, 0, 0, 0, 0};
+		var badEncoding = new byte[]{0x57, 0x43, 1, 3, 0, 0, 0, 0};
+		var badCount = new byte[]{0x57, 0x43, 1, 0, -1, 0, 0, 0};
+		for (var header : new byte[][]{badMagic0, badMagic1, badVersion, badEncoding, badCount}) {
+			assertThrows(IllegalArgumentException.class,
+				() -> WeeklyChecklistCodec.decode(ByteBuffer.wrap(header)));
+		}
+	}
+
+	@Test
+	public void testDecode_InvalidRawData_ThrowsIllegalArgumentException() {
+		var data = new byte[]{0x57, 0x43, 1, 0, 0, 0, 0, 1, -1};
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.decode(ByteBuffer.wrap(data)));
+	}
+
+	@Test
+	public void testDecode_RunExceedsCount_ThrowsIllegalArgumentException() {
+		// A run of 4, when the count is 3.
+		var data = new byte[]{0x57, 0x43, 1, 2, 0, 0, 0, 3, (byte) 0x81, 1};
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.decode(ByteBuffer.wrap(data)));
+	}
+
+	@Test
+	public void testDecode_Truncated_ThrowsBufferUnderflowException() {
+		for (byte encoding : ENCODINGS) {
+			var encoded = encode(allChecklists, encoding);
+			var truncated = ByteBuffer.wrap(Arrays.copyOf(encoded.array(), encoded.limit() - 1));
+			assertThrows(BufferUnderflowException.class,
+				() -> WeeklyChecklistCodec.decode(truncated));
+		}
+	}
+
+	@Test
+	public void testDecode_OversizedCount_ThrowsBufferUnderflowException() {
+		// The Count claims 0x7FFFFFFF checklists, but only a few bytes follow.
+		for (byte encoding : ENCODINGS) {
+			var data = new byte[]{0x57, 0x43, 1, encoding, 0x7F, -1, -1, -1, 1, 2, (byte) 0x83, 4};
+			assertThrows(BufferUnderflowException.class,
+				() -> WeeklyChecklistCodec.decode(ByteBuffer.wrap(data)));
+		}
+	}
+
+	@Test
+	public void testDecode_RunLength_GrowsToCount() {
+		// 2 bytes expand to 1000 checklists.
+		var data = new byte[]{0x57, 0x43, 1, 2, 0, 0, 0x03, (byte) 0xE8, (byte) 0x85, (byte) 0xE5, 0x07};
+		var expected = new byte[1000];
+		Arrays.fill(expected, (byte) 5);
+		assertArrayEquals(expected, WeeklyChecklistCodec.decode(ByteBuffer.wrap(data)));
+		assertArrayEquals(longRuns, WeeklyChecklistCodec.decode(encode(longRuns, WeeklyChecklistCodec.RUN_LENGTH)));
+	}
+
+	@Test
+	public void testDecode_InvalidVarInt_ThrowsIllegalArgumentException() {
+		var tooLong = new byte[]{0x57, 0x43, 1, 2, 0, 0, 0, 3, (byte) 0x81, -1, -1, -1, -1, -1, 0};
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.decode(ByteBuffer.wrap(tooLong)));
+		var negative = new byte[]{0x57, 0x43, 1, 2, 0, 0, 0, 3, (byte) 0x81, -1, -1, -1, -1, 0x0F};
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.decode(ByteBuffer.wrap(negative)));
+	}
+
+	@Test
+	public void testWriteRead_AllEncodings_MatchesBufferEncoding() throws IOException {
+		for (byte encoding : ENCODINGS) {
+			var buffer = encode(longRuns, encoding);
+			var expected = new byte[buffer.remaining()];
+			buffer.get(expected);
+			assertArrayEquals(expected, write(longRuns, encoding));
+		}
+	}
+
+	@Test
+	public void testWrite_InvalidArgs_ThrowsIllegalArgumentException() {
+		var channel = Channels.newChannel(new ByteArrayOutputStream());
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.write(new byte[1], 0, 1, null, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.write(new byte[1], 0, 2, channel, WeeklyChecklistCodec.RAW));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.write(new byte[1], 0, 1, channel, (byte) 9));
+	}
+
+	@Test
+	public void testWrite_ChannelFails_ThrowsIOException() {
+		WritableByteChannel failing = new WritableByteChannel() {
+			@Override public int write(ByteBuffer src) throws IOException { throw new IOException("Disk Full"); }
+			@Override public boolean isOpen() { return true; }
+			@Override public void close() {}
+		};
+		var large = new byte[WeeklyChecklistCodec.CHANNEL_BUFFER_SIZE * 2];
+		assertThrows(IOException.class,
+			() -> WeeklyChecklistCodec.write(large, 0, large.length, failing, WeeklyChecklistCodec.RAW));
+		assertThrows(IOException.class,
+			() -> WeeklyChecklistCodec.write(new byte[1], 0, 1, failing, WeeklyChecklistCodec.RAW));
+	}
+
+	@Test
+	public void testReader_AllEncodings_StreamsAllValues() throws IOException {
+		var large = new byte[50_000];
+		for (int i = 0; i < large.length; ++i) {
+			large[i] = (byte) ((i / 7) % 128);
+		}
+		for (var input : new byte[][]{allChecklists, longRuns, large}) {
+			for (byte encoding : ENCODINGS) {
+				try (var reader = reader(write(input, encoding))) {
+					assertEquals(encoding, reader.getEncoding());
+					assertEquals(input.length, reader.remaining());
+					for (byte expected : input) {
+						assertTrue(reader.hasNext());
+						assertEquals(expected, reader.nextByte());
+					}
+					assertFalse(reader.hasNext());
+					assertThrows(NoSuchElementException.class, reader::nextByte);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReader_Next_ReturnsSharedInstances() throws IOException {
+		var reader = reader(write(new byte[]{3, 3, 3, 3}, WeeklyChecklistCodec.RUN_LENGTH));
+		for (int i = 0; i < 4; ++i) {
+			assertSame(WeeklyChecklist.fromByte((byte) 3), reader.next());
+		}
+	}
+
+	@Test
+	public void testReader_ReadIntoArray() throws IOException {
+		var reader = reader(write(allChecklists, WeeklyChecklistCodec.PACKED));
+		var destination = new byte[200];
+		assertEquals(100, reader.read(destination, 0, 100));
+		assertEquals(28, reader.read(destination, 100, 100));
+		assertEquals(-1, reader.read(destination, 128, 1));
+		assertArrayEquals(allChecklists, Arrays.copyOf(destination, 128));
+	}
+
+	@Test
+	public void testReader_ReadInvalidRange_ThrowsIndexOutOfBoundsException() throws IOException {
+		var reader = reader(write(allChecklists, WeeklyChecklistCodec.RAW));
+		var destination = new byte[10];
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.read(destination, -1, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.read(destination, 0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.read(destination, 5, 6));
+	}
+
+	@Test
+	public void testReader_InvalidArgs() {
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklistCodec.reader(null));
+		assertThrows(EOFException.class,
+			() -> reader(new byte[]{0x57, 0x43, 1}));
+		assertThrows(IllegalArgumentException.class,
+			() -> reader(new byte[]{0x57, 0x43, 1, 5, 0, 0, 0, 0}));
+	}
+
+	@Test
+	public void testReader_Truncated_ThrowsEOFException() throws IOException {
+		for (byte encoding : ENCODINGS) {
+			var encoded = write(new byte[]{1, 2, 3}, encoding);
+			var reader = reader(Arrays.copyOf(encoded, encoded.length - 1));
+			assertThrows(EOFException.class, () -> {
+				while (reader.hasNext()) reader.nextByte();
+			});
+		}
+	}
+
+	@Test
+	public void testReader_InvalidData_ThrowsIllegalArgumentException() throws IOException {
+		var invalidRaw = reader(new byte[]{0x57, 0x43, 1, 0, 0, 0, 0, 1, -1});
+		assertThrows(IllegalArgumentException.class, invalidRaw::nextByte);
+		var runExceedsCount = reader(new byte[]{0x57, 0x43, 1, 2, 0, 0, 0, 3, (byte) 0x81, 1});
+		assertThrows(IllegalArgumentException.class, runExceedsCount::nextByte);
+		var varIntTooLong = reader(new byte[]{0x57, 0x43, 1, 2, 0, 0, 0, 3, (byte) 0x81, -1, -1, -1, -1, -1, 0});
+		assertThrows(IllegalArgumentException.class, varIntTooLong::nextByte);
+	}
+
+	@Test
+	public void testFileChannel_RoundTrip() throws IOException {
+		Path file = Files.createTempFile("checklists", ".bin");
+		try {
+			try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				WeeklyChecklistCodec.write(longRuns, 0, longRuns.length, channel, WeeklyChecklistCodec.RUN_LENGTH);
+			}
+			try (var reader = WeeklyChecklistCodec.reader(FileChannel.open(file, StandardOpenOption.READ))) {
+				var result = new byte[longRuns.length];
+				assertEquals(longRuns.length, reader.read(result, 0, result.length));
+				assertArrayEquals(longRuns, result);
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+package calendartools.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/** Testing the WeeklyChecklist Map.
+ */
+public final class WeeklyChecklistMapTest {
+
+	private WeeklyChecklistMap<String> mInstance;
+
+	private WeeklyChecklist allTrue;
+
+	private WeeklyChecklist monday;
+
+	@Before
+	public void testSetup() {
+		mInstance = new WeeklyChecklistMap<>();
+		allTrue = new WeeklyChecklist(true);
+		monday = new WeeklyChecklist(false).updateDayOfWeek(Calendar.MONDAY);
+	}
+
+	@Test
+	public void testInitialCondition() {
+		assertTrue(mInstance.isEmpty());
+		assertEquals(0, mInstance.size());
+		assertTrue(mInstance.keys().isEmpty());
+		for (int i = 0; i < 128; ++i) {
+			assertNull(mInstance.get((byte) i));
+		}
+	}
+
+	@Test
+	public void testPut_Get() {
+		assertNull(mInstance.put(allTrue, "all"));
+		assertEquals("all", mInstance.get(new WeeklyChecklist(true)));
+		assertEquals("all", mInstance.get((byte) 127));
+		assertTrue(mInstance.containsKey(allTrue));
+		assertFalse(mInstance.containsKey(monday));
+		assertEquals(1, mInstance.size());
+		assertFalse(mInstance.isEmpty());
+	}
+
+	@Test
+	public void testPut_Replace_ReturnsPrevious() {
+		mInstance.put(monday, "first");
+		assertEquals("first", mInstance.put(monday, "second"));
+		assertEquals("second", mInstance.get(monday));
+		assertEquals(1, mInstance.size());
+	}
+
+	@Test
+	public void testRemove() {
+		mInstance.put(monday, "monday");
+		assertNull(mInstance.remove(allTrue));
+		assertEquals("monday", mInstance.remove(monday));
+		assertNull(mInstance.get(monday));
+		assertEquals(0, mInstance.size());
+	}
+
+	@Test
+	public void testClear() {
+		mInstance.put(monday, "monday");
+		mInstance.put(allTrue, "all");
+		mInstance.clear();
+		assertTrue(mInstance.isEmpty());
+		assertNull(mInstance.get(allTrue));
+	}
+
+	@Test
+	public void testComputeIfAbsent_GroupsEqualChecklists() {
+		var map = new WeeklyChecklistMap<List<Integer>>();
+		for (int user = 0; user < 10; ++user) {
+			var checklist = (user % 2 == 0) ? new WeeklyChecklist(true) : new WeeklyChecklist(false);
+			map.computeIfAbsent(checklist, k -> new ArrayList<>()).add(user);
+		}
+		assertEquals(2, map.size());
+		assertEquals(List.of(0, 2, 4, 6, 8), map.get(allTrue));
+		assertEquals(List.of(1, 3, 5, 7, 9), map.get(new WeeklyChecklist(false)));
+	}
+
+	@Test
+	public void testKeys_AscendingOrder() {
+		mInstance.put(allTrue, "all");
+		mInstance.put(monday, "monday");
+		var keys = mInstance.keys();
+		assertEquals(List.of(monday, allTrue), keys);
+		assertSame(WeeklyChecklist.fromByte((byte) 127), keys.get(1));
+	}
+
+	@Test
+	public void testForEach_AscendingOrder() {
+		mInstance.put(allTrue, "all");
+		mInstance.put(monday, "monday");
+		var values = new ArrayList<String>();
+		mInstance.forEach((key, value) -> {
+			assertEquals(value, mInstance.get(key));
+			values.add(value);
+		});
+		assertEquals(List.of("monday", "all"), values);
+	}
+
+	@Test
+	public void testNullArgs_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> mInstance.get(null));
+		assertThrows(IllegalArgumentException.class, () -> mInstance.containsKey(null));
+		assertThrows(IllegalArgumentException.class, () -> mInstance.put(null, "x"));
+		assertThrows(IllegalArgumentException.class, () -> mInstance.put(allTrue, null));
+		assertThrows(IllegalArgumentException.class, () -> mInstance.remove(null));
+		assertThrows(IllegalArgumentException.class, () -> mInstance.computeIfAbsent(allTrue, k -> null));
+		assertEquals(0, mInstance.size());
+	}
+
+	@Test
+	public void testGet_NegativeData_ThrowsArrayIndexOutOfBoundsException() {
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> mInstance.get((byte) -1));
+	}
+
+}
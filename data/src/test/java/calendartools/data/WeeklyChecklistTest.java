@@ -3,6 +3,8 @@ package calendartools.data;
 import static junit.framework.TestCase.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
@@ -10,6 +12,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashSet;
 
 /** Testing Weekly Checklist class.
  */
@@ -199,4 +202,63 @@ public final class WeeklyChecklistTest {
 		);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testToByte() {
+		assertEquals(127, checklistAllTrue.toByte());
+		assertEquals(0, checklistAllFalse.toByte());
+		assertEquals(
+			2 | 8,
+			new WeeklyChecklist(false, true, false, true, false, false, false).toByte()
+		);
+	}
+
+	@Test
+	public void testFromByte_AllValues_ReturnsSharedEqualInstance() {
+		for (int i = 0; i < 128; ++i) {
+			var result = WeeklyChecklist.fromByte((byte) i);
+			assertEquals(i, result.toByte());
+			assertSame(result, WeeklyChecklist.fromByte((byte) i));
+		}
+		assertEquals(checklistAllTrue, WeeklyChecklist.fromByte((byte) 127));
+	}
+
+	@Test
+	public void testFromByte_Negative_ThrowsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklist.fromByte((byte) -1));
+		assertThrows(IllegalArgumentException.class,
+			() -> WeeklyChecklist.fromByte(Byte.MIN_VALUE));
+	}
+
+	@Test
+	public void testHashCode_EqualsData() {
+		assertEquals(127, checklistAllTrue.hashCode());
+		assertEquals(0, checklistAllFalse.hashCode());
+		assertEquals(
+			new WeeklyChecklist(true).hashCode(),
+			checklistAllTrue.hashCode()
+		);
+	}
+
+	@Test
+	public void testHashSet_EqualChecklists_Deduplicated() {
+		var set = new HashSet<WeeklyChecklist>();
+		for (int i = 0; i < 3; ++i) {
+			set.add(new WeeklyChecklist(true));
+			set.add(new WeeklyChecklist(false));
+			set.add(checklistAllFalse.updateDayOfWeek(Calendar.MONDAY));
+		}
+		assertEquals(3, set.size());
+	}
+
+	@Test
+	public void testCompareTo() {
+		var monday = checklistAllFalse.updateDayOfWeek(Calendar.MONDAY);
+		var saturday = checklistAllFalse.updateDayOfWeek(Calendar.SATURDAY);
+		assertEquals(0, checklistAllTrue.compareTo(new WeeklyChecklist(true)));
+		assertTrue(checklistAllFalse.compareTo(monday) < 0);
+		assertTrue(saturday.compareTo(monday) > 0);
+		assertTrue(checklistAllTrue.compareTo(saturday) > 0);
+	}
+
+}
@@ -0,0 +1,363 @@
+package calendartools.map;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/** Processes many small concurrent requests on an Executor, by coalescing them into larger batches.
+ *  - A request is dispatched at once when a batch slot is free. While every slot is busy, requests wait
+ *    in a queue, and are combined into batches of up to the batch size when a slot is released.
+ *  - Backpressure: the number of queued and running elements is limited, and submit blocks until there is room.
+ *  - When a batch completes, the same thread runs the next queued batch in a loop, so a direct Executor never recurses.
+ *  - Locking uses a ReentrantLock rather than synchronized, so virtual threads are never pinned to a carrier.
+ *  - The batch function is called concurrently. Factory methods give every running batch its own parser state.
+ * @param <T> The type of the input elements.
+ * @param <R> The type of the output elements.
+ */
+public class BatchProcessor<T, R> implements AutoCloseable {
+
+    /** Create an Executor for batch processing.
+     *  - On Java 21 and later this is a new virtual thread per task.
+     *  - On earlier versions it is a fixed pool, with one thread per available processor.
+     * @return A new ExecutorService. The caller is responsible for shutting it down.
+     */
+    public static ExecutorService newExecutor() {
+        return newExecutor(
+            "newVirtualThreadPerTaskExecutor",
+            Runtime.getRuntime().availableProcessors()
+        );
+    }
+
+    /** Create an Executor from a no-argument factory method of Executors, if it exists.
+     * @param factoryMethod The name of the method in java.util.concurrent.Executors.
+     * @param fallbackThreads The number of threads in the fixed pool, when the method does not exist.
+     * @return A new ExecutorService.
+     */
+    static ExecutorService newExecutor(
+        final String factoryMethod,
+        final int fallbackThreads
+    ) {
+        try {
+            return (ExecutorService) Executors.class.getMethod(factoryMethod).invoke(null);
+        } catch (ReflectiveOperationException ignored) {
+            return Executors.newFixedThreadPool(fallbackThreads);
+        }
+    }
+
+    /** Create a Processor that parses Date Strings with copies of a DateFormatMap.
+     *  - The map is copied once, on the calling thread. Batches borrow their own copy of that template from a pool,
+     *    so no DateFormat is shared between threads, and at most one copy is made for each concurrent batch.
+     *  - Strings that fail to parse are mapped to null, as in DateFormatMap.
+     * @param map The DateFormatMap to copy. It is not used by the Processor after this method returns.
+     * @param executor The Executor that runs the batches.
+     * @param maxConcurrentBatches The maximum number of batches running at once. Min 1.
+     * @param batchSize The number of elements that requests are coalesced up to. Min 1.
+     * @param maxPendingElements The maximum number of elements queued or running. Min 1.
+     * @return A new BatchProcessor.
+     * @throws IllegalArgumentException When the map or executor is null, or a number is out of range.
+     */
+    public static BatchProcessor<String, Calendar> forDateFormatMap(
+        final DateFormatMap map,
+        final Executor executor,
+        final int maxConcurrentBatches,
+        final int batchSize,
+        final int maxPendingElements
+    ) throws IllegalArgumentException {
+        if (map == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        final DateFormatMap template = map.copy();
+        final ReentrantLock templateLock = new ReentrantLock();
+        final Queue<DateFormatMap> idleParsers = new ConcurrentLinkedQueue<>();
+        return new BatchProcessor<>(
+            batch -> {
+                DateFormatMap parser = idleParsers.poll();
+                if (parser == null) {
+                    // Cloning reads the state of each DateFormat, so the template is copied by one thread at a time.
+                    templateLock.lock();
+                    try {
+                        parser = template.copy();
+                    } finally {
+                        templateLock.unlock();
+                    }
+                }
+                try {
+                    return parser.map(batch);
+                } finally {
+                    idleParsers.offer(parser);
+                }
+            },
+            executor, maxConcurrentBatches, batchSize, maxPendingElements
+        );
+    }
+
+    /** Create a Processor that maps Millisecond Time values with a MillisecondMap.
+     *  - Every batch uses its own Calendar, so the map function must not keep a reference to it.
+     * @param map The MillisecondMap applied to each batch.
+     * @param executor The Executor that runs the batches.
+     * @param maxConcurrentBatches The maximum number of batches running at once. Min 1.
+     * @param batchSize The number of elements that requests are coalesced up to. Min 1.
+     * @param maxPendingElements The maximum number of elements queued or running. Min 1.
+     * @param <R> The output type of the MillisecondMap.
+     * @return A new BatchProcessor.
+     * @throws IllegalArgumentException When the map or executor is null, or a number is out of range.
+     */
+    public static <R> BatchProcessor<Long, R> forMillisecondMap(
+        final MillisecondMap<R> map,
+        final Executor executor,
+        final int maxConcurrentBatches,
+        final int batchSize,
+        final int maxPendingElements
+    ) throws IllegalArgumentException {
+        if (map == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        return new BatchProcessor<>(
+            map::map,
+            executor, maxConcurrentBatches, batchSize, maxPendingElements
+        );
+    }
+
+    /** A submitted request, waiting for its batch to complete.
+     */
+    private static final class Request<T, R> {
+
+        final List<T> mInputs;
+
+        final CompletableFuture<List<R>> mResult = new CompletableFuture<>();
+
+        Request(
+            final List<T> inputs
+        ) {
+            mInputs = inputs;
+        }
+
+    }
+
+    /** Maps all the elements of a batch, in order.
+     */
+    private final Function<? super List<T>, ? extends List<R>> mBatchFunction;
+
+    private final Executor mExecutor;
+
+    private final int mMaxConcurrentBatches;
+
+    private final int mBatchSize;
+
+    private final int mMaxPendingElements;
+
+    /** One permit for each element that may be queued or running.
+     */
+    private final Semaphore mCapacity;
+
+    /** Guards the queue, the number of running batches, and the closed state.
+     */
+    private final ReentrantLock mLock = new ReentrantLock();
+
+    private final ArrayDeque<Request<T, R>> mQueue = new ArrayDeque<>();
+
+    private int mRunningBatches = 0;
+
+    private boolean mClosed = false;
+
+    /** Create a Processor for any batch function.
+     * @param batchFunction Maps a List of input elements into a List of the same size. Called concurrently.
+     * @param executor The Executor that runs the batches.
+     * @param maxConcurrentBatches The maximum number of batches running at once. Min 1.
+     * @param batchSize The number of elements that requests are coalesced up to. Min 1.
+     * @param maxPendingElements The maximum number of elements queued or running. Min 1.
+     * @throws IllegalArgumentException When the function or executor is null, or a number is out of range.
+     */
+    public BatchProcessor(
+        final Function<? super List<T>, ? extends List<R>> batchFunction,
+        final Executor executor,
+        final int maxConcurrentBatches,
+        final int batchSize,
+        final int maxPendingElements
+    ) throws IllegalArgumentException {
+        if (batchFunction == null || executor == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        if (maxConcurrentBatches < 1)
+            throw new IllegalArgumentException("Invalid Concurrent Batches: " + maxConcurrentBatches);
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Invalid Batch Size: " + batchSize);
+        if (maxPendingElements < 1)
+            throw new IllegalArgumentException("Invalid Pending Elements: " + maxPendingElements);
+        mBatchFunction = batchFunction;
+        mExecutor = executor;
+        mMaxConcurrentBatches = maxConcurrentBatches;
+        mBatchSize = batchSize;
+        mMaxPendingElements = maxPendingElements;
+        mCapacity = new Semaphore(maxPendingElements);
+    }
+
+    /** Submit a request, blocking while the Processor is full.
+     * @param inputs The elements of the request. The List is copied.
+     * @return A Future that completes with the outputs of the request, in the same order as the inputs.
+     *  When the batch fails, the Future completes exceptionally, along with every request in the batch.
+     * @throws IllegalArgumentException When the List is null, contains null, or is larger than the maximum pending elements.
+     * @throws IllegalStateException When the Processor is closed.
+     * @throws InterruptedException When the thread is interrupted while waiting for room.
+     */
+    public CompletableFuture<List<R>> submit(
+        final List<T> inputs
+    ) throws IllegalArgumentException, IllegalStateException, InterruptedException {
+        if (inputs == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        final List<T> copy = new ArrayList<>(inputs);
+        for (T x : copy) {
+            if (x == null)
+                throw new IllegalArgumentException("Elements Must Not Be Null");
+        }
+        if (copy.size() > mMaxPendingElements)
+            throw new IllegalArgumentException("Invalid Request Size: " + copy.size());
+        if (copy.isEmpty())
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        mCapacity.acquire(copy.size());
+        final Request<T, R> request = new Request<>(copy);
+        final List<Request<T, R>> batch;
+        mLock.lock();
+        try {
+            if (mClosed) {
+                mCapacity.release(copy.size());
+                throw new IllegalStateException("Processor Is Closed");
+            }
+            mQueue.add(request);
+            batch = takeBatch();
+        } finally {
+            mLock.unlock();
+        }
+        dispatch(batch);
+        return request.mResult;
+    }
+
+    /** Stop accepting requests, and dispatch every queued request without waiting for a free batch slot.
+     *  - Requests that were already submitted still complete. The Executor is not shut down.
+     */
+    @Override
+    public void close() {
+        final List<List<Request<T, R>>> batches = new ArrayList<>();
+        mLock.lock();
+        try {
+            mClosed = true;
+            while (!mQueue.isEmpty()) {
+                batches.add(pollBatch());
+            }
+        } finally {
+            mLock.unlock();
+        }
+        for (var batch : batches) dispatch(batch);
+    }
+
+    /** Take the next batch from the queue, when a batch slot is free. The lock must be held.
+     * @return The requests in the batch, or null when the queue is empty or every slot is busy.
+     */
+    private List<Request<T, R>> takeBatch() {
+        if (mQueue.isEmpty() || mRunningBatches >= mMaxConcurrentBatches)
+            return null;
+        return pollBatch();
+    }
+
+    /** Remove requests from the queue, up to the batch size. The lock must be held, and the queue must not be empty.
+     *  - The first request is always taken, even when it is larger than the batch size.
+     */
+    private List<Request<T, R>> pollBatch() {
+        final List<Request<T, R>> batch = new ArrayList<>();
+        int elements = 0;
+        do {
+            final Request<T, R> next = mQueue.poll();
+            batch.add(next);
+            elements += next.mInputs.size();
+        } while (!mQueue.isEmpty() && elements + mQueue.peek().mInputs.size() <= mBatchSize);
+        ++mRunningBatches;
+        return batch;
+    }
+
+    /** Run a batch on the Executor. When the Executor rejects it, fail the batch, and try the next one in a loop.
+     * @param batch The batch to dispatch, or null when there is none.
+     */
+    private void dispatch(
+        List<Request<T, R>> batch
+    ) {
+        while (batch != null) {
+            final List<Request<T, R>> current = batch;
+            try {
+                mExecutor.execute(() -> runAll(current));
+                return;
+            } catch (RejectedExecutionException e) {
+                fail(current, e);
+                batch = finish(current);
+            }
+        }
+    }
+
+    /** Run a batch, then keep the slot and run each following batch on this thread, until the queue is empty.
+     *  - A loop rather than a new task per batch, so a direct Executor never recurses.
+     */
+    private void runAll(
+        final List<Request<T, R>> batch
+    ) {
+        for (List<Request<T, R>> current = batch; current != null; current = finish(current)) {
+            run(current);
+        }
+    }
+
+    private void run(
+        final List<Request<T, R>> batch
+    ) {
+        final List<T> inputs = new ArrayList<>();
+        for (var request : batch) inputs.addAll(request.mInputs);
+        try {
+            final List<R> outputs = mBatchFunction.apply(inputs);
+            if (outputs.size() != inputs.size())
+                throw new IllegalStateException("Invalid Batch Output Size: " + outputs.size());
+            int start = 0;
+            for (var request : batch) {
+                final int end = start + request.mInputs.size();
+                request.mResult.complete(Collections.unmodifiableList(outputs.subList(start, end)));
+                start = end;
+            }
+        } catch (Throwable e) {
+            // Errors are delivered through the Futures too, as in CompletableFuture.supplyAsync, so no request is left waiting.
+            fail(batch, e);
+        }
+    }
+
+    private static <T, R> void fail(
+        final List<Request<T, R>> batch,
+        final Throwable e
+    ) {
+        for (var request : batch) request.mResult.completeExceptionally(e);
+    }
+
+    /** Release the capacity of a completed batch, and take the next batch for its slot.
+     * @return The next batch, which the caller must run or dispatch, or null when the slot was released.
+     */
+    private List<Request<T, R>> finish(
+        final List<Request<T, R>> batch
+    ) {
+        int elements = 0;
+        for (var request : batch) elements += request.mInputs.size();
+        final List<Request<T, R>> next;
+        mLock.lock();
+        try {
+            --mRunningBatches;
+            next = takeBatch();
+        } finally {
+            mLock.unlock();
+        }
+        mCapacity.release(elements);
+        return next;
+    }
+
+}
@@ -1,15 +1,26 @@
 package calendartools.map;
 
 import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import calendartools.data.EpochDays;
+
 /** Mapping java.util.Date Objects.
  */
 public class DateFormatMap {
@@ -38,30 +49,88 @@ public class DateFormatMap {
         return Date.from(calendar.toInstant());
     }
     
-    /** The Recommended DateFormat for Strings.
+    /** Create a non-lenient SimpleDateFormat, in the default locale and time zone.
+     *  - The shared DateFormats of this module are created this way, so invalid dates such as 2021-02-29 fail to parse.
+     * @param pattern The SimpleDateFormat pattern.
+     * @return A new SimpleDateFormat.
+     * @throws IllegalArgumentException When the pattern is null or invalid.
+     */
+    public static SimpleDateFormat strictFormat(
+        final String pattern
+    ) throws IllegalArgumentException {
+        if (pattern == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        final SimpleDateFormat result = new SimpleDateFormat(pattern);
+        result.setLenient(false);
+        return result;
+    }
+    
+    /** The pattern of the Recommended DateFormat, which has a fixed layout when every field has the minimum digits.
+     */
+    static final String SIMPLE_DATE_PATTERN = "yyyy-MM-dd";
+    
+    /** Holds the shared DateFormats, which are created on first use.
+     *  - Building a SimpleDateFormat loads locale data and a Calendar, so it is deferred until a String is parsed.
+     */
+    private static final class Formats {
+        
+        static final SimpleDateFormat SIMPLE_DATE_FORMAT = strictFormat(SIMPLE_DATE_PATTERN);
+        
+        static final SimpleDateFormat SIMPLE_REVERSED_DATE_FORMAT = strictFormat("dd-MM-yyyy");
+        
+        static final List<DateFormat> DEFAULT_DATE_FORMATS = List.of(SIMPLE_DATE_FORMAT, SIMPLE_REVERSED_DATE_FORMAT);
+        
+        /** The pooled copies of the default map are cloned from new formats, so the shared formats are never read by another thread.
+         */
+        static final DateFormatMap DEFAULT_TEMPLATE = new DateFormatMap(
+            List.of(strictFormat(SIMPLE_DATE_PATTERN), strictFormat("dd-MM-yyyy"))
+        );
+        
+    }
+    
+    /** The unmodifiable formats of the default map, which load the shared DateFormats when a format is first read.
+     *  - The size is known without them, so holding the default map without parsing a String never creates them.
      */
-    public static SimpleDateFormat SIMPLE_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+    private static final class DefaultFormats extends AbstractList<DateFormat> implements RandomAccess {
+        
+        @Override
+        public DateFormat get(
+            final int index
+        ) {
+            return Formats.DEFAULT_DATE_FORMATS.get(index);
+        }
+        
+        @Override
+        public int size() {
+            return 2;
+        }
+        
+    }
+    
+    private static final DateFormatMap DEFAULT_DATE_MAP = new DateFormatMap(new DefaultFormats());
     
-    /** The reversed Simple DateFormat for Strings.
+    /** The Recommended DateFormat for Strings (YYYY-MM-DD).
+     * @return The shared SimpleDateFormat, created on first use.
      */
-    public static SimpleDateFormat SIMPLE_REVERSED_DATE_FORMAT = new SimpleDateFormat("dd-MM-yyyy");
+    public static SimpleDateFormat getSimpleDateFormat() {
+        return Formats.SIMPLE_DATE_FORMAT;
+    }
     
-    static {
-        SIMPLE_DATE_FORMAT.setLenient(false);
-        SIMPLE_REVERSED_DATE_FORMAT.setLenient(false);
+    /** The reversed Simple DateFormat for Strings (DD-MM-YYYY).
+     * @return The shared SimpleDateFormat, created on first use.
+     */
+    public static SimpleDateFormat getSimpleReversedDateFormat() {
+        return Formats.SIMPLE_REVERSED_DATE_FORMAT;
     }
     
-    private static DateFormatMap DEFAULT_DATE_MAP = null;
+    /** The operation name of the bulk map methods, as reported to the MetricsRecorder.
+     */
+    public static final String BULK_OPERATION = "DateFormatMap.map";
     
     /** The Default Map checks SimpleDateFormat (YYYY-MM-DD) then, it's Reverse (DD-MM-YYYY).
-     * @return The new DateMap object.
+     * @return The shared DateMap object. Its DateFormats are created when it first parses a String.
      */
     public static DateFormatMap getDefaultMap() {
-        if (DEFAULT_DATE_MAP == null) {
-            DEFAULT_DATE_MAP = new DateFormatMap(
-                List.of(SIMPLE_DATE_FORMAT, SIMPLE_REVERSED_DATE_FORMAT)
-            );
-        }
         return DEFAULT_DATE_MAP;
     }
     
@@ -69,6 +138,18 @@ public class DateFormatMap {
      */
     public final List<DateFormat> mDateFormats;
     
+    /** Guards the template, which is cloned by one thread at a time.
+     */
+    private final ReentrantLock mTemplateLock = new ReentrantLock();
+    
+    /** The copy of this Map that the pooled parsers are cloned from, created on first use by mapConcurrently.
+     */
+    private DateFormatMap mTemplate;
+    
+    /** The pooled parsers that are not in use.
+     */
+    private final Queue<DateFormatMap> mIdleParsers = new ConcurrentLinkedQueue<>();
+    
     /** Constructor for a single DateFormat.
      * @param dateFormat The object that is used to parse strings containing Date information.
      */
@@ -87,6 +168,18 @@ public class DateFormatMap {
         mDateFormats = dateFormatList;
     }
     
+    /** Create a Map with a clone of each DateFormat, that shares no parser state with this Map.
+     *  - DateFormats are not thread-safe, so each thread or batch should parse with its own copy.
+     * @return A new DateFormatMap with the same formats, in the same order.
+     */
+    public DateFormatMap copy() {
+        final List<DateFormat> formats = new ArrayList<>(mDateFormats.size());
+        for (var x : mDateFormats) {
+            formats.add((DateFormat) x.clone());
+        }
+        return new DateFormatMap(formats);
+    }
+    
     /** Try to parse the Date string using the Simple DateFormat first, and then Reversed DateFormat.
      * @param dateString The Date String to be parsed.
      * @return The Date object, or null if the method failed to parse.
@@ -95,15 +188,112 @@ public class DateFormatMap {
         final String dateString
     ) throws IllegalArgumentException {
         if (dateString == null) throw new IllegalArgumentException();
+        final MetricsRecorder metrics = Metrics.get();
         try {
-            return SIMPLE_DATE_FORMAT.parse(dateString);
-        } catch (ParseException ignored) {}
+            final Date result = parse(Formats.SIMPLE_DATE_FORMAT, dateString);
+            metrics.parseAttempt(0, true);
+            return result;
+        } catch (ParseException ignored) {
+            metrics.parseAttempt(0, false);
+        }
         try {
-            return SIMPLE_REVERSED_DATE_FORMAT.parse(dateString);
-        } catch (ParseException ignored) {}
+            final Date result = parse(Formats.SIMPLE_REVERSED_DATE_FORMAT, dateString);
+            metrics.parseAttempt(1, true);
+            return result;
+        } catch (ParseException ignored) {
+            metrics.parseAttempt(1, false);
+        }
+        metrics.parseFailure();
         return null;
     }
     
+    /** Parse a Date String with a DateFormat, reading the fixed yyyy-MM-dd layout without the DateFormat when possible.
+     *  - The fixed layout is exactly 10 ASCII characters: 4 digits, a dash, 2 digits, a dash, and 2 digits.
+     *    A non-lenient SimpleDateFormat with the yyyy-MM-dd pattern reads these fields as plain decimal numbers,
+     *    so the fields are set on its own Calendar directly, which resolves and validates them as the DateFormat would.
+     *  - Any other String or DateFormat is parsed by the DateFormat.
+     * @param format The DateFormat, which must not be shared with another thread.
+     * @param dateString The Date String.
+     * @return The parsed Date.
+     * @throws ParseException When the String is not a valid Date in the DateFormat.
+     */
+    static Date parse(
+        final DateFormat format,
+        final String dateString
+    ) throws ParseException {
+        if (!isSimpleLayout(dateString) || !isSimpleDateFormat(format))
+            return format.parse(dateString);
+        final Calendar calendar = format.getCalendar();
+        calendar.clear();
+        calendar.set(
+            digits(dateString, 0, 4),
+            digits(dateString, 5, 7) - 1,
+            digits(dateString, 8, 10)
+        );
+        try {
+            return calendar.getTime();
+        } catch (IllegalArgumentException e) {
+            throw new ParseException("Unparseable date: \"" + dateString + "\"", 0);
+        }
+    }
+    
+    /** Determine whether a String has the fixed yyyy-MM-dd layout.
+     * @param dateString The Date String.
+     * @return True if the String has 10 characters, with ASCII digits around dashes at index 4 and 7.
+     */
+    private static boolean isSimpleLayout(
+        final String dateString
+    ) {
+        if (dateString.length() != 10 || dateString.charAt(4) != '-' || dateString.charAt(7) != '-')
+            return false;
+        for (int i = 0; i < 10; ++i) {
+            final char c = dateString.charAt(i);
+            if ((c < '0' || c > '9') && i != 4 && i != 7)
+                return false;
+        }
+        return true;
+    }
+    
+    /** Determine whether a DateFormat reads the fixed layout as plain decimal fields in the Gregorian Calendar.
+     *  - The DateFormat must be non-lenient, and its NumberFormat must not have a multiplier, prefix or suffix.
+     * @param format The DateFormat.
+     * @return True if the fields of the fixed layout can be set on the Calendar of the DateFormat directly.
+     */
+    private static boolean isSimpleDateFormat(
+        final DateFormat format
+    ) {
+        if (!(format instanceof SimpleDateFormat) ||
+            !SIMPLE_DATE_PATTERN.equals(((SimpleDateFormat) format).toPattern()) ||
+            format.isLenient() ||
+            format.getCalendar().getClass() != GregorianCalendar.class
+        ) return false;
+        final NumberFormat numberFormat = format.getNumberFormat();
+        if (numberFormat.getClass() != DecimalFormat.class)
+            return false;
+        final DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+        return decimalFormat.getMultiplier() == 1 &&
+            decimalFormat.getPositivePrefix().isEmpty() &&
+            decimalFormat.getPositiveSuffix().isEmpty();
+    }
+    
+    /** Read a run of ASCII digits as a decimal number.
+     * @param text The text, with only ASCII digits in the range.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @return The decimal value of the digits.
+     */
+    private static int digits(
+        final String text,
+        final int from,
+        final int to
+    ) {
+        int result = 0;
+        for (int i = from; i < to; ++i) {
+            result = result * 10 + (text.charAt(i) - '0');
+        }
+        return result;
+    }
+    
     /** Map a DateFormat-compatible String into a Calendar.
      * @param dateString The String containing the Date.
      * @return A new Calendar Instance created from the parsed DateString.
@@ -112,17 +302,55 @@ public class DateFormatMap {
         final String dateString
     ) throws IllegalArgumentException {
         if (dateString == null) throw new IllegalArgumentException();
+        final MetricsRecorder metrics = Metrics.get();
         Date result = null;
+        int index = 0;
         for (var x : mDateFormats) {
             try {
-                result = x.parse(dateString);
+                result = parse(x, dateString);
+                metrics.parseAttempt(index, true);
                 break;
-            } catch (ParseException ignored) {}
+            } catch (ParseException ignored) {
+                metrics.parseAttempt(index++, false);
+            }
+        }
+        if (result == null) {
+            metrics.parseFailure();
+            return null;
         }
-        if (result == null) return null;
         return convert(result);
     }
     
+    /** Map a DateFormat-compatible String into a Calendar, on any thread.
+     *  - Each call borrows an idle copy of this Map from a pool, or clones a new one, so no DateFormat is used by two threads at once.
+     *    At most one copy is made for each thread that parses at the same time.
+     *  - The formats of this Map are cloned once into a template, when first needed, and are never used to parse by this method.
+     * @param dateString The String containing the Date.
+     * @return A new Calendar Instance created from the parsed DateString, or null if it failed to parse.
+     */
+    public Calendar mapConcurrently(
+        final String dateString
+    ) throws IllegalArgumentException {
+        if (dateString == null) throw new IllegalArgumentException();
+        DateFormatMap parser = mIdleParsers.poll();
+        if (parser == null) {
+            // Cloning reads the state of each DateFormat, so the template is copied by one thread at a time.
+            mTemplateLock.lock();
+            try {
+                if (mTemplate == null)
+                    mTemplate = this == DEFAULT_DATE_MAP ? Formats.DEFAULT_TEMPLATE : copy();
+                parser = mTemplate.copy();
+            } finally {
+                mTemplateLock.unlock();
+            }
+        }
+        try {
+            return parser.map(dateString);
+        } finally {
+            mIdleParsers.offer(parser);
+        }
+    }
+    
     /** Map a List of DateFormat-compatible Strings into a List of Calendar objects.
      * @param inputDateStrings The Strings containing the Date information.
      * @return A List of Calendars, which may include null values if the String could not be parsed.
@@ -131,9 +359,16 @@ public class DateFormatMap {
         final List<String> inputDateStrings
     ) {
         if (inputDateStrings == null) return Collections.emptyList();
-        return inputDateStrings.stream()
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        final ParseBatchEvent event = new ParseBatchEvent();
+        event.begin();
+        final List<Calendar> result = inputDateStrings.stream()
             .map(this::map)
             .collect(Collectors.toList());
+        event.complete(result, mDateFormats.size());
+        Metrics.finish(metrics, BULK_OPERATION, result.size(), startNanos);
+        return result;
     }
     
     /** Map an Array of DateFormat-compatible Strings into a List of Calendar objects.
@@ -144,9 +379,55 @@ public class DateFormatMap {
         final String[] inputDateStrings
     ) {
         if (inputDateStrings == null) return Collections.emptyList();
-        return Arrays.stream(inputDateStrings)
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        final ParseBatchEvent event = new ParseBatchEvent();
+        event.begin();
+        final List<Calendar> result = Arrays.stream(inputDateStrings)
             .map(this::map)
             .collect(Collectors.toList());
+        event.complete(result, mDateFormats.size());
+        Metrics.finish(metrics, BULK_OPERATION, result.size(), startNanos);
+        return result;
+    }
+    
+    /** Map an Array of DateFormat-compatible Strings into Epoch Days, without keeping a List of Calendars.
+     *  - Each date is the local date of the parsed instant, as in EpochDays.fromCalendar.
+     * @param inputDateStrings The Strings containing the Date information.
+     * @param output The Array that receives the Epoch Day of each String, or EpochDays.INVALID if it is null, fails to parse, or is out of range.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public void mapEpochDays(
+        final String[] inputDateStrings,
+        final int[] output
+    ) throws IllegalArgumentException {
+        if (inputDateStrings == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        if (inputDateStrings.length != output.length)
+            throw new IllegalArgumentException("Array Lengths Must Match");
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        final ParseBatchEvent event = new ParseBatchEvent();
+        event.begin();
+        for (int i = 0; i < output.length; ++i) {
+            final Calendar calendar = inputDateStrings[i] == null ? null : map(inputDateStrings[i]);
+            output[i] = calendar == null ? EpochDays.INVALID : toEpochDay(calendar);
+        }
+        event.complete(output, mDateFormats.size());
+        Metrics.finish(metrics, BULK_OPERATION, output.length, startNanos);
+    }
+    
+    /** Determine the Epoch Day of a parsed Calendar, or EpochDays.INVALID if it is out of range.
+     *  - Numeric years accept any number of digits, so a parsed date may be beyond the Epoch Day range.
+     */
+    private static int toEpochDay(
+        final Calendar calendar
+    ) {
+        try {
+            return EpochDays.fromCalendar(calendar);
+        } catch (IllegalArgumentException ignored) {
+            return EpochDays.INVALID;
+        }
     }
     
 }
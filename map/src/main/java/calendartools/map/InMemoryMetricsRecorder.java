@@ -0,0 +1,180 @@
+package calendartools.map;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A MetricsRecorder that keeps counters and Histograms in memory, for export by the application.
+ *  - Counters are LongAdders, so recording from many threads does not contend on a single field.
+ *  - Bulk calls are grouped by operation name, each with a Histogram of nanoseconds and of elements per call.
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+    /** The number of DateFormat indices that are counted separately.
+     *  Attempts at higher indices are counted in the last index.
+     */
+    public static final int MAX_FORMATS = 16;
+
+    /** The statistics of one bulk operation.
+     */
+    public static final class Operation {
+
+        /** The elapsed nanoseconds of each call.
+         */
+        public final LogLinearHistogram mNanos = new LogLinearHistogram();
+
+        /** The number of elements processed by each call.
+         */
+        public final LogLinearHistogram mElements = new LogLinearHistogram();
+
+        Operation() {}
+
+        /** The number of recorded calls.
+         * @return The count of calls.
+         */
+        public long getCalls() {
+            return mNanos.getCount();
+        }
+
+    }
+
+    private final LongAdder[] mAttempts = new LongAdder[MAX_FORMATS];
+
+    private final LongAdder[] mSuccesses = new LongAdder[MAX_FORMATS];
+
+    private final LongAdder mFailures = new LongAdder();
+
+    private final LongAdder mCacheHits = new LongAdder();
+
+    private final LongAdder mCacheMisses = new LongAdder();
+
+    private final ConcurrentHashMap<String, Operation> mOperations = new ConcurrentHashMap<>();
+
+    /** Create a Recorder with every counter at zero.
+     */
+    public InMemoryMetricsRecorder() {
+        for (int i = 0; i < MAX_FORMATS; ++i) {
+            mAttempts[i] = new LongAdder();
+            mSuccesses[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void parseAttempt(
+        final int formatIndex,
+        final boolean success
+    ) {
+        final int index = Math.min(Math.max(formatIndex, 0), MAX_FORMATS - 1);
+        mAttempts[index].increment();
+        if (success)
+            mSuccesses[index].increment();
+    }
+
+    @Override
+    public void parseFailure() {
+        mFailures.increment();
+    }
+
+    @Override
+    public void cacheLookup(
+        final boolean hit
+    ) {
+        (hit ? mCacheHits : mCacheMisses).increment();
+    }
+
+    @Override
+    public void bulkCall(
+        final String operation,
+        final int elements,
+        final long nanos
+    ) {
+        final Operation stats = mOperations.computeIfAbsent(operation, name -> new Operation());
+        stats.mNanos.record(nanos);
+        stats.mElements.record(elements);
+    }
+
+    /** The number of parse attempts with a DateFormat.
+     * @param formatIndex The index of the DateFormat, from 0 to MAX_FORMATS - 1.
+     * @return The count of attempts, successful or not.
+     * @throws IllegalArgumentException When the index is out of range.
+     */
+    public long getParseAttempts(
+        final int formatIndex
+    ) throws IllegalArgumentException {
+        return mAttempts[validateIndex(formatIndex)].sum();
+    }
+
+    /** The number of Strings parsed by a DateFormat, which shows which format wins.
+     * @param formatIndex The index of the DateFormat, from 0 to MAX_FORMATS - 1.
+     * @return The count of successful attempts.
+     * @throws IllegalArgumentException When the index is out of range.
+     */
+    public long getParseSuccesses(
+        final int formatIndex
+    ) throws IllegalArgumentException {
+        return mSuccesses[validateIndex(formatIndex)].sum();
+    }
+
+    /** The number of Strings that no DateFormat could parse.
+     * @return The count of failures.
+     */
+    public long getParseFailures() {
+        return mFailures.sum();
+    }
+
+    /** The number of cache lookups that found a shared instance.
+     * @return The count of hits.
+     */
+    public long getCacheHits() {
+        return mCacheHits.sum();
+    }
+
+    /** The number of cache lookups that built a new instance.
+     * @return The count of misses.
+     */
+    public long getCacheMisses() {
+        return mCacheMisses.sum();
+    }
+
+    /** Obtain the statistics of a bulk operation.
+     * @param operation The name of the operation, in the form Class.method.
+     * @return The Operation, or null if no call has been recorded.
+     */
+    public Operation getOperation(
+        final String operation
+    ) {
+        return operation == null ? null : mOperations.get(operation);
+    }
+
+    /** Obtain the statistics of every recorded bulk operation.
+     * @return An unmodifiable Map, sorted by operation name.
+     */
+    public Map<String, Operation> getOperations() {
+        return Collections.unmodifiableMap(new TreeMap<>(mOperations));
+    }
+
+    /** Set every counter to zero, and forget every operation.
+     *  - Not atomic with concurrent recording.
+     */
+    public void reset() {
+        for (int i = 0; i < MAX_FORMATS; ++i) {
+            mAttempts[i].reset();
+            mSuccesses[i].reset();
+        }
+        mFailures.reset();
+        mCacheHits.reset();
+        mCacheMisses.reset();
+        mOperations.clear();
+    }
+
+    private static int validateIndex(
+        final int formatIndex
+    ) throws IllegalArgumentException {
+        if (formatIndex < 0 || formatIndex >= MAX_FORMATS)
+            throw new IllegalArgumentException("Invalid Format Index: " + formatIndex);
+        return formatIndex;
+    }
+
+}
@@ -0,0 +1,307 @@
+package calendartools.map;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import calendartools.data.EpochDays;
+
+/** Mapping Date Strings into java.time LocalDate objects.
+ *  - The java.time counterpart of DateFormatMap. Formatters are immutable, so one instance may be shared by all threads.
+ *  - Like a non-lenient SimpleDateFormat, numeric fields accept any number of digits, and text after the date is ignored.
+ *  - For ASCII digits with a single dash between fields, dates from 1583 onward parse to the same day as DateFormatMap.
+ *    Earlier dates use the proleptic ISO calendar, where GregorianCalendar uses the Julian calendar, and only this class accepts year 0.
+ *  - Unlike SimpleDateFormat, whitespace before a number, and digits other than ASCII 0 to 9, fail to parse here.
+ *    Trim and normalize such Strings first, or parse them with DateFormatMap.
+ */
+public class LocalDateFormatMap {
+
+    /** Create a Formatter from a pattern, with the STRICT resolver, so invalid dates fail instead of rolling over.
+     * @param pattern The DateTimeFormatter pattern.
+     * @return The Formatter.
+     * @throws IllegalArgumentException When the pattern is null or invalid.
+     */
+    public static DateTimeFormatter ofStrictPattern(
+        final String pattern
+    ) throws IllegalArgumentException {
+        if (pattern == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        return DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    /** Create a STRICT Formatter for unsigned numeric fields separated by dashes, like a non-lenient SimpleDateFormat.
+     * @param fields The fields, in the order they appear.
+     * @return The Formatter.
+     */
+    static DateTimeFormatter ofDashedFields(
+        final ChronoField... fields
+    ) {
+        final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        for (int i = 0; i < fields.length; ++i) {
+            if (i > 0) builder.appendLiteral('-');
+            builder.appendValue(fields[i], 1, 19, SignStyle.NOT_NEGATIVE);
+        }
+        return builder.toFormatter().withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    /** The Recommended Formatter for Strings (YYYY-MM-DD). The counterpart of DateFormatMap.getSimpleDateFormat().
+     */
+    public static final DateTimeFormatter SIMPLE_DATE_FORMATTER = ofDashedFields(
+        ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH
+    );
+
+    /** The reversed Formatter for Strings (DD-MM-YYYY). The counterpart of DateFormatMap.getSimpleReversedDateFormat().
+     */
+    public static final DateTimeFormatter SIMPLE_REVERSED_DATE_FORMATTER = ofDashedFields(
+        ChronoField.DAY_OF_MONTH, ChronoField.MONTH_OF_YEAR, ChronoField.YEAR
+    );
+
+    /** A Formatter for the Month and DayOfMonth (MM-DD), where the Year is known ahead of time.
+     */
+    public static final DateTimeFormatter MONTH_DAY_FORMATTER = ofDashedFields(
+        ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH
+    );
+
+    /** The operation name of the bulk parse methods, as reported to the MetricsRecorder.
+     */
+    public static final String BULK_OPERATION = "LocalDateFormatMap.parse";
+
+    /** The operation name of the parallel bulk parse method, as reported to the MetricsRecorder.
+     */
+    public static final String PARALLEL_BULK_OPERATION = "LocalDateFormatMap.parallelParse";
+
+    private static final LocalDateFormatMap DEFAULT_MAP = new LocalDateFormatMap(
+        List.of(SIMPLE_DATE_FORMATTER, SIMPLE_REVERSED_DATE_FORMATTER)
+    );
+
+    /** The Default Map checks the Simple Formatter (YYYY-MM-DD) then, it's Reverse (DD-MM-YYYY).
+     * @return The shared LocalDateFormatMap.
+     */
+    public static LocalDateFormatMap getDefaultMap() {
+        return DEFAULT_MAP;
+    }
+
+    /** Convert a Calendar into the LocalDate of its instant, in the time zone of the Calendar.
+     * @param calendar The Calendar object to derive information from.
+     * @return The LocalDate. Before 1583, this is the proleptic ISO date, not the Julian date fields of the Calendar.
+     * @throws IllegalArgumentException When the Calendar is null.
+     */
+    public static LocalDate toLocalDate(
+        final Calendar calendar
+    ) throws IllegalArgumentException {
+        if (calendar == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        return LocalDate.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+    }
+
+    /** Convert a LocalDate into a Calendar at the start of the day, in the default time zone.
+     *  - From 1583 onward, this is the same Calendar that DateFormatMap produces for the date.
+     * @param date The LocalDate to convert.
+     * @return A new Calendar object.
+     * @throws IllegalArgumentException When the date is null.
+     */
+    public static Calendar toCalendar(
+        final LocalDate date
+    ) throws IllegalArgumentException {
+        if (date == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        return new Calendar.Builder()
+            .setInstant(date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli())
+            .build();
+    }
+
+    /** Parse a Month-Day String (MM-DD) into a LocalDate of the given year.
+     *  - February 29th is only valid in leap years.
+     * @param year The Year to add to the Month-Day pair.
+     * @param dateString The String containing the Month-Day.
+     * @return The LocalDate, or null if the String failed to parse or the date does not exist in the year.
+     * @throws IllegalArgumentException When the String is null.
+     */
+    public static LocalDate parseMonthDay(
+        final int year,
+        final String dateString
+    ) throws IllegalArgumentException {
+        if (dateString == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        final MetricsRecorder metrics = Metrics.get();
+        try {
+            final TemporalAccessor parsed = MONTH_DAY_FORMATTER.parse(dateString, new ParsePosition(0));
+            final LocalDate result = LocalDate.of(
+                year, parsed.get(ChronoField.MONTH_OF_YEAR), parsed.get(ChronoField.DAY_OF_MONTH)
+            );
+            metrics.parseAttempt(0, true);
+            return result;
+        } catch (DateTimeException ignored) {
+            metrics.parseAttempt(0, false);
+        }
+        metrics.parseFailure();
+        return null;
+    }
+
+    /** The Formatters that will be tried on each Date String, in order.
+     */
+    public final List<DateTimeFormatter> mFormatters;
+
+    /** Constructor for a single Formatter.
+     * @param formatter The Formatter that is used to parse Date Strings.
+     * @throws IllegalArgumentException When the Formatter is null.
+     */
+    public LocalDateFormatMap(
+        final DateTimeFormatter formatter
+    ) throws IllegalArgumentException {
+        this(Collections.singletonList(formatter));
+    }
+
+    /** Constructor for a list of Formatters.
+     * @param formatters The Formatters to try on each Date String in the given order. Copied.
+     * @throws IllegalArgumentException When the List or any Formatter is null.
+     */
+    public LocalDateFormatMap(
+        final List<DateTimeFormatter> formatters
+    ) throws IllegalArgumentException {
+        if (formatters == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        for (DateTimeFormatter formatter : formatters) {
+            if (formatter == null)
+                throw new IllegalArgumentException("Formatter Must Not Be Null");
+        }
+        mFormatters = List.copyOf(formatters);
+    }
+
+    /** Parse a Date String into a LocalDate, with the first Formatter that accepts it.
+     * @param dateString The String containing the Date.
+     * @return The LocalDate, or null if no Formatter could parse it.
+     * @throws IllegalArgumentException When the String is null.
+     */
+    public LocalDate parse(
+        final String dateString
+    ) throws IllegalArgumentException {
+        if (dateString == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        final MetricsRecorder metrics = Metrics.get();
+        for (int i = 0; i < mFormatters.size(); ++i) {
+            try {
+                final LocalDate result = LocalDate.from(
+                    mFormatters.get(i).parse(dateString, new ParsePosition(0))
+                );
+                metrics.parseAttempt(i, true);
+                return result;
+            } catch (DateTimeException ignored) {
+                metrics.parseAttempt(i, false);
+            }
+        }
+        metrics.parseFailure();
+        return null;
+    }
+
+    /** Parse a List of Date Strings into a List of LocalDates.
+     * @param dateStrings The Strings containing the Dates.
+     * @return A List of LocalDates, which may include null values for Strings that failed to parse.
+     */
+    public List<LocalDate> parse(
+        final List<String> dateStrings
+    ) {
+        if (dateStrings == null) return Collections.emptyList();
+        return parseAll(dateStrings.stream(), BULK_OPERATION);
+    }
+
+    /** Parse an Array of Date Strings into a List of LocalDates.
+     * @param dateStrings The Strings containing the Dates.
+     * @return A List of LocalDates, which may include null values for Strings that failed to parse.
+     */
+    public List<LocalDate> parse(
+        final String[] dateStrings
+    ) {
+        if (dateStrings == null) return Collections.emptyList();
+        return parseAll(Arrays.stream(dateStrings), BULK_OPERATION);
+    }
+
+    /** Parse an Array of Date Strings into a List of LocalDates, splitting the Array across the common pool.
+     *  - Safe because Formatters are immutable, unlike the DateFormats of DateFormatMap.
+     * @param dateStrings The Strings containing the Dates.
+     * @return A List of LocalDates in the order of the Array, which may include null values for Strings that failed to parse.
+     */
+    public List<LocalDate> parallelParse(
+        final String[] dateStrings
+    ) {
+        if (dateStrings == null) return Collections.emptyList();
+        return parseAll(Arrays.stream(dateStrings).parallel(), PARALLEL_BULK_OPERATION);
+    }
+
+    /** Parse an Array of Date Strings into Epoch Days, without keeping a List of LocalDates.
+     * @param dateStrings The Strings containing the Dates.
+     * @param output The Array that receives the Epoch Day of each String, or EpochDays.INVALID if it is null, fails to parse, or is out of range.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public void parseEpochDays(
+        final String[] dateStrings,
+        final int[] output
+    ) throws IllegalArgumentException {
+        parseEpochDays(dateStrings, output, false);
+    }
+
+    /** Parse an Array of Date Strings into Epoch Days, splitting the Array across the common pool.
+     * @param dateStrings The Strings containing the Dates.
+     * @param output The Array that receives the Epoch Day of each String, or EpochDays.INVALID if it is null, fails to parse, or is out of range.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public void parallelParseEpochDays(
+        final String[] dateStrings,
+        final int[] output
+    ) throws IllegalArgumentException {
+        parseEpochDays(dateStrings, output, true);
+    }
+
+    private void parseEpochDays(
+        final String[] dateStrings,
+        final int[] output,
+        final boolean parallel
+    ) throws IllegalArgumentException {
+        if (dateStrings == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        if (dateStrings.length != output.length)
+            throw new IllegalArgumentException("Array Lengths Must Match");
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        final ParseBatchEvent event = new ParseBatchEvent();
+        event.begin();
+        final IntStream indices = IntStream.range(0, output.length);
+        (parallel ? indices.parallel() : indices).forEach(i -> {
+            final LocalDate date = dateStrings[i] == null ? null : parse(dateStrings[i]);
+            output[i] = date == null ? EpochDays.INVALID : EpochDays.orInvalid(date.toEpochDay());
+        });
+        event.complete(output, mFormatters.size());
+        Metrics.finish(metrics, parallel ? PARALLEL_BULK_OPERATION : BULK_OPERATION, output.length, startNanos);
+    }
+
+    private List<LocalDate> parseAll(
+        final Stream<String> dateStrings,
+        final String operation
+    ) {
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        final ParseBatchEvent event = new ParseBatchEvent();
+        event.begin();
+        final List<LocalDate> result = dateStrings
+            .map(this::parse)
+            .collect(Collectors.toList());
+        event.complete(result, mFormatters.size());
+        Metrics.finish(metrics, operation, result.size(), startNanos);
+        return result;
+    }
+
+}
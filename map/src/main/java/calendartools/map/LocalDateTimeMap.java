@@ -0,0 +1,177 @@
+package calendartools.map;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/** A java.time map that takes Milliseconds since epoch as input.
+ *  - The java.time counterpart of MillisecondMap. Each value is converted to a LocalDateTime with the ZoneRules of a time zone.
+ *  - Immutable, so one instance may be shared by all threads, as long as the Function is thread-safe.
+ */
+public class LocalDateTimeMap<T> {
+
+	/** The operation name of the bulk map methods, as reported to the MetricsRecorder.
+	 */
+	public static final String BULK_OPERATION = "LocalDateTimeMap.map";
+
+	/** The operation name of the parallel bulk map method, as reported to the MetricsRecorder.
+	 */
+	public static final String PARALLEL_BULK_OPERATION = "LocalDateTimeMap.parallelMap";
+
+	/** The Mapping Function.
+	 */
+	final Function<LocalDateTime, T> mMap;
+
+	/** The rules of the time zone, which determine the offset at each instant.
+	 */
+	final ZoneRules mRules;
+
+	/** The offset of a fixed time zone, which skips the rules lookup. Null when the offset varies.
+	 */
+	final ZoneOffset mFixedOffset;
+
+	/** Create a new Map in the default time zone, like the Calendar of MillisecondMap.
+	 * @param mapping The Function that maps a LocalDateTime to another Type.
+	 * @throws IllegalArgumentException When the Function is null.
+	 */
+	public LocalDateTimeMap(
+		final Function<LocalDateTime, T> mapping
+	) throws IllegalArgumentException {
+		this(mapping, ZoneId.systemDefault());
+	}
+
+	/** Create a new Map in the given time zone.
+	 * @param mapping The Function that maps a LocalDateTime to another Type.
+	 * @param zone The time zone of the LocalDateTime values.
+	 * @throws IllegalArgumentException When either argument is null.
+	 */
+	public LocalDateTimeMap(
+		final Function<LocalDateTime, T> mapping,
+		final ZoneId zone
+	) throws IllegalArgumentException {
+		if (mapping == null || zone == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		mMap = mapping;
+		mRules = zone.getRules();
+		mFixedOffset = mRules.isFixedOffset() ? mRules.getOffset(Instant.EPOCH) : null;
+	}
+
+	/** Convert a Millisecond Time value into the local date and time of the time zone.
+	 * @param millisecondValue The Time in Milliseconds since epoch.
+	 * @return The LocalDateTime.
+	 */
+	public LocalDateTime toLocalDateTime(
+		final long millisecondValue
+	) {
+		final long seconds = Math.floorDiv(millisecondValue, 1000L);
+		final int nanos = (int) Math.floorMod(millisecondValue, 1000L) * 1_000_000;
+		final ZoneOffset offset = mFixedOffset != null
+			? mFixedOffset : mRules.getOffset(Instant.ofEpochSecond(seconds));
+		return LocalDateTime.ofEpochSecond(seconds, nanos, offset);
+	}
+
+	/** Map an Array of Millisecond Time values.
+	 * @param millisecondValues The Array of Time values in milliseconds.
+	 * @return An ArrayList of Output Data.
+	 */
+	public ArrayList<T> map(
+		final long[] millisecondValues
+	) {
+		return map(millisecondValues, 0, millisecondValues.length);
+	}
+
+	/** Map an Array of Millisecond Time values.
+	 *  - Like MillisecondMap, a negative start index counts back from the end of the Array.
+	 * @param millisecondValues The Array of Time values in milliseconds.
+	 * @param startIndex The first index in the array that will be mapped.
+	 * @param count The number of elements from the array that will be mapped.
+	 * @return An ArrayList of Output Data.
+	 */
+	public ArrayList<T> map(
+		final long[] millisecondValues,
+		int startIndex,
+		final int count
+	) {
+		final int lastIndex;
+		// Flip If Start Index is negative.
+		if (startIndex < 0) {
+			startIndex = millisecondValues.length + startIndex;
+			lastIndex = Integer.min(
+				startIndex + count - 1,
+				millisecondValues.length - 1
+			);
+		} else {
+			lastIndex = startIndex + count - 1;
+		}
+		final MetricsRecorder metrics = Metrics.get();
+		final long startNanos = Metrics.start(metrics);
+		final MillisecondMapEvent event = new MillisecondMapEvent();
+		event.begin();
+		var result = new ArrayList<T>(Math.max(0, lastIndex - startIndex + 1));
+		for (int i = startIndex; i <= lastIndex; ++i) {
+			result.add(mMap.apply(toLocalDateTime(millisecondValues[i])));
+		}
+		event.complete(result.size());
+		Metrics.finish(metrics, BULK_OPERATION, result.size(), startNanos);
+		return result;
+	}
+
+	/** Map a Collection of Millisecond Time values.
+	 * @param millisecondValues The Collection of Time values in milliseconds.
+	 * @return An ArrayList of Output Data.
+	 */
+	public ArrayList<T> map(
+		final Collection<Long> millisecondValues
+	) {
+		final MetricsRecorder metrics = Metrics.get();
+		final long startNanos = Metrics.start(metrics);
+		final MillisecondMapEvent event = new MillisecondMapEvent();
+		event.begin();
+		var result = new ArrayList<T>(millisecondValues.size());
+		for (long l : millisecondValues) {
+			result.add(mMap.apply(toLocalDateTime(l)));
+		}
+		event.complete(result.size());
+		Metrics.finish(metrics, BULK_OPERATION, result.size(), startNanos);
+		return result;
+	}
+
+	/** Map an Array of Millisecond Time values, splitting the Array across the common pool.
+	 *  - Unlike MillisecondMap, no mutable Calendar is shared, so the Function is the only part that must be thread-safe.
+	 * @param millisecondValues The Array of Time values in milliseconds.
+	 * @return A List of Output Data, in the order of the Array.
+	 */
+	public List<T> parallelMap(
+		final long[] millisecondValues
+	) {
+		final MetricsRecorder metrics = Metrics.get();
+		final long startNanos = Metrics.start(metrics);
+		final MillisecondMapEvent event = new MillisecondMapEvent();
+		event.begin();
+		final List<T> result = IntStream.range(0, millisecondValues.length).parallel()
+			.mapToObj(i -> mMap.apply(toLocalDateTime(millisecondValues[i])))
+			.collect(Collectors.toList());
+		event.complete(result.size());
+		Metrics.finish(metrics, PARALLEL_BULK_OPERATION, result.size(), startNanos);
+		return result;
+	}
+
+	/** Map a single Millisecond Time value.
+	 * @param millisecondValue The Time in Milliseconds.
+	 * @return The Map's Output Data.
+	 */
+	public T map(
+		final long millisecondValue
+	) {
+		return mMap.apply(toLocalDateTime(millisecondValue));
+	}
+
+}
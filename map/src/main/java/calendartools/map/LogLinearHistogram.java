@@ -0,0 +1,165 @@
+package calendartools.map;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A concurrent Histogram of non-negative long values, with log-linear buckets in the style of HdrHistogram.
+ *  - Values below 8 have a bucket each. Every following power of two is split into 8 equal buckets.
+ *  - Any recorded value is reported within 12.5% of its true value, from nanoseconds up to centuries.
+ *  - Recording is lock-free and allocation-free. Each bucket is a LongAdder, so contended threads do not collide.
+ */
+public final class LogLinearHistogram {
+
+    /** The number of bits that select a bucket within each power of two.
+     */
+    static final int SUB_BUCKET_BITS = 3;
+
+    /** The number of buckets within each power of two.
+     */
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** The number of buckets, enough for every positive long.
+     */
+    public static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** Determine the bucket that holds a value.
+     * @param value The value. Negative values are placed in the first bucket.
+     * @return The bucket index, from 0 to BUCKETS - 1.
+     */
+    public static int bucketOf(
+        final long value
+    ) {
+        if (value < SUB_BUCKETS)
+            return value < 0 ? 0 : (int) value;
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** The smallest value that is placed in a bucket.
+     * @param bucket The bucket index, from 0 to BUCKETS - 1.
+     * @return The lower bound of the bucket, inclusive.
+     */
+    public static long lowerBound(
+        final int bucket
+    ) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+        final int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    }
+
+    /** The largest value that is placed in a bucket.
+     * @param bucket The bucket index, from 0 to BUCKETS - 1.
+     * @return The upper bound of the bucket, inclusive.
+     */
+    public static long upperBound(
+        final int bucket
+    ) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : lowerBound(bucket + 1) - 1;
+    }
+
+    /** The number of values in each bucket.
+     */
+    private final LongAdder[] mBuckets = new LongAdder[BUCKETS];
+
+    /** The sum of all recorded values.
+     */
+    private final LongAdder mTotal = new LongAdder();
+
+    /** The largest recorded value.
+     */
+    private final LongAccumulator mMax = new LongAccumulator(Math::max, 0L);
+
+    /** Create an empty Histogram.
+     */
+    public LogLinearHistogram() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            mBuckets[i] = new LongAdder();
+        }
+    }
+
+    /** Record a value.
+     * @param value The value to record. Negative values are recorded as zero.
+     */
+    public void record(
+        final long value
+    ) {
+        final long clamped = Math.max(value, 0L);
+        mBuckets[bucketOf(clamped)].increment();
+        mTotal.add(clamped);
+        mMax.accumulate(clamped);
+    }
+
+    /** The number of recorded values.
+     * @return The sum of all bucket counts.
+     */
+    public long getCount() {
+        long result = 0;
+        for (LongAdder bucket : mBuckets) {
+            result += bucket.sum();
+        }
+        return result;
+    }
+
+    /** The sum of all recorded values.
+     * @return The exact total.
+     */
+    public long getTotal() {
+        return mTotal.sum();
+    }
+
+    /** The largest recorded value.
+     * @return The exact maximum, or zero when the Histogram is empty.
+     */
+    public long getMax() {
+        return mMax.get();
+    }
+
+    /** Obtain the number of values in every bucket.
+     *  - Each bucket is read separately, so concurrent recording may be partially included.
+     * @return A new Array of length BUCKETS.
+     */
+    public long[] getCounts() {
+        final long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            result[i] = mBuckets[i].sum();
+        }
+        return result;
+    }
+
+    /** Estimate the value at a percentile, such as 50 for the median or 99 for the tail.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The upper bound of the bucket containing the percentile, capped at the maximum. Zero when empty.
+     * @throws IllegalArgumentException When the percentile is out of range.
+     */
+    public long getValueAtPercentile(
+        final double percentile
+    ) throws IllegalArgumentException {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("Invalid Percentile: " + percentile);
+        final long[] counts = getCounts();
+        long count = 0;
+        for (long c : counts) count += c;
+        if (count == 0)
+            return 0L;
+        // The rank of the value, counting from 1.
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        int bucket = 0;
+        while ((seen += counts[bucket]) < rank) ++bucket;
+        return Math.min(upperBound(bucket), getMax());
+    }
+
+    /** Remove every recorded value.
+     *  - Not atomic with concurrent recording.
+     */
+    public void reset() {
+        for (LongAdder bucket : mBuckets) {
+            bucket.reset();
+        }
+        mTotal.reset();
+        mMax.reset();
+    }
+
+}
@@ -0,0 +1,476 @@
+package calendartools.map;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/** A Flow Processor that maps a stream of elements in micro-batches.
+ *  - Requests the batch size from upstream, maps each full batch with one call, and then requests more.
+ *  - Demand is driven by the subscribers. Nothing is requested from upstream until a subscriber has demand,
+ *    outputs are published only while every subscriber has demand, and upstream is asked for more only when every output is published.
+ *    At most one batch of inputs and outputs is held.
+ *  - Publishing never blocks. Each subscriber's demand beyond the max buffer capacity is held back until its elements arrive.
+ *  - A partial batch is mapped when upstream completes or fails, or when flush is called.
+ * @param <T> The type of the input elements.
+ * @param <R> The type of the output elements.
+ */
+public class MappingProcessor<T, R> extends SubmissionPublisher<R> implements Flow.Processor<T, R> {
+
+    /** Create a Processor that parses Date Strings with a copy of a DateFormatMap.
+     *  - Flow elements must not be null, so each Calendar is wrapped in an Optional, which is empty when the String fails to parse.
+     * @param map The DateFormatMap to copy. The Processor parses with its own copy.
+     * @param executor The Executor that delivers outputs to subscribers.
+     * @param batchSize The number of inputs mapped in each call. Min 1.
+     * @param maxBufferCapacity The maximum number of outputs buffered for each subscriber. Min 1.
+     * @return A new MappingProcessor.
+     * @throws IllegalArgumentException When the map or executor is null, or a number is out of range.
+     */
+    public static MappingProcessor<String, Optional<Calendar>> forDateFormatMap(
+        final DateFormatMap map,
+        final Executor executor,
+        final int batchSize,
+        final int maxBufferCapacity
+    ) throws IllegalArgumentException {
+        if (map == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        final DateFormatMap parser = map.copy();
+        return new MappingProcessor<>(
+            batch -> parser.map(batch).stream()
+                .map(Optional::ofNullable)
+                .collect(Collectors.toList()),
+            executor, batchSize, maxBufferCapacity
+        );
+    }
+
+    /** Create a Processor that maps Millisecond Time values with a MillisecondMap.
+     * @param map The MillisecondMap applied to each batch. Its function must not return null.
+     * @param executor The Executor that delivers outputs to subscribers.
+     * @param batchSize The number of inputs mapped in each call. Min 1.
+     * @param maxBufferCapacity The maximum number of outputs buffered for each subscriber. Min 1.
+     * @param <R> The output type of the MillisecondMap.
+     * @return A new MappingProcessor.
+     * @throws IllegalArgumentException When the map or executor is null, or a number is out of range.
+     */
+    public static <R> MappingProcessor<Long, R> forMillisecondMap(
+        final MillisecondMap<R> map,
+        final Executor executor,
+        final int batchSize,
+        final int maxBufferCapacity
+    ) throws IllegalArgumentException {
+        if (map == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        return new MappingProcessor<>(map::map, executor, batchSize, maxBufferCapacity);
+    }
+
+    /** Maps all the elements of a batch, in order.
+     */
+    private final Function<? super List<T>, ? extends List<R>> mBatchFunction;
+
+    private final int mBatchSize;
+
+    /** Guards the batch, the mapped outputs and the upstream demand, which are shared by the upstream and downstream threads.
+     */
+    private final ReentrantLock mLock = new ReentrantLock();
+
+    private final ArrayList<T> mBatch;
+
+    /** The mapped outputs that are waiting for downstream demand.
+     */
+    private final ArrayDeque<R> mOutputs = new ArrayDeque<>();
+
+    /** The number of elements requested from upstream that have not arrived yet.
+     */
+    private long mPending = 0;
+
+    /** Set when upstream completes or fails, or the batch function fails. The Processor closes once the outputs are published.
+     */
+    private boolean mDone = false;
+
+    /** The upstream error, published after the outputs.
+     */
+    private Throwable mError = null;
+
+    private Flow.Subscription mSubscription = null;
+
+    /** Counts the calls to pump, so that only one thread publishes, and no change of state is missed.
+     */
+    private final AtomicInteger mPumps = new AtomicInteger();
+
+    /** Create a Processor for any batch function.
+     * @param batchFunction Maps a List of input elements into a List of the same size, without null elements.
+     * @param executor The Executor that delivers outputs to subscribers.
+     * @param batchSize The number of inputs mapped in each call. Min 1.
+     * @param maxBufferCapacity The maximum number of outputs buffered for each subscriber. Min 1.
+     * @throws IllegalArgumentException When the function or executor is null, or a number is out of range.
+     */
+    public MappingProcessor(
+        final Function<? super List<T>, ? extends List<R>> batchFunction,
+        final Executor executor,
+        final int batchSize,
+        final int maxBufferCapacity
+    ) throws IllegalArgumentException {
+        super(validate(executor, maxBufferCapacity), maxBufferCapacity);
+        if (batchFunction == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Invalid Batch Size: " + batchSize);
+        mBatchFunction = batchFunction;
+        mBatchSize = batchSize;
+        mBatch = new ArrayList<>(batchSize);
+    }
+
+    /** Add a subscriber, whose requests and received elements drive the requests to upstream.
+     * @throws NullPointerException When the subscriber is null, as required by Flow.
+     */
+    @Override
+    public void subscribe(
+        final Flow.Subscriber<? super R> subscriber
+    ) {
+        if (subscriber == null)
+            throw new NullPointerException("Subscriber Must Not Be Null");
+        super.subscribe(new DemandSubscriber<>(this, subscriber));
+        // A subscriber that requests during subscribe is not counted until subscribe returns.
+        pump();
+    }
+
+    @Override
+    public boolean isSubscribed(
+        final Flow.Subscriber<? super R> subscriber
+    ) {
+        if (subscriber == null)
+            throw new NullPointerException("Subscriber Must Not Be Null");
+        return super.isSubscribed(new DemandSubscriber<>(this, subscriber));
+    }
+
+    /** The current subscribers, as they were passed to subscribe.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Flow.Subscriber<? super R>> getSubscribers() {
+        final List<Flow.Subscriber<? super R>> result = new ArrayList<>();
+        for (var x : super.getSubscribers()) {
+            result.add(((DemandSubscriber<R>) x).mSubscriber);
+        }
+        return result;
+    }
+
+    /** Accept the upstream Subscription, and request the first batch once a subscriber has demand.
+     *  - Any later Subscription is cancelled, since a Processor has only one upstream.
+     */
+    @Override
+    public void onSubscribe(
+        final Flow.Subscription subscription
+    ) {
+        mLock.lock();
+        try {
+            if (mSubscription != null) {
+                subscription.cancel();
+                return;
+            }
+            mSubscription = subscription;
+        } finally {
+            mLock.unlock();
+        }
+        pump();
+    }
+
+    /** Add an element to the batch, and map the batch when it is full.
+     * @throws NullPointerException When the element is null, as required by Flow.
+     */
+    @Override
+    public void onNext(
+        final T item
+    ) {
+        if (item == null)
+            throw new NullPointerException("Element Must Not Be Null");
+        mLock.lock();
+        try {
+            if (mDone)
+                return;
+            mBatch.add(item);
+            if (mPending > 0) --mPending;
+            if (mBatch.size() >= mBatchSize) emit();
+        } finally {
+            mLock.unlock();
+        }
+        pump();
+    }
+
+    /** Map the partial batch, then close with the upstream error once the outputs are published.
+     */
+    @Override
+    public void onError(
+        final Throwable throwable
+    ) {
+        finish(throwable);
+    }
+
+    /** Map the partial batch, then close once the outputs are published.
+     */
+    @Override
+    public void onComplete() {
+        finish(null);
+    }
+
+    /** Map the partial batch now, without waiting for it to fill.
+     *  - Use this when upstream is slow, to bound the delay of the elements in the batch.
+     */
+    public void flush() {
+        mLock.lock();
+        try {
+            if (!mDone) emit();
+        } finally {
+            mLock.unlock();
+        }
+        pump();
+    }
+
+    /** Map the partial batch, and mark upstream as done.
+     * @param error The upstream error, or null when upstream completed.
+     */
+    private void finish(
+        final Throwable error
+    ) {
+        mLock.lock();
+        try {
+            if (mDone)
+                return;
+            emit();
+            if (!mDone) {
+                mDone = true;
+                mError = error;
+            }
+        } finally {
+            mLock.unlock();
+        }
+        pump();
+    }
+
+    /** Map the batch into the outputs. The lock must be held.
+     *  - When the batch function fails, upstream is cancelled, and the Processor closes with the error.
+     */
+    private void emit() {
+        if (mBatch.isEmpty())
+            return;
+        final List<T> inputs = new ArrayList<>(mBatch);
+        mBatch.clear();
+        try {
+            final List<R> outputs = mBatchFunction.apply(inputs);
+            if (outputs.size() != inputs.size())
+                throw new IllegalStateException("Invalid Batch Output Size: " + outputs.size());
+            mOutputs.addAll(outputs);
+        } catch (RuntimeException e) {
+            mOutputs.clear();
+            mDone = true;
+            mError = e;
+            mSubscription.cancel();
+        }
+    }
+
+    /** Publish the outputs that the subscribers have demand for, then request more from upstream, or close.
+     *  - Called after every change of state. Only one thread publishes at a time, and without holding the lock,
+     *    so a subscriber may request or receive elements while an output is published.
+     *  - A thread that finds another one publishing leaves the work to it.
+     */
+    private void pump() {
+        if (mPumps.getAndIncrement() != 0)
+            return;
+        int missed = 1;
+        do {
+            R output;
+            while ((output = nextOutput()) != null) {
+                submit(output);
+            }
+            final long demand;
+            mLock.lock();
+            try {
+                demand = settle();
+            } finally {
+                mLock.unlock();
+            }
+            if (demand > 0)
+                mSubscription.request(demand);
+            missed = mPumps.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /** Take the next output, if every subscriber has demand for it.
+     * @return The next output, or null.
+     */
+    private R nextOutput() {
+        mLock.lock();
+        try {
+            return mOutputs.isEmpty() || !hasDemand() ? null : mOutputs.poll();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /** Close once upstream is done and every output is published, or otherwise top up the upstream demand. The lock must be held.
+     *  - Upstream is asked for more only when every output is published and a subscriber has demand,
+     *    so at most one batch of inputs and outputs is held.
+     * @return The number of elements to request from upstream, after the lock is released.
+     */
+    private long settle() {
+        if (!mOutputs.isEmpty())
+            return 0;
+        if (mDone) {
+            if (!isClosed()) {
+                if (mError == null) close();
+                else closeExceptionally(mError);
+            }
+            return 0;
+        }
+        if (mSubscription == null || !hasDemand())
+            return 0;
+        final long demand = mBatchSize - mBatch.size() - mPending;
+        mPending += demand;
+        return demand;
+    }
+
+    /** Determine whether every subscriber has demand for another output. False when there are no subscribers.
+     */
+    private boolean hasDemand() {
+        return estimateMinimumDemand() > 0;
+    }
+
+    private static Executor validate(
+        final Executor executor,
+        final int maxBufferCapacity
+    ) throws IllegalArgumentException {
+        if (executor == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        if (maxBufferCapacity < 1)
+            throw new IllegalArgumentException("Invalid Buffer Capacity: " + maxBufferCapacity);
+        return executor;
+    }
+
+    /** Wraps a downstream Subscriber, so that its requests and received elements pump the Processor.
+     *  - At most the buffer capacity of demand is passed on to SubmissionPublisher, and the rest is held back until elements arrive.
+     *    An output is only published when every subscriber has demand, so it always fits in the buffer, and publishing never blocks.
+     *  - Equal to any other wrapper of an equal Subscriber, so SubmissionPublisher can detect repeated subscriptions.
+     */
+    static final class DemandSubscriber<R> implements Flow.Subscriber<R>, Flow.Subscription {
+
+        final MappingProcessor<?, R> mProcessor;
+
+        final Flow.Subscriber<? super R> mSubscriber;
+
+        /** Guards the demand, which is changed by the subscriber's requests and by the delivery of elements.
+         */
+        private final ReentrantLock mLock = new ReentrantLock();
+
+        /** The demand that is held back, until there is room in the buffer.
+         */
+        private long mHeld = 0;
+
+        /** The demand passed on to SubmissionPublisher, that has not been delivered.
+         */
+        private long mPassed = 0;
+
+        private Flow.Subscription mSubscription = null;
+
+        DemandSubscriber(
+            final MappingProcessor<?, R> processor,
+            final Flow.Subscriber<? super R> subscriber
+        ) {
+            mProcessor = processor;
+            mSubscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(
+            final Flow.Subscription subscription
+        ) {
+            mSubscription = subscription;
+            mSubscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(
+            final long n
+        ) {
+            if (n <= 0) {
+                // SubmissionPublisher fails the subscriber, as required by Flow.
+                mSubscription.request(n);
+                return;
+            }
+            pass(n, 0);
+            mProcessor.pump();
+        }
+
+        @Override
+        public void cancel() {
+            mSubscription.cancel();
+        }
+
+        @Override
+        public void onNext(
+            final R item
+        ) {
+            pass(0, 1);
+            mSubscriber.onNext(item);
+            mProcessor.pump();
+        }
+
+        /** Pass on as much of the held demand as the buffer has room for.
+         * @param requested The demand added by the subscriber.
+         * @param delivered The number of elements delivered.
+         */
+        private void pass(
+            final long requested,
+            final int delivered
+        ) {
+            final long passed;
+            mLock.lock();
+            try {
+                mHeld += requested;
+                if (mHeld < 0) mHeld = Long.MAX_VALUE;
+                mPassed -= delivered;
+                passed = Math.min(mHeld, mProcessor.getMaxBufferCapacity() - mPassed);
+                mHeld -= passed;
+                mPassed += passed;
+            } finally {
+                mLock.unlock();
+            }
+            if (passed > 0)
+                mSubscription.request(passed);
+        }
+
+        @Override
+        public void onError(
+            final Throwable throwable
+        ) {
+            mSubscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            mSubscriber.onComplete();
+        }
+
+        @Override
+        public boolean equals(
+            final Object other
+        ) {
+            return other instanceof DemandSubscriber &&
+                mSubscriber.equals(((DemandSubscriber<?>) other).mSubscriber);
+        }
+
+        @Override
+        public int hashCode() {
+            return mSubscriber.hashCode();
+        }
+
+    }
+
+}
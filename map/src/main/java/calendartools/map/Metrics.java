@@ -0,0 +1,61 @@
+package calendartools.map;
+
+/** The MetricsRecorder that is shared by every module of Calendar Tools.
+ *  - Starts with {@link MetricsRecorder#NOOP}, so nothing is recorded until a Recorder is installed.
+ *  - Reads are volatile, so a newly installed Recorder is seen by all threads on their next call.
+ */
+public final class Metrics {
+
+    private static volatile MetricsRecorder sRecorder = MetricsRecorder.NOOP;
+
+    private Metrics() {}
+
+    /** Obtain the installed Recorder.
+     * @return The current MetricsRecorder. Never null.
+     */
+    public static MetricsRecorder get() {
+        return sRecorder;
+    }
+
+    /** Replace the installed Recorder.
+     * @param recorder The Recorder that will receive all following events.
+     * @return The previously installed Recorder.
+     * @throws IllegalArgumentException When the Recorder is null. Install MetricsRecorder.NOOP instead.
+     */
+    public static MetricsRecorder install(
+        final MetricsRecorder recorder
+    ) throws IllegalArgumentException {
+        if (recorder == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        final MetricsRecorder previous = sRecorder;
+        sRecorder = recorder;
+        return previous;
+    }
+
+    /** Begin measuring a bulk call.
+     * @param recorder The Recorder that will receive the call.
+     * @return The current time in nanoseconds, or zero when the Recorder is disabled.
+     */
+    public static long start(
+        final MetricsRecorder recorder
+    ) {
+        return recorder.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /** Finish measuring a bulk call, and record it when the Recorder is enabled.
+     * @param recorder The Recorder that was passed to start.
+     * @param operation The name of the operation.
+     * @param elements The number of elements processed.
+     * @param startNanos The value returned by start.
+     */
+    public static void finish(
+        final MetricsRecorder recorder,
+        final String operation,
+        final int elements,
+        final long startNanos
+    ) {
+        if (recorder.isEnabled())
+            recorder.bulkCall(operation, elements, System.nanoTime() - startNanos);
+    }
+
+}
@@ -0,0 +1,60 @@
+package calendartools.map;
+
+/** Receives instrumentation events from the parse and map operations of Calendar Tools.
+ *  - Install an implementation with {@link Metrics#install(MetricsRecorder)}. The default is {@link #NOOP}.
+ *  - Methods may be called concurrently from many threads, and should return quickly without throwing.
+ *  - Callers skip the clock entirely when {@link #isEnabled()} is false, so a disabled recorder costs a field read.
+ */
+public interface MetricsRecorder {
+
+    /** The Recorder that discards every event. Installed by default.
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void parseAttempt(final int formatIndex, final boolean success) {}
+
+        @Override
+        public void parseFailure() {}
+
+        @Override
+        public void cacheLookup(final boolean hit) {}
+
+        @Override
+        public void bulkCall(final String operation, final int elements, final long nanos) {}
+    };
+
+    /** Determine whether events are being recorded.
+     * @return False when events are discarded, so that callers may skip measuring them.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /** Record one attempt to parse a String with a DateFormat.
+     * @param formatIndex The index of the DateFormat in DateFormatMap.mDateFormats.
+     * @param success True if the DateFormat parsed the String, which ends the attempts for that String.
+     */
+    void parseAttempt(int formatIndex, boolean success);
+
+    /** Record a String that no DateFormat could parse.
+     */
+    void parseFailure();
+
+    /** Record a lookup in a cache of shared instances, such as YearPlanner.of.
+     * @param hit True if the instance was already cached.
+     */
+    void cacheLookup(boolean hit);
+
+    /** Record a completed bulk call, which processes an Array or Collection of inputs.
+     * @param operation The name of the operation, in the form Class.method.
+     * @param elements The number of elements processed.
+     * @param nanos The elapsed time of the call, in nanoseconds.
+     */
+    void bulkCall(String operation, int elements, long nanos);
+
+}
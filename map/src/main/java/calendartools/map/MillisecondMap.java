@@ -3,12 +3,57 @@ package calendartools.map;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.TimeZone;
 import java.util.function.Function;
 
+import calendartools.data.EpochDays;
+
 /** A Calendar-assisted map that takes Milliseconds since epoch as input.
  */
 public class MillisecondMap<T> {
 
+	/** The operation name of the bulk map methods, as reported to the MetricsRecorder.
+	 */
+	public static final String BULK_OPERATION = "MillisecondMap.map";
+
+	/** Convert an Array of Millisecond Time values into Epoch Days, in the default time zone.
+	 *  - No Calendar is used, and nothing is allocated per value.
+	 *  - Zones with a fixed offset use the bulk kernel of EpochDays.
+	 * @param millisecondValues The Array of Time values in milliseconds.
+	 * @param output The Array that receives the local Epoch Day of each Time value, or EpochDays.INVALID when it is out of range.
+	 * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+	 */
+	public static void toEpochDays(
+		final long[] millisecondValues,
+		final int[] output
+	) throws IllegalArgumentException {
+		if (millisecondValues == null || output == null)
+			throw new IllegalArgumentException("Argument Must Not Be Null");
+		if (millisecondValues.length != output.length)
+			throw new IllegalArgumentException("Array Lengths Must Match");
+		final MetricsRecorder metrics = Metrics.get();
+		final long startNanos = Metrics.start(metrics);
+		final MillisecondMapEvent event = new MillisecondMapEvent();
+		event.begin();
+		EpochDays.ofMillis(millisecondValues, TimeZone.getDefault(), output);
+		event.complete(output.length);
+		Metrics.finish(metrics, BULK_OPERATION, output.length, startNanos);
+	}
+
+	/** Convert an Array of Millisecond Time values into Days of the Week, in the default time zone.
+	 *  - The Epoch Days are converted in place by the bulk kernel of EpochDays, without a Calendar.
+	 * @param millisecondValues The Array of Time values in milliseconds.
+	 * @param output The Array that receives the local Day of the Week of each Time value, from Calendar.SUNDAY (1) to Calendar.SATURDAY (7), or EpochDays.INVALID when it is out of range.
+	 * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+	 */
+	public static void toDaysOfWeek(
+		final long[] millisecondValues,
+		final int[] output
+	) throws IllegalArgumentException {
+		toEpochDays(millisecondValues, output);
+		EpochDays.getDaysOfWeek(output, output);
+	}
+
 	/** The Mapping Function.
 	 */
 	final Function<Calendar, T> mMap;
@@ -29,6 +74,10 @@ public class MillisecondMap<T> {
 	public ArrayList<T> map(
 		final long[] millisecondValues
 	) {
+		final MetricsRecorder metrics = Metrics.get();
+		final long startNanos = Metrics.start(metrics);
+		final MillisecondMapEvent event = new MillisecondMapEvent();
+		event.begin();
 		var result = new ArrayList<T>();
 		var calendar = Calendar.getInstance();
 		//
@@ -36,6 +85,8 @@ public class MillisecondMap<T> {
 			calendar.setTimeInMillis(l);
 			result.add(mMap.apply(calendar));
 		}
+		event.complete(result.size());
+		Metrics.finish(metrics, BULK_OPERATION, result.size(), startNanos);
 		return result;
 	}
 
@@ -62,6 +113,10 @@ public class MillisecondMap<T> {
 			// Determine the last index
 		    lastIndex = startIndex + count - 1;
 		}
+		final MetricsRecorder metrics = Metrics.get();
+		final long startNanos = Metrics.start(metrics);
+		final MillisecondMapEvent event = new MillisecondMapEvent();
+		event.begin();
 		var result = new ArrayList<T>();
 		var calendar = Calendar.getInstance();
 		//
@@ -69,6 +124,8 @@ public class MillisecondMap<T> {
 			calendar.setTimeInMillis(millisecondValues[i]);
 			result.add(mMap.apply(calendar));
 		}
+		event.complete(result.size());
+		Metrics.finish(metrics, BULK_OPERATION, result.size(), startNanos);
 		return result;
 	}
 
@@ -79,6 +136,10 @@ public class MillisecondMap<T> {
 	public ArrayList<T> map(
 		final Collection<Long> millisecondValues
 	) {
+		final MetricsRecorder metrics = Metrics.get();
+		final long startNanos = Metrics.start(metrics);
+		final MillisecondMapEvent event = new MillisecondMapEvent();
+		event.begin();
 		var result = new ArrayList<T>();
 		var calendar = Calendar.getInstance();
 		//
@@ -86,6 +147,8 @@ public class MillisecondMap<T> {
 			calendar.setTimeInMillis(l);
 			result.add(mMap.apply(calendar));
 		}
+		event.complete(result.size());
+		Metrics.finish(metrics, BULK_OPERATION, result.size(), startNanos);
 		return result;
 	}
 
@@ -0,0 +1,35 @@
+package calendartools.map;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/** A Flight Recorder event for a bulk MillisecondMap or LocalDateTimeMap call, which maps many Time values.
+ */
+@Name("calendartools.MillisecondMapping")
+@Label("Millisecond Mapping")
+@Category("Calendar Tools")
+@Description("A bulk MillisecondMap or LocalDateTimeMap call that maps an Array or Collection of Time values.")
+@Threshold("1 ms")
+final class MillisecondMapEvent extends jdk.jfr.Event {
+
+    @Label("Elements")
+    @Description("The number of Time values that were mapped.")
+    int elements;
+
+    /** End the event, and commit it when it is enabled and over the threshold.
+     * @param elements The number of Time values that were mapped.
+     */
+    void complete(
+        final int elements
+    ) {
+        end();
+        if (!shouldCommit())
+            return;
+        this.elements = elements;
+        commit();
+    }
+
+}
@@ -1,5 +1,6 @@
 package calendartools.map;
 
+import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -10,12 +11,19 @@ import java.util.Date;
  */
 public class MonthDayDateFormatMap extends DateFormatMap {
     
-    /** A Simple DateFormat for the Month and DayOfMonth (MM-DD).
+    /** Holds the shared DateFormat, which is created on first use.
      */
-    public static SimpleDateFormat MONTH_DAY_FORMAT = new SimpleDateFormat("MM-dd");
+    private static final class Formats {
+        
+        static final SimpleDateFormat MONTH_DAY_FORMAT = strictFormat("MM-dd");
+        
+    }
     
-    static {
-        MONTH_DAY_FORMAT.setLenient(false);
+    /** A Simple DateFormat for the Month and DayOfMonth (MM-DD).
+     * @return The shared SimpleDateFormat, created on first use.
+     */
+    public static SimpleDateFormat getMonthDayFormat() {
+        return Formats.MONTH_DAY_FORMAT;
     }
     
     /** Map the given Information into a Calendar using the MonthDay DateFormat.
@@ -27,14 +35,28 @@ public class MonthDayDateFormatMap extends DateFormatMap {
     public static Calendar map(
         final short year,
         final String dateString
+    ) throws IllegalArgumentException {
+        return map(Formats.MONTH_DAY_FORMAT, year, dateString);
+    }
+    
+    private static Calendar map(
+        final DateFormat format,
+        final short year,
+        final String dateString
     ) throws IllegalArgumentException {
         if (dateString == null) throw new IllegalArgumentException();
+        final MetricsRecorder metrics = Metrics.get();
         Date parsedDate = null;
         try {
-            parsedDate = MONTH_DAY_FORMAT.parse(dateString);
-        } catch (ParseException ignored) {}
-        if (null == parsedDate)
+            parsedDate = format.parse(dateString);
+            metrics.parseAttempt(0, true);
+        } catch (ParseException ignored) {
+            metrics.parseAttempt(0, false);
+        }
+        if (null == parsedDate) {
+            metrics.parseFailure();
             return null;
+        }
         parsedDate.setYear(year - 1900);  // Normalized Year
         return convert(parsedDate);
     }
@@ -49,12 +71,24 @@ public class MonthDayDateFormatMap extends DateFormatMap {
     public MonthDayDateFormatMap(
         final int year
     ) {
-        super(MONTH_DAY_FORMAT);
+        super(Formats.MONTH_DAY_FORMAT);
         if (year < Short.MIN_VALUE || year > Short.MAX_VALUE)
             throw new IllegalArgumentException();
         this.year = (short) year;
     }
     
+    /** Only used internally to copy a Map, with its own DateFormat.
+     * @param year The year that valid Month-Day pairs will be mapped into.
+     * @param format The Month-Day DateFormat.
+     */
+    private MonthDayDateFormatMap(
+        final short year,
+        final DateFormat format
+    ) {
+        super(format);
+        this.year = year;
+    }
+    
     /** Parse a Month-Day String into a Calendar object.
      * @param dateString The String containing the Month-Day (MM-DD) Formatted Date.
      * @return A new Calendar object, or null if it failed to parse.
@@ -63,7 +97,15 @@ public class MonthDayDateFormatMap extends DateFormatMap {
     public Calendar map(
         final String dateString
     ) throws IllegalArgumentException {
-        return map(year, dateString);
+        return map(mDateFormats.get(0), year, dateString);
+    }
+    
+    /** Create a Map for the same Year, with a clone of the Month-Day DateFormat.
+     * @return A new MonthDayDateFormatMap that shares no parser state with this Map.
+     */
+    @Override
+    public MonthDayDateFormatMap copy() {
+        return new MonthDayDateFormatMap(year, (DateFormat) mDateFormats.get(0).clone());
     }
     
     @Override
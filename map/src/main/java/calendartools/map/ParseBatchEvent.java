@@ -0,0 +1,76 @@
+package calendartools.map;
+
+import java.util.List;
+
+import calendartools.data.EpochDays;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/** A Flight Recorder event for a bulk DateFormatMap or LocalDateFormatMap call, which parses many Strings.
+ */
+@Name("calendartools.ParseBatch")
+@Label("Parse Batch")
+@Category("Calendar Tools")
+@Description("A bulk DateFormatMap or LocalDateFormatMap call that parses an Array or List of Date Strings.")
+@Threshold("1 ms")
+final class ParseBatchEvent extends jdk.jfr.Event {
+
+    @Label("Elements")
+    @Description("The number of Strings in the batch.")
+    int elements;
+
+    @Label("Failures")
+    @Description("The number of Strings that no DateFormat could parse.")
+    int failures;
+
+    @Label("Formats")
+    @Description("The number of DateFormats that are tried on each String.")
+    int formats;
+
+    /** End the event, and commit it when it is enabled and over the threshold.
+     * @param result The dates produced by the batch, with null for each failure.
+     * @param formats The number of DateFormats in the map.
+     */
+    void complete(
+        final List<?> result,
+        final int formats
+    ) {
+        end();
+        if (!shouldCommit())
+            return;
+        int failures = 0;
+        for (Object element : result) {
+            if (element == null) ++failures;
+        }
+        this.elements = result.size();
+        this.failures = failures;
+        this.formats = formats;
+        commit();
+    }
+
+    /** End the event, and commit it when it is enabled and over the threshold.
+     * @param result The Epoch Days produced by the batch, with EpochDays.INVALID for each failure.
+     * @param formats The number of DateFormats in the map.
+     */
+    void complete(
+        final int[] result,
+        final int formats
+    ) {
+        end();
+        if (!shouldCommit())
+            return;
+        int failures = 0;
+        for (int epochDay : result) {
+            if (epochDay == EpochDays.INVALID) ++failures;
+        }
+        this.elements = result.length;
+        this.failures = failures;
+        this.formats = formats;
+        commit();
+    }
+
+}
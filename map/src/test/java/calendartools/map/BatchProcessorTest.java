@@ -0,0 +1,380 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Testing the BatchProcessor class.
+ */
+public final class BatchProcessorTest {
+
+    /** An Executor that holds tasks until the test runs them.
+     */
+    private static final class ManualExecutor implements Executor {
+
+        final ArrayDeque<Runnable> mTasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(final Runnable task) {
+            mTasks.add(task);
+        }
+
+        void runNext() {
+            mTasks.poll().run();
+        }
+
+        void runAll() {
+            while (!mTasks.isEmpty()) runNext();
+        }
+
+    }
+
+    private final ManualExecutor mExecutor = new ManualExecutor();
+
+    /** The sizes of the batches passed to the identity function.
+     */
+    private final List<Integer> mBatchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    private BatchProcessor<Integer, Integer> newIdentityProcessor(
+        final int maxConcurrentBatches,
+        final int batchSize,
+        final int maxPendingElements
+    ) {
+        return new BatchProcessor<>(
+            batch -> {
+                mBatchSizes.add(batch.size());
+                return new ArrayList<>(batch);
+            },
+            mExecutor, maxConcurrentBatches, batchSize, maxPendingElements
+        );
+    }
+
+    @Test
+    public void testSubmit_FreeSlot_DispatchedAtOnce() throws Exception {
+        final var processor = newIdentityProcessor(1, 10, 100);
+        final var result = processor.submit(List.of(1, 2, 3));
+        assertEquals(1, mExecutor.mTasks.size());
+        assertFalse(result.isDone());
+        mExecutor.runAll();
+        assertEquals(List.of(1, 2, 3), result.get());
+    }
+
+    @Test
+    public void testSubmit_BusySlots_CoalescedUpToBatchSize() throws Exception {
+        final var processor = newIdentityProcessor(1, 4, 100);
+        final var first = processor.submit(List.of(1));
+        final var second = processor.submit(List.of(2, 3));
+        final var third = processor.submit(List.of(4, 5));
+        final var fourth = processor.submit(List.of(6));
+        final var oversized = processor.submit(List.of(7, 8, 9, 10, 11));
+        assertEquals(1, mExecutor.mTasks.size());
+        mExecutor.runAll();
+        assertEquals(List.of(1, 4, 1, 5), mBatchSizes);
+        assertEquals(List.of(1), first.get());
+        assertEquals(List.of(2, 3), second.get());
+        assertEquals(List.of(4, 5), third.get());
+        assertEquals(List.of(6), fourth.get());
+        assertEquals(List.of(7, 8, 9, 10, 11), oversized.get());
+    }
+
+    @Test
+    public void testSubmit_Full_BlocksUntilBatchCompletes() throws Exception {
+        final var processor = newIdentityProcessor(1, 10, 2);
+        final var first = processor.submit(List.of(1, 2));
+        final List<CompletableFuture<List<Integer>>> blocked = new ArrayList<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                blocked.add(processor.submit(List.of(3)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        thread.join(100);
+        assertTrue(thread.isAlive());
+        mExecutor.runNext();
+        thread.join(5000);
+        assertFalse(thread.isAlive());
+        mExecutor.runAll();
+        assertEquals(List.of(1, 2), first.get());
+        assertEquals(List.of(3), blocked.get(0).get());
+    }
+
+    @Test
+    public void testSubmit_Interrupted_ThrowsInterruptedException() {
+        final var processor = newIdentityProcessor(1, 10, 2);
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedException.class, () -> processor.submit(List.of(1)));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testSubmit_Empty_CompletedWithoutBatch() throws Exception {
+        final var processor = newIdentityProcessor(1, 10, 2);
+        assertEquals(Collections.emptyList(), processor.submit(List.of()).get());
+        assertTrue(mExecutor.mTasks.isEmpty());
+    }
+
+    @Test
+    public void testSubmit_InvalidRequest_ThrowsIAE() {
+        final var processor = newIdentityProcessor(1, 10, 2);
+        assertThrows(IllegalArgumentException.class, () -> processor.submit(null));
+        assertThrows(IllegalArgumentException.class, () -> processor.submit(Arrays.asList(1, null)));
+        assertThrows(IllegalArgumentException.class, () -> processor.submit(List.of(1, 2, 3)));
+    }
+
+    @Test
+    public void testConstructor_InvalidArguments_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchProcessor<Integer, Integer>(null, mExecutor, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchProcessor<Integer, Integer>(x -> x, null, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchProcessor<Integer, Integer>(x -> x, mExecutor, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchProcessor<Integer, Integer>(x -> x, mExecutor, 1, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchProcessor<Integer, Integer>(x -> x, mExecutor, 1, 1, 0));
+    }
+
+    @Test
+    public void testClose_DispatchesQueue_RejectsNewRequests() throws Exception {
+        final var processor = newIdentityProcessor(1, 1, 10);
+        final var first = processor.submit(List.of(1));
+        final var second = processor.submit(List.of(2));
+        final var third = processor.submit(List.of(3));
+        assertEquals(1, mExecutor.mTasks.size());
+        processor.close();
+        assertEquals(3, mExecutor.mTasks.size());
+        assertThrows(IllegalStateException.class, () -> processor.submit(List.of(4)));
+        mExecutor.runAll();
+        assertEquals(List.of(1), first.get());
+        assertEquals(List.of(2), second.get());
+        assertEquals(List.of(3), third.get());
+    }
+
+    @Test
+    public void testBatchFunction_Throws_FailsEveryRequestInBatch() throws Exception {
+        final var processor = new BatchProcessor<Integer, Integer>(
+            batch -> { throw new ArithmeticException(); },
+            mExecutor, 1, 10, 10
+        );
+        final var first = processor.submit(List.of(1));
+        final var second = processor.submit(List.of(2));
+        final var third = processor.submit(List.of(3));
+        mExecutor.runAll();
+        for (var future : List.of(first, second, third)) {
+            final var e = assertThrows(ExecutionException.class, future::get);
+            assertTrue(e.getCause() instanceof ArithmeticException);
+        }
+        // The capacity is released after a failure.
+        processor.submit(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    }
+
+    @Test
+    public void testBatchFunction_ThrowsError_FailsEveryRequestInBatch() throws Exception {
+        final var processor = new BatchProcessor<Integer, Integer>(
+            batch -> { throw new AssertionError("batch"); },
+            mExecutor, 1, 10, 10
+        );
+        final var first = processor.submit(List.of(1));
+        final var second = processor.submit(List.of(2));
+        mExecutor.runAll();
+        for (var future : List.of(first, second)) {
+            final var e = assertThrows(ExecutionException.class, future::get);
+            assertTrue(e.getCause() instanceof AssertionError);
+        }
+        // The capacity is released after an Error.
+        processor.submit(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    }
+
+    @Test
+    public void testExecutor_DirectAfterLongQueue_DrainsWithoutRecursion() throws Exception {
+        final int requests = 100_000;
+        // Holds the first task, then runs every task on the calling thread.
+        final ManualExecutor held = new ManualExecutor();
+        final boolean[] direct = new boolean[1];
+        final var processor = new BatchProcessor<Integer, Integer>(
+            x -> x,
+            task -> { if (direct[0]) task.run(); else held.execute(task); },
+            1, 1, requests
+        );
+        final List<CompletableFuture<List<Integer>>> results = new ArrayList<>();
+        for (int i = 0; i < requests; ++i) {
+            results.add(processor.submit(List.of(i)));
+        }
+        direct[0] = true;
+        held.runAll();
+        for (int i = 0; i < requests; ++i) {
+            assertEquals(List.of(i), results.get(i).getNow(null));
+        }
+        assertEquals(List.of(-1), processor.submit(List.of(-1)).getNow(null));
+    }
+
+    @Test
+    public void testBatchFunction_WrongSize_FailsWithISE() throws Exception {
+        final var processor = new BatchProcessor<Integer, Integer>(
+            batch -> List.of(), mExecutor, 1, 10, 10
+        );
+        final var result = processor.submit(List.of(1));
+        mExecutor.runAll();
+        final var e = assertThrows(ExecutionException.class, result::get);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testExecutor_Rejects_FailsRequestsAndReleasesCapacity() throws Exception {
+        final var executor = BatchProcessor.newExecutor("newCachedThreadPool", 1);
+        executor.shutdown();
+        final var processor = new BatchProcessor<Integer, Integer>(x -> x, executor, 1, 10, 2);
+        final var first = processor.submit(List.of(1, 2));
+        final var second = processor.submit(List.of(3, 4));
+        for (var future : List.of(first, second)) {
+            final var e = assertThrows(ExecutionException.class, future::get);
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void testNewExecutor_MissingFactory_FixedPool() throws Exception {
+        final ExecutorService executor = BatchProcessor.newExecutor("missing", 3);
+        try {
+            assertEquals(3, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        } finally {
+            executor.shutdown();
+        }
+        final ExecutorService defaultExecutor = BatchProcessor.newExecutor();
+        defaultExecutor.shutdown();
+        assertTrue(defaultExecutor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testForDateFormatMap_ConcurrentRequests_SameAsDateFormatMap() throws Exception {
+        final DateFormatMap map = DateFormatMap.getDefaultMap();
+        final ExecutorService executor = BatchProcessor.newExecutor();
+        final ExecutorService clients = BatchProcessor.newExecutor("missing", 8);
+        try (var processor = BatchProcessor.forDateFormatMap(map, executor, 2, 64, 256)) {
+            final List<CompletableFuture<List<Calendar>>> results = new ArrayList<>();
+            final List<List<String>> requests = new ArrayList<>();
+            for (int r = 0; r < 200; ++r) {
+                final List<String> request = new ArrayList<>();
+                for (int i = 0; i < 10; ++i) {
+                    request.add(String.format("%04d-%02d-%02d", 1990 + r % 50, 1 + i, 1 + r % 28));
+                }
+                request.add("invalid");
+                requests.add(request);
+            }
+            final List<CompletableFuture<CompletableFuture<List<Calendar>>>> submitted = new ArrayList<>();
+            for (var request : requests) {
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return processor.submit(request);
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, clients));
+            }
+            for (var future : submitted) results.add(future.get());
+            for (int r = 0; r < requests.size(); ++r) {
+                assertEquals(map.map(requests.get(r)), results.get(r).get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            clients.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    /** A DateFormat that counts its clones and parses, to check which copies the Processor uses.
+     */
+    private static final class CountingFormat extends SimpleDateFormat {
+
+        private static final long serialVersionUID = 1L;
+
+        static final AtomicInteger CLONES = new AtomicInteger();
+
+        /** Copied by value, so each clone counts its own parses.
+         */
+        int mParses = 0;
+
+        CountingFormat() {
+            super("yyyy-MM-dd");
+            setLenient(false);
+        }
+
+        @Override
+        public Date parse(final String source) throws ParseException {
+            ++mParses;
+            return super.parse(source);
+        }
+
+        @Override
+        public Object clone() {
+            CLONES.incrementAndGet();
+            return super.clone();
+        }
+
+    }
+
+    @Test
+    public void testForDateFormatMap_CopiesTemplateOncePerConcurrentBatch() throws Exception {
+        final CountingFormat format = new CountingFormat();
+        final DateFormatMap map = new DateFormatMap(format);
+        final int before = CountingFormat.CLONES.get();
+        final var processor = BatchProcessor.forDateFormatMap(map, mExecutor, 2, 1, 10);
+        // The template is copied on the calling thread.
+        assertEquals(before + 1, CountingFormat.CLONES.get());
+        final var first = processor.submit(List.of("2020-01-02"));
+        final var second = processor.submit(List.of("2020-03-04"));
+        final var third = processor.submit(List.of("invalid"));
+        mExecutor.runAll();
+        // Batches run one at a time here, so one parser copy is reused.
+        assertEquals(before + 2, CountingFormat.CLONES.get());
+        assertEquals(0, format.mParses);
+        assertEquals(map.map(List.of("2020-01-02")), first.get());
+        assertEquals(map.map(List.of("2020-03-04")), second.get());
+        assertEquals(Collections.singletonList(null), third.get());
+    }
+
+    @Test
+    public void testForMillisecondMap_SameAsMillisecondMap() throws Exception {
+        final MillisecondMap<Integer> map = new MillisecondMap<>(c -> c.get(Calendar.DAY_OF_YEAR));
+        final var processor = BatchProcessor.forMillisecondMap(map, mExecutor, 1, 10, 10);
+        final List<Long> values = List.of(0L, 86_400_000L * 40, 86_400_000L * 200);
+        final var result = processor.submit(values);
+        mExecutor.runAll();
+        assertEquals(map.map(values), result.get());
+    }
+
+    @Test
+    public void testFactories_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchProcessor.forDateFormatMap(null, mExecutor, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchProcessor.forMillisecondMap(null, mExecutor, 1, 1, 1));
+    }
+
+}
@@ -1,8 +1,10 @@
 package calendartools.map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static calendartools.map.DateFormatMap.convert;
@@ -10,15 +12,32 @@ import static calendartools.map.DateFormatMap.convert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.text.ChoiceFormat;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.FieldPosition;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import calendartools.data.EpochDays;
+
 /** Testing the DateMap class.
  */
 public class DateFormatMapTest {
@@ -247,4 +266,212 @@ public class DateFormatMapTest {
         );
     }
     
+    @Test
+    public void test_mapEpochDays_Dates_SameAsCalendars() {
+        final String[] input = provider.getSimpleDateStrings().toArray(String[]::new);
+        final int[] output = new int[input.length];
+        mInstance.mapEpochDays(input, output);
+        final List<Calendar> expected = provider.getCalendars();
+        for (int i = 0; i < input.length; ++i) {
+            assertEquals(EpochDays.fromCalendar(expected.get(i)), output[i]);
+        }
+    }
+    
+    @Test
+    public void test_mapEpochDays_NullAndInvalid_ReturnsInvalid() {
+        final int[] output = {0, 0, 0};
+        mInstance.mapEpochDays(new String[]{null, "invalid", "1970-01-02"}, output);
+        assertEquals(EpochDays.INVALID, output[0]);
+        assertEquals(EpochDays.INVALID, output[1]);
+        assertEquals(1, output[2]);
+    }
+    
+    @Test
+    public void test_mapEpochDays_YearOutOfRange_ReturnsInvalid() {
+        final int[] output = {0, 0};
+        mInstance.mapEpochDays(new String[]{"1000000-01-01", "999999-12-31"}, output);
+        assertEquals(EpochDays.INVALID, output[0]);
+        assertEquals(EpochDays.fromCalendar(mInstance.map("999999-12-31")), output[1]);
+    }
+    
+    @Test
+    public void test_mapEpochDays_InvalidArrays_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.mapEpochDays(null, new int[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.mapEpochDays(new String[0], null));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.mapEpochDays(new String[1], new int[2]));
+    }
+    
+    @Test
+    public void test_copy_ClonesFormats_SameResults() {
+        final DateFormatMap copy = mInstance.copy();
+        assertEquals(mInstance.mDateFormats.size(), copy.mDateFormats.size());
+        for (int i = 0; i < copy.mDateFormats.size(); ++i) {
+            assertTrue(mInstance.mDateFormats.get(i) != copy.mDateFormats.get(i));
+            assertEquals(mInstance.mDateFormats.get(i), copy.mDateFormats.get(i));
+        }
+        assertEquals(
+            mInstance.map(provider.getSimpleDateStrings()),
+            copy.map(provider.getSimpleDateStrings())
+        );
+    }
+    
+    @Test
+    public void test_mapConcurrently_Null_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.mapConcurrently(null));
+    }
+    
+    @Test
+    public void test_mapConcurrently_SameAsMap() {
+        final DateFormatMap custom = new DateFormatMap(DateFormatMap.strictFormat("dd/MM/yyyy"));
+        for (var x : provider.getSimpleDateStrings()) {
+            // Repeated calls reuse the pooled parser.
+            for (int i = 0; i < 2; ++i) {
+                assertEquals(mInstance.map(x), mInstance.mapConcurrently(x));
+            }
+        }
+        assertEquals(custom.map("05/10/2044"), custom.mapConcurrently("05/10/2044"));
+        assertEquals(custom.map("05/10/2044"), custom.mapConcurrently("05/10/2044"));
+        assertNull(custom.mapConcurrently("2044-10-05"));
+    }
+    
+    @Test
+    public void test_mapConcurrently_Threads_SameAsMap() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; ++t) {
+            final int offset = t;
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2000; ++i) {
+                    final int day = 1 + (i + offset) % 28;
+                    final Calendar cal = mInstance.mapConcurrently(
+                        String.format("%04d-%02d-%02d", 1990 + offset, 1 + i % 12, day));
+                    if (cal == null || cal.get(Calendar.YEAR) != 1990 + offset
+                        || cal.get(Calendar.MONTH) != i % 12
+                        || cal.get(Calendar.DAY_OF_MONTH) != day) return false;
+                }
+                return true;
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        executor.shutdown();
+    }
+    
+    @Test
+    public void test_getDefaultMap_SharedStrictFormats() {
+        assertSame(mInstance, DateFormatMap.getDefaultMap());
+        assertEquals(
+            List.of(DateFormatMap.getSimpleDateFormat(), DateFormatMap.getSimpleReversedDateFormat()),
+            mInstance.mDateFormats
+        );
+        assertSame(DateFormatMap.getSimpleDateFormat(), mInstance.mDateFormats.get(0));
+        assertEquals("yyyy-MM-dd", DateFormatMap.getSimpleDateFormat().toPattern());
+        assertEquals("dd-MM-yyyy", DateFormatMap.getSimpleReversedDateFormat().toPattern());
+        assertFalse(DateFormatMap.getSimpleDateFormat().isLenient());
+        assertFalse(DateFormatMap.getSimpleReversedDateFormat().isLenient());
+    }
+    
+    @Test
+    public void test_getDefaultMap_FormatsUnmodifiable() {
+        assertEquals(2, mInstance.mDateFormats.size());
+        assertTrue(mInstance.mDateFormats instanceof RandomAccess);
+        assertThrows(UnsupportedOperationException.class,
+            () -> mInstance.mDateFormats.add(DateFormatMap.strictFormat("yyyy")));
+        assertThrows(IndexOutOfBoundsException.class, () -> mInstance.mDateFormats.get(2));
+    }
+    
+    @Test
+    public void test_strictFormat_NonLenient() {
+        final SimpleDateFormat format = DateFormatMap.strictFormat("MM-dd");
+        assertEquals("MM-dd", format.toPattern());
+        assertFalse(format.isLenient());
+        assertThrows(IllegalArgumentException.class, () -> DateFormatMap.strictFormat(null));
+        assertThrows(IllegalArgumentException.class, () -> DateFormatMap.strictFormat("invalid"));
+    }
+    
+    /** Strings in and around the fixed yyyy-MM-dd layout, including invalid dates and dates before the Gregorian cutover.
+     */
+    private static final String[] LAYOUT_STRINGS = {
+        "2020-01-02", "2024-02-29", "2021-02-29", "2020-13-01", "2020-00-10", "2020-04-31", "0000-01-01",
+        "0001-01-01", "1582-10-04", "1582-10-10", "1582-10-15", "9999-12-31",
+        "2020-01-02x", " 2020-01-02", "20200-01-02", "2020-1-02", "2020/01/02", "2020-01/02",
+        "2020-01-0/", "2020-01-0:", "202a-01-02", "2020-0a-02", "02-01-2020", "",
+    };
+    
+    /** Parse with the DateFormat directly, or with the fixed layout of DateFormatMap.
+     * @return The parsed Date, or null if the String failed to parse.
+     */
+    private static Date parseOrNull(
+        final DateFormat format,
+        final String dateString,
+        final boolean direct
+    ) {
+        try {
+            return direct ? format.parse(dateString) : DateFormatMap.parse(format, dateString);
+        } catch (ParseException ignored) {
+            return null;
+        }
+    }
+    
+    /** Check that DateFormatMap parses every layout String as the DateFormat does, using two separately configured formats.
+     */
+    private static void assertSameAsDateFormat(
+        final Consumer<SimpleDateFormat> configure
+    ) {
+        final SimpleDateFormat expected = DateFormatMap.strictFormat(DateFormatMap.SIMPLE_DATE_PATTERN);
+        final SimpleDateFormat actual = DateFormatMap.strictFormat(DateFormatMap.SIMPLE_DATE_PATTERN);
+        configure.accept(expected);
+        configure.accept(actual);
+        for (String x : LAYOUT_STRINGS) {
+            assertEquals(x, parseOrNull(expected, x, true), parseOrNull(actual, x, false));
+        }
+    }
+    
+    @Test
+    public void test_parse_SimpleLayout_SameAsDateFormat() {
+        assertSameAsDateFormat(format -> {});
+        assertNull(parseOrNull(DateFormatMap.getSimpleDateFormat(), "2021-02-29", false));
+        assertNotNull(parseOrNull(DateFormatMap.getSimpleDateFormat(), "2024-02-29", false));
+    }
+    
+    @Test
+    public void test_parse_OtherFormatSettings_SameAsDateFormat() {
+        assertSameAsDateFormat(format -> format.setLenient(true));
+        assertSameAsDateFormat(format -> format.applyPattern("dd-MM-yyyy"));
+        assertSameAsDateFormat(format -> {
+            format.setCalendar(Calendar.getInstance(new Locale("th", "TH")));
+            format.setLenient(false);
+        });
+        assertSameAsDateFormat(format -> format.setNumberFormat(new ChoiceFormat("0#zero")));
+        assertSameAsDateFormat(format -> ((DecimalFormat) format.getNumberFormat()).setMultiplier(10));
+        assertSameAsDateFormat(format -> ((DecimalFormat) format.getNumberFormat()).setPositivePrefix("+"));
+        assertSameAsDateFormat(format -> ((DecimalFormat) format.getNumberFormat()).setPositiveSuffix("+"));
+    }
+    
+    @Test
+    public void test_parse_OtherDateFormat_UsesDateFormat() throws ParseException {
+        final DateFormat epoch = new DateFormat() {
+            @Override
+            public StringBuffer format(final Date date, final StringBuffer buffer, final FieldPosition position) {
+                return buffer;
+            }
+            
+            @Override
+            public Date parse(final String source, final ParsePosition position) {
+                position.setIndex(source.length());
+                return new Date(0L);
+            }
+        };
+        assertEquals(new Date(0L), DateFormatMap.parse(epoch, "2020-01-02"));
+    }
+    
 }
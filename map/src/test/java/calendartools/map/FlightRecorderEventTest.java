@@ -0,0 +1,91 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/** Testing the Flight Recorder events of the bulk map methods.
+ */
+public final class FlightRecorderEventTest {
+
+    /** Run the task in a Recording with the named event enabled, without a threshold.
+     * @return The recorded events with the given name.
+     */
+    private static List<RecordedEvent> record(
+        final String eventName,
+        final Runnable task
+    ) throws IOException {
+        final Path file = Files.createTempFile("calendartools", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            task.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testDateFormatMap_BulkMap_RecordsParseBatch() throws IOException {
+        final DateFormatMap map = DateFormatMap.getDefaultMap();
+        final List<RecordedEvent> events = record("calendartools.ParseBatch", () -> {
+            map.map(List.of("2020-01-02", "invalid", "02-01-2020"));
+            map.map(new String[]{"invalid"});
+        });
+        assertEquals(2, events.size());
+        assertEquals(3, events.get(0).getInt("elements"));
+        assertEquals(1, events.get(0).getInt("failures"));
+        assertEquals(2, events.get(0).getInt("formats"));
+        assertEquals(1, events.get(1).getInt("elements"));
+        assertEquals(1, events.get(1).getInt("failures"));
+    }
+
+    @Test
+    public void testEpochDays_BulkMap_RecordsParseBatch() throws IOException {
+        final DateFormatMap map = DateFormatMap.getDefaultMap();
+        final List<RecordedEvent> events = record("calendartools.ParseBatch", () -> {
+            map.mapEpochDays(new String[]{"2020-01-02", "invalid"}, new int[2]);
+            LocalDateFormatMap.getDefaultMap().parseEpochDays(new String[]{"invalid"}, new int[1]);
+        });
+        assertEquals(2, events.size());
+        assertEquals(2, events.get(0).getInt("elements"));
+        assertEquals(1, events.get(0).getInt("failures"));
+        assertEquals(1, events.get(1).getInt("elements"));
+        assertEquals(1, events.get(1).getInt("failures"));
+    }
+
+    @Test
+    public void testMillisecondMap_BulkMap_RecordsMapping() throws IOException {
+        final MillisecondMap<Integer> map = new MillisecondMap<>(c -> c.get(Calendar.YEAR));
+        final long[] values = {0L, 1L, 2L, 3L};
+        final List<RecordedEvent> events = record("calendartools.MillisecondMapping", () -> {
+            map.map(values);
+            map.map(values, 1, 2);
+            map.map(List.of(0L));
+            MillisecondMap.toEpochDays(values, new int[4]);
+        });
+        assertEquals(4, events.size());
+        assertEquals(4, events.get(0).getInt("elements"));
+        assertEquals(2, events.get(1).getInt("elements"));
+        assertEquals(1, events.get(2).getInt("elements"));
+        assertEquals(4, events.get(3).getInt("elements"));
+    }
+
+}
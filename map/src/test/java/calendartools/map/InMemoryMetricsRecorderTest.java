@@ -0,0 +1,111 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/** Testing the InMemoryMetricsRecorder.
+ */
+public final class InMemoryMetricsRecorderTest {
+
+    private InMemoryMetricsRecorder mInstance;
+
+    @Before
+    public void testSetup() {
+        mInstance = new InMemoryMetricsRecorder();
+    }
+
+    @Test
+    public void testIsEnabled_ReturnsTrue() {
+        assertTrue(mInstance.isEnabled());
+    }
+
+    @Test
+    public void testParseAttempt_CountsAttemptsAndSuccesses() {
+        mInstance.parseAttempt(0, false);
+        mInstance.parseAttempt(1, true);
+        mInstance.parseAttempt(0, true);
+        assertEquals(2, mInstance.getParseAttempts(0));
+        assertEquals(1, mInstance.getParseSuccesses(0));
+        assertEquals(1, mInstance.getParseAttempts(1));
+        assertEquals(1, mInstance.getParseSuccesses(1));
+        assertEquals(0, mInstance.getParseAttempts(2));
+    }
+
+    @Test
+    public void testParseAttempt_OutOfRangeIndex_Clamped() {
+        mInstance.parseAttempt(-1, false);
+        mInstance.parseAttempt(100, true);
+        assertEquals(1, mInstance.getParseAttempts(0));
+        assertEquals(1, mInstance.getParseAttempts(InMemoryMetricsRecorder.MAX_FORMATS - 1));
+        assertEquals(1, mInstance.getParseSuccesses(InMemoryMetricsRecorder.MAX_FORMATS - 1));
+    }
+
+    @Test
+    public void testGetParseAttempts_InvalidIndex_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getParseAttempts(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getParseSuccesses(InMemoryMetricsRecorder.MAX_FORMATS));
+    }
+
+    @Test
+    public void testParseFailure_Counted() {
+        mInstance.parseFailure();
+        mInstance.parseFailure();
+        assertEquals(2, mInstance.getParseFailures());
+    }
+
+    @Test
+    public void testCacheLookup_HitsAndMisses() {
+        mInstance.cacheLookup(true);
+        mInstance.cacheLookup(true);
+        mInstance.cacheLookup(false);
+        assertEquals(2, mInstance.getCacheHits());
+        assertEquals(1, mInstance.getCacheMisses());
+    }
+
+    @Test
+    public void testBulkCall_GroupedByOperation() {
+        mInstance.bulkCall("B.map", 10, 1000);
+        mInstance.bulkCall("B.map", 20, 3000);
+        mInstance.bulkCall("A.map", 5, 100);
+        final InMemoryMetricsRecorder.Operation b = mInstance.getOperation("B.map");
+        assertEquals(2, b.getCalls());
+        assertEquals(30, b.mElements.getTotal());
+        assertEquals(4000, b.mNanos.getTotal());
+        assertEquals(3000, b.mNanos.getMax());
+        final Map<String, InMemoryMetricsRecorder.Operation> operations = mInstance.getOperations();
+        assertEquals(List.of("A.map", "B.map"), List.copyOf(operations.keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> operations.clear());
+    }
+
+    @Test
+    public void testGetOperation_Unknown_ReturnsNull() {
+        assertNull(mInstance.getOperation("Unknown.map"));
+        assertNull(mInstance.getOperation(null));
+    }
+
+    @Test
+    public void testReset_AfterRecording_AllZero() {
+        mInstance.parseAttempt(3, true);
+        mInstance.parseFailure();
+        mInstance.cacheLookup(true);
+        mInstance.cacheLookup(false);
+        mInstance.bulkCall("A.map", 1, 1);
+        mInstance.reset();
+        assertEquals(0, mInstance.getParseAttempts(3));
+        assertEquals(0, mInstance.getParseSuccesses(3));
+        assertEquals(0, mInstance.getParseFailures());
+        assertEquals(0, mInstance.getCacheHits());
+        assertEquals(0, mInstance.getCacheMisses());
+        assertTrue(mInstance.getOperations().isEmpty());
+    }
+
+}
@@ -0,0 +1,257 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import calendartools.data.EpochDays;
+
+/** Testing the LocalDateFormatMap, and its equivalence with DateFormatMap.
+ */
+public final class LocalDateFormatMapTest {
+
+    private final LocalDateFormatMap mInstance = LocalDateFormatMap.getDefaultMap();
+
+    /** Assert that both maps parse the String to the same date, or both fail.
+     */
+    private void assertSameAsDateFormatMap(
+        final String dateString
+    ) {
+        final Calendar expected = DateFormatMap.getDefaultMap().map(dateString);
+        final LocalDate actual = mInstance.parse(dateString);
+        if (expected == null) {
+            assertNull(dateString, actual);
+            return;
+        }
+        assertEquals(dateString, LocalDateFormatMap.toLocalDate(expected), actual);
+        assertEquals(dateString, expected, LocalDateFormatMap.toCalendar(actual));
+    }
+
+    @Test
+    public void testParse_SimpleFormats_ReturnsDate() {
+        assertEquals(LocalDate.of(2020, 1, 2), mInstance.parse("2020-01-02"));
+        assertEquals(LocalDate.of(2020, 1, 2), mInstance.parse("02-01-2020"));
+        assertEquals(LocalDate.of(2020, 1, 2), mInstance.parse("2020-1-2"));
+    }
+
+    @Test
+    public void testParse_InvalidDates_ReturnsNull() {
+        assertNull(mInstance.parse("2019-02-29"));
+        assertNull(mInstance.parse("2020-13-01"));
+        assertNull(mInstance.parse("31-04-2020"));
+        assertNull(mInstance.parse("invalid"));
+        assertNull(mInstance.parse(""));
+    }
+
+    @Test
+    public void testParse_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> mInstance.parse((String) null));
+    }
+
+    @Test
+    public void testParse_EveryFewDays_SameAsDateFormatMap() {
+        for (LocalDate date = LocalDate.of(1583, 1, 1); date.getYear() < 2101; date = date.plusDays(13)) {
+            assertSameAsDateFormatMap(date.toString());
+            assertSameAsDateFormatMap(String.format(
+                "%02d-%02d-%d", date.getDayOfMonth(), date.getMonthValue(), date.getYear()
+            ));
+        }
+    }
+
+    @Test
+    public void testParse_EdgeCases_SameAsDateFormatMap() {
+        for (String dateString : List.of(
+            "2020-02-29", "2019-02-29", "2100-02-29", "2000-02-29", "2020-1-2", "2020-01-02T10:00",
+            "2020-01-02 trailing", "2020-00-10", "2020-12-32", "29-02-2020", "29-02-2019",
+            "2020/01/02", "-2020-01-02", "2020-01", "invalid", ""
+        )) {
+            assertSameAsDateFormatMap(dateString);
+        }
+    }
+
+    @Test
+    public void testParse_WhitespaceAndOtherDigits_OnlyDateFormatMap() {
+        // SimpleDateFormat skips whitespace before a number, and accepts any Unicode digits.
+        for (String dateString : List.of(
+            " 2021-01-05", "\t2021-01-05", "2021- 01-05", "2021-01- 05", " 05-01-2021",
+            "\uFF12\uFF10\uFF12\uFF11-01-05", "2021-\u0660\u0661-05"
+        )) {
+            assertEquals(dateString, LocalDate.of(2021, 1, 5),
+                LocalDateFormatMap.toLocalDate(DateFormatMap.getDefaultMap().map(dateString)));
+            assertNull(dateString, mInstance.parse(dateString));
+        }
+        // Year 0 does not exist in GregorianCalendar.
+        assertNull(DateFormatMap.getDefaultMap().map("0-01-05"));
+        assertEquals(LocalDate.of(0, 1, 5), mInstance.parse("0-01-05"));
+    }
+
+    @Test
+    public void testParseBulk_ListAndArrays_SameOrder() {
+        final List<LocalDate> expected = Arrays.asList(
+            LocalDate.of(2020, 1, 2), null, LocalDate.of(2021, 3, 4)
+        );
+        final String[] input = {"2020-01-02", "invalid", "04-03-2021"};
+        assertEquals(expected, mInstance.parse(Arrays.asList(input)));
+        assertEquals(expected, mInstance.parse(input));
+        assertEquals(expected, mInstance.parallelParse(input));
+    }
+
+    @Test
+    public void testParallelParse_LargeArray_SameAsSequential() {
+        final String[] input = new String[10_000];
+        for (int i = 0; i < input.length; ++i) {
+            input[i] = LocalDate.of(2000, 1, 1).plusDays(i).toString();
+        }
+        input[5000] = "invalid";
+        assertEquals(mInstance.parse(input), mInstance.parallelParse(input));
+    }
+
+    @Test
+    public void testParseEpochDays_SameAsParse() {
+        final String[] input = {"2020-01-02", "invalid", null, "04-03-2021"};
+        final int[] output = new int[input.length];
+        mInstance.parseEpochDays(input, output);
+        assertEquals((int) LocalDate.of(2020, 1, 2).toEpochDay(), output[0]);
+        assertEquals(EpochDays.INVALID, output[1]);
+        assertEquals(EpochDays.INVALID, output[2]);
+        assertEquals((int) LocalDate.of(2021, 3, 4).toEpochDay(), output[3]);
+    }
+
+    @Test
+    public void testParseEpochDays_YearOutOfRange_ReturnsInvalid() {
+        final int[] output = new int[2];
+        mInstance.parseEpochDays(new String[]{"1000000-01-01", "999999-12-31"}, output);
+        assertEquals(EpochDays.INVALID, output[0]);
+        assertEquals(EpochDays.MAX_EPOCH_DAY, output[1]);
+    }
+
+    @Test
+    public void testParallelParseEpochDays_LargeArray_SameAsSequential() {
+        final String[] input = new String[10_000];
+        for (int i = 0; i < input.length; ++i) {
+            input[i] = LocalDate.of(2000, 1, 1).plusDays(i).toString();
+        }
+        input[5000] = "invalid";
+        final int[] sequential = new int[input.length];
+        final int[] parallel = new int[input.length];
+        mInstance.parseEpochDays(input, sequential);
+        mInstance.parallelParseEpochDays(input, parallel);
+        assertTrue(Arrays.equals(sequential, parallel));
+        assertEquals(EpochDays.INVALID, parallel[5000]);
+    }
+
+    @Test
+    public void testParseEpochDays_InvalidArrays_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.parseEpochDays(null, new int[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.parseEpochDays(new String[0], null));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.parallelParseEpochDays(new String[1], new int[0]));
+    }
+
+    @Test
+    public void testParseBulk_Null_ReturnsEmpty() {
+        assertTrue(mInstance.parse((List<String>) null).isEmpty());
+        assertTrue(mInstance.parse((String[]) null).isEmpty());
+        assertTrue(mInstance.parallelParse(null).isEmpty());
+    }
+
+    @Test
+    public void testConstructor_SingleFormatter() {
+        final LocalDateFormatMap map = new LocalDateFormatMap(LocalDateFormatMap.ofStrictPattern("uuuu/MM/dd"));
+        assertEquals(1, map.mFormatters.size());
+        assertEquals(LocalDate.of(2020, 1, 2), map.parse("2020/01/02"));
+        assertNull(map.parse("2020/02/30"));
+        assertNull(map.parse("2020-01-02"));
+    }
+
+    @Test
+    public void testConstructor_ListIsCopied() {
+        final List<DateTimeFormatter> formatters = new ArrayList<>(List.of(DateTimeFormatter.ISO_LOCAL_DATE));
+        final LocalDateFormatMap map = new LocalDateFormatMap(formatters);
+        formatters.clear();
+        assertEquals(1, map.mFormatters.size());
+    }
+
+    @Test
+    public void testConstructor_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new LocalDateFormatMap((List<DateTimeFormatter>) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new LocalDateFormatMap((DateTimeFormatter) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new LocalDateFormatMap(Arrays.asList(DateTimeFormatter.ISO_LOCAL_DATE, null)));
+    }
+
+    @Test
+    public void testOfStrictPattern_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> LocalDateFormatMap.ofStrictPattern(null));
+    }
+
+    @Test
+    public void testParseMonthDay_LeapDay_OnlyInLeapYears() {
+        assertEquals(LocalDate.of(2020, 2, 29), LocalDateFormatMap.parseMonthDay(2020, "02-29"));
+        assertNull(LocalDateFormatMap.parseMonthDay(2019, "02-29"));
+    }
+
+    @Test
+    public void testParseMonthDay_Valid_SameAsMonthDayDateFormatMap() {
+        for (LocalDate date = LocalDate.of(2019, 1, 1); date.getYear() == 2019; date = date.plusDays(1)) {
+            final String dateString = String.format("%02d-%02d", date.getMonthValue(), date.getDayOfMonth());
+            assertEquals(date, LocalDateFormatMap.parseMonthDay(2019, dateString));
+            assertEquals(
+                LocalDateFormatMap.toLocalDate(MonthDayDateFormatMap.map((short) 2019, dateString)),
+                LocalDateFormatMap.parseMonthDay(2019, dateString)
+            );
+        }
+    }
+
+    @Test
+    public void testParseMonthDay_Invalid_ReturnsNull() {
+        assertNull(LocalDateFormatMap.parseMonthDay(2020, "13-01"));
+        assertNull(LocalDateFormatMap.parseMonthDay(2020, "04-31"));
+        assertNull(LocalDateFormatMap.parseMonthDay(2020, "invalid"));
+        assertThrows(IllegalArgumentException.class, () -> LocalDateFormatMap.parseMonthDay(2020, null));
+    }
+
+    @Test
+    public void testToLocalDate_OtherTimeZone_UsesCalendarZone() {
+        final Calendar cal = new Calendar.Builder()
+            .setTimeZone(TimeZone.getTimeZone("Pacific/Kiritimati"))
+            .setDate(2020, Calendar.JANUARY, 2)
+            .build();
+        assertEquals(LocalDate.of(2020, 1, 2), LocalDateFormatMap.toLocalDate(cal));
+    }
+
+    @Test
+    public void testToCalendar_StartOfDay_DefaultZone() {
+        final Calendar cal = LocalDateFormatMap.toCalendar(LocalDate.of(2020, 1, 2));
+        assertEquals(2020, cal.get(Calendar.YEAR));
+        assertEquals(Calendar.JANUARY, cal.get(Calendar.MONTH));
+        assertEquals(2, cal.get(Calendar.DAY_OF_MONTH));
+        assertEquals(
+            LocalDate.of(2020, 1, 2).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+            cal.toInstant()
+        );
+    }
+
+    @Test
+    public void testConvert_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> LocalDateFormatMap.toLocalDate(null));
+        assertThrows(IllegalArgumentException.class, () -> LocalDateFormatMap.toCalendar(null));
+    }
+
+}
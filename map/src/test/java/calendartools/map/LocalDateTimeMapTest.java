@@ -0,0 +1,111 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.function.Function;
+
+/** Testing the LocalDateTimeMap, and its equivalence with MillisecondMap.
+ */
+public final class LocalDateTimeMapTest {
+
+    /** Extract the fields of a Calendar that a LocalDateTime also has.
+     */
+    private static List<Integer> fields(
+        final Calendar cal
+    ) {
+        return List.of(
+            cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DAY_OF_MONTH),
+            cal.get(Calendar.HOUR_OF_DAY), cal.get(Calendar.MINUTE), cal.get(Calendar.SECOND),
+            cal.get(Calendar.MILLISECOND)
+        );
+    }
+
+    private static List<Integer> fields(
+        final LocalDateTime dateTime
+    ) {
+        return List.of(
+            dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+            dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(),
+            dateTime.getNano() / 1_000_000
+        );
+    }
+
+    @Test
+    public void testMap_DefaultZone_SameAsMillisecondMap() {
+        final long[] values = TestDataProvider.getTargetWeek1();
+        final LocalDateTimeMap<List<Integer>> map = new LocalDateTimeMap<>(LocalDateTimeMapTest::fields);
+        final MillisecondMap<List<Integer>> expected = new MillisecondMap<>(LocalDateTimeMapTest::fields);
+        assertEquals(expected.map(values), map.map(values));
+        assertEquals(expected.map(values[3]), map.map(values[3]));
+    }
+
+    @Test
+    public void testToLocalDateTime_ZoneWithTransitions_SameAsCalendar() {
+        final String zone = "America/New_York";
+        final LocalDateTimeMap<List<Integer>> map = new LocalDateTimeMap<>(
+            LocalDateTimeMapTest::fields, ZoneId.of(zone)
+        );
+        final Calendar cal = Calendar.getInstance(TimeZone.getTimeZone(zone));
+        // Every 7 hours and 1 millisecond, from 1900 to 2100, covering every transition and negative values.
+        for (long millis = -2_208_988_800_000L; millis < 4_102_444_800_000L; millis += 25_200_001L) {
+            cal.setTimeInMillis(millis);
+            assertEquals(fields(cal), map.map(millis));
+        }
+    }
+
+    @Test
+    public void testToLocalDateTime_FixedOffset_AddsOffset() {
+        final LocalDateTimeMap<LocalDateTime> map = new LocalDateTimeMap<>(
+            Function.identity(), ZoneOffset.ofHours(5)
+        );
+        assertEquals(LocalDateTime.of(1970, 1, 1, 5, 0), map.toLocalDateTime(0L));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 4, 59, 59, 999_000_000), map.toLocalDateTime(-1L));
+    }
+
+    @Test
+    public void testMap_Range_SameAsMillisecondMap() {
+        final long[] values = TestDataProvider.getTargetWeek1();
+        final LocalDateTimeMap<List<Integer>> map = new LocalDateTimeMap<>(LocalDateTimeMapTest::fields);
+        final MillisecondMap<List<Integer>> expected = new MillisecondMap<>(LocalDateTimeMapTest::fields);
+        assertEquals(expected.map(values, 2, 3), map.map(values, 2, 3));
+        assertEquals(expected.map(values, -2, 5), map.map(values, -2, 5));
+        assertEquals(expected.map(values, 0, 0), map.map(values, 0, 0));
+    }
+
+    @Test
+    public void testMap_Collection_SameAsArray() {
+        final long[] values = TestDataProvider.getTargetWeek1();
+        final List<Long> collection = new ArrayList<>();
+        for (long value : values) collection.add(value);
+        final LocalDateTimeMap<List<Integer>> map = new LocalDateTimeMap<>(LocalDateTimeMapTest::fields);
+        assertEquals(map.map(values), map.map(collection));
+    }
+
+    @Test
+    public void testParallelMap_LargeArray_SameAsSequential() {
+        final long[] values = new long[20_000];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = i * 3_600_000L;
+        }
+        final LocalDateTimeMap<Integer> map = new LocalDateTimeMap<>(LocalDateTime::getDayOfYear);
+        assertEquals(map.map(values), map.parallelMap(values));
+    }
+
+    @Test
+    public void testConstructor_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> new LocalDateTimeMap<>(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new LocalDateTimeMap<>(Function.identity(), null));
+    }
+
+}
@@ -0,0 +1,105 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/** Testing the LogLinearHistogram.
+ */
+public final class LogLinearHistogramTest {
+
+    private LogLinearHistogram mInstance;
+
+    @Before
+    public void testSetup() {
+        mInstance = new LogLinearHistogram();
+    }
+
+    @Test
+    public void testBucketOf_SmallValues_OneBucketEach() {
+        for (int value = 0; value < 8; ++value) {
+            assertEquals(value, LogLinearHistogram.bucketOf(value));
+            assertEquals(value, LogLinearHistogram.lowerBound(value));
+            assertEquals(value, LogLinearHistogram.upperBound(value));
+        }
+    }
+
+    @Test
+    public void testBucketOf_Negative_FirstBucket() {
+        assertEquals(0, LogLinearHistogram.bucketOf(-1));
+        assertEquals(0, LogLinearHistogram.bucketOf(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testBucketOf_MaxValue_LastBucket() {
+        assertEquals(LogLinearHistogram.BUCKETS - 1, LogLinearHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LogLinearHistogram.upperBound(LogLinearHistogram.BUCKETS - 1));
+    }
+
+    @Test
+    public void testBounds_AllBuckets_ContiguousAndConsistent() {
+        for (int bucket = 0; bucket < LogLinearHistogram.BUCKETS; ++bucket) {
+            final long lower = LogLinearHistogram.lowerBound(bucket);
+            final long upper = LogLinearHistogram.upperBound(bucket);
+            assertEquals(bucket, LogLinearHistogram.bucketOf(lower));
+            assertEquals(bucket, LogLinearHistogram.bucketOf(upper));
+            if (bucket > 0)
+                assertEquals(LogLinearHistogram.upperBound(bucket - 1) + 1, lower);
+            // The width of a bucket is at most one eighth of its lower bound.
+            assertTrue(upper - lower <= Math.max(0, lower / 8));
+        }
+    }
+
+    @Test
+    public void testRecord_Values_CountTotalMax() {
+        mInstance.record(5);
+        mInstance.record(1000);
+        mInstance.record(-3);
+        assertEquals(3, mInstance.getCount());
+        assertEquals(1005, mInstance.getTotal());
+        assertEquals(1000, mInstance.getMax());
+        final long[] counts = mInstance.getCounts();
+        assertEquals(LogLinearHistogram.BUCKETS, counts.length);
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[5]);
+        assertEquals(1, counts[LogLinearHistogram.bucketOf(1000)]);
+    }
+
+    @Test
+    public void testGetValueAtPercentile_Empty_ReturnsZero() {
+        assertEquals(0, mInstance.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testGetValueAtPercentile_Uniform_WithinBucketPrecision() {
+        for (int value = 1; value <= 1000; ++value) {
+            mInstance.record(value);
+        }
+        assertEquals(1, mInstance.getValueAtPercentile(0));
+        final long median = mInstance.getValueAtPercentile(50);
+        assertTrue(median >= 500 && median <= 500 * 9 / 8);
+        final long tail = mInstance.getValueAtPercentile(99);
+        assertTrue(tail >= 990 && tail <= 1000);
+        assertEquals(1000, mInstance.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testGetValueAtPercentile_InvalidPercentile_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getValueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getValueAtPercentile(Double.NaN));
+    }
+
+    @Test
+    public void testReset_AfterRecording_Empty() {
+        mInstance.record(42);
+        mInstance.reset();
+        assertEquals(0, mInstance.getCount());
+        assertEquals(0, mInstance.getTotal());
+        assertEquals(0, mInstance.getMax());
+    }
+
+}
@@ -0,0 +1,405 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/** Testing the MappingProcessor class.
+ */
+public final class MappingProcessorTest {
+
+    /** Delivers outputs on the publishing thread, so the test can check them at once.
+     */
+    private static final Executor DIRECT = Runnable::run;
+
+    /** An upstream Subscription that records the demand.
+     */
+    private static final class Upstream implements Flow.Subscription {
+
+        final List<Long> mRequests = new ArrayList<>();
+
+        boolean mCancelled = false;
+
+        @Override
+        public void request(final long n) {
+            mRequests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            mCancelled = true;
+        }
+
+    }
+
+    /** A downstream Subscriber with unbounded demand.
+     */
+    private static class Downstream<R> implements Flow.Subscriber<R> {
+
+        final List<R> mItems = new ArrayList<>();
+
+        Throwable mError = null;
+
+        boolean mComplete = false;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final R item) {
+            mItems.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            mError = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            mComplete = true;
+        }
+
+    }
+
+    /** A downstream Subscriber that requests a few elements at a time, under the control of the test.
+     */
+    private static final class SteppingDownstream<R> implements Flow.Subscriber<R> {
+
+        final List<R> mItems = new ArrayList<>();
+
+        /** The number of elements requested in onSubscribe, and after each element when positive.
+         */
+        final long mStep;
+
+        final boolean mRequestEach;
+
+        Flow.Subscription mSubscription = null;
+
+        boolean mComplete = false;
+
+        SteppingDownstream(final long step, final boolean requestEach) {
+            mStep = step;
+            mRequestEach = requestEach;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            mSubscription = subscription;
+            subscription.request(mStep);
+        }
+
+        @Override
+        public void onNext(final R item) {
+            mItems.add(item);
+            if (mRequestEach) mSubscription.request(mStep);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+            mComplete = true;
+        }
+
+    }
+
+    private final List<List<Integer>> mBatches = new ArrayList<>();
+
+    private final Upstream mUpstream = new Upstream();
+
+    private final Downstream<Integer> mDownstream = new Downstream<>();
+
+    /** A Processor that doubles each element, and records each batch.
+     */
+    private MappingProcessor<Integer, Integer> newDoublingProcessor(
+        final int batchSize
+    ) {
+        final var processor = newDoublingProcessor(batchSize, true);
+        processor.onSubscribe(mUpstream);
+        return processor;
+    }
+
+    /** A Processor that doubles each element, and records each batch.
+     * @param subscribe Whether the unbounded downstream subscribes at once.
+     */
+    private MappingProcessor<Integer, Integer> newDoublingProcessor(
+        final int batchSize,
+        final boolean subscribe
+    ) {
+        final var processor = new MappingProcessor<Integer, Integer>(
+            batch -> {
+                mBatches.add(batch);
+                final List<Integer> result = new ArrayList<>();
+                for (int x : batch) result.add(2 * x);
+                return result;
+            },
+            DIRECT, batchSize, 16
+        );
+        if (subscribe) processor.subscribe(mDownstream);
+        return processor;
+    }
+
+    @Test
+    public void testOnNext_FullBatches_MappedAndRequested() {
+        final var processor = newDoublingProcessor(3);
+        for (int i = 1; i <= 7; ++i) processor.onNext(i);
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6)), mBatches);
+        assertEquals(List.of(2, 4, 6, 8, 10, 12), mDownstream.mItems);
+        assertEquals(List.of(3L, 3L, 3L), mUpstream.mRequests);
+        processor.onComplete();
+        assertEquals(List.of(2, 4, 6, 8, 10, 12, 14), mDownstream.mItems);
+        assertTrue(mDownstream.mComplete);
+    }
+
+    @Test
+    public void testFlush_PartialBatch_MappedAndRequested() {
+        final var processor = newDoublingProcessor(10);
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.flush();
+        processor.flush();
+        assertEquals(List.of(List.of(1, 2)), mBatches);
+        assertEquals(List.of(2, 4), mDownstream.mItems);
+        assertEquals(List.of(10L, 2L), mUpstream.mRequests);
+    }
+
+    @Test
+    public void testOnError_MapsPartialBatch_ThenFails() {
+        final var processor = newDoublingProcessor(10);
+        processor.onNext(1);
+        final var error = new ArithmeticException();
+        processor.onError(error);
+        assertEquals(List.of(2), mDownstream.mItems);
+        assertEquals(error, mDownstream.mError);
+        assertTrue(processor.isClosed());
+        processor.onError(new ArithmeticException());
+        processor.onComplete();
+        assertEquals(error, mDownstream.mError);
+        assertFalse(mDownstream.mComplete);
+    }
+
+    @Test
+    public void testOnComplete_Closed_Ignored() {
+        final var processor = newDoublingProcessor(10);
+        processor.onComplete();
+        processor.onComplete();
+        processor.onNext(1);
+        processor.flush();
+        assertTrue(mBatches.isEmpty());
+        assertTrue(mDownstream.mComplete);
+    }
+
+    @Test
+    public void testBatchFunction_Throws_FailsAndCancelsUpstream() {
+        final var processor = new MappingProcessor<Integer, Integer>(
+            batch -> { throw new ArithmeticException(); }, DIRECT, 1, 16
+        );
+        final var downstream = new Downstream<Integer>();
+        processor.subscribe(downstream);
+        processor.onSubscribe(mUpstream);
+        processor.onNext(1);
+        assertTrue(downstream.mError instanceof ArithmeticException);
+        assertTrue(mUpstream.mCancelled);
+        assertEquals(List.of(1L), mUpstream.mRequests);
+    }
+
+    @Test
+    public void testBatchFunction_WrongSize_FailsWithISE() {
+        final var processor = new MappingProcessor<Integer, Integer>(
+            batch -> List.of(), DIRECT, 1, 16
+        );
+        final var downstream = new Downstream<Integer>();
+        processor.subscribe(downstream);
+        processor.onSubscribe(mUpstream);
+        processor.onNext(1);
+        assertTrue(downstream.mError instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testOnSubscribe_Second_Cancelled() {
+        final Upstream second = new Upstream();
+        final var processor = newDoublingProcessor(4);
+        processor.onSubscribe(second);
+        assertTrue(second.mCancelled);
+        assertTrue(second.mRequests.isEmpty());
+    }
+
+    @Test
+    public void testSubscribe_Late_RequestsFollowDownstreamDemand() {
+        final var processor = new MappingProcessor<Integer, Integer>(
+            batch -> {
+                mBatches.add(batch);
+                final List<Integer> result = new ArrayList<>();
+                for (int x : batch) result.add(2 * x);
+                return result;
+            },
+            DIRECT, 4, 16
+        );
+        processor.onSubscribe(mUpstream);
+        processor.flush();
+        assertTrue(mUpstream.mRequests.isEmpty());
+        final var downstream = new SteppingDownstream<Integer>(1, false);
+        processor.subscribe(downstream);
+        assertEquals(List.of(4L), mUpstream.mRequests);
+        for (int i = 1; i <= 4; ++i) processor.onNext(i);
+        assertEquals(List.of(2), downstream.mItems);
+        assertEquals(List.of(4L), mUpstream.mRequests);
+        downstream.mSubscription.request(2);
+        assertEquals(List.of(2, 4, 6), downstream.mItems);
+        assertEquals(List.of(4L), mUpstream.mRequests);
+        downstream.mSubscription.request(5);
+        assertEquals(List.of(2, 4, 6, 8), downstream.mItems);
+        assertEquals(List.of(4L, 4L), mUpstream.mRequests);
+        processor.onNext(5);
+        processor.onComplete();
+        assertEquals(List.of(2, 4, 6, 8, 10), downstream.mItems);
+        assertTrue(downstream.mComplete);
+    }
+
+    @Test
+    public void testSubscribe_AfterUpstreamPublishes_DeliversEveryElement() {
+        final var upstream = new SubmissionPublisher<Integer>(DIRECT, 16);
+        final var processor = newDoublingProcessor(4, false);
+        upstream.subscribe(processor);
+        for (int i = 1; i <= 12; ++i) upstream.submit(i);
+        upstream.close();
+        assertTrue(mBatches.isEmpty());
+        final var downstream = new SteppingDownstream<Integer>(1, true);
+        processor.subscribe(downstream);
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 1; i <= 12; ++i) expected.add(2 * i);
+        assertEquals(expected, downstream.mItems);
+        assertEquals(3, mBatches.size());
+        assertTrue(downstream.mComplete);
+    }
+
+    @Test
+    public void testDownstream_QueuedExecutor_PublishesOnDemand() {
+        final List<Runnable> deliveries = new ArrayList<>();
+        final var processor = new MappingProcessor<Integer, Integer>(x -> x, deliveries::add, 4, 1);
+        final var downstream = new SteppingDownstream<Integer>(1, true);
+        processor.subscribe(downstream);
+        processor.onSubscribe(mUpstream);
+        assertTrue(mUpstream.mRequests.isEmpty());
+        while (!deliveries.isEmpty()) deliveries.remove(0).run();
+        assertEquals(List.of(4L), mUpstream.mRequests);
+        for (int i = 1; i <= 4; ++i) processor.onNext(i);
+        // Only one output is published per request, and the others wait without blocking the upstream thread.
+        assertTrue(downstream.mItems.isEmpty());
+        while (!deliveries.isEmpty()) deliveries.remove(0).run();
+        assertEquals(List.of(1, 2, 3, 4), downstream.mItems);
+        assertEquals(List.of(4L, 4L), mUpstream.mRequests);
+    }
+
+    @Test
+    public void testRequest_HeldBeyondBuffer_AndNonPositiveFails() {
+        final var processor = new MappingProcessor<Integer, Integer>(x -> x, DIRECT, 4, 2);
+        final var downstream = new SteppingDownstream<Integer>(Long.MAX_VALUE, false);
+        processor.subscribe(downstream);
+        downstream.mSubscription.request(Long.MAX_VALUE);
+        processor.onSubscribe(mUpstream);
+        for (int i = 1; i <= 8; ++i) processor.onNext(i);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), downstream.mItems);
+        final var failing = new Downstream<Integer>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(0);
+            }
+        };
+        processor.subscribe(failing);
+        assertTrue(failing.mError instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testSubscribers_Unwrapped() {
+        final var processor = newDoublingProcessor(4);
+        assertTrue(processor.isSubscribed(mDownstream));
+        assertFalse(processor.isSubscribed(new Downstream<>()));
+        assertEquals(List.of(mDownstream), processor.getSubscribers());
+        final var stepping = new SteppingDownstream<Integer>(1, false);
+        processor.subscribe(stepping);
+        assertTrue(processor.isSubscribed(stepping));
+        assertEquals(List.of(mDownstream, stepping), processor.getSubscribers());
+        stepping.mSubscription.cancel();
+        processor.onNext(1);
+        assertFalse(processor.isSubscribed(stepping));
+        assertThrows(NullPointerException.class, () -> processor.subscribe(null));
+        assertThrows(NullPointerException.class, () -> processor.isSubscribed(null));
+        final var wrapper = new MappingProcessor.DemandSubscriber<>(processor, mDownstream);
+        assertEquals(wrapper, new MappingProcessor.DemandSubscriber<>(processor, mDownstream));
+        assertEquals(mDownstream.hashCode(), wrapper.hashCode());
+        assertFalse(wrapper.equals(mDownstream));
+    }
+
+    @Test
+    public void testOnNext_Null_ThrowsNPE() {
+        final var processor = newDoublingProcessor(4);
+        assertThrows(NullPointerException.class, () -> processor.onNext(null));
+    }
+
+    @Test
+    public void testConstructor_InvalidArguments_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new MappingProcessor<Integer, Integer>(null, DIRECT, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MappingProcessor<Integer, Integer>(x -> x, null, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MappingProcessor<Integer, Integer>(x -> x, DIRECT, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MappingProcessor<Integer, Integer>(x -> x, DIRECT, 1, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> MappingProcessor.forDateFormatMap(null, DIRECT, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> MappingProcessor.forMillisecondMap(null, DIRECT, 1, 1));
+    }
+
+    @Test
+    public void testForDateFormatMap_InvalidString_EmptyOptional() {
+        final DateFormatMap map = DateFormatMap.getDefaultMap();
+        final var processor = MappingProcessor.forDateFormatMap(map, DIRECT, 2, 16);
+        final var downstream = new Downstream<Optional<Calendar>>();
+        processor.subscribe(downstream);
+        processor.onSubscribe(mUpstream);
+        processor.onNext("2020-01-02");
+        processor.onNext("invalid");
+        processor.onNext("03-04-2021");
+        processor.onComplete();
+        assertEquals(3, downstream.mItems.size());
+        assertEquals(map.map("2020-01-02"), downstream.mItems.get(0).get());
+        assertFalse(downstream.mItems.get(1).isPresent());
+        assertEquals(map.map("03-04-2021"), downstream.mItems.get(2).get());
+        assertNull(downstream.mError);
+    }
+
+    @Test
+    public void testForMillisecondMap_SameAsMillisecondMap() {
+        final MillisecondMap<Integer> map = new MillisecondMap<>(c -> c.get(Calendar.DAY_OF_YEAR));
+        final var processor = MappingProcessor.forMillisecondMap(map, DIRECT, 2, 16);
+        final var downstream = new Downstream<Integer>();
+        processor.subscribe(downstream);
+        processor.onSubscribe(mUpstream);
+        final List<Long> values = List.of(0L, 86_400_000L * 40, 86_400_000L * 200);
+        for (long x : values) processor.onNext(x);
+        processor.onComplete();
+        assertEquals(map.map(values), downstream.mItems);
+        assertTrue(downstream.mComplete);
+    }
+
+}
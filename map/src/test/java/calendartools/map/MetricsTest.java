@@ -0,0 +1,141 @@
+package calendartools.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.List;
+
+/** Testing the shared Metrics Recorder, and the hooks in the map classes.
+ */
+public final class MetricsTest {
+
+    private InMemoryMetricsRecorder mRecorder;
+
+    @Before
+    public void testSetup() {
+        mRecorder = new InMemoryMetricsRecorder();
+        Metrics.install(mRecorder);
+    }
+
+    @After
+    public void testCleanup() {
+        Metrics.install(MetricsRecorder.NOOP);
+    }
+
+    @Test
+    public void testInstall_ReturnsPrevious() {
+        assertSame(mRecorder, Metrics.install(MetricsRecorder.NOOP));
+        assertSame(MetricsRecorder.NOOP, Metrics.get());
+    }
+
+    @Test
+    public void testInstall_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> Metrics.install(null));
+        assertSame(mRecorder, Metrics.get());
+    }
+
+    @Test
+    public void testNoop_DiscardsEvents() {
+        final MetricsRecorder noop = MetricsRecorder.NOOP;
+        assertFalse(noop.isEnabled());
+        noop.parseAttempt(0, true);
+        noop.parseFailure();
+        noop.cacheLookup(true);
+        noop.bulkCall("A.map", 1, 1);
+        assertEquals(0, Metrics.start(noop));
+        Metrics.finish(noop, "A.map", 1, 0);
+        assertNull(mRecorder.getOperation("A.map"));
+    }
+
+    @Test
+    public void testFinish_Enabled_RecordsCall() {
+        final long start = Metrics.start(mRecorder);
+        Metrics.finish(mRecorder, "A.map", 3, start);
+        assertEquals(1, mRecorder.getOperation("A.map").getCalls());
+        assertEquals(3, mRecorder.getOperation("A.map").mElements.getTotal());
+    }
+
+    @Test
+    public void testDateFormatMap_Map_RecordsWinningFormat() {
+        final DateFormatMap map = DateFormatMap.getDefaultMap();
+        map.map("2020-01-02");
+        map.map("02-01-2020");
+        assertEquals(2, mRecorder.getParseAttempts(0));
+        assertEquals(1, mRecorder.getParseSuccesses(0));
+        assertEquals(1, mRecorder.getParseAttempts(1));
+        assertEquals(1, mRecorder.getParseSuccesses(1));
+        assertEquals(0, mRecorder.getParseFailures());
+    }
+
+    @Test
+    public void testDateFormatMap_MapInvalidSimpleLayout_RecordsEachFormat() {
+        assertNull(DateFormatMap.getDefaultMap().map("2021-02-29"));
+        assertEquals(1, mRecorder.getParseAttempts(0));
+        assertEquals(0, mRecorder.getParseSuccesses(0));
+        assertEquals(1, mRecorder.getParseAttempts(1));
+        assertEquals(0, mRecorder.getParseSuccesses(1));
+        assertEquals(1, mRecorder.getParseFailures());
+    }
+
+    @Test
+    public void testDateFormatMap_MapInvalid_RecordsFailure() {
+        assertNull(DateFormatMap.getDefaultMap().map("invalid"));
+        assertEquals(2, mRecorder.getParseAttempts(0) + mRecorder.getParseAttempts(1));
+        assertEquals(1, mRecorder.getParseFailures());
+    }
+
+    @Test
+    public void testDateFormatMap_BulkMap_RecordsCalls() {
+        final DateFormatMap map = DateFormatMap.getDefaultMap();
+        map.map(List.of("2020-01-02", "invalid"));
+        map.map(new String[]{"2020-01-02"});
+        final InMemoryMetricsRecorder.Operation operation = mRecorder.getOperation(DateFormatMap.BULK_OPERATION);
+        assertEquals(2, operation.getCalls());
+        assertEquals(3, operation.mElements.getTotal());
+        assertEquals(1, mRecorder.getParseFailures());
+    }
+
+    @Test
+    public void testTryParseSimpleDateFormats_RecordsAttempts() {
+        DateFormatMap.tryParseSimpleDateFormats("2020-01-02");
+        DateFormatMap.tryParseSimpleDateFormats("02-01-2020");
+        DateFormatMap.tryParseSimpleDateFormats("invalid");
+        assertEquals(3, mRecorder.getParseAttempts(0));
+        assertEquals(1, mRecorder.getParseSuccesses(0));
+        assertEquals(2, mRecorder.getParseAttempts(1));
+        assertEquals(1, mRecorder.getParseSuccesses(1));
+        assertEquals(1, mRecorder.getParseFailures());
+    }
+
+    @Test
+    public void testMonthDayDateFormatMap_Map_RecordsAttempts() {
+        final MonthDayDateFormatMap map = new MonthDayDateFormatMap(2020);
+        map.map("01-02");
+        map.map("invalid");
+        assertEquals(2, mRecorder.getParseAttempts(0));
+        assertEquals(1, mRecorder.getParseSuccesses(0));
+        assertEquals(1, mRecorder.getParseFailures());
+    }
+
+    @Test
+    public void testMillisecondMap_BulkMap_RecordsCalls() {
+        final MillisecondMap<Integer> map = new MillisecondMap<>(c -> c.get(Calendar.YEAR));
+        final long[] values = {0L, 86_400_000L, 172_800_000L};
+        map.map(values);
+        map.map(values, 1, 2);
+        map.map(List.of(0L));
+        map.map(0L);
+        final InMemoryMetricsRecorder.Operation operation = mRecorder.getOperation(MillisecondMap.BULK_OPERATION);
+        assertEquals(3, operation.getCalls());
+        assertEquals(6, operation.mElements.getTotal());
+    }
+
+}
@@ -1,12 +1,16 @@
 package calendartools.map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Calendar;
 import java.util.List;
+import java.util.TimeZone;
+
+import calendartools.data.EpochDays;
 
 /** Testing Millisecond Map.
  */
@@ -128,4 +132,41 @@ public final class MillisecondMapTest {
 		}
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testToEpochDays_TargetWeek1_SameAsCalendar() {
+		var targetWeek1 = TestDataProvider.getTargetWeek1();
+		final int[] output = new int[targetWeek1.length];
+		MillisecondMap.toEpochDays(targetWeek1, output);
+		final Calendar cal = Calendar.getInstance();
+		for (int index = 0; index < targetWeek1.length; ++index) {
+			cal.setTimeInMillis(targetWeek1[index]);
+			assertEquals(EpochDays.fromCalendar(cal), output[index]);
+			assertEquals(EpochDays.ofMillis(targetWeek1[index], TimeZone.getDefault()), output[index]);
+		}
+	}
+
+	@Test
+	public void testToDaysOfWeek_TargetWeek1_SameAsCalendar() {
+		var targetWeek1 = TestDataProvider.getTargetWeek1();
+		final int[] output = new int[targetWeek1.length];
+		MillisecondMap.toDaysOfWeek(targetWeek1, output);
+		final Calendar cal = Calendar.getInstance();
+		for (int index = 0; index < targetWeek1.length; ++index) {
+			cal.setTimeInMillis(targetWeek1[index]);
+			assertEquals(cal.get(Calendar.DAY_OF_WEEK), output[index]);
+		}
+		assertThrows(IllegalArgumentException.class,
+			() -> MillisecondMap.toDaysOfWeek(new long[2], new int[1]));
+	}
+
+	@Test
+	public void testToEpochDays_InvalidArrays_ThrowsIAE() {
+		assertThrows(IllegalArgumentException.class,
+			() -> MillisecondMap.toEpochDays(null, new int[0]));
+		assertThrows(IllegalArgumentException.class,
+			() -> MillisecondMap.toEpochDays(new long[0], null));
+		assertThrows(IllegalArgumentException.class,
+			() -> MillisecondMap.toEpochDays(new long[2], new int[1]));
+	}
+
+}
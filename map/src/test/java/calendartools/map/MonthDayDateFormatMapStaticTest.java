@@ -1,8 +1,10 @@
 package calendartools.map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static calendartools.map.DateFormatMapTest.matchingCalendarDates;
@@ -74,4 +76,13 @@ public class MonthDayDateFormatMapStaticTest {
         assertEquals(5, result.get(Calendar.DAY_OF_MONTH));
     }
     
+    @Test
+    public void test_getMonthDayFormat_SharedAndStrict() {
+        final var format = MonthDayDateFormatMap.getMonthDayFormat();
+        assertEquals("MM-dd", format.toPattern());
+        assertFalse(format.isLenient());
+        assertSame(format, MonthDayDateFormatMap.getMonthDayFormat());
+        assertSame(format, new MonthDayDateFormatMap(2020).mDateFormats.get(0));
+    }
+    
 }
@@ -129,4 +129,13 @@ public class MonthDayDateFormatMapTest {
         assertEquals(TestDataProvider.CurrentYear, mInstance.hashCode());
     }
     
+    @Test
+    public void testCopy_ClonesFormat_SameResults() {
+        final MonthDayDateFormatMap copy = mInstance.copy();
+        assertEquals(mInstance, copy);
+        assertTrue(mInstance.mDateFormats.get(0) != copy.mDateFormats.get(0));
+        assertTrue(matchingCalendarDates(mInstance.map("02-03"), copy.map("02-03")));
+        assertNull(copy.map("13-01"));
+    }
+    
 }
@@ -0,0 +1,198 @@
+package calendartools.yearplanner;
+
+import calendartools.data.WeeklyChecklist;
+
+/** Business Day arithmetic over a span of consecutive years.
+ *  - A Business Day is a day of the week in the working-week checklist, that is not a holiday.
+ *  - Days are identified by their Epoch Day, as in RangePlanner.
+ *  - Counting and adding Business Days are array lookups, with no day-by-day iteration.
+ */
+public class BusinessDayCalendar {
+
+    /** The first Year in the range.
+     */
+    public final short mFirstYear;
+
+    /** The last Year in the range, inclusive.
+     */
+    public final short mLastYear;
+
+    /** The Epoch Day of January 1st of the first Year.
+     */
+    private final int mFirstEpochDay;
+
+    /** The number of Business Days before each day in the range, with one extra element for the end of the range.
+     */
+    private final int[] mPrefix;
+
+    /** The index of each Business Day in the range, in ascending order.
+     */
+    private final int[] mBusinessDays;
+
+    /** Build the tables for a span of years.
+     * @param firstYear The first Year in the range.
+     * @param lastYear The last Year in the range, inclusive.
+     * @param workingDays The days of the week that are worked.
+     * @param holidayEpochDays The Epoch Days that are not worked. Days outside of the range are ignored.
+     * @throws IllegalArgumentException When an argument is null, a year does not fit in a Short integer, or the range is reversed.
+     */
+    public BusinessDayCalendar(
+        final int firstYear,
+        final int lastYear,
+        final WeeklyChecklist workingDays,
+        final int[] holidayEpochDays
+    ) throws IllegalArgumentException {
+        if (workingDays == null || holidayEpochDays == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        if (firstYear < Short.MIN_VALUE || lastYear > Short.MAX_VALUE || firstYear > lastYear)
+            throw new IllegalArgumentException("Invalid Year Range: " + firstYear + " to " + lastYear);
+        mFirstYear = (short) firstYear;
+        mLastYear = (short) lastYear;
+        mFirstEpochDay = RangePlanner.getCalendarEpochDay(firstYear, 1);
+        final int length = RangePlanner.getCalendarEpochDay(lastYear + 1, 1) - mFirstEpochDay;
+        // Expand the working week into every year, as one bit per day of the range.
+        final long[] working = new long[(length + 63) >>> 6];
+        for (int year = firstYear; year <= lastYear; ++year) {
+            final long[] bitmap = DayOfYearBitmap.expand(workingDays, year);
+            final int start = RangePlanner.getCalendarEpochDay(year, 1) - mFirstEpochDay;
+            final int yearLength = YearPlanner.getYearLength(year);
+            for (int day = 0; day < yearLength; ++day) {
+                if ((bitmap[day >>> 6] & (1L << day)) != 0) {
+                    final int index = start + day;
+                    working[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+        for (int epochDay : holidayEpochDays) {
+            final int index = epochDay - mFirstEpochDay;
+            if (index >= 0 && index < length)
+                working[index >>> 6] &= ~(1L << index);
+        }
+        mPrefix = new int[length + 1];
+        int count = 0;
+        for (int i = 0; i < length; ++i) {
+            mPrefix[i] = count;
+            if ((working[i >>> 6] & (1L << i)) != 0) ++count;
+        }
+        mPrefix[length] = count;
+        mBusinessDays = new int[count];
+        for (int i = 0, next = 0; i < length; ++i) {
+            if (mPrefix[i + 1] != mPrefix[i]) mBusinessDays[next++] = i;
+        }
+    }
+
+    /** Build the tables for a span of years, with the holidays of a HolidayIndex.
+     * @param firstYear The first Year in the range.
+     * @param lastYear The last Year in the range, inclusive.
+     * @param workingDays The days of the week that are worked.
+     * @param holidays The dates that are not worked. Dates outside of the range are ignored.
+     * @throws IllegalArgumentException When an argument is null, a year does not fit in a Short integer, or the range is reversed.
+     */
+    public BusinessDayCalendar(
+        final int firstYear,
+        final int lastYear,
+        final WeeklyChecklist workingDays,
+        final HolidayIndex holidays
+    ) throws IllegalArgumentException {
+        this(firstYear, lastYear, workingDays, holidays == null ? null : holidays.toEpochDays());
+    }
+
+    /** The Epoch Day of January 1st of the first Year.
+     * @return The first Epoch Day in the range.
+     */
+    public final int getFirstEpochDay() {
+        return mFirstEpochDay;
+    }
+
+    /** The Epoch Day of December 31st of the last Year.
+     * @return The last Epoch Day in the range.
+     */
+    public final int getLastEpochDay() {
+        return mFirstEpochDay + mPrefix.length - 2;
+    }
+
+    /** The number of Business Days in the whole range.
+     * @return The count of Business Days.
+     */
+    public final int size() {
+        return mBusinessDays.length;
+    }
+
+    /** Determine whether a day is a Business Day.
+     * @param epochDay The number of days since January 1st 1970, within the range.
+     * @return True if the day is worked, and is not a holiday.
+     * @throws IllegalArgumentException When the day is outside of the range.
+     */
+    public final boolean isBusinessDay(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        final int index = indexOf(epochDay);
+        return mPrefix[index + 1] != mPrefix[index];
+    }
+
+    /** Count the Business Days from the start day, up to but excluding the end day.
+     * @param startEpochDay The first day to count.
+     * @param endEpochDay The day after the last day to count. May be up to one day after the range.
+     * @return The number of Business Days. Negative when the end is before the start.
+     * @throws IllegalArgumentException When a day is outside of the range.
+     */
+    public final int countBetween(
+        final int startEpochDay,
+        final int endEpochDay
+    ) throws IllegalArgumentException {
+        return mPrefix[boundOf(endEpochDay)] - mPrefix[boundOf(startEpochDay)];
+    }
+
+    /** Find the Business Day that is a number of Business Days after, or before, a day.
+     *  - The given day does not need to be a Business Day, and is not counted.
+     * @param epochDay The day to start from.
+     * @param businessDays The number of Business Days to move. Negative to move backwards.
+     * @return The Epoch Day of the Business Day that was reached, or the given day when the number is zero.
+     * @throws IllegalArgumentException When either day is outside of the range.
+     */
+    public final int addBusinessDays(
+        final int epochDay,
+        final int businessDays
+    ) throws IllegalArgumentException {
+        final int index = indexOf(epochDay);
+        if (businessDays == 0)
+            return epochDay;
+        // The ordinal of the target, among the Business Days of the range.
+        final long ordinal = businessDays > 0
+            ? (long) mPrefix[index + 1] + businessDays - 1
+            : (long) mPrefix[index] + businessDays;
+        if (ordinal < 0 || ordinal >= mBusinessDays.length)
+            throw new IllegalArgumentException("Result Out Of Range: " + businessDays + " from " + epochDay);
+        return mFirstEpochDay + mBusinessDays[(int) ordinal];
+    }
+
+    /** Find the first Business Day on or after a day.
+     * @param epochDay The day to start from.
+     * @return The same day if it is a Business Day, otherwise the next Business Day.
+     * @throws IllegalArgumentException When either day is outside of the range.
+     */
+    public final int nextBusinessDay(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        return isBusinessDay(epochDay) ? epochDay : addBusinessDays(epochDay, 1);
+    }
+
+    private int indexOf(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        final int index = epochDay - mFirstEpochDay;
+        if (index < 0 || index >= mPrefix.length - 1)
+            throw new IllegalArgumentException("Day Out Of Range: " + epochDay);
+        return index;
+    }
+
+    private int boundOf(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        final int index = epochDay - mFirstEpochDay;
+        if (index < 0 || index >= mPrefix.length)
+            throw new IllegalArgumentException("Day Out Of Range: " + epochDay);
+        return index;
+    }
+
+}
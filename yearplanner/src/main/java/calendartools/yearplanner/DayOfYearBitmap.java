@@ -0,0 +1,160 @@
+package calendartools.yearplanner;
+
+import calendartools.data.WeeklyChecklist;
+
+/** Day of the Year Bitmaps, with one bit for each day in a year.
+ *  - A Bitmap is an Array of 6 long words, enough for 366 days.
+ *  - The Day of the Year N is stored in bit (N - 1) % 64 of word (N - 1) / 64.
+ *  - Bits beyond the last day of the year are never set.
+ */
+public final class DayOfYearBitmap {
+
+    /** The number of long words in a Bitmap.
+     */
+    public static final int WORDS = 6;
+
+    /** Has a bit set at every multiple of 7, from bit 0 up to bit 63.
+     *  Multiplying a 7-bit week pattern by this tiles the pattern across a whole word.
+     */
+    static final long WEEK_TILE = 0x8102040810204081L;
+
+    private DayOfYearBitmap() {}
+
+    /** Expand a WeeklyChecklist into a Bitmap of every checked day in the year.
+     *  - The weekly pattern is tiled across each word, so no Calendar is used per day.
+     * @param checklist The days of the week to select.
+     * @param year The Year to expand the checklist into.
+     * @return A new Bitmap with the selected days of the year.
+     * @throws IllegalArgumentException When the checklist is null.
+     */
+    public static long[] expand(
+        final WeeklyChecklist checklist,
+        final int year
+    ) throws IllegalArgumentException {
+        if (checklist == null) throw new IllegalArgumentException();
+        final long[] result = new long[WORDS];
+        expandInto(
+            checklist.toByte(),
+            YearPlanner.getWeekOffset(year),
+            YearPlanner.getYearLength(year),
+            result,
+            0
+        );
+        return result;
+    }
+
+    /** Expand a packed array of WeeklyChecklist data into consecutive Bitmaps.
+     *  - The year is evaluated once for the whole array.
+     *  - Large arrays reuse a table containing the expansion of all 128 possible checklists.
+     * @param packed The packed checklist data, one WeeklyChecklist.toByte() value per element.
+     * @param year The Year to expand the checklists into.
+     * @return A new Array of length 6 times the number of checklists. The Bitmap of checklist i starts at 6 * i.
+     * @throws IllegalArgumentException When the array is null, or contains invalid checklist data.
+     */
+    public static long[] expand(
+        final byte[] packed,
+        final int year
+    ) throws IllegalArgumentException {
+        if (packed == null) throw new IllegalArgumentException();
+        final byte weekOffset = YearPlanner.getWeekOffset(year);
+        final short yearLength = YearPlanner.getYearLength(year);
+        final long[] result = new long[packed.length * WORDS];
+        if (packed.length <= 128) {
+            for (int i = 0; i < packed.length; ++i) {
+                expandInto(validate(packed[i]), weekOffset, yearLength, result, i * WORDS);
+            }
+            return result;
+        }
+        final long[] table = new long[128 * WORDS];
+        for (int data = 0; data < 128; ++data) {
+            expandInto((byte) data, weekOffset, yearLength, table, data * WORDS);
+        }
+        for (int i = 0; i < packed.length; ++i) {
+            System.arraycopy(table, validate(packed[i]) * WORDS, result, i * WORDS, WORDS);
+        }
+        return result;
+    }
+
+    /** Determine whether the given day is set in the Bitmap.
+     * @param bitmap The Bitmap to query.
+     * @param dayOfYear The Day of the Year. Min 1, Max 366.
+     * @return True if the bit for the day is set.
+     */
+    public static boolean isSet(
+        final long[] bitmap,
+        final int dayOfYear
+    ) {
+        final int index = dayOfYear - 1;
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /** Count the number of days that are set in the Bitmap.
+     * @param bitmap The Bitmap to count.
+     * @return The number of set days.
+     */
+    public static int count(
+        final long[] bitmap
+    ) {
+        int result = 0;
+        for (long word : bitmap) {
+            result += Long.bitCount(word);
+        }
+        return result;
+    }
+
+    /** Obtain the Days of the Year that are set in the Bitmap.
+     * @param bitmap The Bitmap to read.
+     * @return A new Array of the set Days of the Year, in ascending order.
+     */
+    public static short[] toDayNumbers(
+        final long[] bitmap
+    ) {
+        final short[] result = new short[count(bitmap)];
+        int next = 0;
+        for (int w = 0; w < bitmap.length; ++w) {
+            long word = bitmap[w];
+            while (word != 0) {
+                result[next++] = (short) (w * 64 + Long.numberOfTrailingZeros(word) + 1);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /** Write the Bitmap for one checklist into the destination.
+     * @param data The checklist data. Bit 0 is Sunday.
+     * @param weekOffset The Day of the Week of January 1st, where Sunday is 0.
+     * @param yearLength The number of days in the year.
+     * @param destination The Array that receives the Bitmap.
+     * @param start The index of the first word to write.
+     */
+    static void expandInto(
+        final byte data,
+        final int weekOffset,
+        final int yearLength,
+        final long[] destination,
+        final int start
+    ) {
+        // Since 64 = 9 * 7 + 1, every word starts one weekday later than the previous word.
+        for (int w = 0; w < WORDS; ++w) {
+            final int phase = (weekOffset + w) % 7;
+            final long rotated = ((data >>> phase) | (data << (7 - phase))) & 0x7F;
+            destination[start + w] = rotated * WEEK_TILE;
+        }
+        // Clear the bits beyond the end of the year.
+        final int lastWord = (yearLength - 1) >>> 6;
+        destination[start + lastWord] &= -1L >>> (63 - ((yearLength - 1) & 63));
+        for (int w = lastWord + 1; w < WORDS; ++w) {
+            destination[start + w] = 0;
+        }
+    }
+
+    private static byte validate(
+        final byte data
+    ) throws IllegalArgumentException {
+        if (data < 0)
+            throw new IllegalArgumentException("Invalid Checklist Data: " + data);
+        return data;
+    }
+
+}
@@ -0,0 +1,280 @@
+package calendartools.yearplanner;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+
+import calendartools.map.DateFormatMap;
+import calendartools.map.LocalDateFormatMap;
+
+/** An index of holidays, or other blackout dates, over a span of consecutive years.
+ *  - Each year is a Day of the Year Bitmap, in the same layout as DayOfYearBitmap.
+ *  - Membership checks and searches for the next non-holiday are bit operations.
+ *  - Adding dates is not thread-safe. Once loaded, the index may be queried by many threads.
+ *  - Dates are GregorianCalendar dates, and Epoch Days are counted as in RangePlanner.getCalendarEpochDay.
+ */
+public class HolidayIndex {
+
+    /** A leap year, in which every Month-Day String is a valid date.
+     */
+    static final int LEAP_YEAR = 2000;
+
+    /** The first Year in the range.
+     */
+    public final short mFirstYear;
+
+    /** The last Year in the range, inclusive.
+     */
+    public final short mLastYear;
+
+    /** The Bitmap of each year, with the Bitmap of year Y starting at index 6 * (Y - mFirstYear).
+     */
+    private final long[] mBitmaps;
+
+    /** Create an empty index for a span of years.
+     * @param firstYear The first Year in the range.
+     * @param lastYear The last Year in the range, inclusive.
+     * @throws IllegalArgumentException When a year does not fit in a Short integer, or the range is reversed.
+     */
+    public HolidayIndex(
+        final int firstYear,
+        final int lastYear
+    ) throws IllegalArgumentException {
+        if (firstYear < Short.MIN_VALUE || lastYear > Short.MAX_VALUE || firstYear > lastYear)
+            throw new IllegalArgumentException("Invalid Year Range: " + firstYear + " to " + lastYear);
+        mFirstYear = (short) firstYear;
+        mLastYear = (short) lastYear;
+        mBitmaps = new long[(lastYear - firstYear + 1) * DayOfYearBitmap.WORDS];
+    }
+
+    /** Add a single date.
+     * @param year The Year, within the range.
+     * @param dayOfYear The Day of the Year.
+     * @throws IllegalArgumentException When the year is outside of the range, or the day is not in the year.
+     */
+    public void add(
+        final int year,
+        final int dayOfYear
+    ) throws IllegalArgumentException {
+        final int start = startOf(year);
+        if (dayOfYear < 1 || dayOfYear > YearPlanner.getYearLength(year))
+            throw new IllegalArgumentException("Invalid Day of Year: " + dayOfYear);
+        final int index = dayOfYear - 1;
+        mBitmaps[start + (index >>> 6)] |= 1L << index;
+    }
+
+    /** Add a date that occurs on the same Month and Day in every year of the range.
+     *  - Years without the date, such as February 29th outside of leap years, are skipped.
+     * @param month The Month. Min 1, Max 12.
+     * @param day The day of the month. Min 1, Max 31.
+     * @throws IllegalArgumentException When the month or day is invalid.
+     */
+    public void addMonthDay(
+        final int month,
+        final int day
+    ) throws IllegalArgumentException {
+        if (month < 1 || month > 12 || day < 1 || day > 31)
+            throw new IllegalArgumentException("Invalid Month-Day: " + month + "-" + day);
+        for (int year = mFirstYear; year <= mLastYear; ++year) {
+            if (isValidDate(year, month, day))
+                add(year, YearPlanner.getDayNumber(year, month, day));
+        }
+    }
+
+    /** Add dates that occur every year, from Month-Day Strings such as "12-25".
+     *  - Strings are parsed by LocalDateFormatMap.parseMonthDay in a leap year, so "02-29" is accepted, then added as in addMonthDay.
+     * @param monthDayStrings The Month-Day (MM-DD) Strings.
+     * @throws IllegalArgumentException When a String is null or fails to parse.
+     */
+    public void addMonthDayStrings(
+        final String... monthDayStrings
+    ) throws IllegalArgumentException {
+        for (String dateString : monthDayStrings) {
+            // The fields are taken from the String, so the calendar of the first year cannot shift them.
+            final LocalDate date = LocalDateFormatMap.parseMonthDay(LEAP_YEAR, dateString);
+            if (date == null)
+                throw new IllegalArgumentException("Invalid Month-Day String: " + dateString);
+            addMonthDay(date.getMonthValue(), date.getDayOfMonth());
+        }
+    }
+
+    /** Add single dates from Date Strings, such as "2025-12-25".
+     *  - Strings are parsed by the default DateFormatMap. Dates outside of the range are ignored.
+     * @param dateStrings The Date (YYYY-MM-DD) Strings.
+     * @throws IllegalArgumentException When a String is null or fails to parse.
+     */
+    public void addDateStrings(
+        final String... dateStrings
+    ) throws IllegalArgumentException {
+        final DateFormatMap dateMap = DateFormatMap.getDefaultMap();
+        for (String dateString : dateStrings) {
+            final Calendar cal = dateMap.map(dateString);
+            if (cal == null)
+                throw new IllegalArgumentException("Invalid Date String: " + dateString);
+            final int year = cal.get(Calendar.YEAR);
+            if (year >= mFirstYear && year <= mLastYear)
+                add(year, cal.get(Calendar.DAY_OF_YEAR));
+        }
+    }
+
+    /** Add a date that occurs on the Nth Day of the Week in a Month, in every year of the range.
+     *  - For example, the first Monday of September is (9, Calendar.MONDAY, 1).
+     * @param month The Month. Min 1, Max 12.
+     * @param dayOfWeek The Day of the Week, from Calendar.DAY_OF_WEEK.
+     * @param n The occurrence in the month, from 1 to 5, or -1 for the last occurrence.
+     *          Years without a fifth occurrence are skipped.
+     * @throws IllegalArgumentException When an argument is out of range.
+     */
+    public void addNthWeekday(
+        final int month,
+        final int dayOfWeek,
+        final int n
+    ) throws IllegalArgumentException {
+        if (month < 1 || month > 12)
+            throw new IllegalArgumentException("Invalid Month: " + month);
+        if (dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY)
+            throw new IllegalArgumentException("Invalid Day of Week: " + dayOfWeek);
+        if (n == 0 || n < -1 || n > 5)
+            throw new IllegalArgumentException("Invalid Occurrence: " + n);
+        for (int year = mFirstYear; year <= mLastYear; ++year) {
+            final int dayOfYear = getNthWeekday(year, month, dayOfWeek, n);
+            if (dayOfYear > 0) add(year, dayOfYear);
+        }
+    }
+
+    /** Determine whether a date is in the index.
+     * @param year The Year.
+     * @param dayOfYear The Day of the Year. Min 1, Max 366.
+     * @return True if the date was added. False for years outside of the range.
+     */
+    public final boolean isHoliday(
+        final int year,
+        final int dayOfYear
+    ) {
+        if (year < mFirstYear || year > mLastYear || dayOfYear < 1 || dayOfYear > 366)
+            return false;
+        final int index = dayOfYear - 1;
+        return (mBitmaps[DayOfYearBitmap.WORDS * (year - mFirstYear) + (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    /** Find the first date on or after the given date that is not in the index.
+     *  - The search continues into the following years. Days after the range are never holidays.
+     * @param year The Year to start from.
+     * @param dayOfYear The Day of the Year to start from, within the year.
+     * @return The Epoch Day of the first non-holiday.
+     */
+    public final int nextNonHoliday(
+        final int year,
+        final int dayOfYear
+    ) {
+        int y = year;
+        int index = dayOfYear - 1;
+        while (y >= mFirstYear && y <= mLastYear) {
+            final int start = DayOfYearBitmap.WORDS * (y - mFirstYear);
+            final int length = YearPlanner.getYearLength(y);
+            for (int w = index >>> 6; w < DayOfYearBitmap.WORDS && w * 64 < length; ++w) {
+                // Free days are the zero bits, from the current index onwards.
+                long free = ~mBitmaps[start + w];
+                if (w == index >>> 6) free &= -1L << index;
+                if (free != 0) {
+                    final int day = w * 64 + Long.numberOfTrailingZeros(free);
+                    if (day < length)
+                        return RangePlanner.getCalendarEpochDay(y, day + 1);
+                }
+            }
+            ++y;
+            index = 0;
+        }
+        return RangePlanner.getCalendarEpochDay(y, index + 1);
+    }
+
+    /** The number of dates in the index.
+     * @return The count of holidays in all years.
+     */
+    public final int count() {
+        return DayOfYearBitmap.count(mBitmaps);
+    }
+
+    /** Copy the Bitmap of a year.
+     * @param year The Year, within the range.
+     * @return A new Day of the Year Bitmap, compatible with DayOfYearBitmap.
+     * @throws IllegalArgumentException When the year is outside of the range.
+     */
+    public final long[] getBitmap(
+        final int year
+    ) throws IllegalArgumentException {
+        final long[] result = new long[DayOfYearBitmap.WORDS];
+        System.arraycopy(mBitmaps, startOf(year), result, 0, DayOfYearBitmap.WORDS);
+        return result;
+    }
+
+    /** Obtain every date in the index as an Epoch Day, such as for BusinessDayCalendar.
+     * @return A new Array of Epoch Days, in ascending order.
+     */
+    public final int[] toEpochDays() {
+        final int[] result = new int[count()];
+        int next = 0;
+        for (int year = mFirstYear; year <= mLastYear; ++year) {
+            final int yearStart = RangePlanner.getCalendarEpochDay(year, 1);
+            for (short day : DayOfYearBitmap.toDayNumbers(getBitmap(year))) {
+                result[next++] = yearStart + day - 1;
+            }
+        }
+        return result;
+    }
+
+    /** Determine the Day of the Year of the Nth Day of the Week in a Month, without a Calendar.
+     * @return The Day of the Year, or 0 if the month has no such occurrence.
+     */
+    static int getNthWeekday(
+        final int year,
+        final int month,
+        final int dayOfWeek,
+        final int n
+    ) {
+        final int monthStart = YearPlanner.getDayNumber(year, month, 1);
+        final int monthEnd = monthStart + getMonthLength(year, month) - 1;
+        // The Day of the Week of a Day of the Year, where Sunday is 0.
+        final int weekOffset = YearPlanner.getWeekOffset(year);
+        if (n == -1) {
+            final int endDayOfWeek = (weekOffset + monthEnd - 1) % 7;
+            return monthEnd - Math.floorMod(endDayOfWeek - (dayOfWeek - 1), 7);
+        }
+        final int startDayOfWeek = (weekOffset + monthStart - 1) % 7;
+        final int result = monthStart + Math.floorMod(dayOfWeek - 1 - startDayOfWeek, 7) + 7 * (n - 1);
+        return result <= monthEnd ? result : 0;
+    }
+
+    /** Determine whether a date exists, without a Calendar.
+     * @return False for days past the end of the month, and the days skipped by the cutover in October 1582.
+     */
+    static boolean isValidDate(
+        final int year,
+        final int month,
+        final int day
+    ) {
+        if (year == YearPlanner.CUTOVER_YEAR && month == 10)
+            return day < 5 || (day >= 15 && day <= 31);
+        return day <= getMonthLength(year, month);
+    }
+
+    /** The number of Days of the Year in a Month. October 1582 has 21.
+     */
+    static int getMonthLength(
+        final int year,
+        final int month
+    ) {
+        final int next = month == 12
+            ? YearPlanner.getYearLength(year) + 1
+            : YearPlanner.getDayNumber(year, month + 1, 1);
+        return next - YearPlanner.getDayNumber(year, month, 1);
+    }
+
+    private int startOf(
+        final int year
+    ) throws IllegalArgumentException {
+        if (year < mFirstYear || year > mLastYear)
+            throw new IllegalArgumentException("Year Out Of Range: " + year);
+        return DayOfYearBitmap.WORDS * (year - mFirstYear);
+    }
+
+}
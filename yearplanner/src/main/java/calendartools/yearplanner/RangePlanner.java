@@ -0,0 +1,281 @@
+package calendartools.yearplanner;
+
+import java.util.Calendar;
+import java.util.stream.IntStream;
+
+import calendartools.data.EpochDays;
+
+/** Plans across a span of consecutive years, with one table for every day in the span.
+ *  - Days are identified by their Epoch Day: the number of days since January 1st 1970, as in EpochDays.
+ *  - Years, Months and Days are the fields of GregorianCalendar, which are Julian dates before October 15th 1582.
+ *    The Epoch Day of a day is the same as EpochDays.fromCalendar, but before 1583 EpochDays.of labels it with a different date.
+ *    For example, getCalendarEpochDay(1500, 1) is EpochDays.of(1500, 1, 10).
+ *  - Every query is an array lookup. Calendar is only used while the tables are built.
+ */
+public class RangePlanner {
+
+    /** The fixed day number of January 1st 1970, where day 1 is January 1st of 1 AD.
+     */
+    static final int EPOCH_FIXED_DAY = 719_163;
+
+    /** Determine the Epoch Day of a GregorianCalendar Day of the Year, without a Calendar.
+     *  - Before 1583, the Year and Day are Julian, so this differs from EpochDays.ofYearDay.
+     * @param year The Year. Must fit in a Short integer.
+     * @param dayOfYear The Day of the Year. Days beyond the year continue into the next year.
+     * @return The number of days since January 1st 1970.
+     */
+    public static int getCalendarEpochDay(
+        final int year,
+        final int dayOfYear
+    ) {
+        return (int) (YearPlanner.getFixedDay(year) - EPOCH_FIXED_DAY) + dayOfYear - 1;
+    }
+
+    /** Determine the GregorianCalendar Year that contains an Epoch Day, without a Calendar.
+     *  - Before 1583, this is the Julian Year, so it may differ from EpochDays.getYear.
+     * @param epochDay The number of days since January 1st 1970.
+     * @return The Year.
+     */
+    public static int getCalendarYear(
+        final int epochDay
+    ) {
+        // Start from the average year length, then correct by whole years.
+        int year = 1970 + (int) Math.floorDiv(400L * epochDay, 146_097L);
+        while (getCalendarEpochDay(year, 1) > epochDay) --year;
+        while (getCalendarEpochDay(year + 1, 1) <= epochDay) ++year;
+        return year;
+    }
+
+    /** The first Year in the range.
+     */
+    public final short mFirstYear;
+
+    /** The last Year in the range, inclusive.
+     */
+    public final short mLastYear;
+
+    /** The rule for the Weeks of the Year.
+     */
+    public final WeekRule mWeekRule;
+
+    /** The Epoch Day of January 1st of each Year, with one extra element for the day after the range.
+     */
+    private final int[] mYearStart;
+
+    /** The Day of the Year of each day in the range.
+     */
+    private final short[] mDayOfYear;
+
+    /** The Week of the Year of each day in the range, matching Calendar.WEEK_OF_YEAR.
+     */
+    private final byte[] mWeekOfYear;
+
+    /** The Month of each day in the range, from Calendar.JANUARY to Calendar.DECEMBER.
+     */
+    private final byte[] mMonth;
+
+    /** The Day of the Month of each day in the range.
+     */
+    private final byte[] mDayOfMonth;
+
+    /** Build the tables for a span of years, with the default WeekRule.
+     * @param firstYear The first Year in the range.
+     * @param lastYear The last Year in the range, inclusive.
+     * @throws IllegalArgumentException When a year does not fit in a Short integer, or the range is reversed.
+     */
+    public RangePlanner(
+        final int firstYear,
+        final int lastYear
+    ) throws IllegalArgumentException {
+        this(firstYear, lastYear, WeekRule.getDefault());
+    }
+
+    /** Build the tables for a span of years.
+     * @param firstYear The first Year in the range.
+     * @param lastYear The last Year in the range, inclusive.
+     * @param weekRule The rule for the Weeks of the Year, and the first Day of the Week.
+     * @throws IllegalArgumentException When the rule is null, a year does not fit in a Short integer, or the range is reversed.
+     */
+    public RangePlanner(
+        final int firstYear,
+        final int lastYear,
+        final WeekRule weekRule
+    ) throws IllegalArgumentException {
+        if (weekRule == null) throw new IllegalArgumentException();
+        if (firstYear < Short.MIN_VALUE || lastYear > Short.MAX_VALUE || firstYear > lastYear)
+            throw new IllegalArgumentException("Invalid Year Range: " + firstYear + " to " + lastYear);
+        mFirstYear = (short) firstYear;
+        mLastYear = (short) lastYear;
+        mWeekRule = weekRule;
+        final int years = lastYear - firstYear + 1;
+        mYearStart = new int[years + 1];
+        for (int i = 0; i <= years; ++i) {
+            mYearStart[i] = getCalendarEpochDay(firstYear + i, 1);
+        }
+        final int length = mYearStart[years] - mYearStart[0];
+        mDayOfYear = new short[length];
+        mWeekOfYear = new byte[length];
+        mMonth = new byte[length];
+        mDayOfMonth = new byte[length];
+        for (int i = 0; i < years; ++i) {
+            final YearTable table = new YearTable(firstYear + i, weekRule);
+            final int start = mYearStart[i] - mYearStart[0];
+            System.arraycopy(table.mWeekOfYear, 0, mWeekOfYear, start, table.mLength);
+            System.arraycopy(table.mDayOfMonth, YearTable.PADDING, mDayOfMonth, start, table.mLength);
+            byte month = Calendar.JANUARY;
+            for (int day = 0; day < table.mLength; ++day) {
+                if (day > 0 && mDayOfMonth[start + day] == 1) ++month;
+                mMonth[start + day] = month;
+                mDayOfYear[start + day] = (short) (day + 1);
+            }
+        }
+    }
+
+    /** The Epoch Day of January 1st of the first Year.
+     * @return The first Epoch Day in the range.
+     */
+    public final int getFirstEpochDay() {
+        return mYearStart[0];
+    }
+
+    /** The Epoch Day of December 31st of the last Year.
+     * @return The last Epoch Day in the range.
+     */
+    public final int getLastEpochDay() {
+        return mYearStart[mYearStart.length - 1] - 1;
+    }
+
+    /** Determine whether an Epoch Day is in the range.
+     * @param epochDay The number of days since January 1st 1970.
+     * @return True if the day is in one of the years of the range.
+     */
+    public final boolean contains(
+        final int epochDay
+    ) {
+        return epochDay >= mYearStart[0] && epochDay < mYearStart[mYearStart.length - 1];
+    }
+
+    /** Determine the Year of an Epoch Day.
+     * @param epochDay The number of days since January 1st 1970, within the range.
+     * @return The Year.
+     * @throws IllegalArgumentException When the day is outside of the range.
+     */
+    public final int getYear(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        indexOf(epochDay);
+        // The average year length is within one year of the answer, for every Year that fits in a Short integer.
+        final int estimate = 1970 + (int) Math.floorDiv(400L * epochDay, 146_097L) - mFirstYear;
+        final int year = Math.max(0, Math.min(estimate, mYearStart.length - 2));
+        if (mYearStart[year] > epochDay) return mFirstYear + year - 1;
+        if (mYearStart[year + 1] <= epochDay) return mFirstYear + year + 1;
+        return mFirstYear + year;
+    }
+
+    /** Determine the Day of the Year of an Epoch Day.
+     * @param epochDay The number of days since January 1st 1970, within the range.
+     * @return The Day of the Year.
+     * @throws IllegalArgumentException When the day is outside of the range.
+     */
+    public final short getDayOfYear(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        return mDayOfYear[indexOf(epochDay)];
+    }
+
+    /** Determine the Week of the Year of an Epoch Day, as Calendar.WEEK_OF_YEAR with the WeekRule.
+     * @param epochDay The number of days since January 1st 1970, within the range.
+     * @return The Week of the Year.
+     * @throws IllegalArgumentException When the day is outside of the range.
+     */
+    public final byte getWeekOfYear(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        return mWeekOfYear[indexOf(epochDay)];
+    }
+
+    /** Determine the Month of an Epoch Day.
+     * @param epochDay The number of days since January 1st 1970, within the range.
+     * @return The Month, from Calendar.JANUARY (0) to Calendar.DECEMBER (11).
+     * @throws IllegalArgumentException When the day is outside of the range.
+     */
+    public final byte getMonth(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        return mMonth[indexOf(epochDay)];
+    }
+
+    /** Determine the Day of the Month of an Epoch Day.
+     * @param epochDay The number of days since January 1st 1970, within the range.
+     * @return The Day of the Month.
+     * @throws IllegalArgumentException When the day is outside of the range.
+     */
+    public final byte getDayOfMonth(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        return mDayOfMonth[indexOf(epochDay)];
+    }
+
+    /** Determine the Epoch Day of a GregorianCalendar date.
+     * @param year The Year, within the range.
+     * @param month The Month. Min 1, Max 12.
+     * @param day The day of the month. Min 1, Max 31.
+     * @return The number of days since January 1st 1970.
+     * @throws IllegalArgumentException When the year is outside of the range, or the month or day is invalid.
+     */
+    public final int getCalendarEpochDay(
+        final int year,
+        final int month,
+        final int day
+    ) throws IllegalArgumentException {
+        if (year < mFirstYear || year > mLastYear)
+            throw new IllegalArgumentException("Year Out Of Range: " + year);
+        if (month < 1 || month > 12 || day < 1 || day > 31)
+            throw new IllegalArgumentException();
+        return mYearStart[year - mFirstYear] + YearPlanner.getDayNumber(year, month, day) - 1;
+    }
+
+    /** Determine the first day of the week that contains an Epoch Day.
+     * @param epochDay The number of days since January 1st 1970.
+     * @return The Epoch Day of the previous or same first Day of the Week. May be before the range.
+     */
+    public final int getWeekStart(
+        final int epochDay
+    ) {
+        return epochDay - Math.floorMod(EpochDays.getDayOfWeek(epochDay) - mWeekRule.mFirstDayOfWeek, 7);
+    }
+
+    /** The first day of every week that is entirely in the range, in ascending order.
+     *  - Weeks continue across year boundaries, without a gap or a repeat.
+     * @return A Stream of Epoch Days, 7 days apart.
+     */
+    public final IntStream weekStarts() {
+        final int first = getWeekStart(getFirstEpochDay() + 6);
+        final int weeks = (getLastEpochDay() - first + 1) / 7;
+        return IntStream.range(0, weeks).map(week -> first + 7 * week);
+    }
+
+    /** Obtain the Days of the Month for 7 consecutive days.
+     * @param epochDay The first of the 7 days. All 7 days must be in the range.
+     * @return A new Array containing 7 Days of the Month.
+     * @throws IllegalArgumentException When any of the days is outside of the range.
+     */
+    public final byte[] getDayArray(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        final int index = indexOf(epochDay);
+        indexOf(epochDay + 6);
+        final byte[] result = new byte[7];
+        System.arraycopy(mDayOfMonth, index, result, 0, 7);
+        return result;
+    }
+
+    private int indexOf(
+        final int epochDay
+    ) throws IllegalArgumentException {
+        if (!contains(epochDay))
+            throw new IllegalArgumentException("Day Out Of Range: " + epochDay);
+        return epochDay - mYearStart[0];
+    }
+
+}
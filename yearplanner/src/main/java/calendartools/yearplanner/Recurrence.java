@@ -0,0 +1,246 @@
+package calendartools.yearplanner;
+
+import java.util.Calendar;
+import java.util.stream.IntStream;
+
+import calendartools.data.WeeklyChecklist;
+
+/** A rule for a recurring event, expanded into Day of the Year Bitmaps or Epoch Days.
+ *  - Rules are immutable, and may be expanded by many threads.
+ *  - Expansion uses the arithmetic of YearPlanner and DayOfYearBitmap, with no Calendar per day.
+ *  - Weeks start on Sunday, matching the bit order of WeeklyChecklist.
+ *  - Years are GregorianCalendar years, and Epoch Days are counted as in RangePlanner.getCalendarEpochDay.
+ */
+public abstract class Recurrence {
+
+    /** Occurs every week, on the checked days of the week.
+     * @param days The days of the week.
+     * @return The Recurrence.
+     * @throws IllegalArgumentException When the checklist is null.
+     */
+    public static Recurrence weekly(
+        final WeeklyChecklist days
+    ) throws IllegalArgumentException {
+        if (days == null) throw new IllegalArgumentException("Argument Must Not Be Null");
+        return new Weekly(days.toByte(), 1, 0);
+    }
+
+    /** Occurs every N weeks, on the checked days of the week.
+     * @param days The days of the week.
+     * @param interval The number of weeks between occurrences. Min 1.
+     * @param anchorEpochDay Any day in a week that has occurrences.
+     * @return The Recurrence.
+     * @throws IllegalArgumentException When the checklist is null, or the interval is less than 1.
+     */
+    public static Recurrence everyNWeeks(
+        final WeeklyChecklist days,
+        final int interval,
+        final int anchorEpochDay
+    ) throws IllegalArgumentException {
+        if (days == null) throw new IllegalArgumentException("Argument Must Not Be Null");
+        if (interval < 1)
+            throw new IllegalArgumentException("Invalid Interval: " + interval);
+        return new Weekly(days.toByte(), interval, weekIndex(anchorEpochDay));
+    }
+
+    /** Occurs every month, on the Nth Day of the Week, such as the second Tuesday.
+     * @param dayOfWeek The Day of the Week, from Calendar.DAY_OF_WEEK.
+     * @param n The occurrence in the month, from 1 to 5, or -1 for the last occurrence.
+     *          Months without a fifth occurrence are skipped.
+     * @return The Recurrence.
+     * @throws IllegalArgumentException When an argument is out of range.
+     */
+    public static Recurrence monthlyNthWeekday(
+        final int dayOfWeek,
+        final int n
+    ) throws IllegalArgumentException {
+        if (dayOfWeek < Calendar.SUNDAY || dayOfWeek > Calendar.SATURDAY)
+            throw new IllegalArgumentException("Invalid Day of Week: " + dayOfWeek);
+        if (n == 0 || n < -1 || n > 5)
+            throw new IllegalArgumentException("Invalid Occurrence: " + n);
+        return new MonthlyNthWeekday(dayOfWeek, n);
+    }
+
+    /** Expand many rules for one year.
+     * @param rules The rules to expand. Must not contain null.
+     * @param year The Year to expand the rules into.
+     * @return A new Array of length 6 times the number of rules. The Bitmap of rule i starts at 6 * i.
+     * @throws IllegalArgumentException When the Array or a rule is null.
+     */
+    public static long[] expandAll(
+        final Recurrence[] rules,
+        final int year
+    ) throws IllegalArgumentException {
+        final long[] result = allocateAll(rules);
+        for (int i = 0; i < rules.length; ++i) {
+            rules[i].expandInto(year, result, i * DayOfYearBitmap.WORDS);
+        }
+        return result;
+    }
+
+    /** Expand many rules for one year, on the common pool.
+     * @param rules The rules to expand. Must not contain null.
+     * @param year The Year to expand the rules into.
+     * @return A new Array of length 6 times the number of rules. The Bitmap of rule i starts at 6 * i.
+     * @throws IllegalArgumentException When the Array or a rule is null.
+     */
+    public static long[] parallelExpandAll(
+        final Recurrence[] rules,
+        final int year
+    ) throws IllegalArgumentException {
+        final long[] result = allocateAll(rules);
+        IntStream.range(0, rules.length).parallel()
+            .forEach(i -> rules[i].expandInto(year, result, i * DayOfYearBitmap.WORDS));
+        return result;
+    }
+
+    /** Only the nested rules extend this class.
+     */
+    private Recurrence() {}
+
+    /** Write the occurrences in a year into the destination, clearing the other days.
+     * @param year The Year to expand the rule into.
+     * @param destination The Array that receives the Bitmap.
+     * @param start The index of the first word to write.
+     */
+    abstract void expandInto(int year, long[] destination, int start);
+
+    /** Expand the rule into a Day of the Year Bitmap.
+     * @param year The Year to expand the rule into.
+     * @return A new Bitmap of the occurrences in the year, compatible with DayOfYearBitmap.
+     */
+    public final long[] expand(
+        final int year
+    ) {
+        final long[] result = new long[DayOfYearBitmap.WORDS];
+        expandInto(year, result, 0);
+        return result;
+    }
+
+    /** Obtain the occurrences in a range of days, in ascending order.
+     *  - The stream is lazy: each year is expanded when the stream reaches it.
+     * @param fromEpochDay The first day of the range.
+     * @param toEpochDay The day after the last day of the range.
+     * @return A Stream of Epoch Days.
+     */
+    public final IntStream occurrences(
+        final int fromEpochDay,
+        final int toEpochDay
+    ) {
+        if (toEpochDay <= fromEpochDay)
+            return IntStream.empty();
+        return IntStream.rangeClosed(RangePlanner.getCalendarYear(fromEpochDay), RangePlanner.getCalendarYear(toEpochDay - 1))
+            .flatMap(year -> {
+                final int yearStart = RangePlanner.getCalendarEpochDay(year, 1);
+                final long[] bitmap = expand(year);
+                return IntStream.range(0, YearPlanner.getYearLength(year))
+                    .filter(index -> (bitmap[index >>> 6] & (1L << index)) != 0)
+                    .map(index -> yearStart + index);
+            })
+            .filter(epochDay -> epochDay >= fromEpochDay && epochDay < toEpochDay);
+    }
+
+    /** The index of the Sunday-start week containing an Epoch Day. Week 0 starts on Sunday December 28th 1969.
+     */
+    static int weekIndex(
+        final int epochDay
+    ) {
+        // January 1st 1970 was a Thursday, four days after Sunday.
+        return Math.floorDiv(epochDay + 4, 7);
+    }
+
+    private static long[] allocateAll(
+        final Recurrence[] rules
+    ) throws IllegalArgumentException {
+        if (rules == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        for (Recurrence rule : rules) {
+            if (rule == null)
+                throw new IllegalArgumentException("Rule Must Not Be Null");
+        }
+        return new long[rules.length * DayOfYearBitmap.WORDS];
+    }
+
+    /** Every N weeks, on the checked days of the week.
+     */
+    private static final class Weekly extends Recurrence {
+
+        private final byte mDays;
+
+        private final int mInterval;
+
+        private final int mAnchorWeek;
+
+        Weekly(
+            final byte days,
+            final int interval,
+            final int anchorWeek
+        ) {
+            mDays = days;
+            mInterval = interval;
+            mAnchorWeek = anchorWeek;
+        }
+
+        @Override
+        void expandInto(
+            final int year,
+            final long[] destination,
+            final int start
+        ) {
+            final int yearLength = YearPlanner.getYearLength(year);
+            DayOfYearBitmap.expandInto(mDays, YearPlanner.getWeekOffset(year), yearLength, destination, start);
+            if (mInterval == 1)
+                return;
+            // Clear the weeks that are not a multiple of the interval from the anchor.
+            final int yearStart = RangePlanner.getCalendarEpochDay(year, 1);
+            for (int day = 0; day < yearLength; ) {
+                final int week = weekIndex(yearStart + day);
+                final int weekEnd = Math.min(yearLength, 7 * (week + 1) - 4 - yearStart);
+                if (Math.floorMod(week - mAnchorWeek, mInterval) != 0) {
+                    for (int d = day; d < weekEnd; ++d) {
+                        destination[start + (d >>> 6)] &= ~(1L << d);
+                    }
+                }
+                day = weekEnd;
+            }
+        }
+
+    }
+
+    /** Every month, on the Nth Day of the Week.
+     */
+    private static final class MonthlyNthWeekday extends Recurrence {
+
+        private final int mDayOfWeek;
+
+        private final int mN;
+
+        MonthlyNthWeekday(
+            final int dayOfWeek,
+            final int n
+        ) {
+            mDayOfWeek = dayOfWeek;
+            mN = n;
+        }
+
+        @Override
+        void expandInto(
+            final int year,
+            final long[] destination,
+            final int start
+        ) {
+            for (int w = 0; w < DayOfYearBitmap.WORDS; ++w) {
+                destination[start + w] = 0;
+            }
+            for (int month = 1; month <= 12; ++month) {
+                final int dayOfYear = HolidayIndex.getNthWeekday(year, month, mDayOfWeek, mN);
+                if (dayOfYear > 0) {
+                    final int index = dayOfYear - 1;
+                    destination[start + (index >>> 6)] |= 1L << index;
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package calendartools.yearplanner;
+
+import java.time.DayOfWeek;
+import java.time.temporal.WeekFields;
+import java.util.Calendar;
+
+/** The rule that assigns days to Weeks of the Year, as used by Calendar.WEEK_OF_YEAR.
+ *  - The First Day of the Week starts every week.
+ *  - Week 1 is the first week that contains at least the Minimal Days of the new year.
+ */
+public final class WeekRule {
+
+    /** ISO-8601 weeks: start on Monday, and week 1 contains January 4th.
+     */
+    public static final WeekRule ISO = new WeekRule(Calendar.MONDAY, 4);
+
+    /** US weeks: start on Sunday, and week 1 contains January 1st.
+     */
+    public static final WeekRule US = new WeekRule(Calendar.SUNDAY, 1);
+
+    /** Obtain a rule, sharing the ISO and US instances.
+     * @param firstDayOfWeek The Day of the Week that starts each week, from Calendar.DAY_OF_WEEK.
+     * @param minimalDays The minimal number of days of the new year in week 1. Min 1, Max 7.
+     * @return The WeekRule.
+     * @throws IllegalArgumentException When either argument is out of range.
+     */
+    public static WeekRule of(
+        final int firstDayOfWeek,
+        final int minimalDays
+    ) throws IllegalArgumentException {
+        if (firstDayOfWeek < Calendar.SUNDAY || firstDayOfWeek > Calendar.SATURDAY)
+            throw new IllegalArgumentException("Invalid Day of Week: " + firstDayOfWeek);
+        if (minimalDays < 1 || minimalDays > 7)
+            throw new IllegalArgumentException("Invalid Minimal Days: " + minimalDays);
+        if (ISO.matches(firstDayOfWeek, minimalDays))
+            return ISO;
+        if (US.matches(firstDayOfWeek, minimalDays))
+            return US;
+        return new WeekRule(firstDayOfWeek, minimalDays);
+    }
+
+    /** Obtain the rule of the default Calendar, which depends on the default Locale.
+     * @return The WeekRule that Calendar.getInstance() would use.
+     */
+    public static WeekRule getDefault() {
+        final Calendar cal = Calendar.getInstance();
+        return of(cal.getFirstDayOfWeek(), cal.getMinimalDaysInFirstWeek());
+    }
+
+    /** The Day of the Week that starts each week, from Calendar.DAY_OF_WEEK.
+     */
+    public final byte mFirstDayOfWeek;
+
+    /** The minimal number of days of the new year in week 1.
+     */
+    public final byte mMinimalDays;
+
+    /** The java.time equivalent of the rule.
+     */
+    private final WeekFields mWeekFields;
+
+    private WeekRule(
+        final int firstDayOfWeek,
+        final int minimalDays
+    ) {
+        mFirstDayOfWeek = (byte) firstDayOfWeek;
+        mMinimalDays = (byte) minimalDays;
+        // Calendar numbers the days from Sunday (1), and DayOfWeek from Monday (1).
+        mWeekFields = WeekFields.of(DayOfWeek.of((firstDayOfWeek + 5) % 7 + 1), minimalDays);
+    }
+
+    /** Obtain the java.time equivalent of the rule.
+     *  - weekOfWeekBasedYear() matches Calendar.WEEK_OF_YEAR, including weeks that cross the year boundary.
+     * @return The shared WeekFields instance.
+     */
+    public WeekFields toWeekFields() {
+        return mWeekFields;
+    }
+
+    /** Apply the rule to a Calendar.
+     * @param cal The Calendar to update.
+     * @return The same Calendar.
+     */
+    Calendar apply(
+        final Calendar cal
+    ) {
+        cal.setFirstDayOfWeek(mFirstDayOfWeek);
+        cal.setMinimalDaysInFirstWeek(mMinimalDays);
+        return cal;
+    }
+
+    /** Apply the rule to a Calendar Builder.
+     * @param builder The Builder to update.
+     * @return The same Builder.
+     */
+    Calendar.Builder apply(
+        final Calendar.Builder builder
+    ) {
+        return builder.setWeekDefinition(mFirstDayOfWeek, mMinimalDays);
+    }
+
+    private boolean matches(
+        final int firstDayOfWeek,
+        final int minimalDays
+    ) {
+        return mFirstDayOfWeek == firstDayOfWeek && mMinimalDays == minimalDays;
+    }
+
+    @Override
+    public boolean equals(
+        final Object obj
+    ) {
+        return obj instanceof WeekRule && ((WeekRule) obj).matches(mFirstDayOfWeek, mMinimalDays);
+    }
+
+    @Override
+    public int hashCode() {
+        return mFirstDayOfWeek * 8 + mMinimalDays;
+    }
+
+    @Override
+    public String toString() {
+        return "WeekRule(" + mFirstDayOfWeek + ", " + mMinimalDays + ")";
+    }
+
+}
@@ -0,0 +1,74 @@
+package calendartools.yearplanner;
+
+/** The Days of the Month for every week that overlaps a year, as a flat week-by-day grid.
+ *  - Row r holds the 7 days of week (mFirstWeek + r), in the same order as YearPlanner.getDayArray.
+ *  - Cell (r, d) is at index 7 * r + d in both Arrays.
+ *  - The first and last rows may include days from the neighbouring years.
+ */
+public final class YearGrid {
+
+    /** The Month index of a day in December of the previous year.
+     */
+    public static final byte PREVIOUS_DECEMBER = -1;
+
+    /** The Month index of a day in January of the next year.
+     */
+    public static final byte NEXT_JANUARY = 12;
+
+    /** The Week Number of the first row. Usually 1, or 0 when week 1 starts after January 1st.
+     */
+    public final byte mFirstWeek;
+
+    /** The number of rows, 53 or 54. Every day of the year is in exactly one row.
+     */
+    public final int mWeekCount;
+
+    /** The Day of the Month in each cell.
+     */
+    public final byte[] mDays;
+
+    /** The Month of each cell, from Calendar.JANUARY (0) to Calendar.DECEMBER (11).
+     *  Days outside of the year are PREVIOUS_DECEMBER or NEXT_JANUARY.
+     */
+    public final byte[] mMonths;
+
+    /** Fill the grid from a YearTable, in one pass.
+     * @param table The table of the year.
+     * @param weekdayOffset The number of days to shift each week, as in YearPlanner.getDayArray.
+     */
+    YearGrid(
+        final YearTable table,
+        final int weekdayOffset
+    ) {
+        final int weekOneStart = table.mWeekOneStart + weekdayOffset;
+        // The row that contains January 1st starts between December 26th and January 1st.
+        final int start = 1 - Math.floorMod(1 - weekOneStart, 7);
+        mFirstWeek = (byte) (1 + (start - weekOneStart) / 7);
+        mWeekCount = (table.mLength - start + 7) / 7;
+        mDays = table.copyDays(start, 7 * mWeekCount);
+        mMonths = new byte[mDays.length];
+        byte month = start < 1 ? PREVIOUS_DECEMBER : 0;
+        mMonths[0] = month;
+        for (int i = 1; i < mDays.length; ++i) {
+            if (mDays[i] == 1) ++month;
+            mMonths[i] = month;
+        }
+    }
+
+    /** Copy one row of the grid.
+     * @param weekNumber The Week Number of the row, from mFirstWeek.
+     * @return A new Array containing the 7 Days of the Month.
+     * @throws IllegalArgumentException When the week is not in the grid.
+     */
+    public byte[] getDayArray(
+        final int weekNumber
+    ) throws IllegalArgumentException {
+        final int row = weekNumber - mFirstWeek;
+        if (row < 0 || row >= mWeekCount)
+            throw new IllegalArgumentException("Invalid Week: " + weekNumber);
+        final byte[] result = new byte[7];
+        System.arraycopy(mDays, 7 * row, result, 0, 7);
+        return result;
+    }
+
+}
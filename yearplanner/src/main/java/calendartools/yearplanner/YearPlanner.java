@@ -2,10 +2,15 @@ package calendartools.yearplanner;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
 
 import calendartools.map.DateFormatMap;
+import calendartools.map.Metrics;
+import calendartools.map.MetricsRecorder;
 
 /** The class that helps plan for a given year.
  *  - Date Strings are parsed using a DateFormat instance, optionally provided to constructor.
@@ -14,22 +19,43 @@ import calendartools.map.DateFormatMap;
  */
 public class YearPlanner {
 
-    /** The Recommended DateFormat for Strings.
+    /** Holds the shared DateFormats, which are created on first use.
+     *  - Methods that do not parse Strings, such as getWeekOffset, never load them.
      */
-    public static SimpleDateFormat SIMPLE_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+    private static final class Formats {
+        
+        static final SimpleDateFormat SIMPLE_DATE_FORMAT = DateFormatMap.strictFormat("yyyy-MM-dd");
+        
+        static final SimpleDateFormat SIMPLE_DATE_REVERSED_FORMAT = DateFormatMap.strictFormat("dd-MM-yyyy");
+        
+        static final SimpleDateFormat MONTH_DAY_FORMAT = DateFormatMap.strictFormat("MM-dd");
+        
+        /** Guards MONTH_DAY_FORMAT while parseMonthDayString uses it, since a DateFormat is not thread-safe.
+         */
+        static final ReentrantLock MONTH_DAY_LOCK = new ReentrantLock();
+        
+    }
     
-    /** The reversed Simple DateFormat for Strings.
+    /** The Recommended DateFormat for Strings (YYYY-MM-DD).
+     * @return The shared SimpleDateFormat, created on first use.
      */
-    public static SimpleDateFormat SIMPLE_DATE_REVERSED_FORMAT = new SimpleDateFormat("dd-MM-yyyy");
+    public static SimpleDateFormat getSimpleDateFormat() {
+        return Formats.SIMPLE_DATE_FORMAT;
+    }
     
-    /** Another DateFormat usable by YearPlanner.
+    /** The reversed Simple DateFormat for Strings (DD-MM-YYYY).
+     * @return The shared SimpleDateFormat, created on first use.
      */
-    public static SimpleDateFormat MONTH_DAY_FORMAT = new SimpleDateFormat("MM-dd");
+    public static SimpleDateFormat getSimpleDateReversedFormat() {
+        return Formats.SIMPLE_DATE_REVERSED_FORMAT;
+    }
     
-    static {
-        SIMPLE_DATE_FORMAT.setLenient(false);
-        SIMPLE_DATE_REVERSED_FORMAT.setLenient(false);
-        MONTH_DAY_FORMAT.setLenient(false);
+    /** Another DateFormat usable by YearPlanner (MM-DD).
+     *  - YearPlanner parses with it under a lock, so other threads should parse with a clone.
+     * @return The shared SimpleDateFormat, created on first use.
+     */
+    public static SimpleDateFormat getMonthDayFormat() {
+        return Formats.MONTH_DAY_FORMAT;
     }
     
     /** Determine the Day of the Year from the given Calendar Object.
@@ -52,18 +78,205 @@ public class YearPlanner {
         return (byte) cal.get(Calendar.WEEK_OF_YEAR);
     }
     
+    /** Determine the Day of the Year of a LocalDate, without a Calendar.
+     *  - Matches a Calendar with the same year, month and day fields, including the Julian years before 1582.
+     * @param date The LocalDate to obtain the Date information from.
+     * @return The Day of the Year.
+     * @throws IllegalArgumentException When the date is null.
+     */
+    public static short getDayNumber(final LocalDate date) throws IllegalArgumentException {
+        if (date == null) throw new IllegalArgumentException();
+        return getDayNumber(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+    
+    /** The Julian-Gregorian cutover year of the default GregorianCalendar.
+     */
+    static final int CUTOVER_YEAR = 1582;
+    
+    /** The number of days skipped by the cutover, from October 5th to October 14th 1582.
+     */
+    static final int CUTOVER_DAYS = 10;
+    
+    /** The Day of the Year that the cutover skips to, October 15th 1582.
+     */
+    static final int CUTOVER_DAY_OF_YEAR = 278;
+    
+    /** The number of days before the 1st of each month, in a year that is not a leap year.
+     */
+    private static final short[] MONTH_START = {
+        0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334
+    };
+    
     /** Determine the offset for the start of the given year.
      *  - Value Range: 0 - 6, corresponding with Calendar.SUNDAY ... Calendar.SATURDAY
+     *  - Computed by arithmetic, matching the Julian and Gregorian calendars of GregorianCalendar.
      * @param year The Year to calculate for.
      * @return The Offset from a week that starts on Sunday, because Sunday is lowest Calendar constant.
      */
     public static byte getWeekOffset(final int year) {
-        final int dayOfWeek = new Calendar.Builder()
-            .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, 1)
-            .build()
-            .get(Calendar.DAY_OF_WEEK);
-        // If the Day of Week is Sunday, the Offset is zero.
-        return (byte) (dayOfWeek - 1);
+        // Day 1 of the fixed day count is a Monday, so day 0 is a Sunday.
+        return (byte) Math.floorMod(getFixedDay(year), 7);
+    }
+    
+    /** Determine the number of days in the given year.
+     *  - Usually 365, or 366 in a leap year. The Julian-Gregorian cutover year 1582 has 355.
+     * @param year The Year to calculate for.
+     * @return The number of days in the year.
+     */
+    public static short getYearLength(final int year) {
+        if (year == CUTOVER_YEAR)
+            return 365 - CUTOVER_DAYS;
+        return (short) (isLeapYear(year) ? 366 : 365);
+    }
+    
+    /** Determine the Day of the Year for a Month-Day pair, without a Calendar.
+     *  - Days beyond the end of the month carry into the next month, as in a lenient Calendar.
+     *  - In 1582, the skipped days from October 5th to 14th resolve to the Julian date, as in GregorianCalendar.
+     * @param year The Year of the date.
+     * @param month The Month. Min 1, Max 12.
+     * @param day The day of the month. Min 1, Max 31.
+     * @return The Day of the Year. Undefined, if the month or day is invalid.
+     */
+    static short getDayNumber(
+        final int year,
+        final int month,
+        final int day
+    ) {
+        int dayOfYear = MONTH_START[month - 1] + day;
+        if (month > 2 && isLeapYear(year))
+            ++dayOfYear;
+        // Julian dates after October 4th 1582 are later Gregorian dates, until the Gregorian October 15th.
+        if (year == CUTOVER_YEAR && dayOfYear >= CUTOVER_DAY_OF_YEAR + CUTOVER_DAYS)
+            dayOfYear -= CUTOVER_DAYS;
+        return (short) dayOfYear;
+    }
+    
+    /** Determine whether a year has 366 days: in the Julian calendar before 1582, and the Gregorian calendar after.
+     * @param year The Year, where 0 is 1 BC.
+     * @return True if February has 29 days.
+     */
+    static boolean isLeapYear(
+        final int year
+    ) {
+        if (year <= CUTOVER_YEAR)
+            return (year & 3) == 0;
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+    
+    /** Count the days from the Gregorian date December 31st of 1 BC, to January 1st of the given year.
+     * @param year The Year, where 0 is 1 BC.
+     * @return The fixed day number of January 1st, where day 1 is the Gregorian date January 1st of 1 AD.
+     */
+    static long getFixedDay(
+        final int year
+    ) {
+        if (year <= CUTOVER_YEAR)
+            return getJulianFixedDay(year);
+        final long prior = year - 1L;
+        return 1 + 365 * prior + Math.floorDiv(prior, 4)
+            - Math.floorDiv(prior, 100) + Math.floorDiv(prior, 400);
+    }
+    
+    /** Count the days from the Gregorian date December 31st of 1 BC, to the Julian date January 1st of the given year.
+     * @param year The Year, where 0 is 1 BC.
+     * @return The fixed day number of January 1st in the Julian calendar, in any year.
+     */
+    static long getJulianFixedDay(
+        final int year
+    ) {
+        final long prior = year - 1L;
+        return -1 + 365 * prior + Math.floorDiv(prior, 4);
+    }
+    
+    /** The fixed day number of October 15th 1582, the first date of the Gregorian calendar.
+     */
+    static final long CUTOVER_FIXED_DAY = getFixedDay(CUTOVER_YEAR) + CUTOVER_DAY_OF_YEAR - 1;
+    
+    /** Determine the Year that contains a fixed day number.
+     * @param fixedDay The fixed day number, where day 1 is the Gregorian date January 1st of 1 AD.
+     * @return The Year, where 0 is 1 BC.
+     */
+    static int getYearOfFixedDay(
+        final long fixedDay
+    ) {
+        // Start from the average year length, then correct by whole years.
+        int year = (int) Math.floorDiv(400 * fixedDay, 146_097L) + 1;
+        while (getFixedDay(year) > fixedDay) --year;
+        while (getFixedDay(year + 1) <= fixedDay) ++year;
+        return year;
+    }
+    
+    /** Determine the Day of the Month of a Day of the Year, without a Calendar.
+     * @param year The Year of the date.
+     * @param dayOfYear The Day of the Year. Min 1, Max the length of the year.
+     * @return The Day of the Month.
+     */
+    static byte getDayOfMonth(
+        final int year,
+        final int dayOfYear
+    ) {
+        // The days after the cutover continue from the Julian Day of the Year.
+        final int day = year == CUTOVER_YEAR && dayOfYear >= CUTOVER_DAY_OF_YEAR
+            ? dayOfYear + CUTOVER_DAYS : dayOfYear;
+        final int leapDay = isLeapYear(year) ? 1 : 0;
+        int month = 11;
+        while (MONTH_START[month] + (month >= 2 ? leapDay : 0) >= day) --month;
+        return (byte) (day - MONTH_START[month] - (month >= 2 ? leapDay : 0));
+    }
+    
+    /** Determine the fixed day number that starts Week 1 of a year.
+     * @param fixedJan1 The fixed day number of January 1st.
+     * @param rule The rule for the Weeks of the Year.
+     * @return The first day of Week 1, within 6 days of January 1st.
+     */
+    static long getWeekOneStart(
+        final long fixedJan1,
+        final WeekRule rule
+    ) {
+        // The first day of a week on or after January 1st. Fixed day 0 is a Sunday.
+        final long start = fixedJan1 + Math.floorMod(rule.mFirstDayOfWeek - 1 - fixedJan1, 7);
+        return start - fixedJan1 >= rule.mMinimalDays ? start - 7 : start;
+    }
+    
+    /** Determine the Week of the Year of a Day of the Year, without a Calendar.
+     *  - Matches Calendar.WEEK_OF_YEAR, including the Julian years and the cutover year of GregorianCalendar.
+     * @param year The Year of the date.
+     * @param dayOfYear The Day of the Year. Min 1, Max the length of the year.
+     * @param rule The rule for the Weeks of the Year.
+     * @return The Week of the Year.
+     */
+    static byte getWeekNumber(
+        final int year,
+        final int dayOfYear,
+        final WeekRule rule
+    ) {
+        final long fixedJan1 = getFixedDay(year);
+        final long fixedDay = fixedJan1 + dayOfYear - 1;
+        final long weekOneStart = getWeekOneStart(fixedJan1, rule);
+        // Days before Week 1 are in the last week of the previous year.
+        if (fixedDay < weekOneStart)
+            return (byte) ((fixedDay - getWeekOneStart(getFixedDay(year - 1), rule)) / 7 + 1);
+        // Days after the start of Week 1 of the next year are in that week.
+        if (fixedDay >= getWeekOneStart(getFixedDay(year + 1), rule))
+            return 1;
+        return (byte) ((fixedDay - weekOneStart) / 7 + 1);
+    }
+    
+    /** The shared planners, with a dense range of years from 1900 to 2155.
+     */
+    static final YearPlannerCache CACHE = new YearPlannerCache(1900, 256, 64);
+    
+    /** Obtain the shared YearPlanner for the given year, with the default DateFormatMap.
+     *  - Each planner is built once and reused by all threads, while it remains cached.
+     *    Every method is thread-safe. Date Strings are parsed with pooled copies of the DateFormatMap, see DateFormatMap.mapConcurrently.
+     *  - Years from 1900 to 2155 are always cached. Other years may be replaced by a later year.
+     * @param year The year that the Planner will be used for.
+     * @return The shared YearPlanner instance.
+     */
+    public static YearPlanner of(
+        final int year
+    ) throws IllegalArgumentException {
+        return CACHE.get(year);
     }
     
     /** The Year that this Class will be used for.
@@ -71,21 +284,25 @@ public class YearPlanner {
     public final short mYear;
     
     /** The Mapping that will be used to Parse DateStrings.
+     *  - The Planner parses with pooled copies of it, so its String methods may be called from any thread.
      */
     public final DateFormatMap mDateMap;
     
+    /** The rule for the Weeks of the Year, used by every instance method that returns a Week.
+     */
+    public final WeekRule mWeekRule;
+    
+    /** The precomputed Calendar fields for every day of mYear.
+     */
+    final YearTable mTable;
+    
     /** Constructor.
      * @param year The year that this Planner will be used for.
      */
     public YearPlanner(
         final int year
     ) {
-        // Validate the Year will fit in a Short integer.
-        if (year > Short.MAX_VALUE || year < Short.MIN_VALUE) {
-            throw new IllegalArgumentException(String.format("Invalid Year: $1%d", year));
-        }
-        mYear = (short) year;
-        mDateMap = DateFormatMap.getDefaultMap();
+        this(year, DateFormatMap.getDefaultMap(), WeekRule.getDefault());
     }
 
     /** Constructor with custom DateFormat to apply to DateStrings before the defaults.
@@ -96,13 +313,39 @@ public class YearPlanner {
         final int year,
         final DateFormatMap dateFormatMap
     ) {
-        if (dateFormatMap == null) throw new IllegalArgumentException();
+        this(year, dateFormatMap, WeekRule.getDefault());
+    }
+
+    /** Constructor with a rule for the Weeks of the Year, such as WeekRule.ISO.
+     * @param year The year that this Planner will be used for.
+     * @param weekRule The rule that assigns days to Weeks of the Year.
+     */
+    public YearPlanner(
+        final int year,
+        final WeekRule weekRule
+    ) {
+        this(year, DateFormatMap.getDefaultMap(), weekRule);
+    }
+
+    /** Constructor with custom DateFormat, and a rule for the Weeks of the Year.
+     * @param year The year that this Planner will be used for.
+     * @param dateFormatMap The DateMap to use to parse Strings.
+     * @param weekRule The rule that assigns days to Weeks of the Year.
+     */
+    public YearPlanner(
+        final int year,
+        final DateFormatMap dateFormatMap,
+        final WeekRule weekRule
+    ) {
+        if (dateFormatMap == null || weekRule == null) throw new IllegalArgumentException();
         // Validate the Year will fit in a Short integer.
         if (year > Short.MAX_VALUE || year < Short.MIN_VALUE) {
             throw new IllegalArgumentException(String.format("Invalid Year: $1%d", year));
         }
         mYear = (short) year;
         mDateMap = dateFormatMap;
+        mWeekRule = weekRule;
+        mTable = new YearTable(year, weekRule);
     }
     
     /** Parse a Month-Day String into a Calendar object.
@@ -112,9 +355,13 @@ public class YearPlanner {
     public Calendar parseMonthDayString(final String dateString) throws IllegalArgumentException {
         if (dateString == null) throw new IllegalArgumentException();
         Date initialDate = null;
+        Formats.MONTH_DAY_LOCK.lock();
         try {
-            initialDate = MONTH_DAY_FORMAT.parse(dateString);
-        } catch (ParseException ignored) {}
+            initialDate = Formats.MONTH_DAY_FORMAT.parse(dateString);
+        } catch (ParseException ignored) {
+        } finally {
+            Formats.MONTH_DAY_LOCK.unlock();
+        }
         if (null == initialDate)
             return null;
         initialDate.setYear(mYear - 1900);  // Normalized Year
@@ -132,7 +379,7 @@ public class YearPlanner {
     ) {
         if (!validateMonthDayPair(month, day))
             throw new IllegalArgumentException();
-        return new Calendar.Builder()
+        return mWeekRule.apply(new Calendar.Builder())
                 // Need to Convert to Calendar Months, which start at zero.
                 .setDate(mYear, month - 1, day)
                 .build();
@@ -143,7 +390,7 @@ public class YearPlanner {
      * @return The Day of the Year.
      */
     public short getDayNumber(final String dateString) throws IllegalArgumentException {
-        return getDayNumber(mDateMap.map(dateString));
+        return getDayNumber(mDateMap.mapConcurrently(dateString));
     }
 
     /** Determine the Day of the Year from month and day.
@@ -155,7 +402,9 @@ public class YearPlanner {
         final int month,
         final int day
     ) throws IllegalArgumentException {
-        return getDayNumber(getCalendar(month, day));
+        if (!validateMonthDayPair(month, day))
+            throw new IllegalArgumentException();
+        return getDayNumber(mYear, month, day);
     }
 
     /** Determine the Number of the Week of the Year from a Date-Formatted String.
@@ -163,7 +412,8 @@ public class YearPlanner {
      * @return The Week of the Year.
      */
     public byte getWeekNumber(final String dateString) throws IllegalArgumentException {
-        return getWeekNumber(mDateMap.map(dateString));
+        final Calendar cal = mDateMap.mapConcurrently(dateString);
+        return getWeekNumber(cal == null ? null : mWeekRule.apply(cal));
     }
 
     /** Determine the Number of the Week of the Year.
@@ -175,43 +425,51 @@ public class YearPlanner {
         final int month,
         final int day
     ) throws IllegalArgumentException {
-        return getWeekNumber(getCalendar(month, day));
+        return getWeekNumber(getDayNumber(month, day));
     }
 
+    /** Determine the Number of the Week of the Year.
+     * @param dayOfYear The Day of the Year. Values outside of the year continue into the neighbouring years.
+     * @return The Week of the Year.
+     */
     public short getWeekNumber(
         final int dayOfYear
     ) throws IllegalArgumentException {
-        var cal = new Calendar.Builder()
-            .setFields(Calendar.YEAR, mYear, Calendar.DAY_OF_YEAR, dayOfYear)
-            .build();
-        return getWeekNumber(cal);
+        if (mTable.contains(dayOfYear))
+            return mTable.mWeekOfYear[dayOfYear - 1];
+        long fixedDay = getFixedDay(mYear) + dayOfYear - 1;
+        // A lenient GregorianCalendar counts days before the cutover from the Julian January 1st.
+        if (mYear > CUTOVER_YEAR && fixedDay < CUTOVER_FIXED_DAY)
+            fixedDay = getJulianFixedDay(mYear) + dayOfYear - 1;
+        final int year = getYearOfFixedDay(fixedDay);
+        return getWeekNumber(year, (int) (fixedDay - getFixedDay(year)) + 1, mWeekRule);
+    }
+    
+    /** Determine the Number of the Week of the Year of a LocalDate, with the WeekRule of this Planner.
+     *  - Dates in the year of this Planner are read from the table. Other years are computed from fixed day numbers.
+     * @param date The LocalDate to obtain the Date information from.
+     * @return The Week of the Year, matching Calendar.WEEK_OF_YEAR for the same date fields.
+     * @throws IllegalArgumentException When the date is null.
+     */
+    public byte getWeekNumber(
+        final LocalDate date
+    ) throws IllegalArgumentException {
+        if (date == null) throw new IllegalArgumentException();
+        final int year = date.getYear();
+        if (year == mYear)
+            return mTable.mWeekOfYear[getDayNumber(date) - 1];
+        // The Julian weeks of GregorianCalendar differ from the proleptic weeks of WeekFields.
+        return getWeekNumber(year, getDayNumber(date), mWeekRule);
     }
     
     /** Obtain an Array containing the Days of the Month for a given Week Number.
      * @param weekNumber The number of the Week.
-     * @return A Byte Array containing 7 numbers, from Sunday to Saturday.
+     * @return A Byte Array containing 7 numbers, starting on the first Day of the Week of the WeekRule.
      */
     public byte[] getDayArray(
         final byte weekNumber
     ) {
-        var cal = new Calendar.Builder()
-                .setFields(Calendar.YEAR, mYear, Calendar.WEEK_OF_YEAR, weekNumber)
-                .build();
-        byte[] dayArray = new byte[7];
-        dayArray[0] = (byte) cal.get(Calendar.DAY_OF_MONTH);  // Sunday DayOfMonth
-        var diff = 0;
-        for (byte i = 1; i < 7; i++) {
-            byte inc = (byte) (dayArray[i - 1] + 1);
-            if (inc <= 28) {
-                dayArray[i] = inc;
-                diff++;
-            } else {
-                cal.add(Calendar.DAY_OF_YEAR, diff + 1);
-                diff = 0;
-                dayArray[i] = (byte) cal.get(Calendar.DAY_OF_MONTH);
-            }
-        }
-        return dayArray;
+        return getDayArray(weekNumber, (byte) 0);
     }
     
     /** Obtain an Array containing the Days of the Month for a given Week Number, with WeekOffset.
@@ -223,29 +481,287 @@ public class YearPlanner {
         final byte weekNumber,
         final byte weekdayOffset
     ) {
-        var cal = new Calendar.Builder()
-            .setFields(Calendar.YEAR, mYear, Calendar.WEEK_OF_YEAR, weekNumber)
-            .build();   // Currently, Sunday is the DayOfWeek
-        // Shift the Calendar by the Offset
-        cal.add(Calendar.DAY_OF_MONTH, weekdayOffset);
-        // Create the DayArray, using same process as without the WeekOffset, from here on out.
+        final int start = mTable.mWeekOneStart + 7 * (weekNumber - 1) + weekdayOffset;
+        if (mTable.mRegular && mTable.containsWeek(start))
+            return mTable.copyWeek(start);
+        // Weeks far outside of the year, or in the cutover year, are computed from fixed day numbers.
+        long weekStart = getWeekOneStart(getFixedDay(mYear), mWeekRule) + 7L * (weekNumber - 1);
+        // A lenient GregorianCalendar counts weeks before the cutover from the Julian January 1st.
+        if (mYear > CUTOVER_YEAR && weekStart < CUTOVER_FIXED_DAY)
+            weekStart = getWeekOneStart(getJulianFixedDay(mYear), mWeekRule) + 7L * (weekNumber - 1);
+        final long first = weekStart + weekdayOffset;
         byte[] dayArray = new byte[7];
-        dayArray[0] = (byte) cal.get(Calendar.DAY_OF_MONTH);
-        var diff = 0;
+        dayArray[0] = getDayOfMonth(first);
         for (byte i = 1; i < 7; i++) {
             byte inc = (byte) (dayArray[i - 1] + 1);
-            if (inc <= 28) {
-                dayArray[i] = inc;
-                diff++;
-            } else {
-                cal.add(Calendar.DAY_OF_YEAR, diff + 1);
-                diff = 0;
-                dayArray[i] = (byte) cal.get(Calendar.DAY_OF_MONTH);
-            }
+            // October 4th 1582 is followed by October 15th.
+            dayArray[i] = inc <= 28 && first + i != CUTOVER_FIXED_DAY ? inc : getDayOfMonth(first + i);
         }
         return dayArray;
     }
 
+    /** Obtain the Days of the Month for every week of the year, in one grid.
+     * @return A new YearGrid, with weeks starting on the first Day of the Week of the WeekRule.
+     */
+    public YearGrid getYearGrid() {
+        return new YearGrid(mTable, 0);
+    }
+
+    /** Obtain the Days of the Month for every week of the year, in one grid, with WeekOffset.
+     *  - Each row matches getDayArray for the same week and offset, and rows cover the year without gaps.
+     * @param weekdayOffset The number of days to offset, such as shifting the week to start on monday (1).
+     * @return A new YearGrid.
+     */
+    public YearGrid getYearGrid(
+        final byte weekdayOffset
+    ) {
+        return new YearGrid(mTable, weekdayOffset);
+    }
+
+    /** Fill an Array with the Day of the Year for each Date-Formatted String.
+     *  - Strings are parsed sequentially, because DateFormat instances are not thread-safe.
+     * @param dateStrings The Strings containing the Formatted Dates.
+     * @param output The Array that receives the Day of the Year for each String, or 0 if it is null or fails to parse.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public void getDayNumbers(
+        final String[] dateStrings,
+        final short[] output
+    ) throws IllegalArgumentException {
+        validateBulk(dateStrings, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        for (int i = 0; i < dateStrings.length; ++i) {
+            final Calendar cal = mapOrNull(dateStrings[i]);
+            output[i] = cal == null ? 0 : getDayNumber(cal);
+        }
+        Metrics.finish(metrics, "YearPlanner.getDayNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Week of the Year for each Date-Formatted String.
+     *  - Strings are parsed sequentially, because DateFormat instances are not thread-safe.
+     * @param dateStrings The Strings containing the Formatted Dates.
+     * @param output The Array that receives the Week of the Year for each String, or 0 if it is null or fails to parse.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public void getWeekNumbers(
+        final String[] dateStrings,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        validateBulk(dateStrings, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        for (int i = 0; i < dateStrings.length; ++i) {
+            final Calendar cal = mapOrNull(dateStrings[i]);
+            output[i] = cal == null ? 0 : getWeekNumber(mWeekRule.apply(cal));
+        }
+        Metrics.finish(metrics, "YearPlanner.getWeekNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Day of the Year for each Month-Day pair.
+     * @param months The Months. Min 1, Max 12.
+     * @param days The days of the month. Min 1, Max 31.
+     * @param output The Array that receives the Day of the Year for each pair, or 0 if the pair is invalid.
+     * @throws IllegalArgumentException When an Array is null, or the lengths differ.
+     */
+    public void getDayNumbers(
+        final int[] months,
+        final int[] days,
+        final short[] output
+    ) throws IllegalArgumentException {
+        validateBulk(months, days, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        fillDayNumbers(months, days, output, 0, output.length);
+        Metrics.finish(metrics, "YearPlanner.getDayNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Day of the Year for each Month-Day pair, splitting large Arrays across the common pool.
+     * @param months The Months. Min 1, Max 12.
+     * @param days The days of the month. Min 1, Max 31.
+     * @param output The Array that receives the Day of the Year for each pair, or 0 if the pair is invalid.
+     * @throws IllegalArgumentException When an Array is null, or the lengths differ.
+     */
+    public void parallelGetDayNumbers(
+        final int[] months,
+        final int[] days,
+        final short[] output
+    ) throws IllegalArgumentException {
+        validateBulk(months, days, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        forEachChunk(output.length, (from, to) -> fillDayNumbers(months, days, output, from, to));
+        Metrics.finish(metrics, "YearPlanner.parallelGetDayNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Week of the Year for each Month-Day pair.
+     * @param months The Months. Min 1, Max 12.
+     * @param days The days of the month. Min 1, Max 31.
+     * @param output The Array that receives the Week of the Year for each pair, or 0 if the pair is invalid.
+     * @throws IllegalArgumentException When an Array is null, or the lengths differ.
+     */
+    public void getWeekNumbers(
+        final int[] months,
+        final int[] days,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        validateBulk(months, days, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        fillWeekNumbers(months, days, output, 0, output.length);
+        Metrics.finish(metrics, "YearPlanner.getWeekNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Week of the Year for each Month-Day pair, splitting large Arrays across the common pool.
+     * @param months The Months. Min 1, Max 12.
+     * @param days The days of the month. Min 1, Max 31.
+     * @param output The Array that receives the Week of the Year for each pair, or 0 if the pair is invalid.
+     * @throws IllegalArgumentException When an Array is null, or the lengths differ.
+     */
+    public void parallelGetWeekNumbers(
+        final int[] months,
+        final int[] days,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        validateBulk(months, days, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        forEachChunk(output.length, (from, to) -> fillWeekNumbers(months, days, output, from, to));
+        Metrics.finish(metrics, "YearPlanner.parallelGetWeekNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Day of the Year for each Time value.
+     *  - Like the static Calendar methods, each value uses the year that it falls in, in the default time zone.
+     * @param millisecondValues The Time values in milliseconds since epoch.
+     * @param output The Array that receives the Day of the Year for each Time value.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public static void getDayNumbers(
+        final long[] millisecondValues,
+        final short[] output
+    ) throws IllegalArgumentException {
+        validateBulk(millisecondValues, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        fillDayNumbers(millisecondValues, output, 0, output.length);
+        Metrics.finish(metrics, "YearPlanner.getDayNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Day of the Year for each Time value, splitting large Arrays across the common pool.
+     *  - Like the static Calendar methods, each value uses the year that it falls in, in the default time zone.
+     * @param millisecondValues The Time values in milliseconds since epoch.
+     * @param output The Array that receives the Day of the Year for each Time value.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public static void parallelGetDayNumbers(
+        final long[] millisecondValues,
+        final short[] output
+    ) throws IllegalArgumentException {
+        validateBulk(millisecondValues, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        forEachChunk(output.length, (from, to) -> fillDayNumbers(millisecondValues, output, from, to));
+        Metrics.finish(metrics, "YearPlanner.parallelGetDayNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Week of the Year for each Time value.
+     *  - Like the static Calendar methods, each value uses the year that it falls in, in the default time zone.
+     * @param millisecondValues The Time values in milliseconds since epoch.
+     * @param output The Array that receives the Week of the Year for each Time value.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public static void getWeekNumbers(
+        final long[] millisecondValues,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        validateBulk(millisecondValues, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        fillWeekNumbers(millisecondValues, output, 0, output.length);
+        Metrics.finish(metrics, "YearPlanner.getWeekNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Week of the Year for each Time value, splitting large Arrays across the common pool.
+     *  - Like the static Calendar methods, each value uses the year that it falls in, in the default time zone.
+     * @param millisecondValues The Time values in milliseconds since epoch.
+     * @param output The Array that receives the Week of the Year for each Time value.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public static void parallelGetWeekNumbers(
+        final long[] millisecondValues,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        validateBulk(millisecondValues, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        forEachChunk(output.length, (from, to) -> fillWeekNumbers(millisecondValues, output, from, to));
+        Metrics.finish(metrics, "YearPlanner.parallelGetWeekNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Day of the Year for each LocalDate.
+     * @param dates The LocalDates.
+     * @param output The Array that receives the Day of the Year for each date, or 0 if it is null.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public static void getDayNumbers(
+        final LocalDate[] dates,
+        final short[] output
+    ) throws IllegalArgumentException {
+        validateBulk(dates, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        fillDayNumbers(dates, output, 0, output.length);
+        Metrics.finish(metrics, "YearPlanner.getDayNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Day of the Year for each LocalDate, splitting large Arrays across the common pool.
+     * @param dates The LocalDates.
+     * @param output The Array that receives the Day of the Year for each date, or 0 if it is null.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public static void parallelGetDayNumbers(
+        final LocalDate[] dates,
+        final short[] output
+    ) throws IllegalArgumentException {
+        validateBulk(dates, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        forEachChunk(output.length, (from, to) -> fillDayNumbers(dates, output, from, to));
+        Metrics.finish(metrics, "YearPlanner.parallelGetDayNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Week of the Year for each LocalDate, with the WeekRule of this Planner.
+     * @param dates The LocalDates.
+     * @param output The Array that receives the Week of the Year for each date, or 0 if it is null.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public void getWeekNumbers(
+        final LocalDate[] dates,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        validateBulk(dates, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        fillWeekNumbers(dates, output, 0, output.length);
+        Metrics.finish(metrics, "YearPlanner.getWeekNumbers", output.length, startNanos);
+    }
+
+    /** Fill an Array with the Week of the Year for each LocalDate, splitting large Arrays across the common pool.
+     * @param dates The LocalDates.
+     * @param output The Array that receives the Week of the Year for each date, or 0 if it is null.
+     * @throws IllegalArgumentException When either Array is null, or the lengths differ.
+     */
+    public void parallelGetWeekNumbers(
+        final LocalDate[] dates,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        validateBulk(dates, output);
+        final MetricsRecorder metrics = Metrics.get();
+        final long startNanos = Metrics.start(metrics);
+        forEachChunk(output.length, (from, to) -> fillWeekNumbers(dates, output, from, to));
+        Metrics.finish(metrics, "YearPlanner.parallelGetWeekNumbers", output.length, startNanos);
+    }
+
     /** Determine whether the Month-Day Integer Pair is Valid.
      * @param month The Month Integer: Min 1, Max 12.
      * @param day The Day Integer: Min 1, Max 31.
@@ -259,5 +775,187 @@ public class YearPlanner {
         final boolean isDayValid = !(1 > day || day > 31);
         return isMonthValid && isDayValid;
     }
+
+    /** The number of elements processed by each task of the parallel bulk methods.
+     */
+    static final int PARALLEL_CHUNK_SIZE = 4096;
+
+    /** A task over a range of Array indices, from inclusive to exclusive.
+     */
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+
+    /** Run a task over consecutive chunks of an Array, in parallel when there is more than one chunk.
+     */
+    private static void forEachChunk(
+        final int length,
+        final RangeTask task
+    ) {
+        final int chunks = (length + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        if (chunks <= 1) {
+            task.run(0, length);
+            return;
+        }
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = chunk * PARALLEL_CHUNK_SIZE;
+            task.run(from, Math.min(from + PARALLEL_CHUNK_SIZE, length));
+        });
+    }
+
+    /** Determine the Day of the Month of a fixed day number, in any year.
+     */
+    private static byte getDayOfMonth(
+        final long fixedDay
+    ) {
+        final int year = getYearOfFixedDay(fixedDay);
+        return getDayOfMonth(year, (int) (fixedDay - getFixedDay(year)) + 1);
+    }
+
+    private Calendar mapOrNull(
+        final String dateString
+    ) {
+        return dateString == null ? null : mDateMap.mapConcurrently(dateString);
+    }
+
+    private void fillDayNumbers(
+        final int[] months,
+        final int[] days,
+        final short[] output,
+        final int from,
+        final int to
+    ) {
+        for (int i = from; i < to; ++i) {
+            output[i] = validateMonthDayPair(months[i], days[i])
+                ? getDayNumber(mYear, months[i], days[i]) : 0;
+        }
+    }
+
+    private void fillWeekNumbers(
+        final int[] months,
+        final int[] days,
+        final byte[] output,
+        final int from,
+        final int to
+    ) {
+        for (int i = from; i < to; ++i) {
+            output[i] = validateMonthDayPair(months[i], days[i])
+                ? mTable.mWeekOfYear[getDayNumber(mYear, months[i], days[i]) - 1] : 0;
+        }
+    }
+
+    private static void fillDayNumbers(
+        final long[] millisecondValues,
+        final short[] output,
+        final int from,
+        final int to
+    ) {
+        final Calendar cal = Calendar.getInstance();
+        for (int i = from; i < to; ++i) {
+            cal.setTimeInMillis(millisecondValues[i]);
+            output[i] = (short) cal.get(Calendar.DAY_OF_YEAR);
+        }
+    }
+
+    private static void fillWeekNumbers(
+        final long[] millisecondValues,
+        final byte[] output,
+        final int from,
+        final int to
+    ) {
+        final Calendar cal = Calendar.getInstance();
+        for (int i = from; i < to; ++i) {
+            cal.setTimeInMillis(millisecondValues[i]);
+            output[i] = (byte) cal.get(Calendar.WEEK_OF_YEAR);
+        }
+    }
+
+    private static void fillDayNumbers(
+        final LocalDate[] dates,
+        final short[] output,
+        final int from,
+        final int to
+    ) {
+        for (int i = from; i < to; ++i) {
+            output[i] = dates[i] == null ? 0 : getDayNumber(dates[i]);
+        }
+    }
+
+    private void fillWeekNumbers(
+        final LocalDate[] dates,
+        final byte[] output,
+        final int from,
+        final int to
+    ) {
+        for (int i = from; i < to; ++i) {
+            output[i] = dates[i] == null ? 0 : getWeekNumber(dates[i]);
+        }
+    }
+
+    private static void validateBulk(
+        final Object[] input,
+        final short[] output
+    ) throws IllegalArgumentException {
+        if (input == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        validateLengths(input.length, output.length);
+    }
+
+    private static void validateBulk(
+        final Object[] input,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        if (input == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        validateLengths(input.length, output.length);
+    }
+
+    private static void validateBulk(
+        final long[] input,
+        final short[] output
+    ) throws IllegalArgumentException {
+        if (input == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        validateLengths(input.length, output.length);
+    }
+
+    private static void validateBulk(
+        final long[] input,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        if (input == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        validateLengths(input.length, output.length);
+    }
+
+    private static void validateBulk(
+        final int[] months,
+        final int[] days,
+        final short[] output
+    ) throws IllegalArgumentException {
+        if (months == null || days == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        validateLengths(months.length, days.length);
+        validateLengths(months.length, output.length);
+    }
+
+    private static void validateBulk(
+        final int[] months,
+        final int[] days,
+        final byte[] output
+    ) throws IllegalArgumentException {
+        if (months == null || days == null || output == null)
+            throw new IllegalArgumentException("Argument Must Not Be Null");
+        validateLengths(months.length, days.length);
+        validateLengths(months.length, output.length);
+    }
+
+    private static void validateLengths(
+        final int inputLength,
+        final int outputLength
+    ) throws IllegalArgumentException {
+        if (inputLength != outputLength)
+            throw new IllegalArgumentException("Array Lengths Must Match");
+    }
     
 }
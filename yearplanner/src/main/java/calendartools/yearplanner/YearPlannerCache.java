@@ -0,0 +1,86 @@
+package calendartools.yearplanner;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import calendartools.map.Metrics;
+import calendartools.map.MetricsRecorder;
+
+/** A lock-free cache of YearPlanner instances, keyed by year.
+ *  - Years in a range near the present are stored in a dense Array, one slot per year, and are never evicted.
+ *  - Other years share a small direct-mapped Array, where a year replaces the previous occupant of its slot.
+ *  - Concurrent misses for the same year may each build a planner, but only one instance is published to the dense range.
+ */
+final class YearPlannerCache {
+
+    /** The first year of the dense range.
+     */
+    final int mFirstYear;
+
+    /** One slot for every year in the dense range.
+     */
+    private final AtomicReferenceArray<YearPlanner> mDense;
+
+    /** The slots shared by years outside of the dense range.
+     */
+    private final AtomicReferenceArray<YearPlanner> mOutliers;
+
+    /** Create an empty cache.
+     * @param firstYear The first year of the dense range.
+     * @param denseYears The number of years in the dense range.
+     * @param outlierSlots The number of slots for years outside of the dense range. Must be positive.
+     */
+    YearPlannerCache(
+        final int firstYear,
+        final int denseYears,
+        final int outlierSlots
+    ) {
+        mFirstYear = firstYear;
+        mDense = new AtomicReferenceArray<>(denseYears);
+        mOutliers = new AtomicReferenceArray<>(outlierSlots);
+    }
+
+    /** Obtain the shared planner for a year, building it on the first request.
+     * @param year The year of the planner. Must fit in a Short integer.
+     * @return The YearPlanner for the year, with the default DateFormatMap.
+     * @throws IllegalArgumentException When the year does not fit in a Short integer.
+     */
+    YearPlanner get(
+        final int year
+    ) throws IllegalArgumentException {
+        final MetricsRecorder metrics = Metrics.get();
+        final int index = year - mFirstYear;
+        if (index >= 0 && index < mDense.length()) {
+            final YearPlanner cached = mDense.get(index);
+            metrics.cacheLookup(cached != null);
+            if (cached != null)
+                return cached;
+            final YearPlanner created = new YearPlanner(year);
+            final YearPlanner witness = mDense.compareAndExchange(index, null, created);
+            return witness == null ? created : witness;
+        }
+        final int slot = Math.floorMod(year, mOutliers.length());
+        final YearPlanner cached = mOutliers.get(slot);
+        final boolean hit = cached != null && cached.mYear == year;
+        metrics.cacheLookup(hit);
+        if (hit)
+            return cached;
+        final YearPlanner created = new YearPlanner(year);
+        mOutliers.set(slot, created);
+        return created;
+    }
+
+    /** Determine whether the planner for a year is currently cached.
+     * @param year The year to check.
+     * @return True if a call to get would not build a new planner.
+     */
+    boolean contains(
+        final int year
+    ) {
+        final int index = year - mFirstYear;
+        if (index >= 0 && index < mDense.length())
+            return mDense.get(index) != null;
+        final YearPlanner cached = mOutliers.get(Math.floorMod(year, mOutliers.length()));
+        return cached != null && cached.mYear == year;
+    }
+
+}
@@ -0,0 +1,108 @@
+package calendartools.yearplanner;
+
+/** The precomputed Calendar fields for every day of a single year.
+ *  - Computed from fixed day numbers, matching the fields of GregorianCalendar, including the Julian years.
+ *  - The table extends one month into each neighbouring year, for weeks that cross the year boundary.
+ *  - Immutable once constructed. A few hundred bytes per year.
+ */
+final class YearTable {
+
+    /** The number of days in the neighbouring month, before and after the year, that are included in the table.
+     */
+    static final int PADDING = 31;
+
+    /** The number of days in the year.
+     */
+    final short mLength;
+
+    /** True when every month is a consecutive run of days. Only false in the Julian-Gregorian cutover year.
+     */
+    final boolean mRegular;
+
+    /** The Week of the Year for each Day of the Year, at index (dayOfYear - 1).
+     */
+    final byte[] mWeekOfYear;
+
+    /** The Day of the Month for each day from December 1st of the previous year, to January 31st of the next year.
+     *  - The Day of the Year N is at index (N + 30).
+     *  - Any 7 consecutive elements form one row of the week to day-of-month matrix.
+     */
+    final byte[] mDayOfMonth;
+
+    /** The Day of the Year that starts Week 1. May be zero or negative, when Week 1 starts in December.
+     */
+    final short mWeekOneStart;
+
+    /** Compute every field of the year from fixed day numbers.
+     * @param year The year to build the table for.
+     * @param rule The rule for the Weeks of the Year.
+     */
+    YearTable(
+        final int year,
+        final WeekRule rule
+    ) {
+        final YearTableEvent event = new YearTableEvent();
+        event.begin();
+        final int length = YearPlanner.getYearLength(year);
+        mLength = (short) length;
+        mRegular = length == 365 || length == 366;
+        mWeekOfYear = new byte[length];
+        mDayOfMonth = new byte[length + 2 * PADDING];
+        for (int i = 0; i < mDayOfMonth.length; ++i) {
+            final int dayOfYear = i - PADDING + 1;
+            if (dayOfYear < 1)
+                mDayOfMonth[i] = (byte) (31 + dayOfYear);   // December of the previous year
+            else if (dayOfYear > length)
+                mDayOfMonth[i] = (byte) (dayOfYear - length);   // January of the next year
+            else
+                mDayOfMonth[i] = YearPlanner.getDayOfMonth(year, dayOfYear);
+        }
+        for (int dayOfYear = 1; dayOfYear <= length; ++dayOfYear) {
+            mWeekOfYear[dayOfYear - 1] = YearPlanner.getWeekNumber(year, dayOfYear, rule);
+        }
+        final long fixedJan1 = YearPlanner.getFixedDay(year);
+        mWeekOneStart = (short) (YearPlanner.getWeekOneStart(fixedJan1, rule) - fixedJan1 + 1);
+        event.complete(year, mDayOfMonth.length, rule);
+    }
+
+    /** Determine whether a Day of the Year is within the year.
+     */
+    boolean contains(
+        final int dayOfYear
+    ) {
+        return dayOfYear >= 1 && dayOfYear <= mLength;
+    }
+
+    /** Determine whether 7 days starting from the given Day of the Year are within the table.
+     */
+    boolean containsWeek(
+        final int startDayOfYear
+    ) {
+        return startDayOfYear > -PADDING && startDayOfYear + 6 <= mLength + PADDING;
+    }
+
+    /** Copy the Days of the Month for 7 days starting from the given Day of the Year.
+     * @param startDayOfYear The first day. Must satisfy containsWeek.
+     * @return A new Array of length 7.
+     */
+    byte[] copyWeek(
+        final int startDayOfYear
+    ) {
+        return copyDays(startDayOfYear, 7);
+    }
+
+    /** Copy the Days of the Month for consecutive days starting from the given Day of the Year.
+     * @param startDayOfYear The first day. Must be greater than -PADDING.
+     * @param count The number of days. The last day must be within PADDING days after the year.
+     * @return A new Array of length count.
+     */
+    byte[] copyDays(
+        final int startDayOfYear,
+        final int count
+    ) {
+        final byte[] result = new byte[count];
+        System.arraycopy(mDayOfMonth, startDayOfYear + PADDING - 1, result, 0, count);
+        return result;
+    }
+
+}
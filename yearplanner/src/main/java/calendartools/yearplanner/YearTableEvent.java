@@ -0,0 +1,48 @@
+package calendartools.yearplanner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/** A Flight Recorder event for building the YearTable of a YearPlanner, which computes the fields of every day of a year.
+ */
+@Name("calendartools.YearTableBuild")
+@Label("Year Table Build")
+@Category("Calendar Tools")
+@Description("Precomputing the fields of every day of a year, for a YearPlanner.")
+@Threshold("100 us")
+final class YearTableEvent extends jdk.jfr.Event {
+
+    @Label("Year")
+    int year;
+
+    @Label("Days")
+    @Description("The number of days that were walked, including the neighbouring months.")
+    int days;
+
+    @Label("Week Rule")
+    @Description("The first day of the week and minimal days in week 1.")
+    String weekRule;
+
+    /** End the event, and commit it when it is enabled and over the threshold.
+     * @param year The year of the table.
+     * @param days The number of days that were walked.
+     * @param rule The rule for the Weeks of the Year.
+     */
+    void complete(
+        final int year,
+        final int days,
+        final WeekRule rule
+    ) {
+        end();
+        if (!shouldCommit())
+            return;
+        this.year = year;
+        this.days = days;
+        this.weekRule = rule.toString();
+        commit();
+    }
+
+}
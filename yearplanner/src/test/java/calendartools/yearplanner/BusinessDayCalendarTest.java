@@ -0,0 +1,140 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import calendartools.data.EpochDays;
+import calendartools.data.WeeklyChecklist;
+
+/** Testing the BusinessDayCalendar Class.
+ */
+public final class BusinessDayCalendarTest {
+
+    /** Monday to Friday.
+     */
+    private static final WeeklyChecklist WEEKDAYS = new WeeklyChecklist(false, true, true, true, true, true, false);
+
+    /** Christmas and New Year's Day, in every year from 2020 to 2030.
+     */
+    private static final int[] HOLIDAYS = new int[22];
+
+    static {
+        for (int year = 2020; year <= 2030; ++year) {
+            HOLIDAYS[2 * (year - 2020)] = EpochDays.of(year, 1, 1);
+            HOLIDAYS[2 * (year - 2020) + 1] = EpochDays.of(year, 12, 25);
+        }
+    }
+
+    private final BusinessDayCalendar mInstance = new BusinessDayCalendar(2020, 2030, WEEKDAYS, HOLIDAYS);
+
+    /** The reference: step one day at a time.
+     */
+    private static boolean isWorked(
+        final int epochDay
+    ) {
+        final DayOfWeek dow = LocalDate.ofEpochDay(epochDay).getDayOfWeek();
+        return dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY &&
+            Arrays.stream(HOLIDAYS).noneMatch(h -> h == epochDay);
+    }
+
+    @Test
+    public void testConstructor_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new BusinessDayCalendar(2020, 2030, null, HOLIDAYS));
+        assertThrows(IllegalArgumentException.class, () -> new BusinessDayCalendar(2020, 2030, WEEKDAYS, (int[]) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new BusinessDayCalendar(2020, 2030, WEEKDAYS, (HolidayIndex) null));
+        assertThrows(IllegalArgumentException.class, () -> new BusinessDayCalendar(2030, 2020, WEEKDAYS, HOLIDAYS));
+    }
+
+    @Test
+    public void testRange() {
+        assertEquals(EpochDays.of(2020, 1, 1), mInstance.getFirstEpochDay());
+        assertEquals(EpochDays.of(2030, 12, 31), mInstance.getLastEpochDay());
+        assertThrows(IllegalArgumentException.class, () -> mInstance.isBusinessDay(EpochDays.of(2019, 12, 31)));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.isBusinessDay(EpochDays.of(2031, 1, 1)));
+        // The end of a count may be the day after the range.
+        assertEquals(mInstance.size(), mInstance.countBetween(EpochDays.of(2020, 1, 1), EpochDays.of(2031, 1, 1)));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.countBetween(EpochDays.of(2020, 1, 1), EpochDays.of(2031, 1, 2)));
+    }
+
+    @Test
+    public void testIsBusinessDay_MatchesReference() {
+        int count = 0;
+        for (int day = mInstance.getFirstEpochDay(); day <= mInstance.getLastEpochDay(); ++day) {
+            assertEquals(isWorked(day), mInstance.isBusinessDay(day));
+            if (isWorked(day)) ++count;
+        }
+        assertEquals(count, mInstance.size());
+        // Wednesday December 25th 2024 is a holiday.
+        assertFalse(mInstance.isBusinessDay(EpochDays.of(2024, 12, 25)));
+        assertTrue(mInstance.isBusinessDay(EpochDays.of(2024, 12, 24)));
+    }
+
+    @Test
+    public void testCountBetween_MatchesReference() {
+        final Random random = new Random(38);
+        final int first = mInstance.getFirstEpochDay();
+        final int length = mInstance.getLastEpochDay() - first + 1;
+        for (int i = 0; i < 2000; ++i) {
+            final int start = first + random.nextInt(length);
+            final int end = start + random.nextInt(Math.min(400, first + length + 1 - start));
+            int expected = 0;
+            for (int day = start; day < end; ++day) {
+                if (isWorked(day)) ++expected;
+            }
+            assertEquals(expected, mInstance.countBetween(start, end));
+            assertEquals(-expected, mInstance.countBetween(end, start));
+        }
+    }
+
+    @Test
+    public void testAddBusinessDays_MatchesReference() {
+        final Random random = new Random(1038);
+        final int first = mInstance.getFirstEpochDay() + 60;
+        for (int i = 0; i < 2000; ++i) {
+            final int start = first + random.nextInt(3000);
+            final int n = random.nextInt(81) - 40;
+            int expected = start;
+            for (int remaining = Math.abs(n); remaining > 0; ) {
+                expected += Integer.signum(n);
+                if (isWorked(expected)) --remaining;
+            }
+            assertEquals(expected, mInstance.addBusinessDays(start, n));
+        }
+    }
+
+    @Test
+    public void testAddBusinessDays_Examples() {
+        // Friday December 20th 2024, plus 2 business days, skips the weekend and reaches Tuesday the 24th.
+        assertEquals(EpochDays.of(2024, 12, 24), mInstance.addBusinessDays(EpochDays.of(2024, 12, 20), 2));
+        // One more skips Christmas.
+        assertEquals(EpochDays.of(2024, 12, 26), mInstance.addBusinessDays(EpochDays.of(2024, 12, 20), 3));
+        assertEquals(EpochDays.of(2024, 12, 20), mInstance.addBusinessDays(EpochDays.of(2024, 12, 26), -3));
+        // From a Saturday, one day back is the Friday.
+        assertEquals(EpochDays.of(2024, 12, 20), mInstance.addBusinessDays(EpochDays.of(2024, 12, 21), -1));
+        assertEquals(EpochDays.of(2024, 12, 21), mInstance.addBusinessDays(EpochDays.of(2024, 12, 21), 0));
+        assertEquals(EpochDays.of(2024, 12, 23), mInstance.nextBusinessDay(EpochDays.of(2024, 12, 21)));
+        assertEquals(EpochDays.of(2024, 12, 23), mInstance.nextBusinessDay(EpochDays.of(2024, 12, 23)));
+    }
+
+    @Test
+    public void testAddBusinessDays_OutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.addBusinessDays(EpochDays.of(2020, 1, 2), -1));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.addBusinessDays(EpochDays.of(2030, 12, 31), 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.addBusinessDays(mInstance.getFirstEpochDay(), Integer.MAX_VALUE));
+    }
+
+}
@@ -0,0 +1,153 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import calendartools.data.TestDataProvider;
+import calendartools.data.WeeklyChecklist;
+
+/** Testing the Day of the Year Bitmap.
+ */
+public final class DayOfYearBitmapTest {
+    
+    /** Years with each starting Day of the Week, a leap year, and the cutover year.
+     */
+    private static final int[] YEARS = new int[]{
+        TestDataProvider.CurrentYear, TestDataProvider.LeapYear, 2026, 2027, 2028, 2030, 2034, 1900, 2000, 1582,
+    };
+    
+    /** Build the expected Bitmap by checking every day with a Calendar.
+     */
+    private static long[] expectedBitmap(
+        final WeeklyChecklist checklist,
+        final int year
+    ) {
+        final long[] result = new long[DayOfYearBitmap.WORDS];
+        var cal = new Calendar.Builder()
+            .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, 1)
+            .build();
+        final int days = cal.getActualMaximum(Calendar.DAY_OF_YEAR);
+        for (int i = 0; i < days; ++i) {
+            if (checklist.getDayOfWeek(cal.get(Calendar.DAY_OF_WEEK)))
+                result[i / 64] |= 1L << i;
+            cal.add(Calendar.DATE, 1);
+        }
+        return result;
+    }
+    
+    @Test
+    public void test_WeekTile() {
+        long expected = 0;
+        for (int i = 0; i < 64; i += 7) {
+            expected |= 1L << i;
+        }
+        assertEquals(expected, DayOfYearBitmap.WEEK_TILE);
+    }
+    
+    @Test
+    public void test_Expand_AllChecklists_MatchesCalendar() {
+        for (int year : YEARS) {
+            for (int data = 0; data < 128; ++data) {
+                var checklist = WeeklyChecklist.fromByte((byte) data);
+                assertArrayEquals(
+                    "Year " + year + ", Checklist " + data,
+                    expectedBitmap(checklist, year),
+                    DayOfYearBitmap.expand(checklist, year)
+                );
+            }
+        }
+    }
+    
+    @Test
+    public void test_Expand_AllTrue_CountsEveryDay() {
+        var allTrue = new WeeklyChecklist(true);
+        assertEquals(365, DayOfYearBitmap.count(DayOfYearBitmap.expand(allTrue, TestDataProvider.CurrentYear)));
+        assertEquals(366, DayOfYearBitmap.count(DayOfYearBitmap.expand(allTrue, TestDataProvider.LeapYear)));
+        assertEquals(355, DayOfYearBitmap.count(DayOfYearBitmap.expand(allTrue, 1582)));
+    }
+    
+    @Test
+    public void test_Expand_Null_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> DayOfYearBitmap.expand((WeeklyChecklist) null, 2025));
+        assertThrows(IllegalArgumentException.class,
+            () -> DayOfYearBitmap.expand((byte[]) null, 2025));
+    }
+    
+    @Test
+    public void test_ExpandPacked_Small_MatchesSingle() {
+        var packed = new byte[]{0, 127, 2, 65};
+        var result = DayOfYearBitmap.expand(packed, TestDataProvider.LeapYear);
+        assertEquals(4 * DayOfYearBitmap.WORDS, result.length);
+        for (int i = 0; i < packed.length; ++i) {
+            var single = DayOfYearBitmap.expand(WeeklyChecklist.fromByte(packed[i]), TestDataProvider.LeapYear);
+            for (int w = 0; w < DayOfYearBitmap.WORDS; ++w) {
+                assertEquals(single[w], result[i * DayOfYearBitmap.WORDS + w]);
+            }
+        }
+    }
+    
+    @Test
+    public void test_ExpandPacked_Large_MatchesSingle() {
+        var packed = new byte[1000];
+        for (int i = 0; i < packed.length; ++i) {
+            packed[i] = (byte) ((i * 37) % 128);
+        }
+        var result = DayOfYearBitmap.expand(packed, TestDataProvider.CurrentYear);
+        for (int i = 0; i < packed.length; ++i) {
+            var single = DayOfYearBitmap.expand(WeeklyChecklist.fromByte(packed[i]), TestDataProvider.CurrentYear);
+            for (int w = 0; w < DayOfYearBitmap.WORDS; ++w) {
+                assertEquals(single[w], result[i * DayOfYearBitmap.WORDS + w]);
+            }
+        }
+    }
+    
+    @Test
+    public void test_ExpandPacked_InvalidData_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> DayOfYearBitmap.expand(new byte[]{1, -1}, 2025));
+        var large = new byte[200];
+        large[199] = Byte.MIN_VALUE;
+        assertThrows(IllegalArgumentException.class,
+            () -> DayOfYearBitmap.expand(large, 2025));
+    }
+    
+    @Test
+    public void test_IsSet_Wednesdays2025() {
+        var wednesdays = new WeeklyChecklist(false).updateDayOfWeek(Calendar.WEDNESDAY);
+        var bitmap = DayOfYearBitmap.expand(wednesdays, TestDataProvider.CurrentYear);
+        // January 1st, 2025 is a Wednesday.
+        assertTrue(DayOfYearBitmap.isSet(bitmap, 1));
+        assertFalse(DayOfYearBitmap.isSet(bitmap, 2));
+        assertTrue(DayOfYearBitmap.isSet(bitmap, 365));
+        assertFalse(DayOfYearBitmap.isSet(bitmap, 366));
+    }
+    
+    @Test
+    public void test_ToDayNumbers_Sundays2025() {
+        var sundays = new WeeklyChecklist(false).updateDayOfWeek(Calendar.SUNDAY);
+        var days = DayOfYearBitmap.toDayNumbers(
+            DayOfYearBitmap.expand(sundays, TestDataProvider.CurrentYear)
+        );
+        assertEquals(52, days.length);
+        for (int i = 0; i < days.length; ++i) {
+            assertEquals(5 + 7 * i, days[i]);
+        }
+    }
+    
+    @Test
+    public void test_ToDayNumbers_Empty() {
+        assertArrayEquals(
+            new short[0],
+            DayOfYearBitmap.toDayNumbers(DayOfYearBitmap.expand(new WeeklyChecklist(false), 2025))
+        );
+    }
+    
+}
@@ -0,0 +1,192 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Calendar;
+
+import calendartools.data.EpochDays;
+import calendartools.data.WeeklyChecklist;
+
+/** Testing the HolidayIndex Class.
+ */
+public final class HolidayIndexTest {
+
+    private final HolidayIndex mInstance = new HolidayIndex(2020, 2030);
+
+    @Test
+    public void testConstructor_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new HolidayIndex(2030, 2020));
+        assertThrows(IllegalArgumentException.class, () -> new HolidayIndex(0, Short.MAX_VALUE + 1));
+    }
+
+    @Test
+    public void testAdd() {
+        mInstance.add(2024, 366);
+        assertTrue(mInstance.isHoliday(2024, 366));
+        assertFalse(mInstance.isHoliday(2024, 365));
+        assertFalse(mInstance.isHoliday(2025, 366));
+        assertEquals(1, mInstance.count());
+        assertThrows(IllegalArgumentException.class, () -> mInstance.add(2025, 366));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.add(2025, 0));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.add(2019, 1));
+        // Queries outside of the range are never holidays.
+        assertFalse(mInstance.isHoliday(2019, 1));
+        assertFalse(mInstance.isHoliday(2024, 0));
+        assertFalse(mInstance.isHoliday(2024, 367));
+    }
+
+    @Test
+    public void testAddMonthDay() {
+        mInstance.addMonthDay(2, 29);
+        // Leap years only: 2020, 2024, 2028.
+        assertEquals(3, mInstance.count());
+        assertTrue(mInstance.isHoliday(2024, 60));
+        assertFalse(mInstance.isHoliday(2025, 60));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addMonthDay(13, 1));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addMonthDay(1, 32));
+    }
+
+    @Test
+    public void testAddMonthDayStrings() {
+        mInstance.addMonthDayStrings("12-25", "01-01");
+        assertEquals(22, mInstance.count());
+        for (int year = 2020; year <= 2030; ++year) {
+            assertTrue(mInstance.isHoliday(year, 1));
+            assertTrue(mInstance.isHoliday(year, LocalDate.of(year, 12, 25).getDayOfYear()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addMonthDayStrings("13-01"));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addMonthDayStrings((String) null));
+    }
+
+    @Test
+    public void testAddMonthDayStrings_LeapDay_OnlyInLeapYears() {
+        mInstance.addMonthDayStrings("02-29");
+        // 2020, 2024 and 2028.
+        assertEquals(3, mInstance.count());
+        assertTrue(mInstance.isHoliday(2024, 60));
+        assertFalse(mInstance.isHoliday(2025, 60));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addMonthDayStrings("02-30"));
+    }
+
+    @Test
+    public void testAddMonthDayStrings_CutoverYear_SameAsAddMonthDay() {
+        // October 10th does not exist in 1582, and was shifted to October 20th through a Calendar.
+        final HolidayIndex strings = new HolidayIndex(1582, 1584);
+        final HolidayIndex fields = new HolidayIndex(1582, 1584);
+        strings.addMonthDayStrings("10-10", "12-25");
+        fields.addMonthDay(10, 10);
+        fields.addMonthDay(12, 25);
+        assertArrayEquals(fields.toEpochDays(), strings.toEpochDays());
+        assertTrue(strings.isHoliday(1583, 283));
+        assertFalse(strings.isHoliday(1583, 293));
+    }
+
+    @Test
+    public void testAddDateStrings() {
+        mInstance.addDateStrings("2025-07-04", "2010-07-04");
+        assertEquals(1, mInstance.count());
+        assertTrue(mInstance.isHoliday(2025, LocalDate.of(2025, 7, 4).getDayOfYear()));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addDateStrings("2025-13-40"));
+    }
+
+    @Test
+    public void testAddNthWeekday() {
+        // Labor Day, the first Monday of September.
+        mInstance.addNthWeekday(9, Calendar.MONDAY, 1);
+        // Memorial Day, the last Monday of May.
+        mInstance.addNthWeekday(5, Calendar.MONDAY, -1);
+        assertEquals(22, mInstance.count());
+        for (int year = 2020; year <= 2030; ++year) {
+            final LocalDate laborDay = LocalDate.of(year, 9, 1)
+                .with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
+            final LocalDate memorialDay = LocalDate.of(year, 5, 1)
+                .with(TemporalAdjusters.lastInMonth(DayOfWeek.MONDAY));
+            assertTrue(mInstance.isHoliday(year, laborDay.getDayOfYear()));
+            assertTrue(mInstance.isHoliday(year, memorialDay.getDayOfYear()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addNthWeekday(0, Calendar.MONDAY, 1));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addNthWeekday(1, 8, 1));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addNthWeekday(1, Calendar.MONDAY, 0));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.addNthWeekday(1, Calendar.MONDAY, 6));
+    }
+
+    @Test
+    public void testGetNthWeekday_MatchesJavaTime() {
+        for (int year = 1600; year <= 2400; year += 7) {
+            for (int month = 1; month <= 12; ++month) {
+                for (int dow = Calendar.SUNDAY; dow <= Calendar.SATURDAY; ++dow) {
+                    // Calendar.SUNDAY is 1, and DayOfWeek.SUNDAY is 7.
+                    final DayOfWeek dayOfWeek = DayOfWeek.of(dow == Calendar.SUNDAY ? 7 : dow - 1);
+                    for (int n = 1; n <= 5; ++n) {
+                        final LocalDate date = LocalDate.of(year, month, 1)
+                            .with(TemporalAdjusters.dayOfWeekInMonth(n, dayOfWeek));
+                        final int expected = date.getMonthValue() == month ? date.getDayOfYear() : 0;
+                        assertEquals(expected, HolidayIndex.getNthWeekday(year, month, dow, n));
+                    }
+                    assertEquals(
+                        LocalDate.of(year, month, 1).with(TemporalAdjusters.lastInMonth(dayOfWeek)).getDayOfYear(),
+                        HolidayIndex.getNthWeekday(year, month, dow, -1)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCutoverYear() {
+        final HolidayIndex index = new HolidayIndex(1582, 1582);
+        // October 1582 runs from Monday the 1st to Thursday the 4th, then Friday the 15th to Sunday the 31st.
+        index.addMonthDay(10, 10);
+        assertEquals(0, index.count());
+        index.addMonthDay(10, 31);
+        assertTrue(index.isHoliday(1582, 294));
+        assertEquals(294, HolidayIndex.getNthWeekday(1582, 10, Calendar.SUNDAY, -1));
+        assertEquals(278, HolidayIndex.getNthWeekday(1582, 10, Calendar.FRIDAY, 1));
+        assertEquals(21, HolidayIndex.getMonthLength(1582, 10));
+    }
+
+    @Test
+    public void testNextNonHoliday() {
+        // A holiday block from December 24th 2024 to January 2nd 2025.
+        for (int day = 359; day <= 366; ++day) mInstance.add(2024, day);
+        mInstance.add(2025, 1);
+        mInstance.add(2025, 2);
+        assertEquals(EpochDays.of(2024, 12, 23), mInstance.nextNonHoliday(2024, 358));
+        assertEquals(EpochDays.of(2025, 1, 3), mInstance.nextNonHoliday(2024, 359));
+        assertEquals(EpochDays.of(2025, 1, 3), mInstance.nextNonHoliday(2025, 1));
+        // Days after the range are not holidays.
+        for (int day = 1; day <= 365; ++day) mInstance.add(2030, day);
+        assertEquals(EpochDays.of(2031, 1, 1), mInstance.nextNonHoliday(2030, 100));
+        assertEquals(EpochDays.of(2019, 5, 5), mInstance.nextNonHoliday(2019, 125));
+    }
+
+    @Test
+    public void testBitmapAndEpochDays() {
+        mInstance.addMonthDayStrings("12-25");
+        final long[] expected = new long[DayOfYearBitmap.WORDS];
+        final int christmas = LocalDate.of(2025, 12, 25).getDayOfYear() - 1;
+        expected[christmas >>> 6] = 1L << christmas;
+        assertArrayEquals(expected, mInstance.getBitmap(2025));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getBitmap(2031));
+        final int[] epochDays = mInstance.toEpochDays();
+        assertEquals(11, epochDays.length);
+        assertEquals(EpochDays.of(2020, 12, 25), epochDays[0]);
+        assertEquals(EpochDays.of(2030, 12, 25), epochDays[10]);
+        // The index can be used by a BusinessDayCalendar.
+        final BusinessDayCalendar business = new BusinessDayCalendar(
+            2020, 2030, new WeeklyChecklist(true), mInstance
+        );
+        assertFalse(business.isBusinessDay(EpochDays.of(2025, 12, 25)));
+        assertTrue(business.isBusinessDay(EpochDays.of(2025, 12, 26)));
+    }
+
+}
@@ -0,0 +1,146 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+
+import calendartools.data.EpochDays;
+
+/** Testing the RangePlanner Class.
+ */
+public final class RangePlannerTest {
+
+    private final RangePlanner mInstance = new RangePlanner(2015, 2030);
+
+    @Test
+    public void testConstructor_InvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> new RangePlanner(2030, 2015));
+        assertThrows(IllegalArgumentException.class, () -> new RangePlanner(Short.MIN_VALUE - 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RangePlanner(0, Short.MAX_VALUE + 1));
+    }
+
+    @Test
+    public void testGetCalendarEpochDay_MatchesLocalDate() {
+        assertEquals(0, RangePlanner.getCalendarEpochDay(1970, 1));
+        for (int year = 1583; year <= 2500; ++year) {
+            assertEquals(LocalDate.of(year, 1, 1).toEpochDay(), RangePlanner.getCalendarEpochDay(year, 1));
+        }
+        // Days are consecutive across the cutover, from October 4th to October 15th 1582.
+        assertEquals(LocalDate.of(1582, 10, 15).toEpochDay(), RangePlanner.getCalendarEpochDay(1582, 278));
+        assertEquals(RangePlanner.getCalendarEpochDay(1582, 278) - 1, RangePlanner.getCalendarEpochDay(1582, 277));
+        assertEquals(RangePlanner.getCalendarEpochDay(1583, 1), RangePlanner.getCalendarEpochDay(1582, 356));
+    }
+
+    @Test
+    public void testGetCalendarEpochDay_JulianYears_MatchEpochDaysFromCalendar() {
+        // The count is the same as EpochDays, but the Julian date labels differ before 1583.
+        assertEquals(EpochDays.of(1500, 1, 10), RangePlanner.getCalendarEpochDay(1500, 1));
+        assertEquals(1499, RangePlanner.getCalendarYear(EpochDays.of(1500, 1, 1)));
+        for (int year = 1400; year <= 1600; ++year) {
+            final Calendar cal = new Calendar.Builder()
+                .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, 1)
+                .build();
+            assertEquals(EpochDays.fromCalendar(cal), RangePlanner.getCalendarEpochDay(year, 1));
+            assertEquals(year, RangePlanner.getCalendarYear(EpochDays.fromCalendar(cal)));
+        }
+        assertEquals(Calendar.WEDNESDAY, EpochDays.getDayOfWeek(RangePlanner.getCalendarEpochDay(2025, 1)));
+    }
+
+    @Test
+    public void testRange() {
+        assertEquals(2015, mInstance.mFirstYear);
+        assertEquals(2030, mInstance.mLastYear);
+        assertEquals(LocalDate.of(2015, 1, 1).toEpochDay(), mInstance.getFirstEpochDay());
+        assertEquals(LocalDate.of(2030, 12, 31).toEpochDay(), mInstance.getLastEpochDay());
+        assertTrue(mInstance.contains(mInstance.getFirstEpochDay()));
+        assertTrue(mInstance.contains(mInstance.getLastEpochDay()));
+        assertFalse(mInstance.contains(mInstance.getFirstEpochDay() - 1));
+        assertFalse(mInstance.contains(mInstance.getLastEpochDay() + 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getDayOfYear(mInstance.getLastEpochDay() + 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getYear(mInstance.getFirstEpochDay() - 1));
+    }
+
+    @Test
+    public void testGetYear_FarEndsOfWideRanges() {
+        for (RangePlanner range : new RangePlanner[]{
+            new RangePlanner(Short.MIN_VALUE, Short.MIN_VALUE + 3000),
+            new RangePlanner(Short.MAX_VALUE - 3000, Short.MAX_VALUE),
+        }) {
+            for (int year = range.mFirstYear; year <= range.mLastYear; ++year) {
+                final int start = RangePlanner.getCalendarEpochDay(year, 1);
+                assertEquals(year, range.getYear(start));
+                assertEquals(RangePlanner.getCalendarYear(start + 180), range.getYear(start + 180));
+                if (year > range.mFirstYear) assertEquals(year - 1, range.getYear(start - 1));
+            }
+            assertEquals(range.mLastYear, range.getYear(range.getLastEpochDay()));
+        }
+    }
+
+    @Test
+    public void testFields_MatchCalendar() {
+        final RangePlanner planner = new RangePlanner(1580, 1585);
+        for (RangePlanner range : new RangePlanner[]{mInstance, planner}) {
+            final Calendar cal = new Calendar.Builder()
+                .setFields(Calendar.YEAR, range.mFirstYear, Calendar.DAY_OF_YEAR, 1)
+                .build();
+            for (int epochDay = range.getFirstEpochDay(); epochDay <= range.getLastEpochDay(); ++epochDay) {
+                assertEquals(cal.get(Calendar.YEAR), range.getYear(epochDay));
+                assertEquals(cal.get(Calendar.DAY_OF_YEAR), range.getDayOfYear(epochDay));
+                assertEquals(cal.get(Calendar.WEEK_OF_YEAR), range.getWeekOfYear(epochDay));
+                assertEquals(cal.get(Calendar.MONTH), range.getMonth(epochDay));
+                assertEquals(cal.get(Calendar.DAY_OF_MONTH), range.getDayOfMonth(epochDay));
+                assertEquals(cal.get(Calendar.DAY_OF_WEEK), EpochDays.getDayOfWeek(epochDay));
+                cal.add(Calendar.DATE, 1);
+            }
+        }
+    }
+
+    @Test
+    public void testGetCalendarEpochDay_MonthDay() {
+        assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), mInstance.getCalendarEpochDay(2024, 2, 29));
+        assertEquals(LocalDate.of(2030, 12, 31).toEpochDay(), mInstance.getCalendarEpochDay(2030, 12, 31));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getCalendarEpochDay(2014, 12, 31));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getCalendarEpochDay(2020, 13, 1));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.getCalendarEpochDay(2020, 1, 0));
+    }
+
+    @Test
+    public void testWeekStarts_CrossYearBoundaries() {
+        final int[] starts = mInstance.weekStarts().toArray();
+        // The first full week of 2015 starts on Sunday January 4th, and the last ends on Saturday December 28th 2030.
+        assertEquals(LocalDate.of(2015, 1, 4).toEpochDay(), starts[0]);
+        assertEquals(LocalDate.of(2030, 12, 22).toEpochDay(), starts[starts.length - 1]);
+        for (int i = 0; i < starts.length; ++i) {
+            assertEquals(starts[0] + 7 * i, starts[i]);
+            assertEquals(mInstance.mWeekRule.mFirstDayOfWeek, EpochDays.getDayOfWeek(starts[i]));
+            assertEquals(starts[i], mInstance.getWeekStart(starts[i] + 6));
+        }
+        // The week from Sunday December 29th 2024 crosses into 2025.
+        final int week = mInstance.getWeekStart(mInstance.getCalendarEpochDay(2025, 1, 1));
+        assertEquals(mInstance.getCalendarEpochDay(2024, 12, 29), week);
+        assertArrayEquals(new byte[]{29, 30, 31, 1, 2, 3, 4}, mInstance.getDayArray(week));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getDayArray(mInstance.getLastEpochDay() - 5));
+    }
+
+    @Test
+    public void testWeekRule_Iso() {
+        final RangePlanner planner = new RangePlanner(2025, 2027, WeekRule.ISO);
+        assertSame(WeekRule.ISO, planner.mWeekRule);
+        assertEquals(53, planner.getWeekOfYear(planner.getCalendarEpochDay(2026, 12, 31)));
+        assertEquals(53, planner.getWeekOfYear(planner.getCalendarEpochDay(2027, 1, 1)));
+        assertEquals(Calendar.MONDAY, EpochDays.getDayOfWeek(planner.weekStarts().findFirst().getAsInt()));
+        assertThrows(IllegalArgumentException.class, () -> new RangePlanner(2025, 2027, null));
+    }
+
+}
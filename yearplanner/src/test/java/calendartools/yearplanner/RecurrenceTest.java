@@ -0,0 +1,145 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Calendar;
+import java.util.stream.IntStream;
+
+import calendartools.data.EpochDays;
+import calendartools.data.WeeklyChecklist;
+
+/** Testing the Recurrence Class.
+ */
+public final class RecurrenceTest {
+
+    /** Monday, Wednesday and Friday.
+     */
+    private static final WeeklyChecklist MWF = new WeeklyChecklist(false, true, false, true, false, true, false);
+
+    /** The reference: check every day with java.time.
+     */
+    private static int[] referenceWeekly(
+        final int from,
+        final int to,
+        final int interval,
+        final LocalDate anchor
+    ) {
+        final LocalDate anchorSunday = anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        return IntStream.range(from, to).filter(epochDay -> {
+            final LocalDate date = LocalDate.ofEpochDay(epochDay);
+            final DayOfWeek dow = date.getDayOfWeek();
+            if (dow != DayOfWeek.MONDAY && dow != DayOfWeek.WEDNESDAY && dow != DayOfWeek.FRIDAY)
+                return false;
+            final long weeks = ChronoUnit.WEEKS.between(anchorSunday,
+                date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY)));
+            return Math.floorMod(weeks, interval) == 0;
+        }).toArray();
+    }
+
+    @Test
+    public void testFactories_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.weekly(null));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.everyNWeeks(null, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.everyNWeeks(MWF, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.monthlyNthWeekday(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.monthlyNthWeekday(Calendar.MONDAY, 0));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.monthlyNthWeekday(Calendar.MONDAY, 6));
+    }
+
+    @Test
+    public void testWeekly_MatchesDayOfYearBitmap() {
+        assertArrayEquals(DayOfYearBitmap.expand(MWF, 2025), Recurrence.weekly(MWF).expand(2025));
+    }
+
+    @Test
+    public void testEveryNWeeks_MatchesReference() {
+        final int from = EpochDays.of(2023, 11, 20);
+        final int to = EpochDays.of(2026, 2, 3);
+        for (int interval = 1; interval <= 5; ++interval) {
+            final LocalDate anchor = LocalDate.of(2024, 3, 13);
+            final Recurrence rule = Recurrence.everyNWeeks(MWF, interval, (int) anchor.toEpochDay());
+            assertArrayEquals(referenceWeekly(from, to, interval, anchor), rule.occurrences(from, to).toArray());
+        }
+    }
+
+    @Test
+    public void testEveryNWeeks_Example() {
+        // Every second week, from the week of Sunday January 5th 2025.
+        final Recurrence rule = Recurrence.everyNWeeks(MWF, 2, EpochDays.of(2025, 1, 8));
+        assertArrayEquals(
+            new int[]{
+                EpochDays.of(2025, 1, 6), EpochDays.of(2025, 1, 8), EpochDays.of(2025, 1, 10),
+                EpochDays.of(2025, 1, 20), EpochDays.of(2025, 1, 22), EpochDays.of(2025, 1, 24),
+            },
+            rule.occurrences(EpochDays.of(2025, 1, 1), EpochDays.of(2025, 1, 26)).toArray()
+        );
+    }
+
+    @Test
+    public void testMonthlyNthWeekday() {
+        // The second Tuesday, and the last Friday, of each month in 2025.
+        final Recurrence second = Recurrence.monthlyNthWeekday(Calendar.TUESDAY, 2);
+        final Recurrence last = Recurrence.monthlyNthWeekday(Calendar.FRIDAY, -1);
+        final int[] seconds = second.occurrences(EpochDays.of(2025, 1, 1), EpochDays.of(2026, 1, 1)).toArray();
+        final int[] lasts = last.occurrences(EpochDays.of(2025, 1, 1), EpochDays.of(2026, 1, 1)).toArray();
+        assertEquals(12, seconds.length);
+        assertEquals(12, lasts.length);
+        for (int month = 1; month <= 12; ++month) {
+            final LocalDate first = LocalDate.of(2025, month, 1);
+            assertEquals(first.with(TemporalAdjusters.dayOfWeekInMonth(2, DayOfWeek.TUESDAY)).toEpochDay(),
+                seconds[month - 1]);
+            assertEquals(first.with(TemporalAdjusters.lastInMonth(DayOfWeek.FRIDAY)).toEpochDay(),
+                lasts[month - 1]);
+        }
+        // A fifth Saturday occurs in only some months.
+        assertEquals(4, DayOfYearBitmap.count(Recurrence.monthlyNthWeekday(Calendar.SATURDAY, 5).expand(2025)));
+    }
+
+    @Test
+    public void testOccurrences_Lazy() {
+        // An unbounded range is only expanded as far as the stream is consumed.
+        final int[] firstThree = Recurrence.weekly(MWF)
+            .occurrences(EpochDays.of(2025, 1, 1), Integer.MAX_VALUE / 2)
+            .limit(3).toArray();
+        assertArrayEquals(new int[]{EpochDays.of(2025, 1, 1), EpochDays.of(2025, 1, 3), EpochDays.of(2025, 1, 6)}, firstThree);
+        assertEquals(0, Recurrence.weekly(MWF).occurrences(10, 10).count());
+    }
+
+    @Test
+    public void testExpandAll() {
+        final Recurrence[] rules = new Recurrence[1000];
+        for (int i = 0; i < rules.length; ++i) {
+            rules[i] = i % 2 == 0
+                ? Recurrence.everyNWeeks(WeeklyChecklist.fromByte((byte) (i % 128)), 1 + i % 3, i)
+                : Recurrence.monthlyNthWeekday(1 + i % 7, 1 + i % 5);
+        }
+        final long[] sequential = Recurrence.expandAll(rules, 2025);
+        assertArrayEquals(sequential, Recurrence.parallelExpandAll(rules, 2025));
+        for (int i = 0; i < rules.length; ++i) {
+            final long[] single = rules[i].expand(2025);
+            for (int w = 0; w < DayOfYearBitmap.WORDS; ++w) {
+                assertEquals(single[w], sequential[i * DayOfYearBitmap.WORDS + w]);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.expandAll(null, 2025));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parallelExpandAll(new Recurrence[1], 2025));
+    }
+
+    @Test
+    public void testGetYearOfEpochDay() {
+        for (int year = -500; year <= 3000; ++year) {
+            final int start = RangePlanner.getCalendarEpochDay(year, 1);
+            assertEquals(year, RangePlanner.getCalendarYear(start));
+            assertEquals(year - 1, RangePlanner.getCalendarYear(start - 1));
+        }
+    }
+
+}
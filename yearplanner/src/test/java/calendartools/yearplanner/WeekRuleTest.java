@@ -0,0 +1,115 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Calendar;
+
+/** Testing the WeekRule Class, and YearPlanner instances with a WeekRule.
+ */
+public final class WeekRuleTest {
+
+    @Test
+    public void testOf() {
+        assertSame(WeekRule.ISO, WeekRule.of(Calendar.MONDAY, 4));
+        assertSame(WeekRule.US, WeekRule.of(Calendar.SUNDAY, 1));
+        final WeekRule custom = WeekRule.of(Calendar.SATURDAY, 7);
+        assertEquals(Calendar.SATURDAY, custom.mFirstDayOfWeek);
+        assertEquals(7, custom.mMinimalDays);
+        assertEquals(custom, WeekRule.of(Calendar.SATURDAY, 7));
+        assertEquals(custom.hashCode(), WeekRule.of(Calendar.SATURDAY, 7).hashCode());
+        assertNotEquals(custom, WeekRule.ISO);
+        assertNotEquals(WeekRule.ISO, null);
+    }
+
+    @Test
+    public void testOf_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> WeekRule.of(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> WeekRule.of(8, 1));
+        assertThrows(IllegalArgumentException.class, () -> WeekRule.of(Calendar.MONDAY, 0));
+        assertThrows(IllegalArgumentException.class, () -> WeekRule.of(Calendar.MONDAY, 8));
+    }
+
+    @Test
+    public void testGetDefault() {
+        final Calendar cal = Calendar.getInstance();
+        final WeekRule rule = WeekRule.getDefault();
+        assertEquals(cal.getFirstDayOfWeek(), rule.mFirstDayOfWeek);
+        assertEquals(cal.getMinimalDaysInFirstWeek(), rule.mMinimalDays);
+        assertEquals(rule, new YearPlanner(2025).mWeekRule);
+    }
+
+    @Test
+    public void testConstructor_NullRule() {
+        assertThrows(IllegalArgumentException.class, () -> new YearPlanner(2025, (WeekRule) null));
+    }
+
+    @Test
+    public void testIso_MatchesJavaTime() {
+        for (int year = 1600; year <= 2400; ++year) {
+            final YearPlanner planner = new YearPlanner(year, WeekRule.ISO);
+            final int length = YearPlanner.getYearLength(year);
+            for (int day = 1; day <= length; ++day) {
+                final LocalDate date = LocalDate.ofYearDay(year, day);
+                assertEquals(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), planner.getWeekNumber(day));
+            }
+        }
+    }
+
+    @Test
+    public void testIso_WeekNumbers() {
+        // 2026-01-01 is a Thursday, so week 1 of 2026 starts on Monday December 29th 2025.
+        final YearPlanner planner = new YearPlanner(2026, WeekRule.ISO);
+        assertEquals(1, planner.getWeekNumber(1, 1));
+        assertEquals(53, planner.getWeekNumber(12, 31));
+        assertEquals(1, planner.getWeekNumber("2025-12-29"));
+        assertArrayEquals(new byte[]{29, 30, 31, 1, 2, 3, 4}, planner.getDayArray((byte) 1));
+        assertEquals(Calendar.MONDAY, planner.getCalendar(1, 1).getFirstDayOfWeek());
+        // 2027-01-01 is a Friday, in the last week of 2026.
+        final YearPlanner next = new YearPlanner(2027, WeekRule.ISO);
+        assertEquals(53, next.getWeekNumber(1, 1));
+        assertArrayEquals(new byte[]{4, 5, 6, 7, 8, 9, 10}, next.getDayArray((byte) 1));
+        final YearGrid grid = next.getYearGrid();
+        assertEquals(0, grid.mFirstWeek);
+        assertArrayEquals(new byte[]{28, 29, 30, 31, 1, 2, 3}, grid.getDayArray(0));
+    }
+
+    @Test
+    public void testAllRules_MatchCalendar() {
+        for (int first = Calendar.SUNDAY; first <= Calendar.SATURDAY; ++first) {
+            for (int minimalDays = 1; minimalDays <= 7; ++minimalDays) {
+                final WeekRule rule = WeekRule.of(first, minimalDays);
+                for (int year = 2020; year <= 2027; ++year) {
+                    final YearPlanner planner = new YearPlanner(year, rule);
+                    for (int day = -3; day <= 370; ++day) {
+                        final Calendar cal = new Calendar.Builder()
+                            .setWeekDefinition(first, minimalDays)
+                            .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, day)
+                            .build();
+                        assertEquals(cal.get(Calendar.WEEK_OF_YEAR), planner.getWeekNumber(day));
+                    }
+                    for (byte week = -1; week <= 55; ++week) {
+                        final Calendar cal = new Calendar.Builder()
+                            .setWeekDefinition(first, minimalDays)
+                            .setFields(Calendar.YEAR, year, Calendar.WEEK_OF_YEAR, week)
+                            .build();
+                        final byte[] expected = new byte[7];
+                        for (int i = 0; i < 7; ++i) {
+                            expected[i] = (byte) cal.get(Calendar.DAY_OF_MONTH);
+                            cal.add(Calendar.DATE, 1);
+                        }
+                        assertArrayEquals(expected, planner.getDayArray(week));
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+/** Testing the YearGrid Class, and YearPlanner.getYearGrid.
+ */
+public final class YearGridTest {
+
+    /** Years starting on every day of the week, in leap and regular years, and the cutover year.
+     */
+    private static final int[] YEARS = {
+        1582, 1900, 2000, 2016, 2017, 2018, 2019, 2020, 2021, 2022, 2023, 2024, 2025, 2026, 2027, 2028,
+    };
+
+    @Test
+    public void testGetYearGrid_2025() {
+        // 2025 starts on a Wednesday, and ends on a Wednesday.
+        final YearGrid grid = new YearPlanner(2025).getYearGrid();
+        assertEquals(1, grid.mFirstWeek);
+        assertEquals(53, grid.mWeekCount);
+        assertEquals(53 * 7, grid.mDays.length);
+        assertArrayEquals(new byte[]{29, 30, 31, 1, 2, 3, 4}, grid.getDayArray(1));
+        assertArrayEquals(new byte[]{28, 29, 30, 31, 1, 2, 3}, grid.getDayArray(53));
+        assertEquals(YearGrid.PREVIOUS_DECEMBER, grid.mMonths[0]);
+        assertEquals(Calendar.JANUARY, grid.mMonths[3]);
+        assertEquals(Calendar.DECEMBER, grid.mMonths[52 * 7 + 3]);
+        assertEquals(YearGrid.NEXT_JANUARY, grid.mMonths[52 * 7 + 4]);
+    }
+
+    @Test
+    public void testGetYearGrid_2000_Has54Weeks() {
+        // 2000 is a leap year that starts on a Saturday, so December 31st is a Sunday.
+        final YearGrid grid = new YearPlanner(2000).getYearGrid();
+        assertEquals(54, grid.mWeekCount);
+        assertArrayEquals(new byte[]{31, 1, 2, 3, 4, 5, 6}, grid.getDayArray(54));
+    }
+
+    @Test
+    public void testGetYearGrid_MatchesDayArrays() {
+        for (int year : YEARS) {
+            final YearPlanner planner = new YearPlanner(year);
+            for (byte offset = -3; offset <= 9; ++offset) {
+                final YearGrid grid = offset == 0 ? planner.getYearGrid() : planner.getYearGrid(offset);
+                for (int week = grid.mFirstWeek; week < grid.mFirstWeek + grid.mWeekCount; ++week) {
+                    assertArrayEquals(planner.getDayArray((byte) week, offset), grid.getDayArray(week));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetYearGrid_MatchesCalendar() {
+        for (int year : YEARS) {
+            final YearPlanner planner = new YearPlanner(year);
+            for (byte offset = -3; offset <= 9; ++offset) {
+                final YearGrid grid = planner.getYearGrid(offset);
+                // The first cell is January 1st, or a day in the last week of December.
+                final int start = grid.mMonths[0] == Calendar.JANUARY ? 1 : grid.mDays[0] - 31;
+                final Calendar cal = new Calendar.Builder()
+                    .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, 1)
+                    .build();
+                cal.add(Calendar.DATE, start - 1);
+                int daysInYear = 0;
+                for (int i = 0; i < grid.mDays.length; ++i) {
+                    assertEquals(cal.get(Calendar.DAY_OF_MONTH), grid.mDays[i]);
+                    final int expectedMonth = cal.get(Calendar.YEAR) < year ? YearGrid.PREVIOUS_DECEMBER
+                        : cal.get(Calendar.YEAR) > year ? YearGrid.NEXT_JANUARY
+                        : cal.get(Calendar.MONTH);
+                    assertEquals(expectedMonth, grid.mMonths[i]);
+                    if (expectedMonth >= Calendar.JANUARY && expectedMonth <= Calendar.DECEMBER)
+                        ++daysInYear;
+                    cal.add(Calendar.DATE, 1);
+                }
+                // Every day of the year is in the grid, and the last row ends within the next year.
+                assertEquals(YearPlanner.getYearLength(year), daysInYear);
+                assertTrue(grid.mMonths[grid.mDays.length - 7] <= Calendar.DECEMBER);
+            }
+        }
+    }
+
+    @Test
+    public void testGetDayArray_InvalidWeek() {
+        final YearGrid grid = new YearPlanner(2025).getYearGrid();
+        assertThrows(IllegalArgumentException.class, () -> grid.getDayArray(0));
+        assertThrows(IllegalArgumentException.class, () -> grid.getDayArray(54));
+    }
+
+}
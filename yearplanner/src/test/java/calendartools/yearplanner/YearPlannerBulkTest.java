@@ -0,0 +1,128 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.List;
+
+import calendartools.data.TestDataProvider;
+
+/** Testing the bulk methods of the YearPlanner Class.
+ *  - Each bulk result is compared against the single value methods.
+ */
+public final class YearPlannerBulkTest {
+
+    /** Enough elements for the parallel methods to use several chunks.
+     */
+    private static final int LARGE_SIZE = 3 * YearPlanner.PARALLEL_CHUNK_SIZE + 17;
+
+    private final YearPlanner mInstance = new YearPlanner(TestDataProvider.LeapYear);
+
+    @Test
+    public void testGetDayNumbers_Strings() {
+        final List<String> strings = TestDataProvider.getLeapYearProvider().getSimpleDateStrings();
+        final String[] input = strings.toArray(new String[strings.size() + 2]);
+        input[input.length - 1] = "not a date";
+        final short[] output = new short[input.length];
+        mInstance.getDayNumbers(input, output);
+        for (int i = 0; i < strings.size(); ++i) {
+            assertEquals(mInstance.getDayNumber(input[i]), output[i]);
+        }
+        // Null and unparseable Strings are zero.
+        assertEquals(0, output[input.length - 2]);
+        assertEquals(0, output[input.length - 1]);
+    }
+
+    @Test
+    public void testGetWeekNumbers_Strings() {
+        final List<String> strings = TestDataProvider.getLeapYearProvider().getReversedDateStrings();
+        final String[] input = strings.toArray(new String[strings.size() + 1]);
+        final byte[] output = new byte[input.length];
+        mInstance.getWeekNumbers(input, output);
+        for (int i = 0; i < strings.size(); ++i) {
+            assertEquals(mInstance.getWeekNumber(input[i]), output[i]);
+        }
+        assertEquals(0, output[input.length - 1]);
+    }
+
+    @Test
+    public void testMonthDayPairs() {
+        final int[] months = new int[LARGE_SIZE];
+        final int[] days = new int[LARGE_SIZE];
+        for (int i = 0; i < LARGE_SIZE; ++i) {
+            // Includes invalid months and days.
+            months[i] = i % 14;
+            days[i] = i % 33;
+        }
+        final short[] dayNumbers = new short[LARGE_SIZE];
+        final short[] parallelDayNumbers = new short[LARGE_SIZE];
+        final byte[] weekNumbers = new byte[LARGE_SIZE];
+        final byte[] parallelWeekNumbers = new byte[LARGE_SIZE];
+        mInstance.getDayNumbers(months, days, dayNumbers);
+        mInstance.parallelGetDayNumbers(months, days, parallelDayNumbers);
+        mInstance.getWeekNumbers(months, days, weekNumbers);
+        mInstance.parallelGetWeekNumbers(months, days, parallelWeekNumbers);
+        for (int i = 0; i < LARGE_SIZE; ++i) {
+            if (mInstance.validateMonthDayPair(months[i], days[i])) {
+                assertEquals(mInstance.getDayNumber(months[i], days[i]), dayNumbers[i]);
+                assertEquals(mInstance.getWeekNumber(months[i], days[i]), weekNumbers[i]);
+            } else {
+                assertEquals(0, dayNumbers[i]);
+                assertEquals(0, weekNumbers[i]);
+            }
+        }
+        assertArrayEquals(dayNumbers, parallelDayNumbers);
+        assertArrayEquals(weekNumbers, parallelWeekNumbers);
+    }
+
+    @Test
+    public void testMilliseconds() {
+        final long[] input = new long[LARGE_SIZE];
+        final long start = TestDataProvider.FirstDayOf2025.getTimeInMillis();
+        for (int i = 0; i < LARGE_SIZE; ++i) {
+            // Steps of just over 9 hours, spanning several years.
+            input[i] = start + i * 33_333_333L;
+        }
+        final short[] dayNumbers = new short[LARGE_SIZE];
+        final short[] parallelDayNumbers = new short[LARGE_SIZE];
+        final byte[] weekNumbers = new byte[LARGE_SIZE];
+        final byte[] parallelWeekNumbers = new byte[LARGE_SIZE];
+        YearPlanner.getDayNumbers(input, dayNumbers);
+        YearPlanner.parallelGetDayNumbers(input, parallelDayNumbers);
+        YearPlanner.getWeekNumbers(input, weekNumbers);
+        YearPlanner.parallelGetWeekNumbers(input, parallelWeekNumbers);
+        final Calendar cal = Calendar.getInstance();
+        for (int i = 0; i < LARGE_SIZE; ++i) {
+            cal.setTimeInMillis(input[i]);
+            assertEquals(YearPlanner.getDayNumber(cal), dayNumbers[i]);
+            assertEquals(YearPlanner.getWeekNumber(cal), weekNumbers[i]);
+        }
+        assertArrayEquals(dayNumbers, parallelDayNumbers);
+        assertArrayEquals(weekNumbers, parallelWeekNumbers);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getDayNumbers((String[]) null, new short[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getWeekNumbers(new String[1], null));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getDayNumbers(new String[2], new short[1]));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getDayNumbers(new int[1], null, new short[1]));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.parallelGetWeekNumbers(new int[1], new int[2], new byte[1]));
+        assertThrows(IllegalArgumentException.class,
+            () -> mInstance.getWeekNumbers(new int[1], new int[1], new byte[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> YearPlanner.getDayNumbers((long[]) null, new short[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> YearPlanner.parallelGetWeekNumbers(new long[3], new byte[2]));
+    }
+
+}
@@ -0,0 +1,130 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import calendartools.map.DateFormatMap;
+
+/** Testing the YearPlannerCache Class, and YearPlanner.of.
+ */
+public final class YearPlannerCacheTest {
+
+    /** A small cache with a dense range from 2000 to 2009, and 4 outlier slots.
+     */
+    private YearPlannerCache mInstance;
+
+    @Before
+    public void testSetup() {
+        mInstance = new YearPlannerCache(2000, 10, 4);
+    }
+
+    @Test
+    public void testGet_DenseRange() {
+        assertFalse(mInstance.contains(2005));
+        final YearPlanner planner = mInstance.get(2005);
+        assertEquals(2005, planner.mYear);
+        assertSame(DateFormatMap.getDefaultMap(), planner.mDateMap);
+        assertTrue(mInstance.contains(2005));
+        assertSame(planner, mInstance.get(2005));
+        // Every year in the range is kept.
+        for (int year = 2000; year < 2010; ++year) mInstance.get(year);
+        assertSame(planner, mInstance.get(2005));
+    }
+
+    @Test
+    public void testGet_Outliers() {
+        final YearPlanner planner = mInstance.get(1999);
+        assertEquals(1999, planner.mYear);
+        assertSame(planner, mInstance.get(1999));
+        // Negative years map to a valid slot.
+        assertEquals(-3, mInstance.get(-3).mYear);
+        assertTrue(mInstance.contains(-3));
+        // 2011 shares the slot of 1999, and replaces it.
+        assertEquals(2011, mInstance.get(2011).mYear);
+        assertFalse(mInstance.contains(1999));
+        final YearPlanner rebuilt = mInstance.get(1999);
+        assertNotSame(planner, rebuilt);
+        assertEquals(1999, rebuilt.mYear);
+    }
+
+    @Test
+    public void testGet_InvalidYear() {
+        assertThrows(IllegalArgumentException.class, () -> mInstance.get(Short.MAX_VALUE + 1));
+        assertThrows(IllegalArgumentException.class, () -> mInstance.get(Short.MIN_VALUE - 1));
+        assertFalse(mInstance.contains(Short.MAX_VALUE + 1));
+    }
+
+    @Test
+    public void testGet_Concurrent() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<YearPlanner>> results = new ArrayList<>();
+        for (int i = 0; i < threads; ++i) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return mInstance.get(2007);
+            }));
+        }
+        start.countDown();
+        final YearPlanner first = results.get(0).get();
+        for (Future<YearPlanner> result : results) {
+            assertSame(first, result.get());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void testOf_StringMethods_Concurrent() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; ++t) {
+            final int offset = t;
+            results.add(executor.submit(() -> {
+                start.await();
+                final YearPlanner planner = YearPlanner.of(2024);
+                for (int i = 0; i < 1000; ++i) {
+                    final int month = 1 + (i + offset) % 12;
+                    final int day = 1 + (i * 7 + offset) % 28;
+                    final int expected = LocalDate.of(2024, month, day).getDayOfYear();
+                    if (planner.getDayNumber(String.format("2024-%02d-%02d", month, day)) != expected
+                        || planner.getDayNumber(String.format("%02d-%02d-2024", day, month)) != expected
+                        || planner.getDayNumber(planner.parseMonthDayString(String.format("%02d-%02d", month, day))) != expected) return false;
+                }
+                return true;
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void testOf() {
+        final YearPlanner planner = YearPlanner.of(2024);
+        assertEquals(2024, planner.mYear);
+        assertSame(planner, YearPlanner.of(2024));
+        assertEquals(1066, YearPlanner.of(1066).mYear);
+        assertThrows(IllegalArgumentException.class, () -> YearPlanner.of(Integer.MAX_VALUE));
+    }
+
+}
@@ -0,0 +1,140 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.Calendar;
+
+/** Testing the java.time methods of YearPlanner and WeekRule, and their equivalence with Calendar.
+ */
+public final class YearPlannerLocalDateTest {
+
+    /** A Calendar with the same date fields as the LocalDate.
+     */
+    private static Calendar toCalendar(
+        final LocalDate date,
+        final WeekRule rule
+    ) {
+        return rule.apply(new Calendar.Builder())
+            .setDate(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth())
+            .build();
+    }
+
+    @Test
+    public void testGetDayNumber_EveryDay_SameAsCalendar() {
+        for (int year : new int[]{1000, 1500, 1582, 1583, 1600, 1700, 1900, 2000, 2023, 2024}) {
+            for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+                assertEquals(
+                    date.toString(),
+                    toCalendar(date, WeekRule.US).get(Calendar.DAY_OF_YEAR),
+                    YearPlanner.getDayNumber(date)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testGetWeekNumber_NeighbouringYears_SameAsCalendar() {
+        for (WeekRule rule : new WeekRule[]{WeekRule.ISO, WeekRule.US, WeekRule.of(Calendar.SATURDAY, 7)}) {
+            final YearPlanner planner = new YearPlanner(2024, rule);
+            for (LocalDate date = LocalDate.of(2022, 12, 1); date.getYear() < 2026; date = date.plusDays(1)) {
+                assertEquals(
+                    date.toString(),
+                    toCalendar(date, rule).get(Calendar.WEEK_OF_YEAR),
+                    planner.getWeekNumber(date)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testGetWeekNumber_JulianYears_SameAsCalendar() {
+        final YearPlanner planner = new YearPlanner(2024, WeekRule.ISO);
+        for (LocalDate date = LocalDate.of(1499, 12, 1); date.getYear() < 1502; date = date.plusDays(1)) {
+            assertEquals(
+                date.toString(),
+                toCalendar(date, WeekRule.ISO).get(Calendar.WEEK_OF_YEAR),
+                planner.getWeekNumber(date)
+            );
+        }
+    }
+
+    @Test
+    public void testGetWeekNumber_CutoverYears_SameAsCalendar() {
+        // The last week of 1582 is counted from the Julian January 1st, so it differs from WeekFields.
+        for (WeekRule rule : new WeekRule[]{WeekRule.ISO, WeekRule.US, WeekRule.of(Calendar.SATURDAY, 3)}) {
+            final YearPlanner planner = new YearPlanner(2024, rule);
+            for (LocalDate date = LocalDate.of(1580, 12, 1); date.getYear() < 1585; date = date.plusDays(1)) {
+                assertEquals(
+                    date.toString(),
+                    toCalendar(date, rule).get(Calendar.WEEK_OF_YEAR),
+                    planner.getWeekNumber(date)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testGetNumber_Null_ThrowsIAE() {
+        assertThrows(IllegalArgumentException.class, () -> YearPlanner.getDayNumber((LocalDate) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new YearPlanner(2024).getWeekNumber((LocalDate) null));
+    }
+
+    @Test
+    public void testBulkMethods_SameAsSingle() {
+        final YearPlanner planner = new YearPlanner(2024, WeekRule.ISO);
+        final LocalDate[] dates = new LocalDate[10_000];
+        for (int i = 0; i < dates.length; ++i) {
+            dates[i] = LocalDate.of(2020, 1, 1).plusDays(i % 2000);
+        }
+        dates[123] = null;
+        final short[] expectedDays = new short[dates.length];
+        final byte[] expectedWeeks = new byte[dates.length];
+        for (int i = 0; i < dates.length; ++i) {
+            if (dates[i] == null) continue;
+            expectedDays[i] = YearPlanner.getDayNumber(dates[i]);
+            expectedWeeks[i] = planner.getWeekNumber(dates[i]);
+        }
+        final short[] days = new short[dates.length];
+        YearPlanner.getDayNumbers(dates, days);
+        assertArrayEquals(expectedDays, days);
+        final short[] parallelDays = new short[dates.length];
+        YearPlanner.parallelGetDayNumbers(dates, parallelDays);
+        assertArrayEquals(expectedDays, parallelDays);
+        final byte[] weeks = new byte[dates.length];
+        planner.getWeekNumbers(dates, weeks);
+        assertArrayEquals(expectedWeeks, weeks);
+        final byte[] parallelWeeks = new byte[dates.length];
+        planner.parallelGetWeekNumbers(dates, parallelWeeks);
+        assertArrayEquals(expectedWeeks, parallelWeeks);
+    }
+
+    @Test
+    public void testBulkMethods_InvalidArrays_ThrowsIAE() {
+        final YearPlanner planner = new YearPlanner(2024);
+        assertThrows(IllegalArgumentException.class,
+            () -> YearPlanner.getDayNumbers((LocalDate[]) null, new short[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> YearPlanner.parallelGetDayNumbers(new LocalDate[1], new short[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> planner.getWeekNumbers(new LocalDate[1], null));
+        assertThrows(IllegalArgumentException.class,
+            () -> planner.parallelGetWeekNumbers(new LocalDate[2], new byte[1]));
+    }
+
+    @Test
+    public void testToWeekFields_SharedRules() {
+        assertSame(WeekFields.ISO, WeekRule.ISO.toWeekFields());
+        assertSame(WeekFields.SUNDAY_START, WeekRule.US.toWeekFields());
+        assertEquals(WeekFields.of(DayOfWeek.SATURDAY, 7), WeekRule.of(Calendar.SATURDAY, 7).toWeekFields());
+    }
+
+}
@@ -0,0 +1,73 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import calendartools.map.InMemoryMetricsRecorder;
+import calendartools.map.Metrics;
+import calendartools.map.MetricsRecorder;
+
+/** Testing the Metrics hooks in YearPlanner and YearPlannerCache.
+ */
+public final class YearPlannerMetricsTest {
+
+    private InMemoryMetricsRecorder mRecorder;
+
+    @Before
+    public void testSetup() {
+        mRecorder = new InMemoryMetricsRecorder();
+        Metrics.install(mRecorder);
+    }
+
+    @After
+    public void testCleanup() {
+        Metrics.install(MetricsRecorder.NOOP);
+    }
+
+    @Test
+    public void testCacheGet_DenseAndOutlier_RecordsHitsAndMisses() {
+        final YearPlannerCache cache = new YearPlannerCache(2000, 10, 4);
+        cache.get(2005);
+        cache.get(2005);
+        cache.get(1800);
+        cache.get(1800);
+        cache.get(1804);
+        assertEquals(2, mRecorder.getCacheHits());
+        assertEquals(3, mRecorder.getCacheMisses());
+    }
+
+    @Test
+    public void testBulkMethods_RecordCallsByName() {
+        final YearPlanner planner = new YearPlanner(2024);
+        final int[] months = {1, 2, 13};
+        final int[] days = {1, 29, 1};
+        planner.getDayNumbers(months, days, new short[3]);
+        planner.parallelGetDayNumbers(months, days, new short[3]);
+        planner.getWeekNumbers(months, days, new byte[3]);
+        planner.parallelGetWeekNumbers(months, days, new byte[3]);
+        planner.getDayNumbers(new String[]{"2024-01-01"}, new short[1]);
+        planner.getWeekNumbers(new String[]{"2024-01-01"}, new byte[1]);
+        final long[] millis = {0L, 1L};
+        YearPlanner.getDayNumbers(millis, new short[2]);
+        YearPlanner.parallelGetDayNumbers(millis, new short[2]);
+        YearPlanner.getWeekNumbers(millis, new byte[2]);
+        YearPlanner.parallelGetWeekNumbers(millis, new byte[2]);
+        assertEquals(3, mRecorder.getOperation("YearPlanner.getDayNumbers").getCalls());
+        assertEquals(6, mRecorder.getOperation("YearPlanner.getDayNumbers").mElements.getTotal());
+        assertEquals(3, mRecorder.getOperation("YearPlanner.getWeekNumbers").getCalls());
+        assertEquals(2, mRecorder.getOperation("YearPlanner.parallelGetDayNumbers").getCalls());
+        assertEquals(2, mRecorder.getOperation("YearPlanner.parallelGetWeekNumbers").getCalls());
+    }
+
+    @Test
+    public void testBulkMethods_Noop_RecordsNothing() {
+        Metrics.install(MetricsRecorder.NOOP);
+        new YearPlanner(2024).getDayNumbers(new int[]{1}, new int[]{1}, new short[1]);
+        assertNull(mRecorder.getOperation("YearPlanner.getDayNumbers"));
+    }
+
+}
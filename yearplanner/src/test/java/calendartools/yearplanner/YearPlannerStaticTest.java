@@ -1,13 +1,17 @@
 package calendartools.yearplanner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static calendartools.yearplanner.YearPlanner.getDayNumber;
 import static calendartools.yearplanner.YearPlanner.getWeekNumber;
 import static calendartools.yearplanner.YearPlanner.getWeekOffset;
+import static calendartools.yearplanner.YearPlanner.getYearLength;
 
 import org.junit.Test;
 
+import java.text.SimpleDateFormat;
 import java.util.Calendar;
 
 import calendartools.data.TestDataProvider;
@@ -21,7 +25,7 @@ public final class YearPlannerStaticTest {
     @Test
     public void test_GetDayNumber_Null_ThrowsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class,
-            () -> getDayNumber(null)
+            () -> getDayNumber((Calendar) null)
         );
     }
 
@@ -88,4 +92,83 @@ public final class YearPlannerStaticTest {
         assertEquals(Calendar.SATURDAY - 1, getWeekOffset(2028));
     }
     
+    @Test
+    public void test_GetYearLength() {
+        assertEquals(365, getYearLength(TestDataProvider.CurrentYear));
+        assertEquals(366, getYearLength(TestDataProvider.LeapYear));
+        assertEquals(365, getYearLength(1900));
+        assertEquals(366, getYearLength(2000));
+        assertEquals(355, getYearLength(1582));
+    }
+    
+    @Test
+    public void test_GetWeekOffset_AllShortYears_MatchesCalendar() {
+        for (int year = Short.MIN_VALUE; year <= Short.MAX_VALUE; ++year) {
+            final int dayOfWeek = new Calendar.Builder()
+                .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, 1)
+                .build()
+                .get(Calendar.DAY_OF_WEEK);
+            assertEquals("Year " + year, dayOfWeek - 1, getWeekOffset(year));
+        }
+    }
+    
+    @Test
+    public void test_GetYearOfFixedDay_AllShortYears() {
+        for (int year = Short.MIN_VALUE; year <= Short.MAX_VALUE; ++year) {
+            final long fixedJan1 = YearPlanner.getFixedDay(year);
+            assertEquals(year, YearPlanner.getYearOfFixedDay(fixedJan1));
+            assertEquals(year - 1, YearPlanner.getYearOfFixedDay(fixedJan1 - 1));
+            assertEquals(31, YearPlanner.getDayOfMonth(year, getYearLength(year)));
+        }
+    }
+    
+    @Test
+    public void test_GetYearLength_AllShortYears_MatchesCalendar() {
+        for (int year = Short.MIN_VALUE; year <= Short.MAX_VALUE; ++year) {
+            final int length = new Calendar.Builder()
+                .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, 1)
+                .build()
+                .getActualMaximum(Calendar.DAY_OF_YEAR);
+            assertEquals("Year " + year, length, getYearLength(year));
+        }
+    }
+    
+    @Test
+    public void test_GetDayNumber_MonthDayPairs_MatchesCalendar() {
+        // Every Month-Day pair, including the days that carry into the next month, in 4 consecutive years.
+        // The years cover both calendars, the cutover, century rules, and both ends of the Short range.
+        final int[] firstYears = {Short.MIN_VALUE, -5, 0, 96, 1577, 1580, 1697, 1897, 1997, 2097, 2397, Short.MAX_VALUE - 3};
+        for (int first : firstYears) {
+            for (int year = first; year < first + 4; ++year) {
+                for (int month = 1; month <= 12; ++month) {
+                    for (int day = 1; day <= 31; ++day) {
+                        final int expected = new Calendar.Builder()
+                            .setDate(year, month - 1, day)
+                            .build()
+                            .get(Calendar.DAY_OF_YEAR);
+                        assertEquals(year + "-" + month + "-" + day, expected, getDayNumber(year, month, day));
+                    }
+                }
+            }
+        }
+    }
+    
+
+    @Test
+    public void test_GetFormats_SharedAndStrict() {
+        final SimpleDateFormat[] formats = {
+            YearPlanner.getSimpleDateFormat(),
+            YearPlanner.getSimpleDateReversedFormat(),
+            YearPlanner.getMonthDayFormat(),
+        };
+        final String[] patterns = {"yyyy-MM-dd", "dd-MM-yyyy", "MM-dd"};
+        for (int i = 0; i < formats.length; ++i) {
+            assertEquals(patterns[i], formats[i].toPattern());
+            assertFalse(formats[i].isLenient());
+        }
+        assertSame(formats[0], YearPlanner.getSimpleDateFormat());
+        assertSame(formats[1], YearPlanner.getSimpleDateReversedFormat());
+        assertSame(formats[2], YearPlanner.getMonthDayFormat());
+    }
+
 }
@@ -0,0 +1,43 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/** Testing the Flight Recorder event for YearTable builds.
+ */
+public final class YearTableEventTest {
+
+    @Test
+    public void testYearTable_Build_RecordsEvent() throws IOException {
+        final Path file = Files.createTempFile("calendartools", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("calendartools.YearTableBuild").withThreshold(Duration.ZERO);
+            recording.start();
+            new YearTable(2024, WeekRule.ISO);
+            recording.stop();
+            recording.dump(file);
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("calendartools.YearTableBuild"))
+                .collect(Collectors.toList());
+            assertEquals(1, events.size());
+            assertEquals(2024, events.get(0).getInt("year"));
+            assertEquals(366 + 2 * YearTable.PADDING, events.get(0).getInt("days"));
+            assertEquals(WeekRule.ISO.toString(), events.get(0).getString("weekRule"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package calendartools.yearplanner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+/** Testing the YearTable Class, and the YearPlanner methods that use it.
+ *  - Every table lookup is compared against the Calendar it replaces.
+ */
+public final class YearTableTest {
+
+    /** Years with leap years, century years, the cutover year, and years before the Common Era.
+     */
+    private static final int[] YEARS = {
+        -401, -1, 0, 1, 4, 100, 1500, 1581, 1582, 1583, 1600, 1700, 1899, 1900,
+        1970, 1999, 2000, 2020, 2021, 2022, 2023, 2024, 2100, 2400, 9999, Short.MAX_VALUE,
+    };
+
+    /** The Calendar for a Day of the Year.
+     */
+    private static Calendar dayOfYear(
+        final int year,
+        final int dayOfYear
+    ) {
+        return new Calendar.Builder()
+            .setFields(Calendar.YEAR, year, Calendar.DAY_OF_YEAR, dayOfYear)
+            .build();
+    }
+
+    /** The Days of the Month in a Week, computed one day at a time by Calendar.
+     */
+    private static byte[] calendarWeek(
+        final int year,
+        final int weekNumber,
+        final int weekdayOffset
+    ) {
+        final Calendar cal = new Calendar.Builder()
+            .setFields(Calendar.YEAR, year, Calendar.WEEK_OF_YEAR, weekNumber)
+            .build();
+        cal.add(Calendar.DAY_OF_MONTH, weekdayOffset);
+        final byte[] result = new byte[7];
+        for (int i = 0; i < 7; ++i) {
+            result[i] = (byte) cal.get(Calendar.DAY_OF_MONTH);
+            cal.add(Calendar.DATE, 1);
+        }
+        return result;
+    }
+
+    @Test
+    public void testLength() {
+        for (int year : YEARS) {
+            final YearTable table = new YearTable(year, WeekRule.getDefault());
+            assertEquals(YearPlanner.getYearLength(year), table.mLength);
+            assertEquals(year != 1582, table.mRegular);
+            assertEquals(table.mLength, table.mWeekOfYear.length);
+        }
+    }
+
+    @Test
+    public void testContains() {
+        final YearTable table = new YearTable(2023, WeekRule.US);
+        assertFalse(table.contains(0));
+        assertTrue(table.contains(1));
+        assertTrue(table.contains(365));
+        assertFalse(table.contains(366));
+        assertFalse(table.containsWeek(-YearTable.PADDING));
+        assertTrue(table.containsWeek(1 - YearTable.PADDING));
+        assertTrue(table.containsWeek(365 + YearTable.PADDING - 6));
+        assertFalse(table.containsWeek(365 + YearTable.PADDING - 5));
+    }
+
+    @Test
+    public void testCopyWeekAcrossYearBoundary() {
+        // 2022-12-25 is a Sunday, 2023-01-07 is a Saturday.
+        final YearTable table = new YearTable(2023, WeekRule.US);
+        assertArrayEquals(new byte[]{25, 26, 27, 28, 29, 30, 31}, table.copyWeek(-6));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7}, table.copyWeek(1));
+        assertArrayEquals(new byte[]{31, 1, 2, 3, 4, 5, 6}, table.copyWeek(365));
+    }
+
+    @Test
+    public void testGetDayNumber_MatchesCalendar() {
+        for (int year : YEARS) {
+            final YearPlanner planner = new YearPlanner(year);
+            for (int month = 1; month <= 12; ++month) {
+                for (int day = 1; day <= 31; ++day) {
+                    assertEquals(
+                        YearPlanner.getDayNumber(planner.getCalendar(month, day)),
+                        planner.getDayNumber(month, day)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetWeekNumber_MatchesCalendar() {
+        for (int year : YEARS) {
+            final YearPlanner planner = new YearPlanner(year);
+            for (int day = -10; day <= 380; ++day) {
+                assertEquals(
+                    YearPlanner.getWeekNumber(dayOfYear(year, day)),
+                    planner.getWeekNumber(day)
+                );
+            }
+            for (int month = 1; month <= 12; ++month) {
+                for (int day = 1; day <= 31; ++day) {
+                    assertEquals(
+                        YearPlanner.getWeekNumber(planner.getCalendar(month, day)),
+                        planner.getWeekNumber(month, day)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetWeekNumber_BeforeCutover_MatchesCalendar() {
+        // Days before the cutover, counted from a later year, start from the Julian January 1st.
+        for (int year : new int[]{1583, 1584, 1600}) {
+            final YearPlanner planner = new YearPlanner(year, WeekRule.ISO);
+            for (int day = -7000; day <= -300; day += 13) {
+                assertEquals(
+                    WeekRule.ISO.apply(dayOfYear(year, day)).get(Calendar.WEEK_OF_YEAR),
+                    planner.getWeekNumber(day)
+                );
+            }
+            for (byte week = -128; week <= -90; ++week) {
+                assertArrayEquals(calendarWeek(year, week, 0), new YearPlanner(year).getDayArray(week));
+            }
+        }
+    }
+
+    @Test
+    public void testGetDayArray_MatchesCalendar() {
+        for (int year : YEARS) {
+            final YearPlanner planner = new YearPlanner(year);
+            for (byte week = -5; week <= 60; ++week) {
+                assertArrayEquals(calendarWeek(year, week, 0), planner.getDayArray(week));
+                for (byte offset = -3; offset <= 6; ++offset) {
+                    assertArrayEquals(
+                        calendarWeek(year, week, offset),
+                        planner.getDayArray(week, offset)
+                    );
+                }
+            }
+        }
+    }
+
+}